@@ -0,0 +1,36 @@
+package com.lifelogix.benchmark;
+
+import com.lifelogix.timeline.activity.api.dto.response.ActivitiesByCategoryResponse;
+import com.lifelogix.timeline.activity.domain.Activity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 활동 목록의 카테고리별 그룹화 (findAllActivitiesGroupedByCategory의 조회 이후 경로)
+ */
+@State(Scope.Benchmark)
+public class ActivityGroupingBenchmark {
+
+    @Param({"5", "20"})
+    public int categories;
+
+    @Param({"4", "12"})
+    public int activitiesPerCategory;
+
+    private List<Activity> activities;
+
+    @Setup
+    public void setUp() {
+        activities = BenchmarkFixtures.activities(BenchmarkFixtures.user(), categories, activitiesPerCategory);
+    }
+
+    @Benchmark
+    public List<ActivitiesByCategoryResponse> groupByCategory() {
+        return ActivitiesByCategoryResponse.groupByCategory(activities);
+    }
+}
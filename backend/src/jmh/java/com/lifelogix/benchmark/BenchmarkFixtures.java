@@ -0,0 +1,87 @@
+package com.lifelogix.benchmark;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.core.domain.TimeBlockView;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 데이터 (시드를 고정해 실행마다 같은 데이터를 만듦)
+ * 하루는 30분 슬롯 48개이며, 계획은 기록된 슬롯 전부, 실제는 그중 약 3/4에 기록된 상황을 가정
+ */
+final class BenchmarkFixtures {
+
+    static final LocalDate DATE = LocalDate.of(2025, 10, 13);
+    private static final String[] COLORS = {"#2ECC71", "#3498DB", "#9B59B6", "#E67E22", "#E74C3C", "#1ABC9C"};
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user() {
+        return User.builder().id(1L).email("bench@example.com").nickname("bench").roleType(RoleType.USER).build();
+    }
+
+    /**
+     * 카테고리마다 activitiesPerCategory개의 활동 (카테고리 순서로 정렬된 조회 결과와 같은 순서)
+     */
+    static List<Activity> activities(User user, int categories, int activitiesPerCategory) {
+        List<Activity> activities = new ArrayList<>(categories * activitiesPerCategory);
+        long activityId = 1;
+        for (int c = 0; c < categories; c++) {
+            Category category = new Category((long) c + 1, "카테고리 " + c, COLORS[c % COLORS.length], user, null);
+            for (int a = 0; a < activitiesPerCategory; a++) {
+                activities.add(new Activity(activityId++, "활동 " + c + "-" + a, user, category));
+            }
+        }
+        return activities;
+    }
+
+    /**
+     * 하루치 타임라인 조회 결과 (기록된 슬롯 filledSlots개, 조회 쿼리와 같이 시작 시간 순)
+     */
+    static List<TimeBlockView> views(List<Activity> activities, int filledSlots) {
+        Random random = new Random(42);
+        List<TimeBlockView> views = new ArrayList<>(filledSlots * 2);
+        long blockId = 1;
+        for (int slot = 0; slot < filledSlots; slot++) {
+            LocalTime startTime = LocalTime.MIN.plusMinutes((long) slot * TimeBlock.SLOT_MINUTES);
+            views.add(view(blockId++, startTime, TimeBlockType.PLAN, activities.get(random.nextInt(activities.size()))));
+            if (random.nextInt(4) != 0) {
+                views.add(view(blockId++, startTime, TimeBlockType.ACTUAL, activities.get(random.nextInt(activities.size()))));
+            }
+        }
+        return views;
+    }
+
+    /**
+     * 하루치 타임블록 엔티티 (views와 같은 분포)
+     */
+    @SuppressWarnings("deprecation")
+    static List<TimeBlock> timeBlocks(List<Activity> activities, int filledSlots) {
+        Random random = new Random(42);
+        List<TimeBlock> timeBlocks = new ArrayList<>(filledSlots * 2);
+        long blockId = 1;
+        for (int slot = 0; slot < filledSlots; slot++) {
+            LocalTime startTime = LocalTime.MIN.plusMinutes((long) slot * TimeBlock.SLOT_MINUTES);
+            timeBlocks.add(new TimeBlock(blockId++, DATE, startTime, TimeBlockType.PLAN, activities.get(random.nextInt(activities.size()))));
+            if (random.nextInt(4) != 0) {
+                timeBlocks.add(new TimeBlock(blockId++, DATE, startTime, TimeBlockType.ACTUAL, activities.get(random.nextInt(activities.size()))));
+            }
+        }
+        return timeBlocks;
+    }
+
+    private static TimeBlockView view(long blockId, LocalTime startTime, TimeBlockType type, Activity activity) {
+        return new TimeBlockView(blockId, DATE, startTime, type, activity.getId(), activity.getName(),
+                activity.getCategory().getName(), activity.getCategory().getColor());
+    }
+}
@@ -0,0 +1,44 @@
+package com.lifelogix.benchmark;
+
+import com.lifelogix.config.jwt.JwtProperties;
+import com.lifelogix.config.jwt.JwtTokenProvider;
+import com.lifelogix.user.PrincipalDetails;
+import com.lifelogix.user.domain.RoleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 액세스 토큰 발급과 검증 (검증은 인증이 필요한 모든 요청에서 수행)
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private PrincipalDetails principal;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("bGlmZWxvZ2l4LWp3dC1zZWNyZXQta2V5LWZvci10ZXN0LWVudmlyb25tZW50Cg==");
+        properties.setAccessTokenValiditySeconds(3_600);
+        properties.setRefreshTokenValiditySeconds(1_209_600);
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        principal = new PrincipalDetails(1L, "bench@example.com", null, "bench", RoleType.USER, List.of());
+        accessToken = jwtTokenProvider.generateAccessToken(principal);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenProvider.generateAccessToken(principal);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+}
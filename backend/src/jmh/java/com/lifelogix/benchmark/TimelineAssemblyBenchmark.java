@@ -0,0 +1,48 @@
+package com.lifelogix.benchmark;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.core.api.dto.response.BlockDetailResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * 일간 타임라인 응답 조립 (getDailyTimeline의 캐시 미스 경로에서 조회 이후의 그룹화/매핑)
+ */
+@State(Scope.Benchmark)
+public class TimelineAssemblyBenchmark {
+
+    // 기록이 적은 날, 깨어 있는 시간 대부분을 기록한 날, 하루 전체를 기록한 날
+    @Param({"12", "32", "48"})
+    public int filledSlots;
+
+    private List<TimeBlockView> views;
+    private List<TimeBlock> timeBlocks;
+
+    @Setup
+    public void setUp() {
+        List<Activity> activities = BenchmarkFixtures.activities(BenchmarkFixtures.user(), 6, 5);
+        views = BenchmarkFixtures.views(activities, filledSlots);
+        timeBlocks = BenchmarkFixtures.timeBlocks(activities, filledSlots);
+    }
+
+    @Benchmark
+    public TimelineResponse dailyTimeline() {
+        return TimelineResponse.of(BenchmarkFixtures.DATE, views);
+    }
+
+    @Benchmark
+    public void blockDetailFromEntity(Blackhole blackhole) {
+        for (TimeBlock timeBlock : timeBlocks) {
+            blackhole.consume(BlockDetailResponse.from(timeBlock));
+        }
+    }
+}
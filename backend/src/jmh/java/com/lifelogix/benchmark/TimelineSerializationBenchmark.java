@@ -0,0 +1,37 @@
+package com.lifelogix.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 일간 타임라인 응답의 JSON 직렬화 (HTTP 응답과 Redis 캐시 저장에서 모두 수행)
+ */
+@State(Scope.Benchmark)
+public class TimelineSerializationBenchmark {
+
+    @Param({"12", "48"})
+    public int filledSlots;
+
+    private ObjectMapper objectMapper;
+    private TimelineResponse response;
+
+    @Setup
+    public void setUp() {
+        // 애플리케이션과 같은 기본 설정 (Java Time 모듈, 날짜를 문자열로 직렬화)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        response = TimelineResponse.of(BenchmarkFixtures.DATE,
+                BenchmarkFixtures.views(BenchmarkFixtures.activities(BenchmarkFixtures.user(), 6, 5), filledSlots));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
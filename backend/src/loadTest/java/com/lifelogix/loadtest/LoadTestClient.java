@@ -0,0 +1,94 @@
+package com.lifelogix.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 실제 HTTP API를 호출하고 엔드포인트별 응답 시간을 기록하는 클라이언트 (모든 가상 사용자가 공유)
+ * 2xx가 아닌 응답은 오류로 기록한 뒤 예외를 던져 세션이 다음 반복으로 넘어가게 함
+ */
+final class LoadTestClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final URI baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LoadTestMetrics metrics;
+
+    LoadTestClient(URI baseUrl, ObjectMapper objectMapper, LoadTestMetrics metrics) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+    }
+
+    JsonNode get(String endpoint, String path, String accessToken) {
+        return send(endpoint, request(path, accessToken).GET().build());
+    }
+
+    JsonNode post(String endpoint, String path, String accessToken, Object body) {
+        HttpRequest.Builder builder = request(path, accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(write(body)));
+        return send(endpoint, builder.build());
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            metrics.record(endpoint, System.nanoTime() - start, false);
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 중 중단되었습니다.", e);
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        metrics.record(endpoint, System.nanoTime() - start, success);
+        if (!success) {
+            throw new IllegalStateException(endpoint + " 요청이 " + response.statusCode() + " 응답으로 실패했습니다.");
+        }
+        return read(response.body());
+    }
+
+    private byte[] write(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode read(byte[] body) {
+        if (body.length == 0) {
+            return objectMapper.nullNode();
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.lifelogix.loadtest;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.lifelogix.LifelogixApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 대상 서버
+ * 직접 띄우는 경우 PostgreSQL(jdbcUrl을 주지 않으면 Testcontainers로 postgres:15 컨테이너)과 프로세스 내 Redis 대체 서버(jedis-mock)를 먼저 시작한 뒤
+ * loadtest 프로필로 애플리케이션을 임의 포트에 실행 (운영과 같은 스키마: 월 파티션, 트리거, ON CONFLICT 쓰기 경로)
+ * 합성 사용자 수가 주어지면 seed 프로필을 함께 켜서, 기동이 끝나기 전에 이력을 적재함 (빈 테이블에서 측정하지 않도록)
+ */
+final class LoadTestEnvironment implements AutoCloseable {
+
+    private static final String POSTGRES_IMAGE = "postgres:15";
+
+    private final URI baseUrl;
+    private final PostgreSQLContainer<?> postgres;
+    private final RedisServer redisServer;
+    private final ConfigurableApplicationContext context;
+
+    private LoadTestEnvironment(URI baseUrl, PostgreSQLContainer<?> postgres, RedisServer redisServer, ConfigurableApplicationContext context) {
+        this.baseUrl = baseUrl;
+        this.postgres = postgres;
+        this.redisServer = redisServer;
+        this.context = context;
+    }
+
+    static LoadTestEnvironment external(URI baseUrl) {
+        return new LoadTestEnvironment(baseUrl, null, null, null);
+    }
+
+    /**
+     * @param jdbcUrl 사용할 PostgreSQL (사용자/비밀번호 포함, 예: jdbc:postgresql://localhost:5432/lifelogix?user=lifelogix&password=lifelogix), null이면 컨테이너를 띄움
+     */
+    static LoadTestEnvironment start(int seedUsers, String jdbcUrl) throws IOException {
+        PostgreSQLContainer<?> postgres = null;
+        List<String> args = new ArrayList<>();
+        if (jdbcUrl == null) {
+            postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE);
+            postgres.start();
+            args.add("--spring.datasource.url=" + postgres.getJdbcUrl() + "&reWriteBatchedInserts=true");
+            args.add("--spring.datasource.username=" + postgres.getUsername());
+            args.add("--spring.datasource.password=" + postgres.getPassword());
+        } else {
+            args.add("--spring.datasource.url=" + jdbcUrl);
+        }
+        RedisServer redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        // 실행 인자는 application.yml의 기본 프로필(prod)보다 우선함
+        args.add("--spring.profiles.active=" + (seedUsers > 0 ? "loadtest,seed" : "loadtest"));
+        args.add("--server.port=0");
+        args.add("--spring.data.redis.port=" + redisServer.getBindPort());
+        args.add("--timeline.seed.users=" + seedUsers);
+        args.add("--timeline.seed.exit-on-completion=false");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LifelogixApplication.class)
+                .run(args.toArray(String[]::new));
+        String port = context.getEnvironment().getRequiredProperty("local.server.port");
+        return new LoadTestEnvironment(URI.create("http://localhost:" + port), postgres, redisServer, context);
+    }
+
+    URI baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * 직접 띄운 애플리케이션의 빈 (HTTP를 거치지 않고 저장소를 직접 호출하는 비교용)
+     */
+    <T> T getBean(Class<T> type) {
+        if (context == null) {
+            throw new IllegalStateException("외부 서버(base-url)에서는 애플리케이션 빈을 사용할 수 없습니다.");
+        }
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.lifelogix.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간(HdrHistogram, 마이크로초)과 오류 수
+ * 램프업 동안 쌓인 값은 startMeasurement()에서 버리고, 이후 구간만 처리량과 백분위수로 보고함
+ */
+final class LoadTestMetrics {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_LATENCY_MICROS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    void startMeasurement() {
+        endpoints.values().forEach(stats -> {
+            stats.latency.reset();
+            stats.errors.reset();
+        });
+    }
+
+    void print(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        out.printf("%-36s %9s %9s %9s %9s %9s %9s %9s %7s%n", "endpoint", "count", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors");
+        long total = 0;
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            Histogram histogram = entry.getValue().latency.getIntervalHistogram();
+            long count = histogram.getTotalCount();
+            total += count;
+            out.printf("%-36s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                    entry.getKey(), count, count / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()), entry.getValue().errors.sum());
+        }
+        out.printf("%-36s %9d %9.1f%n", "total", total, total / seconds);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static final class Endpoint {
+        private final Recorder latency = new Recorder(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,44 @@
+package com.lifelogix.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 실행 옵션 (--users=50 --ramp-up=PT30S --duration=PT2M --think-time=PT0.2S --seed-users=200 --jdbc-url=jdbc:postgresql://... --base-url=http://...)
+ * base-url을 생략하면 애플리케이션을 PostgreSQL(jdbc-url을 생략하면 Testcontainers 컨테이너)과 프로세스 내 Redis로 직접 띄워서 실행하며,
+ * seed-users명의 합성 사용자 이력을 먼저 적재함
+ */
+record LoadTestOptions(int users, Duration rampUp, Duration duration, Duration thinkTime, int seedUsers, String jdbcUrl, URI baseUrl) {
+
+    private static final Set<String> KEYS = Set.of("users", "ramp-up", "duration", "think-time", "seed-users", "jdbc-url", "base-url");
+
+    LoadTestOptions {
+        if (users < 1 || rampUp.isNegative() || duration.isNegative() || duration.isZero() || thinkTime.isNegative() || seedUsers < 0) {
+            throw new IllegalArgumentException("users는 1 이상, duration은 0보다 커야 하며 ramp-up/think-time/seed-users는 음수일 수 없습니다.");
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (key == null || !KEYS.contains(key)) {
+                throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg + " (사용 가능: " + KEYS + ")");
+            }
+            values.put(key, arg.substring(separator + 1));
+        }
+        String baseUrl = values.get("base-url");
+        return new LoadTestOptions(
+                Integer.parseInt(values.getOrDefault("users", "20")),
+                Duration.parse(values.getOrDefault("ramp-up", "PT10S")),
+                Duration.parse(values.getOrDefault("duration", "PT1M")),
+                Duration.parse(values.getOrDefault("think-time", "PT0S")),
+                Integer.parseInt(values.getOrDefault("seed-users", "0")),
+                values.get("jdbc-url"),
+                baseUrl == null ? null : URI.create(baseUrl));
+    }
+}
@@ -0,0 +1,62 @@
+package com.lifelogix.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP API 부하 테스트 진입점 (./gradlew loadTest -PloadTestArgs="--users=50 --ramp-up=PT30S --duration=PT2M")
+ * 가상 사용자를 ramp-up 동안 고르게 시작시키고, 램프업 이후 duration 동안의 엔드포인트별 처리량과 응답 시간 백분위수를 출력
+ * 각 사용자는 응답을 받은 뒤 다음 요청을 보내는 닫힌 모델이므로, 결과는 "동시 사용자 N명일 때의 처리량"으로 해석
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (LoadTestEnvironment environment = options.baseUrl() == null
+                ? LoadTestEnvironment.start(options.seedUsers(), options.jdbcUrl())
+                : LoadTestEnvironment.external(options.baseUrl())) {
+            run(options, environment);
+        }
+    }
+
+    private static void run(LoadTestOptions options, LoadTestEnvironment environment) throws InterruptedException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        LoadTestClient client = new LoadTestClient(environment.baseUrl(), objectMapper, metrics);
+        String runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+
+        System.out.printf("[LoadTest|Runner] Start - %s, users: %d, ramp-up: %s, duration: %s, think-time: %s%n",
+                environment.baseUrl(), options.users(), options.rampUp(), options.duration(), options.thinkTime());
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + options.rampUp().toNanos() + options.duration().toNanos();
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(options.users());
+        for (int user = 0; user < options.users(); user++) {
+            long delayNanos = options.rampUp().toNanos() * user / options.users();
+            executor.schedule(new UserSession(client, runId, user, deadlineNanos, options.thinkTime()), delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        TimeUnit.NANOSECONDS.sleep(options.rampUp().toNanos());
+        metrics.startMeasurement();
+        long measureStartNanos = System.nanoTime();
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, deadlineNanos - measureStartNanos));
+        executor.shutdown();
+        if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            executor.shutdownNow();
+        }
+
+        // 종료 시각에 진행 중이던 요청까지 포함되도록 실제 경과 시간으로 처리량을 계산
+        Duration measured = Duration.ofNanos(System.nanoTime() - measureStartNanos);
+        System.out.printf("[LoadTest|Runner] Finished - measured %s after ramp-up%n", measured);
+        metrics.print(System.out, measured);
+    }
+}
@@ -0,0 +1,131 @@
+package com.lifelogix.loadtest;
+
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import org.HdrHistogram.Histogram;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * 일간 타임라인 조회 경로 비교 (./gradlew readPathComparison -PreadPathArgs="--seed-users=20 --iterations=10000")
+ * 운영과 같은 스키마(PostgreSQL 월 파티션)에 합성 이력을 적재한 뒤, 같은 (사용자, 날짜) 표본을 두 경로로 번갈아 읽어
+ * 호출당 응답 시간 백분위수와 할당량(호출한 스레드 기준, JDBC 드라이버/트랜잭션 처리 포함)을 나란히 출력
+ * 호출마다 새 읽기 전용 트랜잭션(새 영속성 컨텍스트)에서 실행해, 캐시 미스 요청 하나의 조회 경로를 재현함
+ * TimelineReadPathTest가 쿼리 수/영속성 컨텍스트 차이를 빌드에서 검증하고, 여기서는 그 차이가 실제 비용으로 얼마인지 측정함
+ */
+public final class ReadPathComparison {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(10);
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // 기록이 있는 (사용자, 날짜)를 고정된 순서로 골고루 뽑음 (실행마다 같은 표본)
+    private static final String SELECT_SAMPLES = """
+            SELECT user_id, date FROM time_block
+            GROUP BY user_id, date
+            ORDER BY md5(user_id || ':' || date)
+            LIMIT ?
+            """;
+
+    private ReadPathComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ReadPathOptions options = ReadPathOptions.parse(args);
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(options.seedUsers(), options.jdbcUrl())) {
+            run(options, environment);
+        }
+    }
+
+    private static void run(ReadPathOptions options, LoadTestEnvironment environment) {
+        TimeBlockRepository timeBlockRepository = environment.getBean(TimeBlockRepository.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(environment.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        List<Sample> samples = environment.getBean(JdbcTemplate.class).query(SELECT_SAMPLES,
+                (rs, rowNum) -> new Sample(rs.getLong("user_id"), rs.getObject("date", LocalDate.class)), options.samples());
+        if (samples.isEmpty()) {
+            throw new IllegalStateException("비교할 타임블록이 없습니다. --seed-users를 1 이상으로 지정하거나 이력이 있는 데이터베이스를 지정해주세요.");
+        }
+
+        List<ReadPath> paths = List.of(
+                new ReadPath("projection (findViewsByUserIdAndDate)",
+                        sample -> timeBlockRepository.findViewsByUserIdAndDate(sample.userId(), sample.date()).size()),
+                new ReadPath("entity (findByUserIdAndDate)",
+                        sample -> timeBlockRepository.findByUserIdAndDate(sample.userId(), sample.date()).size()));
+
+        System.out.printf("[LoadTest|ReadPath] Start - samples: %d, warmup: %d, iterations: %d%n",
+                samples.size(), options.warmup(), options.iterations());
+        measure(paths, samples, transactionTemplate, options.warmup());
+        paths.forEach(ReadPath::reset);
+        measure(paths, samples, transactionTemplate, options.iterations());
+        print(System.out, paths);
+    }
+
+    /**
+     * 반복마다 두 경로의 실행 순서를 바꿔, 먼저 실행한 쪽만 DB 버퍼 캐시를 데우는 편향을 없앰
+     */
+    private static void measure(List<ReadPath> paths, List<Sample> samples, TransactionTemplate transactionTemplate, int iterations) {
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            Sample sample = samples.get(iteration % samples.size());
+            for (int offset = 0; offset < paths.size(); offset++) {
+                paths.get((iteration + offset) % paths.size()).invoke(sample, transactionTemplate);
+            }
+        }
+    }
+
+    private static void print(PrintStream out, List<ReadPath> paths) {
+        out.printf("%-40s %9s %9s %9s %9s %9s %9s %14s %9s%n",
+                "path", "count", "mean(ms)", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "alloc/op(KB)", "rows/op");
+        for (ReadPath path : paths) {
+            Histogram latency = path.latency;
+            long count = latency.getTotalCount();
+            out.printf("%-40s %9d %9.3f %9.3f %9.3f %9.3f %9.3f %14.1f %9.1f%n",
+                    path.name, count, latency.getMean() / 1_000.0,
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)), millis(latency.getMaxValue()),
+                    path.allocatedBytes / 1_024.0 / count, (double) path.rows / count);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private record Sample(Long userId, LocalDate date) {
+    }
+
+    private static final class ReadPath {
+        private final String name;
+        private final ToIntFunction<Sample> query;
+        private final Histogram latency = new Histogram(MAX_LATENCY_MICROS, 3);
+        private long allocatedBytes;
+        private long rows;
+
+        private ReadPath(String name, ToIntFunction<Sample> query) {
+            this.name = name;
+            this.query = query;
+        }
+
+        private void invoke(Sample sample, TransactionTemplate transactionTemplate) {
+            long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            Integer count = transactionTemplate.execute(status -> query.applyAsInt(sample));
+            long elapsedNanos = System.nanoTime() - startNanos;
+            allocatedBytes += THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_LATENCY_MICROS));
+            rows += count;
+        }
+
+        private void reset() {
+            latency.reset();
+            allocatedBytes = 0;
+            rows = 0;
+        }
+    }
+}
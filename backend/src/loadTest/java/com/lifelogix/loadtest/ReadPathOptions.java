@@ -0,0 +1,39 @@
+package com.lifelogix.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 조회 경로 비교 실행 옵션 (--seed-users=20 --samples=200 --warmup=2000 --iterations=10000 --jdbc-url=jdbc:postgresql://...)
+ * jdbc-url을 생략하면 Testcontainers 컨테이너를 띄우고 seed-users명의 합성 사용자 이력을 적재하며,
+ * 이력이 있는 기존 데이터베이스를 지정하면 seed-users=0으로 적재 없이 비교할 수 있음
+ */
+record ReadPathOptions(int seedUsers, int samples, int warmup, int iterations, String jdbcUrl) {
+
+    private static final Set<String> KEYS = Set.of("seed-users", "samples", "warmup", "iterations", "jdbc-url");
+
+    ReadPathOptions {
+        if (seedUsers < 0 || samples < 1 || warmup < 0 || iterations < 1) {
+            throw new IllegalArgumentException("samples/iterations는 1 이상이어야 하며 seed-users/warmup은 음수일 수 없습니다.");
+        }
+    }
+
+    static ReadPathOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (key == null || !KEYS.contains(key)) {
+                throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg + " (사용 가능: " + KEYS + ")");
+            }
+            values.put(key, arg.substring(separator + 1));
+        }
+        return new ReadPathOptions(
+                Integer.parseInt(values.getOrDefault("seed-users", "20")),
+                Integer.parseInt(values.getOrDefault("samples", "200")),
+                Integer.parseInt(values.getOrDefault("warmup", "2000")),
+                Integer.parseInt(values.getOrDefault("iterations", "10000")),
+                values.get("jdbc-url"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.lifelogix.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lifelogix.timeline.activity.api.dto.request.CreateActivityRequest;
+import com.lifelogix.timeline.core.api.dto.request.BatchTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.CreateTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.FillTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.user.api.dto.request.UserLoginRequest;
+import com.lifelogix.user.api.dto.request.UserRegisterRequest;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 사용자 한 명의 시나리오
+ * 가입/로그인 후 활동을 만들고, 종료 시각까지
+ * [카테고리/활동 조회 -> 하루치 계획 기록 -> 실제 기록(구간 채우기 + 슬롯 단건 기록) -> 그날 조회 -> 그 주 조회]를 반복
+ */
+final class UserSession implements Runnable {
+
+    private static final String PASSWORD = "loadtest1!";
+    private static final int ACTIVITIES = 6;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 6);
+
+    private final LoadTestClient client;
+    private final String runId;
+    private final int userNumber;
+    private final long deadlineNanos;
+    private final Duration thinkTime;
+
+    UserSession(LoadTestClient client, String runId, int userNumber, long deadlineNanos, Duration thinkTime) {
+        this.client = client;
+        this.runId = runId;
+        this.userNumber = userNumber;
+        this.deadlineNanos = deadlineNanos;
+        this.thinkTime = thinkTime;
+    }
+
+    @Override
+    public void run() {
+        String accessToken;
+        List<Long> activityIds;
+        try {
+            accessToken = signIn();
+            activityIds = createActivities(accessToken);
+        } catch (RuntimeException e) {
+            System.err.printf("[LoadTest|UserSession] Setup - Failed for user %d: %s%n", userNumber, e.getMessage());
+            return;
+        }
+
+        // 사용자마다 다른 날부터 시작해 같은 슬롯에 몰리지 않게 함
+        for (int iteration = 0; System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted(); iteration++) {
+            LocalDate date = FIRST_DAY.plusDays((userNumber * 7L + iteration) % 364);
+            try {
+                browseCatalog(accessToken);
+                paintDay(accessToken, date, activityIds, iteration);
+                logActual(accessToken, date, activityIds, iteration);
+                pause();
+                client.get("GET /timeline", "/api/v1/timeline?date=" + date, accessToken);
+                pause();
+                LocalDate monday = date.with(DayOfWeek.MONDAY);
+                client.get("GET /timeline/range (week)", "/api/v1/timeline/range?from=" + monday + "&to=" + monday.plusDays(6), accessToken);
+                pause();
+            } catch (RuntimeException e) {
+                // 실패한 요청은 LoadTestMetrics에 오류로 기록되었으므로 다음 반복으로 진행
+            }
+        }
+    }
+
+    private String signIn() {
+        String email = "loadtest-" + runId + "-" + userNumber + "@example.com";
+        client.post("POST /auth/register", "/api/v1/auth/register", null, new UserRegisterRequest(email, PASSWORD, "user" + userNumber % 100_000));
+        JsonNode token = client.post("POST /auth/login", "/api/v1/auth/login", null, new UserLoginRequest(email, PASSWORD));
+        return token.path("accessToken").asText();
+    }
+
+    private List<Long> createActivities(String accessToken) {
+        JsonNode categories = client.get("GET /categories", "/api/v1/categories", accessToken);
+        List<Long> activityIds = new ArrayList<>(ACTIVITIES);
+        for (int i = 0; i < ACTIVITIES; i++) {
+            long categoryId = categories.get(i % categories.size()).path("id").asLong();
+            JsonNode activity = client.post("POST /activities", "/api/v1/activities", accessToken, new CreateActivityRequest("활동 " + i, categoryId));
+            activityIds.add(activity.path("id").asLong());
+        }
+        return activityIds;
+    }
+
+    private void browseCatalog(String accessToken) {
+        client.get("GET /categories", "/api/v1/categories", accessToken);
+        pause();
+        client.get("GET /activities", "/api/v1/activities", accessToken);
+        pause();
+    }
+
+    /**
+     * 하루 48개 슬롯 전체에 계획을 기록 (반복마다 활동 배치를 바꿔 실제로 갱신이 일어나게 함)
+     */
+    private void paintDay(String accessToken, LocalDate date, List<Long> activityIds, int iteration) {
+        List<CreateTimeBlockRequest> blocks = new ArrayList<>();
+        LocalTime startTime = LocalTime.MIN;
+        for (int slot = 0; slot < 48; slot++) {
+            long activityId = activityIds.get((slot / 4 + iteration) % activityIds.size());
+            blocks.add(new CreateTimeBlockRequest(date, startTime, TimeBlockType.PLAN, activityId));
+            startTime = startTime.plusMinutes(TimeBlock.SLOT_MINUTES);
+        }
+        client.post("POST /timeline/block/batch", "/api/v1/timeline/block/batch", accessToken, new BatchTimeBlockRequest(blocks));
+        pause();
+    }
+
+    /**
+     * 계획 중 세 시간을 구간 채우기로 실제 기록하고, 그 뒤 네 슬롯은 하나씩 기록 (앱에서 지난 시간을 채우는 흐름)
+     */
+    private void logActual(String accessToken, LocalDate date, List<Long> activityIds, int iteration) {
+        LocalTime startTime = LocalTime.of(8 + iteration % 12, 0);
+        long activityId = activityIds.get(iteration % activityIds.size());
+        client.post("POST /timeline/block/range/fill", "/api/v1/timeline/block/range/fill", accessToken,
+                new FillTimeBlockRangeRequest(date, startTime, startTime.plusMinutes(150), TimeBlockType.ACTUAL, activityId));
+        pause();
+        for (int slot = 0; slot < 4; slot++) {
+            LocalTime slotTime = startTime.plusMinutes(180 + slot * TimeBlock.SLOT_MINUTES);
+            long slotActivityId = activityIds.get((iteration + slot) % activityIds.size());
+            client.post("POST /timeline/block", "/api/v1/timeline/block", accessToken,
+                    new CreateTimeBlockRequest(date, slotTime, TimeBlockType.ACTUAL, slotActivityId));
+            pause();
+        }
+    }
+
+    private void pause() {
+        if (thinkTime.isZero()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(thinkTime.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -87,6 +87,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers("/api/v1/auth/**", "/api/auth/**", "/api/v1/health", "/oauth2/**", "/login/oauth2/code/**").permitAll()
+                        // 노출 여부는 management.endpoints 설정이 결정 (운영 환경은 health만 노출)
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
                 )
                                 /*.oauth2Login(oauth2 -> oauth2
@@ -0,0 +1,64 @@
+package com.lifelogix.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나에서 실행된 SQL 구문/엔티티 로드/플러시 수를 분포 요약으로 기록 (태그: method, uri)
+ * uri는 http.server.requests와 같이 매핑된 경로 패턴을 사용해 경로 변수별로 태그가 늘어나지 않게 함
+ * 메트릭 수집 요청(/actuator)은 제외
+ */
+public class HibernateRequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS = "hibernate.request.statements";
+    static final String ENTITY_LOADS = "hibernate.request.entity.loads";
+    static final String FLUSHES = "hibernate.request.flushes";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    public HibernateRequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HibernateRequestStatistics statistics = HibernateRequestStatistics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            HibernateRequestStatistics.stop();
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, HibernateRequestStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern == null ? UNKNOWN_URI : pattern.toString());
+        summary(STATEMENTS, "statements", tags).record(statistics.statements());
+        summary(ENTITY_LOADS, "entities", tags).record(statistics.entityLoads());
+        summary(FLUSHES, "flushes", tags).record(statistics.flushes());
+    }
+
+    private DistributionSummary summary(String name, String baseUnit, Tags tags) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,106 @@
+package com.lifelogix.config.metrics;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 현재 요청 스레드에서 실행된 Hibernate 작업 수 (SQL 구문, 엔티티 로드, 플러시)
+ * HibernateRequestMetricsFilter가 요청마다 시작/종료하며, 요청 밖(스케줄러, 시작 작업, 비동기 스트리밍)에서는 집계하지 않음
+ * JDBC 배치는 DB 왕복 한 번이므로 구문 하나로 셈
+ * Hibernate 세션 이벤트로 세므로 JdbcTemplate으로 직접 실행한 구문은 포함되지 않음
+ */
+public final class HibernateRequestStatistics {
+
+    private static final ThreadLocal<HibernateRequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private int flushes;
+
+    static HibernateRequestStatistics start() {
+        HibernateRequestStatistics statistics = new HibernateRequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    int statements() {
+        return statements;
+    }
+
+    int entityLoads() {
+        return entityLoads;
+    }
+
+    int flushes() {
+        return flushes;
+    }
+
+    static void statementExecuted() {
+        HibernateRequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        HibernateRequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoads++;
+        }
+    }
+
+    static void flushed() {
+        HibernateRequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.flushes++;
+        }
+    }
+
+    /**
+     * 세션마다 생성되는 이벤트 리스너 (hibernate.session.events.auto로 등록되므로 public 기본 생성자 필요)
+     */
+    public static class SessionListener implements SessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            statementExecuted();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            statementExecuted();
+        }
+
+        @Override
+        public void flushEnd(int numberOfEntities, int numberOfCollections) {
+            flushed();
+        }
+    }
+
+    /**
+     * 엔티티 로드는 세션 이벤트에 없어 POST_LOAD 리스너를 세션 팩토리에 추가
+     */
+    static class LoadListenerIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> entityLoaded());
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.lifelogix.config.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 메트릭 설정 (Prometheus 형식은 /actuator/prometheus, 노출 여부는 환경별 설정)
+ * - @Timed가 붙은 서비스 메서드와 Redis 연산의 실행 시간
+ * - 요청마다 실행된 SQL 구문/엔티티 로드/플러시 수 (Hibernate 세션을 거친 구문만 셈)
+ *   JdbcTemplate으로 실행하는 경로(구간 이동, 복사, 내보내기, 가져오기, 병합 등)의 구문은 포함되지 않으므로,
+ *   이 경로의 쿼리 수는 테스트의 @QueryBudget(DataSource 프록시)으로 확인함
+ * 커넥션 풀 대기 시간(hikaricp.connections.acquire)은 Spring Boot가 자동 등록하며,
+ * 전체 Hibernate 통계(hibernate.*)는 hibernate.generate_statistics를 켠 환경(로컬 프로필)에서만 등록됨
+ */
+@Configuration
+public class MetricsConfig {
+
+    // 서비스 메서드 실행 시간 (태그: class, method, exception)
+    public static final String SERVICE_TIMER = "lifelogix.service";
+    // Redis 연산 실행 시간 (태그: operation)
+    public static final String REDIS_COMMAND_TIMER = "lifelogix.redis.command";
+    // Hibernate 통합 제공자 설정 키 (JPA 부트스트랩 전용이라 AvailableSettings에 없음)
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateRequestStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, HibernateRequestStatistics.SessionListener.class.getName());
+            properties.put(INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new HibernateRequestStatistics.LoadListenerIntegrator()));
+        };
+    }
+
+    /**
+     * 보안 필터 체인에서 실행된 쿼리도 포함하도록 서블릿 필터 중 앞쪽에 등록
+     */
+    @Bean
+    public FilterRegistrationBean<HibernateRequestMetricsFilter> hibernateRequestMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<HibernateRequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new HibernateRequestMetricsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -12,6 +12,14 @@ public enum ErrorCode {
     INVALID_PARENT_CATEGORY(HttpStatus.BAD_REQUEST, "시스템 기본 카테고리만 부모로 지정할 수 있습니다."),
     CATEGORY_IN_USE(HttpStatus.BAD_REQUEST, "해당 카테고리를 사용하는 활동이 존재하여 삭제할 수 없습니다."),
     ACTIVITY_IN_USE(HttpStatus.BAD_REQUEST, "해당 활동을 사용하는 타임블록이 존재하여 삭제할 수 없습니다."),
+    INVALID_SLOT_RANGE(HttpStatus.BAD_REQUEST, "시간 구간이 올바르지 않습니다. 시작/종료 시간은 30분 단위여야 하며, 이동한 결과가 해당 날짜를 벗어날 수 없습니다."),
+    INVALID_COPY_RANGE(HttpStatus.BAD_REQUEST, "복사 기간이 올바르지 않습니다. 원본은 최대 7일, 대상은 최대 42일이며, 같은 타입으로 복사할 때는 두 기간이 겹칠 수 없습니다."),
+    INVALID_STATISTICS_RANGE(HttpStatus.BAD_REQUEST, "통계 기간이 올바르지 않습니다. 시작일은 종료일보다 늦을 수 없으며 최대 366일까지 조회할 수 있습니다."),
+    INVALID_FILE_FORMAT(HttpStatus.BAD_REQUEST, "지원하지 않는 파일 형식입니다. csv 또는 ndjson 중에서 선택해주세요."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다. 시작일은 종료일보다 늦을 수 없으며 최대 42일까지 조회할 수 있습니다."),
+    INVALID_SYNC_CURSOR(HttpStatus.BAD_REQUEST, "동기화 요청이 올바르지 않습니다. since는 0 이상, limit은 1 이상 1000 이하여야 합니다."),
+    INVALID_MERGE_TIMESTAMP(HttpStatus.BAD_REQUEST, "편집 시각(HLC)이 올바르지 않습니다. 서버 시각보다 1분 이상 앞선 편집은 병합할 수 없습니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key는 공백 없는 ASCII 문자 1~255자여야 합니다."),
 
     // 401 UNAUTHORIZED
     AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "인증에 실패했습니다."),
@@ -28,11 +36,17 @@ public enum ErrorCode {
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "카테고리를 찾을 수 없습니다."),
     ACTIVITY_NOT_FOUND(HttpStatus.NOT_FOUND, "활동을 찾을 수 없습니다."),
     TIME_BLOCK_NOT_FOUND(HttpStatus.NOT_FOUND, "타임블록을 찾을 수 없습니다."),
+    IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "가져오기 작업을 찾을 수 없습니다."),
 
     // 409 CONFLICT
     USER_EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다."),
     CATEGORY_NAME_DUPLICATE(HttpStatus.CONFLICT, "이미 사용 중인 카테고리 이름입니다."),
     ACTIVITY_NAME_DUPLICATE(HttpStatus.CONFLICT, "해당 카테고리에 동일한 이름의 활동이 이미 존재합니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청이 먼저 변경하여 반영하지 못했습니다. 최신 상태를 조회한 뒤 다시 시도해주세요."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요."),
+
+    // 422 UNPROCESSABLE_ENTITY
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용한 Idempotency-Key입니다."),
 
     // 429 TOO_MANY_REQUESTS
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요.");
@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -54,6 +55,24 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, errorCode.getStatus());
     }
 
+    /**
+     * 낙관적 잠금(@Version) 충돌: 같은 행을 다른 트랜잭션이 먼저 변경한 경우
+     * -> 409 Conflict 반환
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+        ErrorCode errorCode = ErrorCode.CONCURRENT_MODIFICATION;
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                errorCode.getStatus().value(),
+                errorCode.getStatus().getReasonPhrase(),
+                errorCode.getMessage(),
+                request.getRequestURI()
+        );
+        log.warn("[Backend|ExceptionHandler] OptimisticLockingFailure - URI: {}, Entity: {}", request.getRequestURI(), ex.getPersistentClassName());
+        return new ResponseEntity<>(errorResponse, errorCode.getStatus());
+    }
+
     @ExceptionHandler(RateLimitException.class)
     public ResponseEntity<ErrorResponse> handleRateLimitException(RateLimitException ex, HttpServletRequest request) {
         ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
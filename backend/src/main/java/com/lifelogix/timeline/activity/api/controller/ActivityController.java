@@ -5,12 +5,17 @@ import com.lifelogix.timeline.activity.api.dto.request.UpdateActivityRequest;
 import com.lifelogix.timeline.activity.api.dto.response.ActivitiesByCategoryResponse;
 import com.lifelogix.timeline.activity.api.dto.response.ActivityResponse;
 import com.lifelogix.timeline.activity.application.ActivityService;
+import com.lifelogix.timeline.core.application.IdempotencyService;
+import com.lifelogix.timeline.core.application.ResourceVersionService;
+import com.lifelogix.timeline.core.application.VersionedResource;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.security.Principal;
@@ -23,20 +28,27 @@ public class ActivityController {
 
     private static final Logger log = LoggerFactory.getLogger(ActivityController.class);
     private final ActivityService activityService;
+    private final ResourceVersionService resourceVersionService;
+    private final IdempotencyService idempotencyService;
+    // 클라이언트(브라우저) 캐시에만 저장하고, 사용할 때마다 ETag로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 
     /**
-     * 새로운 활동을 생성
+     * 새로운 활동을 생성 (Idempotency-Key로 재시도하면 처음 응답을 그대로 반환)
      */
     @PostMapping
     public ResponseEntity<ActivityResponse> createActivity(
             Principal principal,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CreateActivityRequest request) {
 
         Long userId = Long.parseLong(principal.getName());
         log.info("[Backend|ActivityController] CreateActivity - Received request from userId: {} with name: {}", userId, request.name());
-        ActivityResponse response = activityService.createActivity(userId, request);
-        URI location = URI.create("/api/v1/activities/" + response.id());
-        return ResponseEntity.created(location).body(response);
+        return idempotencyService.execute(userId, idempotencyKey, "POST /api/v1/activities", request, ActivityResponse.class, () -> {
+            ActivityResponse response = activityService.createActivity(userId, request);
+            URI location = URI.create("/api/v1/activities/" + response.id());
+            return ResponseEntity.created(location).body(response);
+        });
     }
 
     /**
@@ -44,12 +56,18 @@ public class ActivityController {
      */
     @GetMapping
     public ResponseEntity<List<ActivitiesByCategoryResponse>> getAllActivities(
-            Principal principal) {
+            Principal principal,
+            WebRequest webRequest) {
 
         Long userId = Long.parseLong(principal.getName());
         log.info("[Backend|ActivityController] GetAllActivities - Received request from userId: {}", userId);
+        String eTag = resourceVersionService.currentETag(userId, VersionedResource.ACTIVITIES);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.info("[Backend|ActivityController] GetAllActivities - Not modified for userId: {}", userId);
+            return null;
+        }
         List<ActivitiesByCategoryResponse> responses = activityService.findAllActivitiesGroupedByCategory(userId);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(responses);
     }
 
     /**
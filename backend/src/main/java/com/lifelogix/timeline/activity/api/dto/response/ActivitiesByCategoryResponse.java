@@ -1,9 +1,32 @@
 package com.lifelogix.timeline.activity.api.dto.response;
 
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.category.domain.Category;
+
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public record ActivitiesByCategoryResponse(
         Long categoryId,
         String categoryName,
         List<ActivityResponse> activities
-) {}
\ No newline at end of file
+) {
+    /**
+     * 활동 목록을 카테고리별로 묶어 변환
+     */
+    public static List<ActivitiesByCategoryResponse> groupByCategory(List<Activity> activities) {
+        Map<Category, List<Activity>> groupedActivities = activities.stream()
+                .collect(Collectors.groupingBy(Activity::getCategory));
+
+        return groupedActivities.entrySet().stream()
+                .map(entry -> {
+                    Category category = entry.getKey();
+                    List<ActivityResponse> activityResponses = entry.getValue().stream()
+                            .map(ActivityResponse::from)
+                            .toList();
+                    return new ActivitiesByCategoryResponse(category.getId(), category.getName(), activityResponses);
+                })
+                .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.lifelogix.timeline.activity.application;
 
+import com.lifelogix.config.metrics.MetricsConfig;
 import com.lifelogix.exception.BusinessException;
 import com.lifelogix.exception.ErrorCode;
 import com.lifelogix.timeline.activity.api.dto.request.CreateActivityRequest;
@@ -10,20 +11,23 @@ import com.lifelogix.timeline.activity.domain.Activity;
 import com.lifelogix.timeline.activity.domain.ActivityRepository;
 import com.lifelogix.timeline.category.domain.Category;
 import com.lifelogix.timeline.category.domain.CategoryRepository;
-import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.application.ResourceChangedEvent;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
+import com.lifelogix.timeline.core.application.VersionedResource;
 import com.lifelogix.user.domain.User;
 import com.lifelogix.user.domain.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ActivityService {
@@ -32,7 +36,7 @@ public class ActivityService {
     private final ActivityRepository activityRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final TimeBlockRepository timeBlockRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ActivityResponse createActivity(Long userId, CreateActivityRequest request) {
@@ -55,6 +59,7 @@ public class ActivityService {
 
         Activity newActivity = new Activity(request.name(), user, category);
         Activity savedActivity = activityRepository.save(newActivity);
+        eventPublisher.publishEvent(ResourceChangedEvent.of(userId, VersionedResource.ACTIVITIES));
 
         log.info("[Backend|ActivityService] CreateActivity - Success for userId: {} with new activityId: {}", userId, savedActivity.getId());
         return ActivityResponse.from(savedActivity);
@@ -64,18 +69,7 @@ public class ActivityService {
         log.info("[Backend|ActivityService] FindAllActivities - Attempt for userId: {}", userId);
         List<Activity> activities = activityRepository.findByUserIdOrderByCategory(userId);
 
-        Map<Category, List<Activity>> groupedActivities = activities.stream()
-                .collect(Collectors.groupingBy(Activity::getCategory));
-
-        List<ActivitiesByCategoryResponse> response = groupedActivities.entrySet().stream()
-                .map(entry -> {
-                    Category category = entry.getKey();
-                    List<ActivityResponse> activityResponses = entry.getValue().stream()
-                            .map(ActivityResponse::from)
-                            .toList();
-                    return new ActivitiesByCategoryResponse(category.getId(), category.getName(), activityResponses);
-                })
-                .toList();
+        List<ActivitiesByCategoryResponse> response = ActivitiesByCategoryResponse.groupByCategory(activities);
         log.info("[Backend|ActivityService] FindAllActivities - Success for userId: {}. Found {} groups.", userId, response.size());
         return response;
     }
@@ -83,8 +77,7 @@ public class ActivityService {
     @Transactional
     public ActivityResponse updateActivity(Long userId, Long activityId, UpdateActivityRequest request) {
         log.info("[Backend|ActivityService] UpdateActivity - Attempt for userId: {} on activityId: {}", userId, activityId);
-        Activity activity = findActivityById(activityId);
-        validateActivityOwner(userId, activity);
+        Activity activity = findOwnedActivity(userId, activityId);
 
         if (!activity.getName().equals(request.name()) && activityRepository.existsByUserAndCategoryAndName(activity.getUser(), activity.getCategory(), request.name())) {
             log.warn("[Backend|ActivityService] UpdateActivity - Failed: Duplicate activity name '{}' for userId: {}", request.name(), userId);
@@ -92,6 +85,9 @@ public class ActivityService {
         }
 
         activity.update(request.name());
+        // 활동 이름은 타임라인 응답에 포함되므로 해당 사용자의 캐시된 타임라인을 모두 무효화
+        eventPublisher.publishEvent(TimelineChangedEvent.allDates(userId));
+        eventPublisher.publishEvent(ResourceChangedEvent.of(userId, VersionedResource.ACTIVITIES));
         log.info("[Backend|ActivityService] UpdateActivity - Success for userId: {} on activityId: {}", userId, activityId);
         return ActivityResponse.from(activity);
     }
@@ -99,30 +95,30 @@ public class ActivityService {
     @Transactional
     public void deleteActivity(Long userId, Long activityId) {
         log.info("[Backend|ActivityService] DeleteActivity - Attempt for userId: {} on activityId: {}", userId, activityId);
-        Activity activity = findActivityById(activityId);
-        validateActivityOwner(userId, activity);
-
-        if (timeBlockRepository.existsByActivity(activity)) {
-            log.warn("[Backend|ActivityService] DeleteActivity - Failed: Activity in use for activityId: {}", activityId);
-            throw new BusinessException(ErrorCode.ACTIVITY_IN_USE);
+        // 소유자 + 미사용 조건을 한 번에 걸어 삭제하고, 삭제되지 않은 경우에만 원인을 확인
+        if (activityRepository.deleteUnusedByIdAndUserId(activityId, userId) == 0) {
+            if (activityRepository.existsByIdAndUserId(activityId, userId)) {
+                log.warn("[Backend|ActivityService] DeleteActivity - Failed: Activity in use for activityId: {}", activityId);
+                throw new BusinessException(ErrorCode.ACTIVITY_IN_USE);
+            }
+            throw activityAccessFailure(userId, activityId);
         }
-
-        activityRepository.delete(activity);
+        eventPublisher.publishEvent(ResourceChangedEvent.of(userId, VersionedResource.ACTIVITIES));
         log.info("[Backend|ActivityService] DeleteActivity - Success for userId: {} on activityId: {}", userId, activityId);
     }
 
-    private Activity findActivityById(Long activityId) {
-        return activityRepository.findById(activityId)
-                .orElseThrow(() -> {
-                    log.warn("[Backend|ActivityService] FindActivityById - Failed: Activity not found for id: {}", activityId);
-                    return new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND);
-                });
+    // 소유자 조건을 포함한 단일 조회, 실패 시에만 존재 여부로 404/403 구분
+    private Activity findOwnedActivity(Long userId, Long activityId) {
+        return activityRepository.findByIdAndUserId(activityId, userId)
+                .orElseThrow(() -> activityAccessFailure(userId, activityId));
     }
 
-    private void validateActivityOwner(Long userId, Activity activity) {
-        if (!activity.getUser().getId().equals(userId)) {
-            log.warn("[Backend|ActivityService] ValidateActivityOwner - Failed: Permission denied for userId: {} on activityId: {}", userId, activity.getId());
-            throw new BusinessException(ErrorCode.PERMISSION_DENIED);
+    private BusinessException activityAccessFailure(Long userId, Long activityId) {
+        if (activityRepository.existsById(activityId)) {
+            log.warn("[Backend|ActivityService] FindOwnedActivity - Failed: Permission denied for userId: {} on activityId: {}", userId, activityId);
+            return new BusinessException(ErrorCode.PERMISSION_DENIED);
         }
+        log.warn("[Backend|ActivityService] FindOwnedActivity - Failed: Activity not found for id: {}", activityId);
+        return new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND);
     }
 }
\ No newline at end of file
@@ -3,14 +3,29 @@ package com.lifelogix.timeline.activity.domain;
 import com.lifelogix.timeline.category.domain.Category;
 import com.lifelogix.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ActivityRepository extends JpaRepository<Activity, Long> {
     @Query("SELECT a FROM Activity a JOIN FETCH a.user JOIN FETCH a.category c LEFT JOIN FETCH c.user WHERE a.user.id = :userId ORDER BY c.name, a.name")
     List<Activity> findByUserIdOrderByCategory(@Param("userId") Long userId);
+    @Query("SELECT a FROM Activity a JOIN FETCH a.category WHERE a.id IN :ids")
+    List<Activity> findAllWithCategoryByIdIn(@Param("ids") Collection<Long> ids);
+    Optional<Activity> findByIdAndUserId(Long id, Long userId);
+    @Query("SELECT a FROM Activity a JOIN FETCH a.category WHERE a.id = :id AND a.user.id = :userId")
+    Optional<Activity> findWithCategoryByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+    boolean existsByIdAndUserId(Long id, Long userId);
+    /**
+     * 소유자의 활동 중 타임블록이 참조하지 않는 활동만 단일 구문으로 삭제하고, 삭제된 행 수를 반환
+     */
+    @Modifying
+    @Query("DELETE FROM Activity a WHERE a.id = :id AND a.user.id = :userId AND NOT EXISTS (SELECT tb.id FROM TimeBlock tb WHERE tb.activity = a)")
+    int deleteUnusedByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
     boolean existsByCategory(Category category);
     boolean existsByUserAndCategoryAndName(User user, Category category, String name);
 }
\ No newline at end of file
@@ -4,12 +4,17 @@ import com.lifelogix.timeline.category.api.dto.request.CreateCategoryRequest;
 import com.lifelogix.timeline.category.api.dto.request.UpdateCategoryRequest;
 import com.lifelogix.timeline.category.api.dto.response.CategoryResponse;
 import com.lifelogix.timeline.category.application.CategoryService;
+import com.lifelogix.timeline.core.application.IdempotencyService;
+import com.lifelogix.timeline.core.application.ResourceVersionService;
+import com.lifelogix.timeline.core.application.VersionedResource;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.security.Principal;
@@ -22,20 +27,27 @@ public class CategoryController {
 
     private static final Logger log = LoggerFactory.getLogger(CategoryController.class);
     private final CategoryService categoryService;
+    private final ResourceVersionService resourceVersionService;
+    private final IdempotencyService idempotencyService;
+    // 클라이언트(브라우저) 캐시에만 저장하고, 사용할 때마다 ETag로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 
     /**
-     * 새로운 사용자 정의 카테고리를 생성
+     * 새로운 사용자 정의 카테고리를 생성 (Idempotency-Key로 재시도하면 처음 응답을 그대로 반환)
      */
     @PostMapping
     public ResponseEntity<CategoryResponse> createCustomCategory(
             Principal principal,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CreateCategoryRequest request) {
 
         Long userId = Long.parseLong(principal.getName());
         log.info("[Backend|CategoryController] CreateCustomCategory - Received request from userId: {} with name: {}", userId, request.name());
-        CategoryResponse response = categoryService.createCustomCategory(userId, request);
-        URI location = URI.create("/api/v1/categories/" + response.id());
-        return ResponseEntity.created(location).body(response);
+        return idempotencyService.execute(userId, idempotencyKey, "POST /api/v1/categories", request, CategoryResponse.class, () -> {
+            CategoryResponse response = categoryService.createCustomCategory(userId, request);
+            URI location = URI.create("/api/v1/categories/" + response.id());
+            return ResponseEntity.created(location).body(response);
+        });
     }
 
     /**
@@ -43,12 +55,18 @@ public class CategoryController {
      */
     @GetMapping
     public ResponseEntity<List<CategoryResponse>> getAllCategories(
-            Principal principal) {
+            Principal principal,
+            WebRequest webRequest) {
 
         Long userId = Long.parseLong(principal.getName());
         log.info("[Backend|CategoryController] GetAllCategories - Received request from userId: {}", userId);
+        String eTag = resourceVersionService.currentETag(userId, VersionedResource.CATEGORIES);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.info("[Backend|CategoryController] GetAllCategories - Not modified for userId: {}", userId);
+            return null;
+        }
         List<CategoryResponse> responses = categoryService.findAllCategoriesForUser(userId);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(responses);
     }
 
     /**
@@ -1,24 +1,30 @@
 package com.lifelogix.timeline.category.application;
 
+import com.lifelogix.config.metrics.MetricsConfig;
 import com.lifelogix.exception.BusinessException;
 import com.lifelogix.exception.ErrorCode;
-import com.lifelogix.timeline.activity.domain.ActivityRepository;
 import com.lifelogix.timeline.category.api.dto.request.CreateCategoryRequest;
 import com.lifelogix.timeline.category.api.dto.request.UpdateCategoryRequest;
 import com.lifelogix.timeline.category.api.dto.response.CategoryResponse;
 import com.lifelogix.timeline.category.domain.Category;
 import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.application.ResourceChangedEvent;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
+import com.lifelogix.timeline.core.application.VersionedResource;
 import com.lifelogix.user.domain.User;
 import com.lifelogix.user.domain.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class CategoryService {
@@ -26,7 +32,7 @@ public class CategoryService {
     private static final Logger log = LoggerFactory.getLogger(CategoryService.class);
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
-    private final ActivityRepository activityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CategoryResponse createCustomCategory(Long userId, CreateCategoryRequest request) {
@@ -49,6 +55,7 @@ public class CategoryService {
 
         Category newCategory = new Category(request.name(), request.color(), user, parentCategory);
         Category savedCategory = categoryRepository.save(newCategory);
+        eventPublisher.publishEvent(ResourceChangedEvent.of(userId, VersionedResource.CATEGORIES));
         log.info("[Backend|CategoryService] CreateCustomCategory - Success for userId: {} with new categoryId: {}", userId, savedCategory.getId());
         return CategoryResponse.from(savedCategory);
     }
@@ -66,8 +73,7 @@ public class CategoryService {
     @Transactional
     public CategoryResponse updateCustomCategory(Long userId, Long categoryId, UpdateCategoryRequest request) {
         log.info("[Backend|CategoryService] UpdateCustomCategory - Attempt for userId: {} on categoryId: {}", userId, categoryId);
-        Category category = findCategoryById(categoryId);
-        validateCategoryOwner(userId, category);
+        Category category = findOwnedCategory(userId, categoryId);
 
         if (!category.getName().equals(request.name()) && categoryRepository.existsByUserAndName(category.getUser(), request.name())) {
             log.warn("[Backend|CategoryService] UpdateCustomCategory - Failed: Duplicate category name '{}' for userId: {}", request.name(), userId);
@@ -75,6 +81,10 @@ public class CategoryService {
         }
 
         category.update(request.name(), request.color());
+        // 카테고리 이름/색상은 타임라인 응답에 포함되므로 해당 사용자의 캐시된 타임라인을 모두 무효화
+        eventPublisher.publishEvent(TimelineChangedEvent.allDates(userId));
+        // 활동 목록 응답에도 카테고리 이름이 포함됨
+        eventPublisher.publishEvent(ResourceChangedEvent.of(userId, VersionedResource.CATEGORIES, VersionedResource.ACTIVITIES));
         log.info("[Backend|CategoryService] UpdateCustomCategory - Success for userId: {} on categoryId: {}", userId, categoryId);
         return CategoryResponse.from(category);
     }
@@ -82,33 +92,31 @@ public class CategoryService {
     @Transactional
     public void deleteCustomCategory(Long userId, Long categoryId) {
         log.info("[Backend|CategoryService] DeleteCustomCategory - Attempt for userId: {} on categoryId: {}", userId, categoryId);
-        Category category = findCategoryById(categoryId);
-        validateCategoryOwner(userId, category);
-
-        if (activityRepository.existsByCategory(category)) {
-            log.warn("[Backend|CategoryService] DeleteCustomCategory - Failed: Category in use for categoryId: {}", categoryId);
-            throw new BusinessException(ErrorCode.CATEGORY_IN_USE);
+        // 소유자 + 미사용 조건을 한 번에 걸어 삭제하고, 삭제되지 않은 경우에만 원인을 확인
+        if (categoryRepository.deleteUnusedByIdAndUserId(categoryId, userId) == 0) {
+            if (categoryRepository.existsByIdAndUserId(categoryId, userId)) {
+                log.warn("[Backend|CategoryService] DeleteCustomCategory - Failed: Category in use for categoryId: {}", categoryId);
+                throw new BusinessException(ErrorCode.CATEGORY_IN_USE);
+            }
+            throw categoryAccessFailure(userId, categoryId);
         }
-
-        categoryRepository.deleteById(categoryId);
+        eventPublisher.publishEvent(ResourceChangedEvent.of(userId, VersionedResource.CATEGORIES));
         log.info("[Backend|CategoryService] DeleteCustomCategory - Success for userId: {} on categoryId: {}", userId, categoryId);
     }
 
-    // 중복 로직 추출: ID로 카테고리 조회
-    private Category findCategoryById(Long categoryId) {
-        return categoryRepository.findById(categoryId)
-                .orElseThrow(() -> {
-                    log.warn("[Backend|CategoryService] FindCategoryById - Failed: Category not found for id: {}", categoryId);
-                    return new BusinessException(ErrorCode.CATEGORY_NOT_FOUND);
-                });
+    // 중복 로직 추출: 소유자 조건을 포함한 단일 조회 (시스템 카테고리(user=null)는 조회되지 않음)
+    private Category findOwnedCategory(Long userId, Long categoryId) {
+        return categoryRepository.findByIdAndUserId(categoryId, userId)
+                .orElseThrow(() -> categoryAccessFailure(userId, categoryId));
     }
 
-    // 중복 로직 추출: 카테고리 소유권 검증
-    private void validateCategoryOwner(Long userId, Category category) {
-        // 시스템 카테고리(user=null)이거나, 소유자가 다른 경우 수정/삭제 불가
-        if (category.getUser() == null || !category.getUser().getId().equals(userId)) {
-            log.warn("[Backend|CategoryService] ValidateCategoryOwner - Failed: Permission denied for userId: {} on categoryId: {}", userId, category.getId());
-            throw new BusinessException(ErrorCode.PERMISSION_DENIED);
+    // 중복 로직 추출: 조회/삭제 실패 시에만 존재 여부를 확인하여 404와 403을 구분
+    private BusinessException categoryAccessFailure(Long userId, Long categoryId) {
+        if (categoryRepository.existsById(categoryId)) {
+            log.warn("[Backend|CategoryService] FindOwnedCategory - Failed: Permission denied for userId: {} on categoryId: {}", userId, categoryId);
+            return new BusinessException(ErrorCode.PERMISSION_DENIED);
         }
+        log.warn("[Backend|CategoryService] FindOwnedCategory - Failed: Category not found for id: {}", categoryId);
+        return new BusinessException(ErrorCode.CATEGORY_NOT_FOUND);
     }
 }
\ No newline at end of file
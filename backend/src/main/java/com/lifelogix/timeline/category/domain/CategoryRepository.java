@@ -3,14 +3,25 @@ package com.lifelogix.timeline.category.domain;
 import com.lifelogix.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     @Query("SELECT c FROM Category c LEFT JOIN FETCH c.user LEFT JOIN FETCH c.parent WHERE c.user.id = :userId OR c.user IS NULL")
     List<Category> findByUserIdOrUserIsNull(@Param("userId") Long userId);
+    List<Category> findByUserIsNull();
     boolean existsByUserAndName(User user, String name);
+    Optional<Category> findByIdAndUserId(Long id, Long userId);
+    boolean existsByIdAndUserId(Long id, Long userId);
+    /**
+     * 소유자의 카테고리 중 활동이 참조하지 않는 카테고리만 단일 구문으로 삭제하고, 삭제된 행 수를 반환
+     */
+    @Modifying
+    @Query("DELETE FROM Category c WHERE c.id = :id AND c.user.id = :userId AND NOT EXISTS (SELECT a.id FROM Activity a WHERE a.category = c)")
+    int deleteUnusedByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 }
\ No newline at end of file
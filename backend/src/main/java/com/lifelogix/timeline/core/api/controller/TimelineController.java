@@ -1,21 +1,45 @@
 package com.lifelogix.timeline.core.api.controller;
 
+import com.lifelogix.timeline.core.api.dto.request.BatchTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.CopyTimeBlocksRequest;
 import com.lifelogix.timeline.core.api.dto.request.CreateTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.FillTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.ShiftTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.TimeBlockRangeRequest;
 import com.lifelogix.timeline.core.api.dto.request.UpdateTimeBlockRequest;
 import com.lifelogix.timeline.core.api.dto.response.BlockDetailResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockCopyResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockRangeResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimelineImportResponse;
 import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
+import com.lifelogix.timeline.core.application.IdempotencyService;
+import com.lifelogix.timeline.core.application.ResourceVersionService;
+import com.lifelogix.timeline.core.application.TimelineExportService;
+import com.lifelogix.timeline.core.application.TimelineFileFormat;
+import com.lifelogix.timeline.core.application.TimelineImportService;
 import com.lifelogix.timeline.core.application.TimelineService;
+import com.lifelogix.timeline.core.application.VersionedResource;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.security.Principal;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/timeline")
@@ -23,36 +47,193 @@ import java.time.LocalDate;
 public class TimelineController {
 
     private static final Logger log = LoggerFactory.getLogger(TimelineController.class);
+    // 클라이언트(브라우저) 캐시에만 저장하고, 사용할 때마다 ETag로 재검증
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
     private final TimelineService timelineService;
+    private final ResourceVersionService resourceVersionService;
+    private final TimelineExportService timelineExportService;
+    private final TimelineImportService timelineImportService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * 특정 날짜의 타임라인을 조회
+     * If-None-Match가 현재 타임라인 버전과 같으면 DB 조회 없이 304로 응답
      */
     @GetMapping
     public ResponseEntity<TimelineResponse> getDailyTimeline(
             Principal principal,
-            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
 
         Long userId = Long.parseLong(principal.getName());
         log.info("[Backend|TimelineController] GetDailyTimeline - Received request from userId: {} for date: {}", userId, date);
+        String eTag = resourceVersionService.currentETag(userId, VersionedResource.TIMELINE);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.info("[Backend|TimelineController] GetDailyTimeline - Not modified for userId: {}", userId);
+            return null;
+        }
         TimelineResponse response = timelineService.getDailyTimeline(userId, date);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(response);
+    }
+
+    /**
+     * 기간(from ~ to) 내 날짜별 타임라인을 한 번에 조회
+     */
+    @GetMapping("/range")
+    public ResponseEntity<List<TimelineResponse>> getTimelineRange(
+            Principal principal,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest webRequest) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineController] GetTimelineRange - Received request from userId: {} from: {} to: {}", userId, from, to);
+        String eTag = resourceVersionService.currentETag(userId, VersionedResource.TIMELINE);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            log.info("[Backend|TimelineController] GetTimelineRange - Not modified for userId: {}", userId);
+            return null;
+        }
+        List<TimelineResponse> responses = timelineService.getTimelineRange(userId, from, to);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(responses);
+    }
+
+    /**
+     * 전체 기록을 CSV 또는 NDJSON 파일로 내보냄 (응답 본문을 스트리밍하므로 기간과 관계없이 서버 메모리 사용량이 일정)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTimeline(
+            Principal principal,
+            @RequestParam(value = "format", defaultValue = "csv") String format) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineController] ExportTimeline - Received request from userId: {} as {}", userId, format);
+        TimelineFileFormat exportFormat = TimelineFileFormat.from(format);
+        StreamingResponseBody body = outputStream -> timelineExportService.export(userId, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("lifelogix-timeline." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * 내보내기와 같은 형식(CSV/NDJSON)의 파일에서 기록을 일괄 가져옴
+     * 실패한 작업은 같은 파일과 jobId로 다시 요청하면 이어서 처리됨
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<TimelineImportResponse> importTimeline(
+            Principal principal,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            @RequestParam(value = "jobId", required = false) Long jobId,
+            @RequestParam(value = "parentCategoryId", required = false) Long parentCategoryId) throws IOException {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineController] ImportTimeline - Received request from userId: {} as {} ({} bytes, jobId: {})", userId, format, file.getSize(), jobId);
+        TimelineFileFormat fileFormat = TimelineFileFormat.from(format);
+        try (InputStream inputStream = file.getInputStream()) {
+            return ResponseEntity.ok(timelineImportService.importTimeline(userId, fileFormat, jobId, parentCategoryId, inputStream));
+        }
+    }
+
+    /**
+     * 가져오기 작업의 진행 상태를 조회
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<TimelineImportResponse> getImportJob(
+            Principal principal,
+            @PathVariable Long jobId) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineController] GetImportJob - Received request from userId: {} for jobId: {}", userId, jobId);
+        return ResponseEntity.ok(timelineImportService.getImportJob(userId, jobId));
     }
 
     /**
-     * 특정 시간 슬롯에 활동을 기록(생성 또는 수정)
+     * 특정 시간 슬롯에 활동을 기록(생성 또는 수정) (Idempotency-Key로 재시도하면 처음 응답을 그대로 반환)
      */
     @PostMapping("/block")
     public ResponseEntity<BlockDetailResponse> createOrUpdateTimeBlock(
             Principal principal,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CreateTimeBlockRequest request) {
 
         Long userId = Long.parseLong(principal.getName());
         log.info("[Backend|TimelineController] CreateOrUpdateTimeBlock - Received request from userId: {} for date: {}, time: {}", userId, request.date(), request.startTime());
-        BlockDetailResponse response = timelineService.createOrUpdateTimeBlock(userId, request);
+        return idempotencyService.execute(userId, idempotencyKey, "POST /api/v1/timeline/block", request, BlockDetailResponse.class, () -> {
+            BlockDetailResponse response = timelineService.createOrUpdateTimeBlock(userId, request);
+
+            // 일관성을 위해 201 Created로 응답하고 Location 헤더는 비움
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
+    }
+
+    /**
+     * 여러 시간 슬롯에 활동을 한 번에 기록(생성 또는 수정)
+     */
+    @PostMapping("/block/batch")
+    public ResponseEntity<List<BlockDetailResponse>> createOrUpdateTimeBlocks(
+            Principal principal,
+            @Valid @RequestBody BatchTimeBlockRequest request) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineController] CreateOrUpdateTimeBlocks - Received request from userId: {} with {} blocks", userId, request.blocks().size());
+        List<BlockDetailResponse> responses = timelineService.createOrUpdateTimeBlocks(userId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
+    /**
+     * 시간 구간의 모든 슬롯에 같은 활동을 기록
+     */
+    @PostMapping("/block/range/fill")
+    public ResponseEntity<TimeBlockRangeResponse> fillRange(
+            Principal principal,
+            @Valid @RequestBody FillTimeBlockRangeRequest request) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineController] FillRange - Received request from userId: {} for date: {}, {} ~ {}", userId, request.date(), request.startTime(), request.endTime());
+        return ResponseEntity.ok(timelineService.fillRange(userId, request));
+    }
+
+    /**
+     * 시간 구간의 모든 기록을 삭제
+     */
+    @PostMapping("/block/range/clear")
+    public ResponseEntity<TimeBlockRangeResponse> clearRange(
+            Principal principal,
+            @Valid @RequestBody TimeBlockRangeRequest request) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineController] ClearRange - Received request from userId: {} for date: {}, {} ~ {}", userId, request.date(), request.startTime(), request.endTime());
+        return ResponseEntity.ok(timelineService.clearRange(userId, request));
+    }
+
+    /**
+     * 시간 구간의 기록을 N 슬롯만큼 앞뒤로 이동
+     */
+    @PostMapping("/block/range/shift")
+    public ResponseEntity<TimeBlockRangeResponse> shiftRange(
+            Principal principal,
+            @Valid @RequestBody ShiftTimeBlockRangeRequest request) {
 
-        // 일관성을 위해 201 Created로 응답하고 Location 헤더는 비움
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineController] ShiftRange - Received request from userId: {} for date: {}, {} ~ {} by {} slots", userId, request.date(), request.startTime(), request.endTime(), request.slots());
+        return ResponseEntity.ok(timelineService.shiftRange(userId, request));
+    }
+
+    /**
+     * 하루 또는 일주일의 기록을 대상 기간에 복사 (타입 변환 가능, 예: 계획 → 실제)
+     */
+    @PostMapping("/copy")
+    public ResponseEntity<TimeBlockCopyResponse> copyTimeBlocks(
+            Principal principal,
+            @Valid @RequestBody CopyTimeBlocksRequest request) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineController] CopyTimeBlocks - Received request from userId: {} from {} ~ {} to {} ~ {}", userId, request.sourceFrom(), request.sourceTo(), request.targetFrom(), request.targetTo());
+        return ResponseEntity.ok(timelineService.copyTimeBlocks(userId, request));
     }
 
     /**
@@ -0,0 +1,24 @@
+package com.lifelogix.timeline.core.api.dto.request;
+
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * 원본 기간(sourceFrom ~ sourceTo)의 기록을 대상 기간(targetFrom ~ targetTo)에 반복하여 복사
+ * sourceType: 복사할 타입 (null이면 계획/실제 모두)
+ * targetType: 복사 후 타입 (null이면 원본 타입 유지, 지정하려면 sourceType도 필요)
+ */
+public record CopyTimeBlocksRequest(
+        @NotNull(message = "원본 시작일은 필수입니다.")
+        LocalDate sourceFrom,
+        @NotNull(message = "원본 종료일은 필수입니다.")
+        LocalDate sourceTo,
+        @NotNull(message = "대상 시작일은 필수입니다.")
+        LocalDate targetFrom,
+        @NotNull(message = "대상 종료일은 필수입니다.")
+        LocalDate targetTo,
+        TimeBlockType sourceType,
+        TimeBlockType targetType
+) {}
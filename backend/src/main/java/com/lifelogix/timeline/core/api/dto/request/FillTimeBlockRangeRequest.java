@@ -0,0 +1,16 @@
+package com.lifelogix.timeline.core.api.dto.request;
+
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record FillTimeBlockRangeRequest(
+        @NotNull LocalDate date,
+        @NotNull LocalTime startTime,
+        @NotNull LocalTime endTime,
+        @NotNull TimeBlockType type,
+        @NotNull(message = "활동 ID는 필수입니다.")
+        Long activityId
+) {}
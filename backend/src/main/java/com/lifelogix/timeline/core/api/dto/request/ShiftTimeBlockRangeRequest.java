@@ -0,0 +1,23 @@
+package com.lifelogix.timeline.core.api.dto.request;
+
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * slots: 이동할 슬롯 수 (양수는 뒤로, 음수는 앞으로)
+ */
+public record ShiftTimeBlockRangeRequest(
+        @NotNull LocalDate date,
+        @NotNull LocalTime startTime,
+        @NotNull LocalTime endTime,
+        @NotNull TimeBlockType type,
+        @NotNull(message = "이동할 슬롯 수는 필수입니다.")
+        @Min(value = -47, message = "하루(48 슬롯)를 벗어나 이동할 수 없습니다.")
+        @Max(value = 47, message = "하루(48 슬롯)를 벗어나 이동할 수 없습니다.")
+        Integer slots
+) {}
@@ -0,0 +1,17 @@
+package com.lifelogix.timeline.core.api.dto.request;
+
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 하루 안의 연속된 슬롯 구간 (startTime ~ endTime, 둘 다 슬롯 시작 시간이며 endTime 슬롯까지 포함)
+ */
+public record TimeBlockRangeRequest(
+        @NotNull LocalDate date,
+        @NotNull LocalTime startTime,
+        @NotNull LocalTime endTime,
+        @NotNull TimeBlockType type
+) {}
@@ -2,6 +2,7 @@ package com.lifelogix.timeline.core.api.dto.response;
 
 import com.lifelogix.timeline.activity.domain.Activity;
 import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockView;
 
 public record BlockDetailResponse(
         Long timeBlockId,
@@ -11,9 +12,22 @@ public record BlockDetailResponse(
         String categoryColor
 ) {
     public static BlockDetailResponse from(TimeBlock timeBlock) {
-        Activity activity = timeBlock.getActivity();
+        return of(timeBlock.getId(), timeBlock.getActivity());
+    }
+
+    public static BlockDetailResponse of(TimeBlockView view) {
+        return new BlockDetailResponse(
+                view.blockId(),
+                view.activityId(),
+                view.activityName(),
+                view.categoryName(),
+                view.categoryColor()
+        );
+    }
+
+    public static BlockDetailResponse of(Long timeBlockId, Activity activity) {
         return new BlockDetailResponse(
-                timeBlock.getId(),
+                timeBlockId,
                 activity.getId(),
                 activity.getName(),
                 activity.getCategory().getName(),
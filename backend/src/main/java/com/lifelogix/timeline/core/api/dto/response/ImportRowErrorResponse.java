@@ -0,0 +1,6 @@
+package com.lifelogix.timeline.core.api.dto.response;
+
+public record ImportRowErrorResponse(
+        long line,
+        String message
+) {}
@@ -0,0 +1,9 @@
+package com.lifelogix.timeline.core.api.dto.response;
+
+import java.time.LocalDate;
+
+public record TimeBlockCopyResponse(
+        LocalDate targetFrom,
+        LocalDate targetTo,
+        int copiedBlocks
+) {}
@@ -0,0 +1,8 @@
+package com.lifelogix.timeline.core.api.dto.response;
+
+import java.time.LocalDate;
+
+public record TimeBlockRangeResponse(
+        LocalDate date,
+        int affectedBlocks
+) {}
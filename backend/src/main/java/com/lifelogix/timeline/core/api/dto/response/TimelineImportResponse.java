@@ -0,0 +1,22 @@
+package com.lifelogix.timeline.core.api.dto.response;
+
+import com.lifelogix.timeline.core.domain.TimelineImportJob;
+import com.lifelogix.timeline.core.domain.TimelineImportStatus;
+
+import java.util.List;
+
+/**
+ * 가져오기 작업의 누적 처리 결과와 이번 요청에서 발생한 행 오류(최대 100건)
+ */
+public record TimelineImportResponse(
+        Long jobId,
+        TimelineImportStatus status,
+        long processedRows,
+        long importedRows,
+        long failedRows,
+        List<ImportRowErrorResponse> errors
+) {
+    public static TimelineImportResponse of(TimelineImportJob job, List<ImportRowErrorResponse> errors) {
+        return new TimelineImportResponse(job.getId(), job.getStatus(), job.getProcessedRows(), job.getImportedRows(), job.getFailedRows(), errors);
+    }
+}
@@ -1,10 +1,41 @@
 package com.lifelogix.timeline.core.api.dto.response;
 
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.core.domain.TimeBlockView;
+
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 // 최종 응답의 최상위 DTO
 public record TimelineResponse(
         LocalDate date,
         List<TimeBlockResponse> timeBlocks
-) {}
\ No newline at end of file
+) {
+    /**
+     * 하루치 블록을 시작 시간 순으로 묶어 시간별 계획/실제 쌍으로 변환 (기록이 없는 시간은 포함하지 않음)
+     */
+    public static TimelineResponse of(LocalDate date, List<TimeBlockView> blocks) {
+        Map<LocalTime, List<TimeBlockView>> blocksByTime = blocks.stream()
+                .collect(Collectors.groupingBy(TimeBlockView::startTime, TreeMap::new, Collectors.toList()));
+        List<TimeBlockResponse> timeBlockResponses = blocksByTime.entrySet().stream()
+                .map(entry -> {
+                    BlockDetailResponse plan = findAndMapToDetail(entry.getValue(), TimeBlockType.PLAN);
+                    BlockDetailResponse actual = findAndMapToDetail(entry.getValue(), TimeBlockType.ACTUAL);
+                    return new TimeBlockResponse(entry.getKey(), plan, actual);
+                })
+                .toList();
+        return new TimelineResponse(date, timeBlockResponses);
+    }
+
+    private static BlockDetailResponse findAndMapToDetail(List<TimeBlockView> blocks, TimeBlockType type) {
+        return blocks.stream()
+                .filter(block -> block.type() == type)
+                .findFirst()
+                .map(BlockDetailResponse::of)
+                .orElse(null);
+    }
+}
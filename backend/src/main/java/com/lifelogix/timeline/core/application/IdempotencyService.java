@@ -0,0 +1,180 @@
+package com.lifelogix.timeline.core.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Idempotency-Key 헤더로 재시도된 생성 요청을 다시 실행하지 않고 저장된 응답으로 돌려줌 (Redis key: idempotency:{userId}:{key})
+ * 처음 도착한 요청이 SETNX로 키를 선점해 실행하고, 성공 응답을 TTL 동안 저장함
+ * 같은 키로 다른 요청 본문을 보내면 422, 처음 요청이 아직 처리 중이면 잠시 기다린 뒤 끝나지 않았으면 409를 반환
+ * Redis를 사용할 수 없으면 키 없이 실행함 (재시도 시 중복 오류가 날 수 있지만 쓰기 자체는 막지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String KEY_PREFIX = "idempotency:";
+    static final Duration RESPONSE_TTL = Duration.ofHours(24);
+    // 처리 중 표시는 실행 중 인스턴스가 죽어도 풀리도록 짧게 유지
+    static final Duration IN_FLIGHT_TTL = Duration.ofSeconds(30);
+    static final Duration IN_FLIGHT_WAIT = Duration.ofSeconds(1);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+    private static final Pattern KEY_PATTERN = Pattern.compile("[\\x21-\\x7E]{1,255}");
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 키가 없으면 그대로 실행하고, 있으면 같은 키의 첫 요청만 실행하고 이후 요청에는 저장된 응답을 반환
+     * operation은 요청을 구분하는 이름(메서드와 경로)이며, 요청 본문과 함께 지문으로 저장되어 키 재사용을 검사함
+     */
+    public <T> ResponseEntity<T> execute(Long userId, String idempotencyKey, String operation, Object request,
+                                         Class<T> bodyType, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (!KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            throw new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String key = KEY_PREFIX + userId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(operation, request);
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(key, write(new StoredResponse(fingerprint, null, null, null)), IN_FLIGHT_TTL);
+        } catch (DataAccessException e) {
+            log.warn("[Backend|IdempotencyService] Execute - Redis unavailable, executing without idempotency for userId: {}", userId, e);
+            return action.get();
+        }
+        if (Boolean.TRUE.equals(acquired)) {
+            return executeAndStore(key, fingerprint, action);
+        }
+        return replay(userId, key, fingerprint, bodyType);
+    }
+
+    private <T> ResponseEntity<T> executeAndStore(String key, String fingerprint, Supplier<ResponseEntity<T>> action) {
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            // 실패한 요청은 저장하지 않으므로 같은 키로 재시도하면 다시 실행됨
+            release(key);
+            throw e;
+        }
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            release(key);
+            return response;
+        }
+        try {
+            URI location = response.getHeaders().getLocation();
+            StoredResponse stored = new StoredResponse(fingerprint, response.getStatusCode().value(),
+                    location == null ? null : location.toString(), write(response.getBody()));
+            redisTemplate.opsForValue().set(key, write(stored), RESPONSE_TTL);
+        } catch (DataAccessException e) {
+            log.warn("[Backend|IdempotencyService] ExecuteAndStore - Failed to store response for key: {}", key, e);
+        }
+        return response;
+    }
+
+    private <T> ResponseEntity<T> replay(Long userId, String key, String fingerprint, Class<T> bodyType) {
+        long deadline = System.nanoTime() + IN_FLIGHT_WAIT.toNanos();
+        while (true) {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                // 첫 요청이 실패해 키가 풀렸으면 클라이언트가 다시 시도하도록 함
+                throw new BusinessException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            }
+            StoredResponse stored = read(value, StoredResponse.class);
+            if (!stored.fingerprint().equals(fingerprint)) {
+                log.warn("[Backend|IdempotencyService] Replay - Failed: Key reused with a different request for userId: {}", userId);
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            if (stored.status() != null) {
+                log.info("[Backend|IdempotencyService] Replay - Replaying stored response for userId: {}", userId);
+                ResponseEntity.BodyBuilder builder = ResponseEntity.status(stored.status()).header(REPLAYED_HEADER, "true");
+                if (stored.location() != null) {
+                    builder.header(HttpHeaders.LOCATION, stored.location());
+                }
+                return builder.body(read(stored.body(), bodyType));
+            }
+            if (System.nanoTime() >= deadline) {
+                log.warn("[Backend|IdempotencyService] Replay - Failed: Original request still in flight for userId: {}", userId);
+                throw new BusinessException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            }
+            sleep();
+        }
+    }
+
+    private void release(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("[Backend|IdempotencyService] Release - Failed to release key: {}", key, e);
+        }
+    }
+
+    private String fingerprint(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(write(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등성 응답을 직렬화하지 못했습니다.", e);
+        }
+    }
+
+    private <T> T read(String value, Class<T> type) {
+        try {
+            return objectMapper.readValue(value, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 멱등성 응답을 읽지 못했습니다.", e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    /**
+     * 저장된 응답 (status가 null이면 첫 요청이 아직 처리 중)
+     */
+    record StoredResponse(String fingerprint, Integer status, String location, String body) {
+    }
+}
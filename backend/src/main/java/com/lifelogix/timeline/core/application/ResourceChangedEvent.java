@@ -0,0 +1,13 @@
+package com.lifelogix.timeline.core.application;
+
+import java.util.Set;
+
+/**
+ * 사용자의 활동/카테고리 목록이 바뀌었음을 알리는 이벤트 (타임라인 변경은 TimelineChangedEvent 사용)
+ */
+public record ResourceChangedEvent(Long userId, Set<VersionedResource> resources) {
+
+    public static ResourceChangedEvent of(Long userId, VersionedResource... resources) {
+        return new ResourceChangedEvent(userId, Set.of(resources));
+    }
+}
@@ -0,0 +1,78 @@
+package com.lifelogix.timeline.core.application;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 사용자별 리소스 버전 카운터 (Redis 해시 key: version:{userId}, field: 리소스)
+ * 조회 API는 데이터를 읽기 전에 현재 버전으로 ETag를 만들어 If-None-Match와 비교하고, 쓰기는 커밋 이후에 버전을 올림
+ * 카운터가 없으면(최초 조회, 만료, Redis 초기화) 현재 시각(ms)에서 시작하므로 이전에 발급한 ETag와 겹치지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+    static final String KEY_PREFIX = "version:";
+    private static final Duration VERSION_TTL = Duration.ofDays(30);
+    private static final Logger log = LoggerFactory.getLogger(ResourceVersionService.class);
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 현재 버전의 강한 ETag를 반환 (Redis를 사용할 수 없으면 null을 반환하여 조건부 응답을 건너뜀)
+     */
+    public String currentETag(Long userId, VersionedResource resource) {
+        try {
+            HashOperations<String, String, String> versions = redisTemplate.opsForHash();
+            String key = KEY_PREFIX + userId;
+            String version = versions.get(key, resource.field());
+            if (version == null) {
+                versions.putIfAbsent(key, resource.field(), initialVersion());
+                redisTemplate.expire(key, VERSION_TTL);
+                version = versions.get(key, resource.field());
+            }
+            return "\"" + resource.field() + "-" + version + "\"";
+        } catch (DataAccessException e) {
+            log.warn("[Backend|ResourceVersionService] CurrentETag - Failed to read version for userId: {} on resource: {}", userId, resource, e);
+            return null;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTimelineChanged(TimelineChangedEvent event) {
+        increment(event.userId(), Set.of(VersionedResource.TIMELINE));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        increment(event.userId(), event.resources());
+    }
+
+    private void increment(Long userId, Set<VersionedResource> resources) {
+        try {
+            HashOperations<String, String, String> versions = redisTemplate.opsForHash();
+            String key = KEY_PREFIX + userId;
+            for (VersionedResource resource : resources) {
+                versions.putIfAbsent(key, resource.field(), initialVersion());
+                versions.increment(key, resource.field(), 1);
+            }
+            redisTemplate.expire(key, VERSION_TTL);
+        } catch (DataAccessException e) {
+            // 버전이 오르지 않으면 클라이언트가 이전 데이터를 304로 계속 재사용할 수 있으므로 에러로 기록
+            log.error("[Backend|ResourceVersionService] Increment - Failed to increment versions {} for userId: {}", resources, userId, e);
+        }
+    }
+
+    private static String initialVersion() {
+        return String.valueOf(System.currentTimeMillis());
+    }
+}
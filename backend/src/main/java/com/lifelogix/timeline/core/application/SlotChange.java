@@ -0,0 +1,17 @@
+package com.lifelogix.timeline.core.application;
+
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 슬롯 하나의 변경 내용 (activityId가 null이면 기록이 삭제된 슬롯)
+ */
+public record SlotChange(
+        LocalDate date,
+        LocalTime startTime,
+        TimeBlockType type,
+        Long activityId
+) {
+}
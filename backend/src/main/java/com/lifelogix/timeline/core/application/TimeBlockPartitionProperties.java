@@ -0,0 +1,16 @@
+package com.lifelogix.timeline.core.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "timeline.partition")
+public class TimeBlockPartitionProperties {
+    private boolean enabled;
+    // 현재 월 이후로 미리 만들어 둘 월 파티션 수
+    private int monthsAhead = 3;
+}
@@ -0,0 +1,38 @@
+package com.lifelogix.timeline.core.application;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * time_block 월 파티션을 미리 생성
+ * 실제 생성은 TimeBlockPartitionService가 담당하며, 이미 존재하는 파티션은 건너뜀
+ */
+@Component
+@ConditionalOnProperty(prefix = "timeline.partition", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TimeBlockPartitionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeBlockPartitionScheduler.class);
+    private final TimeBlockPartitionService partitionService;
+    private final TimeBlockPartitionProperties partitionProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createPartitionsOnStartup() {
+        createUpcomingPartitions();
+    }
+
+    @Scheduled(cron = "${timeline.partition.cron:0 0 3 * * *}")
+    public void createUpcomingPartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        partitionService.ensureMonths(currentMonth, currentMonth.plusMonths(partitionProperties.getMonthsAhead()));
+        log.info("[Backend|TimeBlockPartitionScheduler] CreateUpcomingPartitions - Ensured partitions from {} for {} months ahead", currentMonth, partitionProperties.getMonthsAhead());
+    }
+}
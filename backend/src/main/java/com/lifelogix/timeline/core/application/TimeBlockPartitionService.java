@@ -0,0 +1,50 @@
+package com.lifelogix.timeline.core.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * time_block 월 파티션 생성 (timeline.partition.enabled일 때만 동작, PostgreSQL 전용)
+ * 실제 생성은 마이그레이션(V6)에서 정의한 create_time_block_partition 함수가 담당하며, 이미 존재하는 파티션은 건너뜀
+ * 파티션이 없는 월의 행은 기본 파티션에 쌓여 프루닝되지 않으므로, 과거/먼 미래 날짜를 쓰는 경로는 쓰기 전에 호출해야 함
+ * 함수가 잡는 advisory 잠금이 트랜잭션 끝까지 유지되므로, 쓰기 트랜잭션 밖에서 호출함
+ */
+@Service
+@RequiredArgsConstructor
+public class TimeBlockPartitionService {
+
+    private static final String CREATE_PARTITION = "SELECT create_time_block_partition(?)";
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeBlockPartitionProperties partitionProperties;
+
+    /**
+     * dates가 속한 월의 파티션을 생성
+     */
+    public void ensureMonths(Collection<LocalDate> dates) {
+        if (!partitionProperties.isEnabled()) {
+            return;
+        }
+        dates.stream()
+                .map(date -> date.withDayOfMonth(1))
+                .distinct()
+                .sorted()
+                .forEach(month -> jdbcTemplate.queryForList(CREATE_PARTITION, month));
+    }
+
+    /**
+     * from ~ to(포함) 기간의 월 파티션을 생성
+     */
+    public void ensureMonths(LocalDate from, LocalDate to) {
+        List<LocalDate> months = new ArrayList<>();
+        for (LocalDate month = from.withDayOfMonth(1); !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        ensureMonths(months);
+    }
+}
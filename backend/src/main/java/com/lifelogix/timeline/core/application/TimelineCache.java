@@ -0,0 +1,223 @@
+package com.lifelogix.timeline.core.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * (사용자, 날짜) 단위 일간 타임라인 2단계 캐시
+ * L1: 인스턴스 로컬 Caffeine 캐시, L2: 사용자별 Redis 해시 (key: timeline:{userId}, field: 날짜)
+ * 타임라인 변경 이벤트를 커밋 이후에 받아 두 계층을 무효화하고, 다른 인스턴스의 L1은 Redis pub/sub으로 무효화함
+ * L2 쓰기는 사용자별 Redis 버전 번호(timeline:{userId}:version)가 DB 조회 전과 같을 때만 반영되므로,
+ * 다른 인스턴스가 조회 도중에 무효화해도 조회한 오래된 값이 L2에 다시 들어가지 않음
+ * Redis 장애 시에는 캐시를 건너뛰고 DB에서 조회함
+ */
+@Component
+public class TimelineCache implements MessageListener {
+
+    static final String KEY_PREFIX = "timeline:";
+    static final String VERSION_SUFFIX = ":version";
+    // 버전 번호가 조회 전과 같을 때만 해시 필드를 기록 (KEYS: 버전 키, 해시 키 / ARGV: 조회 전 버전(없으면 빈 문자열), 날짜, 값, TTL(ms))
+    private static final RedisScript<Long> WRITE_IF_UNCHANGED = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[1]) or '') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[3])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+    // 타임라인 변경을 캐시하는 다른 컴포넌트(AdherenceWeekCache 등)도 같은 채널을 구독함
+    public static final String EVICTION_CHANNEL = "timeline:cache:evict";
+    private static final Logger log = LoggerFactory.getLogger(TimelineCache.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final TimelineCacheProperties cacheProperties;
+    private final Cache<Key, TimelineResponse> localCache;
+    // 조회 중에 이 인스턴스의 L1 무효화가 일어났다면 조회 결과(이미 오래된 값일 수 있음)를 L1에 넣지 않기 위한 세대 번호
+    private final AtomicLong evictionGeneration = new AtomicLong();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public TimelineCache(RedisTemplate<String, String> redisTemplate,
+                         RedisMessageListenerContainer listenerContainer,
+                         ObjectMapper objectMapper,
+                         TimelineCacheProperties cacheProperties,
+                         MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.cacheProperties = cacheProperties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getLocalMaximumSize())
+                .expireAfterWrite(cacheProperties.getLocalTtl())
+                .build();
+        this.localHits = counter(meterRegistry, "local", "hit");
+        this.localMisses = counter(meterRegistry, "local", "miss");
+        this.redisHits = counter(meterRegistry, "redis", "hit");
+        this.redisMisses = counter(meterRegistry, "redis", "miss");
+    }
+
+    @PostConstruct
+    void subscribeEvictions() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICTION_CHANNEL));
+    }
+
+    public TimelineResponse get(Long userId, LocalDate date, Supplier<TimelineResponse> loader) {
+        Key key = new Key(userId, date);
+        TimelineResponse cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+
+        long generation = evictionGeneration.get();
+        cached = readRedis(key);
+        if (cached != null) {
+            redisHits.increment();
+            putLocal(key, cached, generation);
+            return cached;
+        }
+        redisMisses.increment();
+
+        // 조회 도중 다른 인스턴스가 무효화했다면 L1에도 넣지 않음 (pub/sub 메시지가 늦게 도착할 수 있음)
+        String version = readVersion(key.userId());
+        TimelineResponse loaded = loader.get();
+        if (version == null || writeRedis(key, loaded, version)) {
+            putLocal(key, loaded, generation);
+        }
+        return loaded;
+    }
+
+    /**
+     * 버전 번호를 먼저 올린 뒤 L2를 지우므로, 그 전에 DB를 조회한 요청(다른 인스턴스 포함)의 L2 쓰기는 반영되지 않음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTimelineChanged(TimelineChangedEvent event) {
+        evictLocal(event.userId(), event.dates());
+        try {
+            String redisKey = KEY_PREFIX + event.userId();
+            String versionKey = redisKey + VERSION_SUFFIX;
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, cacheProperties.getRedisTtl());
+            if (event.affectsAllDates()) {
+                redisTemplate.delete(redisKey);
+            } else {
+                redisTemplate.opsForHash().delete(redisKey, event.dates().stream().map(LocalDate::toString).toArray());
+            }
+            redisTemplate.convertAndSend(EVICTION_CHANNEL, event.toMessage());
+        } catch (DataAccessException e) {
+            log.warn("[Backend|TimelineCache] Evict - Failed to evict Redis entries for userId: {}", event.userId(), e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        TimelineChangedEvent event = TimelineChangedEvent.fromMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+        evictLocal(event.userId(), event.dates());
+    }
+
+    private void evictLocal(Long userId, Set<LocalDate> dates) {
+        evictionGeneration.incrementAndGet();
+        if (dates.isEmpty()) {
+            List<Key> userKeys = localCache.asMap().keySet().stream()
+                    .filter(key -> key.userId().equals(userId))
+                    .toList();
+            localCache.invalidateAll(userKeys);
+        } else {
+            localCache.invalidateAll(dates.stream().map(date -> new Key(userId, date)).toList());
+        }
+    }
+
+    private void putLocal(Key key, TimelineResponse response, long generation) {
+        if (evictionGeneration.get() == generation) {
+            localCache.put(key, response);
+        }
+    }
+
+    private TimelineResponse readRedis(Key key) {
+        try {
+            Object json = redisTemplate.opsForHash().get(KEY_PREFIX + key.userId(), key.date().toString());
+            return json == null ? null : objectMapper.readValue(json.toString(), TimelineResponse.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[Backend|TimelineCache] Get - Failed to read Redis entry for userId: {} on date: {}", key.userId(), key.date(), e);
+            return null;
+        }
+    }
+
+    /**
+     * DB 조회 전의 사용자별 버전 번호 (번호가 아직 없으면 빈 문자열, Redis 장애 시 null)
+     */
+    private String readVersion(Long userId) {
+        try {
+            String version = redisTemplate.opsForValue().get(KEY_PREFIX + userId + VERSION_SUFFIX);
+            return version == null ? "" : version;
+        } catch (DataAccessException e) {
+            log.warn("[Backend|TimelineCache] Get - Failed to read Redis version for userId: {}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 조회 전 버전 번호가 그대로일 때만 L2에 기록 (그 사이 무효화되어 기록하지 않았으면 false)
+     */
+    private boolean writeRedis(Key key, TimelineResponse response, String version) {
+        try {
+            String redisKey = KEY_PREFIX + key.userId();
+            Long written = redisTemplate.execute(WRITE_IF_UNCHANGED, List.of(redisKey + VERSION_SUFFIX, redisKey),
+                    version, key.date().toString(), objectMapper.writeValueAsString(response),
+                    String.valueOf(cacheProperties.getRedisTtl().toMillis()));
+            if (Long.valueOf(0).equals(written)) {
+                log.debug("[Backend|TimelineCache] Put - Skipped stale Redis entry for userId: {} on date: {}", key.userId(), key.date());
+                return false;
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[Backend|TimelineCache] Put - Failed to write Redis entry for userId: {} on date: {}", key.userId(), key.date(), e);
+        }
+        return true;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder("timeline.cache.gets")
+                .description("Daily timeline cache lookups")
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Key(Long userId, LocalDate date) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.lifelogix.timeline.core.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "timeline.cache")
+public class TimelineCacheProperties {
+    // 인스턴스 로컬(Caffeine) 캐시에 보관할 최대 (사용자, 날짜) 항목 수
+    private long localMaximumSize = 10_000;
+    private Duration localTtl = Duration.ofMinutes(10);
+    // 사용자별 Redis 해시의 만료 시간 (기록될 때마다 갱신)
+    private Duration redisTtl = Duration.ofHours(1);
+}
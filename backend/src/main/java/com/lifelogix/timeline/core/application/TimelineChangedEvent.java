@@ -0,0 +1,60 @@
+package com.lifelogix.timeline.core.application;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자의 타임라인 내용이 바뀌었음을 알리는 이벤트
+ * dates가 비어 있으면 해당 사용자의 모든 날짜가 영향을 받은 것으로 간주 (활동/카테고리 이름 변경 등)
+ * slots는 바뀐 슬롯을 모두 알 때만 채워지며, 비어 있으면 dates의 내용 전체가 바뀐 것으로 간주 (실시간 동기화에서 사용)
+ */
+public record TimelineChangedEvent(Long userId, Set<LocalDate> dates, List<SlotChange> slots) {
+
+    public static TimelineChangedEvent of(Long userId, Collection<LocalDate> dates) {
+        return new TimelineChangedEvent(userId, Set.copyOf(dates), List.of());
+    }
+
+    public static TimelineChangedEvent of(Long userId, LocalDate date) {
+        return new TimelineChangedEvent(userId, Set.of(date), List.of());
+    }
+
+    public static TimelineChangedEvent ofSlots(Long userId, List<SlotChange> slots) {
+        Set<LocalDate> dates = slots.stream()
+                .map(SlotChange::date)
+                .collect(Collectors.toUnmodifiableSet());
+        return new TimelineChangedEvent(userId, dates, List.copyOf(slots));
+    }
+
+    public static TimelineChangedEvent allDates(Long userId) {
+        return new TimelineChangedEvent(userId, Set.of(), List.of());
+    }
+
+    /**
+     * 다른 인스턴스의 로컬 캐시 무효화를 위해 Redis pub/sub으로 보내는 메시지 ("{userId}" 또는 "{userId}:{date},{date}...")
+     */
+    public static TimelineChangedEvent fromMessage(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            return allDates(Long.parseLong(message));
+        }
+        Set<LocalDate> dates = Arrays.stream(message.substring(separator + 1).split(","))
+                .map(LocalDate::parse)
+                .collect(Collectors.toSet());
+        return new TimelineChangedEvent(Long.parseLong(message.substring(0, separator)), dates, List.of());
+    }
+
+    public boolean affectsAllDates() {
+        return dates.isEmpty();
+    }
+
+    public String toMessage() {
+        if (affectsAllDates()) {
+            return userId.toString();
+        }
+        return userId + ":" + dates.stream().map(LocalDate::toString).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,82 @@
+package com.lifelogix.timeline.core.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.timeline.core.domain.TimeBlockFileRow;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 사용자의 전체 기록을 CSV 또는 NDJSON으로 스트리밍
+ * 트랜잭션 없이 페이지마다 커넥션을 잠깐 빌려 읽고 반환한 뒤 클라이언트에 쓰므로,
+ * 느린 클라이언트 때문에 출력이 막혀도(배압) DB 커넥션을 붙잡지 않으며 메모리 사용량은 한 페이지 크기로 일정함
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelineExportService.class);
+    static final int PAGE_SIZE = 1_000;
+    private static final String CSV_HEADER = "date,start_time,type,activity,category,category_color\n";
+    private final TimeBlockRepository timeBlockRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 기록을 (date, startTime, type) 순으로 outputStream에 쓰고, 내보낸 행 수를 반환
+     */
+    public long export(Long userId, TimelineFileFormat format, OutputStream outputStream) throws IOException {
+        log.info("[Backend|TimelineExportService] Export - Attempt for userId: {} as {}", userId, format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == TimelineFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        long exported = 0;
+        TimeBlockFileRow after = null;
+        List<TimeBlockFileRow> page;
+        do {
+            page = timeBlockRepository.findExportPage(userId, after, PAGE_SIZE);
+            for (TimeBlockFileRow row : page) {
+                writer.write(format == TimelineFileFormat.CSV ? toCsvLine(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            // 페이지 단위로 클라이언트에 내보내며, 클라이언트가 느리면 여기서 대기함
+            writer.flush();
+            exported += page.size();
+            after = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (page.size() == PAGE_SIZE);
+
+        log.info("[Backend|TimelineExportService] Export - Success for userId: {}. Exported rows: {}", userId, exported);
+        return exported;
+    }
+
+    private static String toCsvLine(TimeBlockFileRow row) {
+        return String.join(",",
+                row.date().toString(),
+                row.startTime().toString(),
+                row.type().name(),
+                escapeCsv(row.activityName()),
+                escapeCsv(row.categoryName()),
+                escapeCsv(row.categoryColor()));
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,25 @@
+package com.lifelogix.timeline.core.application;
+
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum TimelineFileFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public static TimelineFileFormat from(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.extension.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_FILE_FORMAT));
+    }
+}
@@ -0,0 +1,188 @@
+package com.lifelogix.timeline.core.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockFileRow;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 가져오기 파일(CSV/NDJSON)을 한 행씩 읽어 TimeBlockFileRow로 변환 (파일 전체를 메모리에 올리지 않음)
+ * 형식이 잘못된 행은 예외 대신 오류 메시지로 반환하여 나머지 행을 계속 가져올 수 있도록 함
+ */
+class TimelineImportReader {
+
+    private static final Pattern COLOR = Pattern.compile("^#[0-9A-Fa-f]{6}$");
+    private static final int MAX_ACTIVITY_NAME_LENGTH = 100;
+    private static final int MAX_CATEGORY_NAME_LENGTH = 50;
+
+    /**
+     * 입력 한 행 (line은 파일의 물리적 줄 번호, 오류가 있으면 row는 null)
+     */
+    record ImportLine(long line, TimeBlockFileRow row, String error) {
+
+        static ImportLine error(long line, String error) {
+            return new ImportLine(line, null, error);
+        }
+
+        boolean hasError() {
+            return error != null;
+        }
+    }
+
+    private final BufferedReader reader;
+    private final TimelineFileFormat format;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+    private boolean started;
+
+    TimelineImportReader(InputStream inputStream, TimelineFileFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 다음 데이터 행을 반환 (빈 줄과 CSV 헤더는 건너뛰며, 파일 끝이면 null)
+     */
+    ImportLine next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            long recordLine = lineNumber;
+            if (format == TimelineFileFormat.NDJSON) {
+                started = true;
+                return parseJson(recordLine, line);
+            }
+            String record = readCsvRecord(line);
+            if (record == null) {
+                return ImportLine.error(recordLine, "닫히지 않은 따옴표가 있습니다.");
+            }
+            List<String> fields = splitCsv(record);
+            boolean header = !started && fields.get(0).trim().equalsIgnoreCase("date");
+            started = true;
+            if (!header) {
+                return parseCsv(recordLine, fields);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 따옴표 안의 줄바꿈이 포함된 CSV 레코드를 이어 읽음 (따옴표가 끝까지 닫히지 않으면 null)
+     */
+    private String readCsvRecord(String firstLine) throws IOException {
+        StringBuilder record = new StringBuilder(firstLine);
+        while (countQuotes(record) % 2 != 0) {
+            String next = reader.readLine();
+            if (next == null) {
+                return null;
+            }
+            lineNumber++;
+            record.append('\n').append(next);
+        }
+        return record.toString();
+    }
+
+    private static int countQuotes(CharSequence value) {
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<String> splitCsv(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private ImportLine parseCsv(long line, List<String> fields) {
+        if (fields.size() < 5) {
+            return ImportLine.error(line, "열이 부족합니다. (date,start_time,type,activity,category[,category_color])");
+        }
+        try {
+            TimeBlockFileRow row = new TimeBlockFileRow(
+                    LocalDate.parse(fields.get(0).trim()),
+                    LocalTime.parse(fields.get(1).trim()),
+                    TimeBlockType.valueOf(fields.get(2).trim().toUpperCase(Locale.ROOT)),
+                    fields.get(3).trim(),
+                    fields.get(4).trim(),
+                    fields.size() > 5 ? fields.get(5).trim() : null);
+            return validate(line, row);
+        } catch (DateTimeParseException e) {
+            return ImportLine.error(line, "날짜 또는 시간 형식이 올바르지 않습니다.");
+        } catch (IllegalArgumentException e) {
+            return ImportLine.error(line, "타입은 PLAN 또는 ACTUAL이어야 합니다.");
+        }
+    }
+
+    private ImportLine parseJson(long line, String json) {
+        try {
+            return validate(line, objectMapper.readValue(json, TimeBlockFileRow.class));
+        } catch (JsonProcessingException e) {
+            return ImportLine.error(line, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private static ImportLine validate(long line, TimeBlockFileRow row) {
+        if (row.date() == null || row.startTime() == null || row.type() == null) {
+            return ImportLine.error(line, "날짜, 시작 시간, 타입은 필수입니다.");
+        }
+        LocalTime startTime = row.startTime();
+        if (startTime.getSecond() != 0 || startTime.getNano() != 0 || startTime.getMinute() % TimeBlock.SLOT_MINUTES != 0) {
+            return ImportLine.error(line, "시작 시간은 30분 단위여야 합니다.");
+        }
+        if (row.activityName() == null || row.activityName().isBlank() || row.activityName().length() > MAX_ACTIVITY_NAME_LENGTH) {
+            return ImportLine.error(line, "활동 이름은 1~100자여야 합니다.");
+        }
+        if (row.categoryName() == null || row.categoryName().isBlank() || row.categoryName().length() > MAX_CATEGORY_NAME_LENGTH) {
+            return ImportLine.error(line, "카테고리 이름은 1~50자여야 합니다.");
+        }
+        if (row.categoryColor() != null && !row.categoryColor().isBlank() && !COLOR.matcher(row.categoryColor()).matches()) {
+            return ImportLine.error(line, "카테고리 색상은 #RRGGBB 형식이어야 합니다.");
+        }
+        return new ImportLine(line, row, null);
+    }
+}
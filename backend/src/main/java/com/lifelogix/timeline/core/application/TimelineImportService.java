@@ -0,0 +1,288 @@
+package com.lifelogix.timeline.core.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.api.dto.response.ImportRowErrorResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimelineImportResponse;
+import com.lifelogix.timeline.core.application.TimelineImportReader.ImportLine;
+import com.lifelogix.timeline.core.domain.TimeBlockFileRow;
+import com.lifelogix.timeline.core.domain.TimeBlockImportSlot;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimelineImportJob;
+import com.lifelogix.timeline.core.domain.TimelineImportJobRepository;
+import com.lifelogix.timeline.core.domain.TimelineImportStatus;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 다른 서비스/스프레드시트의 기록을 파일(CSV/NDJSON)로 일괄 가져오기
+ * 파일을 스트리밍으로 읽어 CHUNK_SIZE 행마다 한 트랜잭션으로 타임블록을 일괄 기록하고, 같은 트랜잭션에서 작업의 체크포인트를 갱신함
+ * 중간에 실패하면 작업은 FAILED로 남고, 같은 파일로 jobId를 지정해 다시 요청하면 커밋된 행 다음부터 이어서 처리함
+ * 과거 기록이 기본 파티션에 쌓이지 않도록 묶음을 쓰기 전에 해당 날짜들의 월 파티션을 만듦
+ * 묶음마다 시작 시점의 체크포인트가 그대로인지 확인하므로, 같은 작업을 동시에 이어서 처리하면 늦은 쪽은 409로 중단되고 작업 상태는 바꾸지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelineImportService.class);
+    static final int CHUNK_SIZE = 5_000;
+    static final int MAX_REPORTED_ERRORS = 100;
+    private static final String DEFAULT_CATEGORY_COLOR = "#95A5A6";
+    private final TimeBlockRepository timeBlockRepository;
+    private final TimeBlockPartitionService partitionService;
+    private final TimelineImportJobRepository importJobRepository;
+    private final ActivityRepository activityRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 파일의 기록을 가져옴 (jobId가 있으면 해당 작업을 이어서 처리)
+     * 이름이 일치하는 카테고리가 없으면 parentCategoryId(시스템 카테고리) 아래에 새로 만들고, 지정하지 않았다면 해당 행은 오류로 보고함
+     */
+    public TimelineImportResponse importTimeline(Long userId, TimelineFileFormat format, Long jobId, Long parentCategoryId, InputStream inputStream) {
+        log.info("[Backend|TimelineImportService] ImportTimeline - Attempt for userId: {} as {} (jobId: {})", userId, format, jobId);
+        validateParentCategory(userId, parentCategoryId);
+        TimelineImportJob job = jobId == null ? startJob(userId, format) : resumeJob(userId, jobId, format);
+        if (job.getStatus() == TimelineImportStatus.COMPLETED) {
+            log.info("[Backend|TimelineImportService] ImportTimeline - Already completed jobId: {}", job.getId());
+            return TimelineImportResponse.of(job, List.of());
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<ImportRowErrorResponse> errors = new ArrayList<>();
+        try {
+            ImportNames names = new ImportNames(userId, parentCategoryId);
+            TimelineImportReader reader = new TimelineImportReader(inputStream, format, objectMapper);
+            // 이전 요청에서 커밋된 행은 건너뜀
+            long checkpoint = job.getProcessedRows();
+            long skipped = 0;
+            while (skipped < checkpoint && reader.next() != null) {
+                skipped++;
+            }
+            List<ImportLine> chunk = new ArrayList<>(CHUNK_SIZE);
+            ImportLine line;
+            while ((line = reader.next()) != null) {
+                chunk.add(line);
+                if (chunk.size() == CHUNK_SIZE) {
+                    checkpoint = writeChunk(transactionTemplate, job.getId(), checkpoint, names, chunk, errors);
+                    chunk.clear();
+                }
+            }
+            writeChunk(transactionTemplate, job.getId(), checkpoint, names, chunk, errors);
+            job = finishJob(transactionTemplate, job.getId(), TimelineImportStatus.COMPLETED);
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof BusinessException businessException && businessException.getErrorCode() == ErrorCode.CONCURRENT_MODIFICATION) {
+                // 작업은 먼저 진행한 요청의 것이므로 상태를 바꾸지 않음
+                log.warn("[Backend|TimelineImportService] ImportTimeline - Failed: jobId: {} is being imported by another request for userId: {}", job.getId(), userId);
+                throw businessException;
+            }
+            log.error("[Backend|TimelineImportService] ImportTimeline - Failed for userId: {} on jobId: {}", userId, job.getId(), e);
+            job = finishJob(transactionTemplate, job.getId(), TimelineImportStatus.FAILED);
+        }
+        log.info("[Backend|TimelineImportService] ImportTimeline - {} for userId: {} on jobId: {}. Processed: {}, imported: {}, failed: {}",
+                job.getStatus(), userId, job.getId(), job.getProcessedRows(), job.getImportedRows(), job.getFailedRows());
+        return TimelineImportResponse.of(job, errors);
+    }
+
+    public TimelineImportResponse getImportJob(Long userId, Long jobId) {
+        TimelineImportJob job = importJobRepository.findByIdAndUserId(jobId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+        return TimelineImportResponse.of(job, List.of());
+    }
+
+    private void validateParentCategory(Long userId, Long parentCategoryId) {
+        if (parentCategoryId == null) {
+            return;
+        }
+        Category parent = categoryRepository.findById(parentCategoryId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
+        if (parent.getUser() != null) {
+            log.warn("[Backend|TimelineImportService] ValidateParentCategory - Failed: Invalid parent category for userId: {}", userId);
+            throw new BusinessException(ErrorCode.INVALID_PARENT_CATEGORY);
+        }
+    }
+
+    private TimelineImportJob startJob(Long userId, TimelineFileFormat format) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+            return importJobRepository.save(new TimelineImportJob(user, format.name()));
+        });
+    }
+
+    private TimelineImportJob resumeJob(Long userId, Long jobId, TimelineFileFormat format) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            TimelineImportJob job = importJobRepository.findByIdAndUserId(jobId, userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+            if (!job.getFormat().equals(format.name())) {
+                throw new BusinessException(ErrorCode.INVALID_FILE_FORMAT);
+            }
+            if (job.getStatus() != TimelineImportStatus.COMPLETED) {
+                job.resume();
+            }
+            return job;
+        });
+    }
+
+    private TimelineImportJob finishJob(TransactionTemplate transactionTemplate, Long jobId, TimelineImportStatus status) {
+        return transactionTemplate.execute(tx -> {
+            TimelineImportJob job = importJobRepository.findById(jobId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+            if (status == TimelineImportStatus.COMPLETED) {
+                job.complete();
+            } else {
+                job.fail();
+            }
+            return job;
+        });
+    }
+
+    /**
+     * 한 묶음의 타임블록 기록과 작업 체크포인트 갱신을 한 트랜잭션으로 커밋하고 다음 체크포인트를 반환
+     * 파티션 생성 함수의 잠금을 묶음 트랜잭션 동안 잡고 있지 않도록 월 파티션은 트랜잭션 시작 전에 만듦
+     * 체크포인트가 expectedProcessedRows에서 바뀌었다면(다른 요청이 같은 작업을 진행함) 아무것도 기록하지 않고 실패함
+     */
+    private long writeChunk(TransactionTemplate transactionTemplate, Long jobId, long expectedProcessedRows, ImportNames names,
+                            List<ImportLine> chunk, List<ImportRowErrorResponse> errors) {
+        if (chunk.isEmpty()) {
+            return expectedProcessedRows;
+        }
+        partitionService.ensureMonths(chunk.stream()
+                .filter(line -> !line.hasError())
+                .map(line -> line.row().date())
+                .toList());
+        List<ImportRowErrorResponse> chunkErrors = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (importJobRepository.claimCheckpoint(jobId, expectedProcessedRows) == 0) {
+                throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+            }
+            List<TimeBlockImportSlot> slots = new ArrayList<>(chunk.size());
+            Set<LocalDate> dates = new HashSet<>();
+            for (ImportLine line : chunk) {
+                Long activityId = line.hasError() ? null : names.resolveActivityId(line.row());
+                if (activityId == null) {
+                    chunkErrors.add(new ImportRowErrorResponse(line.line(), line.hasError() ? line.error() : "카테고리를 찾을 수 없습니다. 새 카테고리를 만들려면 부모 카테고리를 지정해주세요."));
+                    continue;
+                }
+                TimeBlockFileRow row = line.row();
+                slots.add(new TimeBlockImportSlot(line.line(), row.date(), row.startTime(), row.type(), activityId));
+                dates.add(row.date());
+            }
+            timeBlockRepository.importSlots(names.userId, slots);
+
+            TimelineImportJob job = importJobRepository.findById(jobId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+            job.advance(chunk.size(), slots.size(), chunkErrors.size());
+            names.publishCreated();
+            if (!dates.isEmpty()) {
+                eventPublisher.publishEvent(TimelineChangedEvent.of(names.userId, dates));
+            }
+        });
+        // 커밋된 뒤에만 새로 만든 카테고리/활동을 캐시에 반영 (롤백되면 transactionTemplate이 예외를 던지므로 여기까지 오지 않음)
+        names.commit();
+        errors.addAll(chunkErrors.subList(0, Math.min(chunkErrors.size(), MAX_REPORTED_ERRORS - errors.size())));
+        return expectedProcessedRows + chunk.size();
+    }
+
+    private record ActivityKey(Long categoryId, String name) {
+    }
+
+    /**
+     * 가져오기 한 번 동안 사용하는 이름 → ID 캐시 (시작할 때 카테고리/활동을 한 번씩만 조회)
+     * 묶음 트랜잭션에서 새로 만든 항목은 커밋된 뒤에만 반영하여, 롤백된 ID를 다음 묶음에서 사용하지 않도록 함
+     */
+    private final class ImportNames {
+        private final Long userId;
+        private final Long parentCategoryId;
+        private final Map<String, Long> categoryIds = new HashMap<>();
+        private final Map<ActivityKey, Long> activityIds = new HashMap<>();
+        private final Map<String, Long> createdCategoryIds = new HashMap<>();
+        private final Map<ActivityKey, Long> createdActivityIds = new HashMap<>();
+
+        private ImportNames(Long userId, Long parentCategoryId) {
+            this.userId = userId;
+            this.parentCategoryId = parentCategoryId;
+            // 같은 이름이면 사용자 카테고리를 시스템 카테고리보다 우선
+            for (Category category : categoryRepository.findByUserIdOrUserIsNull(userId)) {
+                if (category.getUser() != null || !categoryIds.containsKey(category.getName())) {
+                    categoryIds.put(category.getName(), category.getId());
+                }
+            }
+            for (Activity activity : activityRepository.findByUserIdOrderByCategory(userId)) {
+                activityIds.put(new ActivityKey(activity.getCategory().getId(), activity.getName()), activity.getId());
+            }
+        }
+
+        /**
+         * 행의 (카테고리, 활동) 이름에 해당하는 활동 ID를 반환하고, 없으면 생성 (카테고리를 만들 수 없으면 null)
+         */
+        private Long resolveActivityId(TimeBlockFileRow row) {
+            Long categoryId = lookup(categoryIds, createdCategoryIds, row.categoryName());
+            if (categoryId == null) {
+                if (parentCategoryId == null) {
+                    return null;
+                }
+                String color = row.categoryColor() == null || row.categoryColor().isBlank() ? DEFAULT_CATEGORY_COLOR : row.categoryColor();
+                categoryId = categoryRepository.save(new Category(row.categoryName(), color,
+                        userRepository.getReferenceById(userId), categoryRepository.getReferenceById(parentCategoryId))).getId();
+                createdCategoryIds.put(row.categoryName(), categoryId);
+            }
+
+            ActivityKey key = new ActivityKey(categoryId, row.activityName());
+            Long activityId = lookup(activityIds, createdActivityIds, key);
+            if (activityId == null) {
+                activityId = activityRepository.save(new Activity(row.activityName(),
+                        userRepository.getReferenceById(userId), categoryRepository.getReferenceById(categoryId))).getId();
+                createdActivityIds.put(key, activityId);
+            }
+            return activityId;
+        }
+
+        private <K> Long lookup(Map<K, Long> committed, Map<K, Long> created, K key) {
+            Long id = committed.get(key);
+            return id != null ? id : created.get(key);
+        }
+
+        private void publishCreated() {
+            if (!createdCategoryIds.isEmpty()) {
+                eventPublisher.publishEvent(ResourceChangedEvent.of(userId, VersionedResource.CATEGORIES));
+            }
+            if (!createdActivityIds.isEmpty()) {
+                eventPublisher.publishEvent(ResourceChangedEvent.of(userId, VersionedResource.ACTIVITIES));
+            }
+        }
+
+        private void commit() {
+            categoryIds.putAll(createdCategoryIds);
+            activityIds.putAll(createdActivityIds);
+            createdCategoryIds.clear();
+            createdActivityIds.clear();
+        }
+    }
+}
@@ -1,133 +1,416 @@
 package com.lifelogix.timeline.core.application;
 
+import com.lifelogix.config.metrics.MetricsConfig;
 import com.lifelogix.exception.BusinessException;
 import com.lifelogix.exception.ErrorCode;
 import com.lifelogix.timeline.activity.domain.Activity;
 import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.core.api.dto.request.BatchTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.CopyTimeBlocksRequest;
 import com.lifelogix.timeline.core.api.dto.request.CreateTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.FillTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.ShiftTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.TimeBlockRangeRequest;
 import com.lifelogix.timeline.core.api.dto.request.UpdateTimeBlockRequest;
 import com.lifelogix.timeline.core.api.dto.response.BlockDetailResponse;
-import com.lifelogix.timeline.core.api.dto.response.TimeBlockResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockCopyResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockRangeResponse;
 import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
 import com.lifelogix.timeline.core.domain.TimeBlock;
 import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockSlotState;
 import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.core.domain.TimeBlockView;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Comparator;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class TimelineService {
 
     private static final Logger log = LoggerFactory.getLogger(TimelineService.class);
+    // 6주 달력 그리드까지 한 번에 조회할 수 있도록 허용하는 최대 기간
+    private static final int MAX_RANGE_DAYS = 42;
+    // 복사 원본은 최대 일주일 (대상 기간에는 원본 패턴이 반복됨)
+    private static final int MAX_COPY_SOURCE_DAYS = 7;
     private final TimeBlockRepository timeBlockRepository;
     private final ActivityRepository activityRepository;
+    private final TimelineCache timelineCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public BlockDetailResponse createOrUpdateTimeBlock(Long userId, CreateTimeBlockRequest request) {
         log.info("[Backend|TimelineService] CreateOrUpdate - Attempt for userId: {} at {} on {}", userId, request.startTime(), request.date());
-        Activity activity = findActivityById(request.activityId());
-        validateActivityOwner(userId, activity);
-
-        Optional<TimeBlock> existingBlockOpt = timeBlockRepository.findUserTimeBlockForSlot(
-                userId, request.date(), request.startTime(), request.type());
-
-        TimeBlock timeBlock;
-        if (existingBlockOpt.isPresent()) {
-            timeBlock = existingBlockOpt.get();
-            timeBlock.updateActivity(activity);
-            log.info("[Backend|TimelineService] CreateOrUpdate - Updated existing TimeBlockId: {}", timeBlock.getId());
-        } else {
-            timeBlock = new TimeBlock(
-                    request.date(),
-                    request.startTime(),
-                    request.type(),
-                    activity
-            );
-            timeBlockRepository.save(timeBlock);
-            log.info("[Backend|TimelineService] CreateOrUpdate - Created new TimeBlockId: {}", timeBlock.getId());
+        Activity activity = findOwnedActivity(userId, request.activityId());
+
+        Long timeBlockId = timeBlockRepository.upsertSlot(
+                userId, request.date(), request.startTime(), request.type().name(), activity.getId());
+        eventPublisher.publishEvent(TimelineChangedEvent.ofSlots(userId,
+                List.of(new SlotChange(request.date(), request.startTime(), request.type(), activity.getId()))));
+        log.info("[Backend|TimelineService] CreateOrUpdate - Upserted TimeBlockId: {}", timeBlockId);
+
+        return BlockDetailResponse.of(timeBlockId, activity);
+    }
+
+    /**
+     * 여러 슬롯의 기록을 한 트랜잭션에서 일괄 생성 또는 수정
+     * 활동 소유권은 중복을 제거한 활동 ID 단위로 한 번만 검증하고, 신규 블록은 JDBC 배치 INSERT로 저장
+     * 동일한 슬롯이 여러 번 요청되면 마지막 요청이 반영되고, 삭제된 슬롯에 새로 만드는 블록은 툼스톤 다음 버전에서 시작함
+     */
+    @Transactional
+    public List<BlockDetailResponse> createOrUpdateTimeBlocks(Long userId, BatchTimeBlockRequest request) {
+        log.info("[Backend|TimelineService] CreateOrUpdateBatch - Attempt for userId: {} with {} blocks", userId, request.blocks().size());
+        Map<Long, Activity> activitiesById = findOwnedActivities(userId, request.blocks());
+
+        Set<LocalDate> dates = request.blocks().stream()
+                .map(CreateTimeBlockRequest::date)
+                .collect(Collectors.toSet());
+        Map<Slot, TimeBlock> existingBlocks = timeBlockRepository.findByUserIdAndDateIn(userId, dates).stream()
+                .collect(Collectors.toMap(Slot::of, Function.identity()));
+
+        Map<Slot, TimeBlock> writtenBlocks = new LinkedHashMap<>();
+        List<TimeBlock> newBlocks = new ArrayList<>();
+        for (CreateTimeBlockRequest block : request.blocks()) {
+            Slot slot = new Slot(block.date(), block.startTime(), block.type());
+            Activity activity = activitiesById.get(block.activityId());
+            TimeBlock timeBlock = writtenBlocks.containsKey(slot) ? writtenBlocks.get(slot) : existingBlocks.get(slot);
+            if (timeBlock != null) {
+                timeBlock.updateActivity(activity);
+            } else {
+                timeBlock = new TimeBlock(block.date(), block.startTime(), block.type(), activity);
+                newBlocks.add(timeBlock);
+            }
+            writtenBlocks.put(slot, timeBlock);
         }
+        continueAfterTombstones(userId, newBlocks);
+        timeBlockRepository.saveAll(newBlocks);
+        eventPublisher.publishEvent(TimelineChangedEvent.ofSlots(userId, writtenBlocks.values().stream()
+                .map(timeBlock -> new SlotChange(timeBlock.getDate(), timeBlock.getStartTime(), timeBlock.getType(), timeBlock.getActivity().getId()))
+                .toList()));
 
-        return BlockDetailResponse.from(timeBlock);
+        log.info("[Backend|TimelineService] CreateOrUpdateBatch - Success for userId: {}. Created: {}, Written slots: {}", userId, newBlocks.size(), writtenBlocks.size());
+        return writtenBlocks.values().stream()
+                .map(BlockDetailResponse::from)
+                .toList();
     }
 
+    /**
+     * 일간 타임라인 조회 (TimelineCache를 거쳐 캐시 미스일 때만 DB 조회)
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 시작하며, 미스 시 조회 쿼리는 리포지토리의 읽기 전용 트랜잭션에서 실행됨
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TimelineResponse getDailyTimeline(Long userId, LocalDate date) {
         log.info("[Backend|TimelineService] GetDailyTimeline - Attempt for userId: {} on date: {}", userId, date);
-        List<TimeBlock> timeBlocks = timeBlockRepository.findByUserIdAndDate(userId, date);
-        Map<LocalTime, List<TimeBlock>> blocksByTime = timeBlocks.stream()
-                .collect(Collectors.groupingBy(TimeBlock::getStartTime));
-
-        List<TimeBlockResponse> timeBlockResponses = blocksByTime.entrySet().stream()
-                .map(entry -> {
-                    BlockDetailResponse plan = findAndMapToDetail(entry.getValue(), TimeBlockType.PLAN);
-                    BlockDetailResponse actual = findAndMapToDetail(entry.getValue(), TimeBlockType.ACTUAL);
-                    return new TimeBlockResponse(entry.getKey(), plan, actual);
-                })
-                .sorted(Comparator.comparing(TimeBlockResponse::startTime))
+        TimelineResponse response = timelineCache.get(userId, date, () -> loadDailyTimeline(userId, date));
+        log.info("[Backend|TimelineService] GetDailyTimeline - Success for userId: {}. Found {} time blocks.", userId, response.timeBlocks().size());
+        return response;
+    }
+
+    private TimelineResponse loadDailyTimeline(Long userId, LocalDate date) {
+        return TimelineResponse.of(date, timeBlockRepository.findViewsByUserIdAndDate(userId, date));
+    }
+
+    /**
+     * 기간 내 타임라인을 한 번의 범위 조회로 가져와 날짜별 응답으로 변환
+     * 블록이 없는 날짜도 빈 타임라인으로 포함하여 from ~ to 의 모든 날짜를 순서대로 반환
+     */
+    public List<TimelineResponse> getTimelineRange(Long userId, LocalDate from, LocalDate to) {
+        log.info("[Backend|TimelineService] GetTimelineRange - Attempt for userId: {} from: {} to: {}", userId, from, to);
+        validateDateRange(from, to);
+
+        List<TimeBlockView> timeBlocks = timeBlockRepository.findViewsByUserIdAndDateBetween(userId, from, to);
+        Map<LocalDate, List<TimeBlockView>> blocksByDate = timeBlocks.stream()
+                .collect(Collectors.groupingBy(TimeBlockView::date));
+
+        List<TimelineResponse> responses = from.datesUntil(to.plusDays(1))
+                .map(date -> TimelineResponse.of(date, blocksByDate.getOrDefault(date, List.of())))
                 .toList();
 
-        log.info("[Backend|TimelineService] GetDailyTimeline - Success for userId: {}. Found {} time blocks.", userId, timeBlockResponses.size());
-        return new TimelineResponse(date, timeBlockResponses);
+        log.info("[Backend|TimelineService] GetTimelineRange - Success for userId: {}. Found {} time blocks in {} days.", userId, timeBlocks.size(), responses.size());
+        return responses;
     }
 
     @Transactional
     public BlockDetailResponse updateTimeBlock(Long userId, Long timeBlockId, UpdateTimeBlockRequest request) {
         log.info("[Backend|TimelineService] UpdateTimeBlock - Attempt for userId: {} on timeBlockId: {}", userId, timeBlockId);
-        TimeBlock timeBlock = findTimeBlockById(timeBlockId);
-        validateTimeBlockOwner(userId, timeBlock);
-
-        Activity newActivity = findActivityById(request.activityId());
-        validateActivityOwner(userId, newActivity);
+        TimeBlock timeBlock = findOwnedTimeBlock(userId, timeBlockId);
+        Activity newActivity = findOwnedActivity(userId, request.activityId());
 
         timeBlock.updateActivity(newActivity);
+        eventPublisher.publishEvent(TimelineChangedEvent.ofSlots(userId,
+                List.of(new SlotChange(timeBlock.getDate(), timeBlock.getStartTime(), timeBlock.getType(), newActivity.getId()))));
         log.info("[Backend|TimelineService] UpdateTimeBlock - Success for userId: {} on timeBlockId: {}", userId, timeBlockId);
-        return BlockDetailResponse.from(timeBlock);
+        return BlockDetailResponse.of(timeBlock.getId(), newActivity);
     }
 
     @Transactional
     public void deleteTimeBlock(Long userId, Long timeBlockId) {
         log.info("[Backend|TimelineService] DeleteTimeBlock - Attempt for userId: {} on timeBlockId: {}", userId, timeBlockId);
-        TimeBlock timeBlock = findTimeBlockById(timeBlockId);
-        validateTimeBlockOwner(userId, timeBlock);
+        TimeBlockSlotState slot = timeBlockRepository.findSlotStateByIdAndUserId(timeBlockId, userId)
+                .orElseThrow(() -> timeBlockAccessFailure(userId, timeBlockId));
 
-        timeBlockRepository.delete(timeBlock);
+        timeBlockRepository.deleteByIdAndUserIdAndDate(timeBlockId, userId, slot.date());
+        eventPublisher.publishEvent(TimelineChangedEvent.ofSlots(userId,
+                List.of(new SlotChange(slot.date(), slot.startTime(), slot.type(), null))));
         log.info("[Backend|TimelineService] DeleteTimeBlock - Success for userId: {} on timeBlockId: {}", userId, timeBlockId);
     }
 
-    private BlockDetailResponse findAndMapToDetail(List<TimeBlock> blocks, TimeBlockType type) {
-        return blocks.stream()
-                .filter(block -> block.getType() == type)
-                .findFirst()
-                .map(BlockDetailResponse::from)
-                .orElse(null);
+    /**
+     * 구간 [startTime, endTime]의 모든 슬롯을 같은 활동으로 기록 (단일 INSERT ... SELECT ... ON CONFLICT)
+     */
+    @Transactional
+    public TimeBlockRangeResponse fillRange(Long userId, FillTimeBlockRangeRequest request) {
+        log.info("[Backend|TimelineService] FillRange - Attempt for userId: {} on {} from {} to {}", userId, request.date(), request.startTime(), request.endTime());
+        int slotCount = countSlots(request.startTime(), request.endTime());
+        validateActivityOwnership(userId, request.activityId());
+
+        int affected = timeBlockRepository.fillSlots(
+                userId, request.date(), request.startTime(), slotCount, request.type().name(), request.activityId());
+        eventPublisher.publishEvent(TimelineChangedEvent.ofSlots(userId,
+                rangeSlotChanges(request.date(), request.startTime(), slotCount, request.type(), request.activityId())));
+        log.info("[Backend|TimelineService] FillRange - Success for userId: {}. Written slots: {}", userId, affected);
+        return new TimeBlockRangeResponse(request.date(), affected);
+    }
+
+    /**
+     * 구간 [startTime, endTime]의 모든 기록을 단일 DELETE로 삭제
+     */
+    @Transactional
+    public TimeBlockRangeResponse clearRange(Long userId, TimeBlockRangeRequest request) {
+        log.info("[Backend|TimelineService] ClearRange - Attempt for userId: {} on {} from {} to {}", userId, request.date(), request.startTime(), request.endTime());
+        int slotCount = countSlots(request.startTime(), request.endTime());
+
+        int affected = timeBlockRepository.deleteSlots(
+                userId, request.date(), request.type(), request.startTime(), request.endTime());
+        eventPublisher.publishEvent(TimelineChangedEvent.ofSlots(userId,
+                rangeSlotChanges(request.date(), request.startTime(), slotCount, request.type(), null)));
+        log.info("[Backend|TimelineService] ClearRange - Success for userId: {}. Deleted blocks: {}", userId, affected);
+        return new TimeBlockRangeResponse(request.date(), affected);
+    }
+
+    /**
+     * 구간 [startTime, endTime]의 기록을 slots 칸만큼 이동 (양수는 늦게, 음수는 이르게)
+     * 이동한 구간에 있던 기존 기록은 덮어쓰며, 이동 결과가 해당 날짜를 벗어나면 실패
+     * 이동된 기록이 있으면 원본/대상 구간의 모든 슬롯을 변경으로 알림 (원본에만 속한 슬롯은 삭제)
+     */
+    @Transactional
+    public TimeBlockRangeResponse shiftRange(Long userId, ShiftTimeBlockRangeRequest request) {
+        log.info("[Backend|TimelineService] ShiftRange - Attempt for userId: {} on {} from {} to {} by {} slots", userId, request.date(), request.startTime(), request.endTime(), request.slots());
+        int slotCount = countSlots(request.startTime(), request.endTime());
+        int minutes = request.slots() * TimeBlock.SLOT_MINUTES;
+        validateShiftWithinDay(request.startTime(), request.endTime(), minutes);
+
+        Map<LocalTime, Long> shifted = timeBlockRepository.shiftSlots(
+                userId, request.date(), request.type(), request.startTime(), request.endTime(), minutes);
+        if (!shifted.isEmpty()) {
+            eventPublisher.publishEvent(TimelineChangedEvent.ofSlots(userId,
+                    shiftSlotChanges(request.date(), request.startTime(), slotCount, request.slots(), request.type(), shifted)));
+        }
+        log.info("[Backend|TimelineService] ShiftRange - Success for userId: {}. Shifted blocks: {}", userId, shifted.size());
+        return new TimeBlockRangeResponse(request.date(), shifted.size());
+    }
+
+    /**
+     * 원본 기간의 기록을 대상 기간에 반복하여 복사 (어제 계획 → 오늘, 지난주 → 이번 주, 계획 → 실제 등)
+     * 엔티티를 읽지 않고 DB 안에서 단일 INSERT ... SELECT 로 처리하며, 원본 블록은 모두 본인 소유이므로 별도 소유권 검증이 필요 없음
+     */
+    @Transactional
+    public TimeBlockCopyResponse copyTimeBlocks(Long userId, CopyTimeBlocksRequest request) {
+        log.info("[Backend|TimelineService] CopyTimeBlocks - Attempt for userId: {} from {} ~ {} to {} ~ {}", userId, request.sourceFrom(), request.sourceTo(), request.targetFrom(), request.targetTo());
+        validateCopyRange(request);
+
+        int sourceDays = (int) ChronoUnit.DAYS.between(request.sourceFrom(), request.sourceTo()) + 1;
+        int targetDays = (int) ChronoUnit.DAYS.between(request.targetFrom(), request.targetTo()) + 1;
+        int repeats = (targetDays + sourceDays - 1) / sourceDays;
+        List<TimeBlockSlotState> copied = timeBlockRepository.copySlots(
+                userId,
+                request.sourceFrom(),
+                request.sourceTo(),
+                request.sourceType() == null ? null : request.sourceType().name(),
+                (int) ChronoUnit.DAYS.between(request.sourceFrom(), request.targetFrom()),
+                sourceDays,
+                repeats,
+                request.targetTo(),
+                request.targetType() == null ? null : request.targetType().name());
+        if (!copied.isEmpty()) {
+            eventPublisher.publishEvent(TimelineChangedEvent.ofSlots(userId, copied.stream()
+                    .map(slot -> new SlotChange(slot.date(), slot.startTime(), slot.type(), slot.activityId()))
+                    .toList()));
+        }
+
+        log.info("[Backend|TimelineService] CopyTimeBlocks - Success for userId: {}. Copied blocks: {}", userId, copied.size());
+        return new TimeBlockCopyResponse(request.targetFrom(), request.targetTo(), copied.size());
+    }
+
+    private void validateDateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            log.warn("[Backend|TimelineService] ValidateDateRange - Failed: Invalid range from: {} to: {}", from, to);
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+    }
+
+    /**
+     * 타입을 바꾸지 않는 복사에서 원본과 대상 기간이 겹치면 복사 결과가 다시 원본이 되므로 거부
+     * 타입을 바꾸려면 원본 타입이 하나로 정해져야 대상 슬롯이 중복되지 않음
+     */
+    private void validateCopyRange(CopyTimeBlocksRequest request) {
+        boolean sameType = request.targetType() == null || request.targetType() == request.sourceType();
+        boolean overlaps = !request.sourceFrom().isAfter(request.targetTo()) && !request.targetFrom().isAfter(request.sourceTo());
+        if (request.sourceFrom().isAfter(request.sourceTo())
+                || ChronoUnit.DAYS.between(request.sourceFrom(), request.sourceTo()) >= MAX_COPY_SOURCE_DAYS
+                || request.targetFrom().isAfter(request.targetTo())
+                || ChronoUnit.DAYS.between(request.targetFrom(), request.targetTo()) >= MAX_RANGE_DAYS
+                || (request.targetType() != null && request.sourceType() == null)
+                || (sameType && overlaps)) {
+            log.warn("[Backend|TimelineService] ValidateCopyRange - Failed: Invalid copy from {} ~ {} ({}) to {} ~ {} ({})",
+                    request.sourceFrom(), request.sourceTo(), request.sourceType(), request.targetFrom(), request.targetTo(), request.targetType());
+            throw new BusinessException(ErrorCode.INVALID_COPY_RANGE);
+        }
+    }
+
+    /**
+     * 시작/종료 시간이 슬롯 경계(30분 단위)에 있고 시작이 종료보다 늦지 않은지 검증한 뒤, 구간의 슬롯 수를 반환
+     */
+    private int countSlots(LocalTime startTime, LocalTime endTime) {
+        if (!isSlotBoundary(startTime) || !isSlotBoundary(endTime) || startTime.isAfter(endTime)) {
+            log.warn("[Backend|TimelineService] ValidateSlotRange - Failed: Invalid range from: {} to: {}", startTime, endTime);
+            throw new BusinessException(ErrorCode.INVALID_SLOT_RANGE);
+        }
+        return (int) (ChronoUnit.MINUTES.between(startTime, endTime) / TimeBlock.SLOT_MINUTES) + 1;
+    }
+
+    /**
+     * startTime부터 slotCount개 슬롯이 모두 activityId(null이면 삭제)로 바뀌었음을 나타내는 변경 목록
+     */
+    private static List<SlotChange> rangeSlotChanges(LocalDate date, LocalTime startTime, int slotCount, TimeBlockType type, Long activityId) {
+        return IntStream.range(0, slotCount)
+                .mapToObj(index -> new SlotChange(date, startTime.plusMinutes((long) index * TimeBlock.SLOT_MINUTES), type, activityId))
+                .toList();
+    }
+
+    /**
+     * 원본/대상 구간(겹치면 한 번씩)의 슬롯별 이동 후 상태 (이동된 기록이 없는 슬롯은 삭제)
+     */
+    private static List<SlotChange> shiftSlotChanges(LocalDate date, LocalTime startTime, int slotCount, int slots, TimeBlockType type,
+                                                     Map<LocalTime, Long> shifted) {
+        return IntStream.range(Math.min(0, slots), Math.max(0, slots) + slotCount)
+                .filter(index -> (index >= 0 && index < slotCount) || (index >= slots && index < slots + slotCount))
+                .mapToObj(index -> startTime.plusMinutes((long) index * TimeBlock.SLOT_MINUTES))
+                .map(time -> new SlotChange(date, time, type, shifted.get(time)))
+                .toList();
+    }
+
+    private boolean isSlotBoundary(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0 && time.getMinute() % TimeBlock.SLOT_MINUTES == 0;
+    }
+
+    // LocalTime 연산은 자정을 넘으면 순환하므로, 분 단위 오프셋으로 하루 범위를 벗어나는지 확인
+    private void validateShiftWithinDay(LocalTime startTime, LocalTime endTime, int minutes) {
+        int shiftedStart = startTime.toSecondOfDay() / 60 + minutes;
+        int shiftedEnd = endTime.toSecondOfDay() / 60 + minutes;
+        if (minutes == 0 || shiftedStart < 0 || shiftedEnd > TimeBlock.LAST_SLOT_START.toSecondOfDay() / 60) {
+            log.warn("[Backend|TimelineService] ValidateShift - Failed: Shift by {} minutes out of day for range from: {} to: {}", minutes, startTime, endTime);
+            throw new BusinessException(ErrorCode.INVALID_SLOT_RANGE);
+        }
     }
 
-    private Activity findActivityById(Long activityId) {
-        return activityRepository.findById(activityId)
+    /**
+     * 삭제된 슬롯에 새로 만드는 블록은 툼스톤 다음 버전에서 시작하도록 맞춤 (신규 블록이 없으면 조회하지 않음)
+     */
+    private void continueAfterTombstones(Long userId, List<TimeBlock> newBlocks) {
+        if (newBlocks.isEmpty()) {
+            return;
+        }
+        Set<LocalDate> dates = newBlocks.stream()
+                .map(TimeBlock::getDate)
+                .collect(Collectors.toSet());
+        Map<Slot, TimeBlockSlotState> tombstones = timeBlockRepository.findTombstones(userId, dates).stream()
+                .collect(Collectors.toMap(tombstone -> new Slot(tombstone.date(), tombstone.startTime(), tombstone.type()), Function.identity()));
+        for (TimeBlock timeBlock : newBlocks) {
+            TimeBlockSlotState tombstone = tombstones.get(Slot.of(timeBlock));
+            if (tombstone != null) {
+                timeBlock.continueAfter(tombstone);
+            }
+        }
+    }
+
+    private Map<Long, Activity> findOwnedActivities(Long userId, List<CreateTimeBlockRequest> blocks) {
+        Set<Long> activityIds = blocks.stream()
+                .map(CreateTimeBlockRequest::activityId)
+                .collect(Collectors.toSet());
+        List<Activity> activities = activityRepository.findAllWithCategoryByIdIn(activityIds);
+        if (activities.size() != activityIds.size()) {
+            log.warn("[Backend|TimelineService] FindOwnedActivities - Failed: Some activities not found for ids: {}", activityIds);
+            throw new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND);
+        }
+        activities.forEach(activity -> validateActivityOwner(userId, activity));
+        return activities.stream()
+                .collect(Collectors.toMap(Activity::getId, Function.identity()));
+    }
+
+    /**
+     * 소유자 조건을 포함한 단일 조회로 활동(카테고리 포함)을 가져옴
+     * 조회되지 않은 경우에만 존재 여부를 추가로 확인하여 404와 403을 구분
+     */
+    private Activity findOwnedActivity(Long userId, Long activityId) {
+        return activityRepository.findWithCategoryByIdAndUserId(activityId, userId)
                 .orElseThrow(() -> {
-                    log.warn("[Backend|TimelineService] FindActivityById - Failed: Activity not found for id: {}", activityId);
+                    if (activityRepository.existsById(activityId)) {
+                        log.warn("[Backend|TimelineService] FindOwnedActivity - Failed: Permission denied for userId: {} on activityId: {}", userId, activityId);
+                        return new BusinessException(ErrorCode.PERMISSION_DENIED);
+                    }
+                    log.warn("[Backend|TimelineService] FindOwnedActivity - Failed: Activity not found for id: {}", activityId);
                     return new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND);
                 });
     }
 
-    private TimeBlock findTimeBlockById(Long timeBlockId) {
-        return timeBlockRepository.findById(timeBlockId)
-                .orElseThrow(() -> {
-                    log.warn("[Backend|TimelineService] FindTimeBlockById - Failed: TimeBlock not found for id: {}", timeBlockId);
-                    return new BusinessException(ErrorCode.TIME_BLOCK_NOT_FOUND);
-                });
+    /**
+     * 활동을 조회하지 않고 소유 여부만 확인 (구간 기록은 활동 ID만 필요)
+     */
+    private void validateActivityOwnership(Long userId, Long activityId) {
+        if (activityRepository.existsByIdAndUserId(activityId, userId)) {
+            return;
+        }
+        if (activityRepository.existsById(activityId)) {
+            log.warn("[Backend|TimelineService] ValidateActivityOwnership - Failed: Permission denied for userId: {} on activityId: {}", userId, activityId);
+            throw new BusinessException(ErrorCode.PERMISSION_DENIED);
+        }
+        log.warn("[Backend|TimelineService] ValidateActivityOwnership - Failed: Activity not found for id: {}", activityId);
+        throw new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND);
+    }
+
+    private TimeBlock findOwnedTimeBlock(Long userId, Long timeBlockId) {
+        return timeBlockRepository.findByIdAndUserId(timeBlockId, userId)
+                .orElseThrow(() -> timeBlockAccessFailure(userId, timeBlockId));
+    }
+
+    private BusinessException timeBlockAccessFailure(Long userId, Long timeBlockId) {
+        if (timeBlockRepository.existsById(timeBlockId)) {
+            log.warn("[Backend|TimelineService] FindOwnedTimeBlock - Failed: Permission denied for userId: {} on timeBlockId: {}", userId, timeBlockId);
+            return new BusinessException(ErrorCode.PERMISSION_DENIED);
+        }
+        log.warn("[Backend|TimelineService] FindOwnedTimeBlock - Failed: TimeBlock not found for id: {}", timeBlockId);
+        return new BusinessException(ErrorCode.TIME_BLOCK_NOT_FOUND);
     }
 
     private void validateActivityOwner(Long userId, Activity activity) {
@@ -137,10 +420,9 @@ public class TimelineService {
         }
     }
 
-    private void validateTimeBlockOwner(Long userId, TimeBlock timeBlock) {
-        if (!timeBlock.getActivity().getUser().getId().equals(userId)) {
-            log.warn("[Backend|TimelineService] ValidateTimeBlockOwner - Failed: Permission denied for userId: {} on timeBlockId: {}", userId, timeBlock.getId());
-            throw new BusinessException(ErrorCode.PERMISSION_DENIED);
+    private record Slot(LocalDate date, LocalTime startTime, TimeBlockType type) {
+        static Slot of(TimeBlock timeBlock) {
+            return new Slot(timeBlock.getDate(), timeBlock.getStartTime(), timeBlock.getType());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.lifelogix.timeline.core.application;
+
+import java.util.Locale;
+
+/**
+ * 사용자별 버전 카운터로 변경 여부를 추적하는 조회 리소스
+ */
+public enum VersionedResource {
+    TIMELINE,
+    ACTIVITIES,
+    CATEGORIES;
+
+    String field() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,32 @@
+package com.lifelogix.timeline.core.domain;
+
+/**
+ * 하이브리드 논리 시계(HLC) 값: 상위 48비트는 epoch 밀리초, 하위 16비트는 같은 밀리초 안의 논리 카운터
+ * 물리 시간 순서를 따르면서도, 기기 간 시계가 어긋나도 인과 관계(본 것보다 항상 큰 값)를 보장하므로 슬롯별 최종 기록자 판정에 사용
+ */
+public final class HybridTimestamp {
+
+    private static final int LOGICAL_BITS = 16;
+
+    private HybridTimestamp() {
+    }
+
+    public static long of(long physicalMillis, int logical) {
+        return (physicalMillis << LOGICAL_BITS) | (logical & 0xFFFF);
+    }
+
+    public static long physicalMillis(long timestamp) {
+        return timestamp >>> LOGICAL_BITS;
+    }
+
+    public static long now() {
+        return of(System.currentTimeMillis(), 0);
+    }
+
+    /**
+     * 이전 값 이후의 로컬 이벤트 시각 (시계가 뒤로 가더라도 이전 값보다 항상 큼)
+     */
+    public static long after(long previous) {
+        return Math.max(previous + 1, now());
+    }
+}
@@ -1,6 +1,7 @@
 package com.lifelogix.timeline.core.domain;
 
 import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.user.domain.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -9,15 +10,25 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Objects;
 
 @Entity
+@Table(name = "time_block", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_time_block_owner_slot", columnNames = {"user_id", "date", "start_time", "type"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = "id")
 public class TimeBlock {
 
+    // 하루는 30분 단위 슬롯 48개로 나뉨 (마지막 슬롯은 23:30 시작)
+    public static final int SLOT_MINUTES = 30;
+    public static final LocalTime LAST_SLOT_START = LocalTime.of(23, 30);
+
+    // IDENTITY 전략은 INSERT 배치를 막으므로, 시퀀스를 미리 할당(pooled)받아 JDBC 배치 INSERT가 가능하도록 함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_block_seq")
+    @SequenceGenerator(name = "time_block_seq", sequenceName = "time_block_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -34,11 +45,27 @@ public class TimeBlock {
     @JoinColumn(name = "activity_id", nullable = false)
     private Activity activity;
 
+    // 활동의 소유자를 비정규화하여 저장 (activity 조인 없이 (user_id, date, ...) 인덱스로 조회하기 위함)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_time_block_user"))
+    private User user;
+
+    // 슬롯이 바뀔 때마다 증가하는 낙관적 잠금 버전 (네이티브 쓰기 경로도 함께 증가시킴)
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    // 마지막으로 기록된 시각의 HLC 값 (기기 간 병합에서 최종 기록자 판정에 사용)
+    @Column(nullable = false)
+    private long hlc;
+
     public TimeBlock(LocalDate date, LocalTime startTime, TimeBlockType type, Activity activity) {
         this.date = date;
         this.startTime = startTime;
         this.type = type;
         this.activity = activity;
+        this.user = activity.getUser();
+        this.hlc = HybridTimestamp.now();
     }
 
     @Deprecated
@@ -48,12 +75,31 @@ public class TimeBlock {
         this.startTime = startTime;
         this.type = type;
         this.activity = activity;
+        this.user = activity.getUser();
+        this.hlc = HybridTimestamp.now();
     }
 
     /**
      * 타임블록에 기록된 활동을 변경
+     * 비정규화된 소유자와 활동의 소유자가 항상 일치하도록, 다른 사용자의 활동으로는 변경할 수 없음
      */
     public void updateActivity(Activity activity) {
+        if (!Objects.equals(this.user.getId(), activity.getUser().getId())) {
+            throw new IllegalArgumentException("타임블록의 소유자와 활동의 소유자가 일치하지 않습니다.");
+        }
         this.activity = activity;
+        this.hlc = HybridTimestamp.after(this.hlc);
+    }
+
+    /**
+     * 삭제된 슬롯에 새로 기록하는 블록의 버전을 툼스톤 다음 버전으로 이어감
+     * 삭제 전 버전을 기준으로 한 오래된 편집이 다시 기록된 슬롯을 덮어쓰지 못하게 하기 위함이며, 저장 전에만 호출할 수 있음
+     */
+    public void continueAfter(TimeBlockSlotState tombstone) {
+        if (this.id != null) {
+            throw new IllegalStateException("이미 저장된 타임블록의 버전은 이어갈 수 없습니다.");
+        }
+        this.version = tombstone.version() + 1;
+        this.hlc = Math.max(this.hlc, tombstone.hlc() + 1);
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.lifelogix.timeline.core.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 기록 내보내기/가져오기 파일의 한 행 (활동/카테고리를 ID 대신 이름으로 표현)
+ * (date, startTime, type)이 사용자 내에서 유일하므로 내보내기에서는 다음 페이지 조회의 키셋 커서로도 사용
+ */
+public record TimeBlockFileRow(
+        LocalDate date,
+        LocalTime startTime,
+        TimeBlockType type,
+        String activityName,
+        String categoryName,
+        String categoryColor
+) {
+}
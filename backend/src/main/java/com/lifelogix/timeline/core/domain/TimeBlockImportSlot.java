@@ -0,0 +1,16 @@
+package com.lifelogix.timeline.core.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 가져오기 파일에서 읽어 활동 ID까지 확정된 슬롯 (line은 같은 슬롯이 여러 번 나올 때 마지막 행을 반영하기 위한 순서)
+ */
+public record TimeBlockImportSlot(
+        long line,
+        LocalDate date,
+        LocalTime startTime,
+        TimeBlockType type,
+        Long activityId
+) {
+}
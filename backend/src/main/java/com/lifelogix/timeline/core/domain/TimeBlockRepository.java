@@ -2,25 +2,136 @@ package com.lifelogix.timeline.core.domain;
 
 import com.lifelogix.timeline.activity.domain.Activity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional; // 👈 Optional import 추가
+import java.util.Optional;
 
-public interface TimeBlockRepository extends JpaRepository<TimeBlock, Long> {
+public interface TimeBlockRepository extends JpaRepository<TimeBlock, Long>, TimeBlockRepositoryCustom {
 
-    @Query("SELECT tb FROM TimeBlock tb JOIN FETCH tb.activity a JOIN FETCH a.user JOIN FETCH a.category c WHERE a.user.id = :userId AND tb.date = :date")
+    @Query("SELECT tb FROM TimeBlock tb JOIN FETCH tb.activity a JOIN FETCH a.user JOIN FETCH a.category c WHERE tb.user.id = :userId AND tb.date = :date")
     List<TimeBlock> findByUserIdAndDate(@Param("userId") Long userId, @Param("date") LocalDate date);
 
+    @Query("SELECT tb FROM TimeBlock tb JOIN FETCH tb.activity a JOIN FETCH a.category c WHERE tb.user.id = :userId AND tb.date BETWEEN :from AND :to")
+    List<TimeBlock> findByUserIdAndDateBetween(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.lifelogix.timeline.core.domain.TimeBlockView(
+                tb.id, tb.date, tb.startTime, tb.type, a.id, a.name, c.name, c.color)
+            FROM TimeBlock tb JOIN tb.activity a JOIN a.category c
+            WHERE tb.user.id = :userId AND tb.date = :date
+            """)
+    List<TimeBlockView> findViewsByUserIdAndDate(@Param("userId") Long userId, @Param("date") LocalDate date);
+
+    @Query("""
+            SELECT new com.lifelogix.timeline.core.domain.TimeBlockView(
+                tb.id, tb.date, tb.startTime, tb.type, a.id, a.name, c.name, c.color)
+            FROM TimeBlock tb JOIN tb.activity a JOIN a.category c
+            WHERE tb.user.id = :userId AND tb.date BETWEEN :from AND :to
+            """)
+    List<TimeBlockView> findViewsByUserIdAndDateBetween(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * 기간 내 슬롯을 (date, startTime) 순으로 조회 (유니크 인덱스 (user_id, date, start_time, type) 순서와 같아 정렬 비용 없음)
+     */
+    @Query("""
+            SELECT new com.lifelogix.timeline.core.domain.TimeBlockSlot(
+                tb.date, tb.startTime, tb.type, a.id, c.id, c.name, c.color)
+            FROM TimeBlock tb JOIN tb.activity a JOIN a.category c
+            WHERE tb.user.id = :userId AND tb.date BETWEEN :from AND :to
+            ORDER BY tb.date, tb.startTime
+            """)
+    List<TimeBlockSlot> findSlotsByUserIdAndDateBetween(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT tb FROM TimeBlock tb WHERE tb.user.id = :userId AND tb.date IN :dates")
+    List<TimeBlock> findByUserIdAndDateIn(@Param("userId") Long userId, @Param("dates") Collection<LocalDate> dates);
+
     boolean existsByActivity(Activity activity);
 
-    @Query("SELECT tb FROM TimeBlock tb JOIN tb.activity a WHERE a.user.id = :userId AND tb.date = :date AND tb.startTime = :startTime AND tb.type = :type")
+    @Query("SELECT tb FROM TimeBlock tb WHERE tb.id = :id AND tb.user.id = :userId")
+    Optional<TimeBlock> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("""
+            SELECT new com.lifelogix.timeline.core.domain.TimeBlockSlotState(
+                tb.date, tb.startTime, tb.type, tb.activity.id, tb.version, tb.hlc)
+            FROM TimeBlock tb
+            WHERE tb.id = :id AND tb.user.id = :userId
+            """)
+    Optional<TimeBlockSlotState> findSlotStateByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 소유자 조건을 포함해 단일 구문으로 삭제 (date 조건으로 해당 월 파티션만 탐색)
+     */
+    @Modifying
+    @Query("DELETE FROM TimeBlock tb WHERE tb.id = :id AND tb.user.id = :userId AND tb.date = :date")
+    int deleteByIdAndUserIdAndDate(@Param("id") Long id, @Param("userId") Long userId, @Param("date") LocalDate date);
+
+    @Query("SELECT tb FROM TimeBlock tb WHERE tb.user.id = :userId AND tb.date = :date AND tb.startTime = :startTime AND tb.type = :type")
     Optional<TimeBlock> findUserTimeBlockForSlot(
             @Param("userId") Long userId,
             @Param("date") LocalDate date,
             @Param("startTime") LocalTime startTime,
             @Param("type") TimeBlockType type);
+
+    /**
+     * 구간 내 슬롯([startTime, startTime + (slotCount - 1) * 30분])을 단일 INSERT ... SELECT로 모두 같은 활동으로 기록 (PostgreSQL)
+     * 이미 기록된 슬롯은 활동만 변경되며(버전 증가, HLC는 DB 시각으로 갱신), 기록된 슬롯 수를 반환
+     * 삭제된 슬롯을 다시 채우면 툼스톤 다음 버전/HLC에서 시작함
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO time_block (id, user_id, activity_id, date, start_time, type, version, hlc)
+            SELECT nextval('time_block_seq'), :userId, :activityId, :date, s.start_time, :type,
+                   COALESCE(tt.version + 1, 0), GREATEST(time_block_hlc_now(), COALESCE(tt.hlc + 1, 0))
+            FROM (SELECT CAST(:startTime AS time) + slot * INTERVAL '30 minutes' AS start_time
+                  FROM generate_series(0, :slotCount - 1) AS slot) s
+            LEFT JOIN time_block_tombstone tt
+                ON tt.user_id = :userId AND tt.date = :date AND tt.start_time = s.start_time AND tt.type = :type
+            ON CONFLICT (user_id, date, start_time, type)
+            DO UPDATE SET activity_id = EXCLUDED.activity_id, version = time_block.version + 1, hlc = GREATEST(time_block.hlc + 1, EXCLUDED.hlc)
+            """, nativeQuery = true)
+    int fillSlots(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("startTime") LocalTime startTime,
+            @Param("slotCount") int slotCount,
+            @Param("type") String type,
+            @Param("activityId") Long activityId);
+
+    @Modifying
+    @Query("DELETE FROM TimeBlock tb WHERE tb.user.id = :userId AND tb.date = :date AND tb.type = :type AND tb.startTime BETWEEN :startTime AND :endTime")
+    int deleteSlots(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("type") TimeBlockType type,
+            @Param("startTime") LocalTime startTime,
+            @Param("endTime") LocalTime endTime);
+
+    /**
+     * 슬롯(소유자, 날짜, 시작 시간, 타입)에 활동을 단일 구문으로 기록 (PostgreSQL INSERT ... ON CONFLICT)
+     * 동시에 같은 슬롯을 기록해도 중복 행 없이 마지막 요청이 반영되며, 기록된 타임블록의 ID를 반환
+     * 삭제된 슬롯을 다시 기록하면 툼스톤 다음 버전/HLC에서 시작함
+     */
+    @Query(value = """
+            INSERT INTO time_block (id, user_id, activity_id, date, start_time, type, version, hlc)
+            SELECT nextval('time_block_seq'), :userId, :activityId, :date, :startTime, :type,
+                   COALESCE(tt.version + 1, 0), GREATEST(time_block_hlc_now(), COALESCE(tt.hlc + 1, 0))
+            FROM (SELECT 1) s
+            LEFT JOIN time_block_tombstone tt
+                ON tt.user_id = :userId AND tt.date = :date AND tt.start_time = :startTime AND tt.type = :type
+            ON CONFLICT (user_id, date, start_time, type)
+            DO UPDATE SET activity_id = EXCLUDED.activity_id, version = time_block.version + 1, hlc = GREATEST(time_block.hlc + 1, EXCLUDED.hlc)
+            RETURNING id
+            """, nativeQuery = true)
+    Long upsertSlot(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("startTime") LocalTime startTime,
+            @Param("type") String type,
+            @Param("activityId") Long activityId);
 }
\ No newline at end of file
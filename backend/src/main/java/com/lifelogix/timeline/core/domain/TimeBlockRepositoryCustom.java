@@ -0,0 +1,56 @@
+package com.lifelogix.timeline.core.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spring Data 쿼리 메서드로 표현하기 어려운 집합 단위 작업 (구현: TimeBlockRepositoryImpl)
+ */
+public interface TimeBlockRepositoryCustom {
+
+    /**
+     * 구간 [startTime, endTime]의 블록을 minutes 만큼 이동하고, 이동된 블록의 (이동 후 시작 시간 → 활동 ID)를 반환
+     * 이동 대상 구간에 있던 기존 블록은 원본 구간의 내용으로 대체되며, 블록 ID는 유지되고 버전은 슬롯마다 계속 증가함
+     * 이동할 블록이 없으면 아무것도 바꾸지 않고 빈 맵을 반환
+     */
+    Map<LocalTime, Long> shiftSlots(Long userId, LocalDate date, TimeBlockType type, LocalTime startTime, LocalTime endTime, int minutes);
+
+    /**
+     * 원본 기간의 블록을 대상 기간에 반복 복사하는 단일 INSERT ... SELECT (PostgreSQL), 기록된 대상 슬롯의 새 상태를 반환
+     * 대상 날짜 = 원본 날짜 + dayOffset + n * sourceDays (n = 0 .. repeats - 1, targetTo 이후는 제외)
+     * targetType이 null이면 원본 타입을 유지하며, 이미 기록된 대상 슬롯은 원본의 활동으로 덮어씀
+     * 삭제된 대상 슬롯에 새로 기록되는 블록은 툼스톤 다음 버전/HLC에서 시작함
+     */
+    List<TimeBlockSlotState> copySlots(Long userId, LocalDate sourceFrom, LocalDate sourceTo, String sourceType,
+                                       int dayOffset, int sourceDays, int repeats, LocalDate targetTo, String targetType);
+
+    /**
+     * 내보내기용 키셋 페이지: (date, startTime, type) 순으로 after 다음 행부터 최대 limit 건 (after가 null이면 처음부터)
+     */
+    List<TimeBlockFileRow> findExportPage(Long userId, TimeBlockFileRow after, int limit);
+
+    /**
+     * 가져온 슬롯을 일괄 기록(이미 기록된 슬롯은 덮어씀)하고 기록된 행 수를 반환
+     * 같은 슬롯이 여러 번 있으면 line이 가장 큰 행을 반영
+     */
+    int importSlots(Long userId, List<TimeBlockImportSlot> slots);
+
+    /**
+     * 날짜들의 슬롯 상태를 조회 (타임블록과, 삭제된 슬롯의 툼스톤을 함께 반환)
+     */
+    List<TimeBlockSlotState> findSlotStates(Long userId, Collection<LocalDate> dates);
+
+    /**
+     * 날짜들에서 삭제된 슬롯의 툼스톤만 조회 (새 블록을 툼스톤 다음 버전에서 시작하기 위함)
+     */
+    List<TimeBlockSlotState> findTombstones(Long userId, Collection<LocalDate> dates);
+
+    /**
+     * 병합에서 이긴 쓰기를 조건부로 반영하고, 반영된 슬롯의 새 상태를 반환
+     * 판정 이후 다른 쓰기로 버전이 바뀐 슬롯은 반영되지 않고 결과에서 빠짐 (잠금 없이 버전 비교로 검출)
+     */
+    List<TimeBlockSlotState> mergeSlots(Long userId, List<TimeBlockSlotWrite> writes);
+}
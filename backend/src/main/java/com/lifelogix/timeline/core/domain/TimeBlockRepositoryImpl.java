@@ -0,0 +1,348 @@
+package com.lifelogix.timeline.core.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 구간 이동은 (user_id, date, start_time, type) 유니크 인덱스 때문에 단일 UPDATE로 처리할 수 없으므로
+ * 원본 조회 → 원본/대상 구간 일괄 삭제 → 이동된 블록 JDBC 배치 INSERT 의 세 번의 왕복으로 처리
+ * 이동된 블록은 원본 버전과 대상 슬롯의 툼스톤(삭제 트리거가 남김) 버전 중 큰 값 + 1로 기록되어 슬롯 버전이 되돌아가지 않음
+ * 내보내기 페이지는 정방향 전용(forward-only) 커서로 읽고, 같은 유니크 인덱스 순서의 키셋으로 다음 페이지를 이어 읽음
+ * 가져오기는 세션 임시 테이블에 COPY(불가능하면 JDBC 배치)로 적재한 뒤 INSERT ... SELECT ... ON CONFLICT 한 번으로 반영 (PostgreSQL)
+ * 복사는 원본 기간을 반복한 INSERT ... SELECT ... ON CONFLICT 한 번으로 반영하고, 기록된 슬롯을 RETURNING으로 돌려받음 (PostgreSQL)
+ * 병합 쓰기는 슬롯 배열을 unnest로 펼쳐 갱신/생성/삭제/툼스톤을 종류별 단일 구문으로 반영하고, 버전 조건을 만족해 반영된 행만 RETURNING으로 돌려받음 (PostgreSQL)
+ */
+@RequiredArgsConstructor
+class TimeBlockRepositoryImpl implements TimeBlockRepositoryCustom {
+
+    private static final RowMapper<TimeBlockFileRow> EXPORT_ROW_MAPPER = (rs, rowNum) -> new TimeBlockFileRow(
+            rs.getObject("date", LocalDate.class),
+            rs.getObject("start_time", LocalTime.class),
+            TimeBlockType.valueOf(rs.getString("type")),
+            rs.getString("activity_name"),
+            rs.getString("category_name"),
+            rs.getString("category_color"));
+
+    // 원본 기간 조건을 파라미터로 직접 비교해야 해당 월 파티션만 탐색하므로, 같은 값이 여러 번 바인딩됨
+    // 파라미터: 날짜 오프셋, 원본 일수, 대상 타입, 반복 횟수, 사용자 ID, 원본 시작일, 원본 종료일, 원본 타입(2회), 날짜 오프셋, 원본 일수, 대상 종료일
+    private static final String COPY_SLOTS = """
+            INSERT INTO time_block (id, user_id, activity_id, date, start_time, type, version, hlc)
+            SELECT nextval('time_block_seq'), c.user_id, c.activity_id, c.date, c.start_time, c.type,
+                   COALESCE(tt.version + 1, 0), GREATEST(time_block_hlc_now(), COALESCE(tt.hlc + 1, 0))
+            FROM (SELECT tb.user_id, tb.activity_id, tb.date + CAST(? AS INTEGER) + rep.n * CAST(? AS INTEGER) AS date, tb.start_time,
+                         COALESCE(CAST(? AS VARCHAR), tb.type) AS type
+                  FROM time_block tb
+                  CROSS JOIN generate_series(0, CAST(? AS INTEGER) - 1) AS rep(n)
+                  WHERE tb.user_id = ?
+                    AND tb.date BETWEEN ? AND ?
+                    AND (CAST(? AS VARCHAR) IS NULL OR tb.type = CAST(? AS VARCHAR))
+                    AND tb.date + CAST(? AS INTEGER) + rep.n * CAST(? AS INTEGER) <= ?) c
+            LEFT JOIN time_block_tombstone tt
+                ON tt.user_id = c.user_id AND tt.date = c.date AND tt.start_time = c.start_time AND tt.type = c.type
+            ON CONFLICT (user_id, date, start_time, type)
+            DO UPDATE SET activity_id = EXCLUDED.activity_id, version = time_block.version + 1, hlc = GREATEST(time_block.hlc + 1, EXCLUDED.hlc)
+            RETURNING date, start_time, type, activity_id, version, hlc
+            """;
+
+    private static final String CREATE_IMPORT_STAGING = """
+            CREATE TEMPORARY TABLE IF NOT EXISTS time_block_import_staging
+            (
+                line        BIGINT       NOT NULL,
+                date        DATE         NOT NULL,
+                start_time  TIME(6)      NOT NULL,
+                type        VARCHAR(255) NOT NULL,
+                activity_id BIGINT       NOT NULL
+            ) ON COMMIT DELETE ROWS
+            """;
+    private static final String COPY_IMPORT_STAGING =
+            "COPY time_block_import_staging (line, date, start_time, type, activity_id) FROM STDIN WITH (FORMAT csv)";
+
+    private static final RowMapper<TimeBlockSlotState> SLOT_STATE_MAPPER = (rs, rowNum) -> new TimeBlockSlotState(
+            rs.getObject("date", LocalDate.class),
+            rs.getObject("start_time", LocalTime.class),
+            TimeBlockType.valueOf(rs.getString("type")),
+            rs.getObject("activity_id", Long.class),
+            rs.getLong("version"),
+            rs.getLong("hlc"));
+
+    // 병합 쓰기의 사용자와 슬롯 배열을 행으로 펼치는 원본
+    // 파라미터: 사용자 ID, 날짜, 시작 시간, 타입, 활동 ID, 기준 버전, 새 버전, HLC 배열 (갱신/삭제는 파티션 프루닝용 날짜 배열이 뒤에 하나 더 붙음)
+    private static final String MERGE_SOURCE = """
+            (SELECT CAST(? AS BIGINT) AS user_id) u,
+            unnest(CAST(? AS date[]), CAST(? AS time[]), CAST(? AS varchar[]), CAST(? AS bigint[]),
+                   CAST(? AS bigint[]), CAST(? AS bigint[]), CAST(? AS bigint[]))
+                AS e(date, start_time, type, activity_id, expected_version, version, hlc)
+            """;
+    private static final String MERGE_UPDATE = """
+            UPDATE time_block t
+            SET activity_id = e.activity_id, version = e.version, hlc = e.hlc
+            FROM %s
+            WHERE t.user_id = u.user_id AND t.date = ANY (CAST(? AS date[]))
+              AND t.date = e.date AND t.start_time = e.start_time AND t.type = e.type AND t.version = e.expected_version
+            RETURNING t.date, t.start_time, t.type, t.activity_id, t.version, t.hlc
+            """.formatted(MERGE_SOURCE);
+    private static final String MERGE_INSERT = """
+            INSERT INTO time_block (id, user_id, activity_id, date, start_time, type, version, hlc)
+            SELECT nextval('time_block_seq'), u.user_id, e.activity_id, e.date, e.start_time, e.type, e.version, e.hlc
+            FROM %s
+            ON CONFLICT (user_id, date, start_time, type) DO NOTHING
+            RETURNING date, start_time, type, activity_id, version, hlc
+            """.formatted(MERGE_SOURCE);
+    // 일반 API로 다시 기록된 슬롯에는 예전 툼스톤이 남아 있을 수 있으므로, 새 툼스톤 버전은 그보다 크게 맞춤
+    private static final String MERGE_DELETE = """
+            DELETE FROM time_block t
+            USING %s
+            WHERE t.user_id = u.user_id AND t.date = ANY (CAST(? AS date[]))
+              AND t.date = e.date AND t.start_time = e.start_time AND t.type = e.type AND t.version = e.expected_version
+            RETURNING t.date, t.start_time, t.type, CAST(NULL AS BIGINT) AS activity_id,
+                GREATEST(e.version, (SELECT tt.version + 1 FROM time_block_tombstone tt
+                                     WHERE tt.user_id = t.user_id AND tt.date = t.date AND tt.start_time = t.start_time AND tt.type = t.type)) AS version,
+                e.hlc
+            """.formatted(MERGE_SOURCE);
+    // 그 사이 다시 기록된 슬롯에는 툼스톤을 남기지 않고, 기존 툼스톤은 같거나 더 큰 버전으로만 갱신
+    // (MERGE_DELETE 직후에는 삭제 트리거가 같은 버전의 툼스톤을 서버 시각으로 남기므로 편집의 HLC로 덮어씀)
+    private static final String MERGE_TOMBSTONE = """
+            INSERT INTO time_block_tombstone AS tt (user_id, date, start_time, type, version, hlc)
+            SELECT u.user_id, e.date, e.start_time, e.type, e.version, e.hlc
+            FROM %s
+            WHERE NOT EXISTS (SELECT 1 FROM time_block t
+                              WHERE t.user_id = u.user_id AND t.date = e.date AND t.start_time = e.start_time AND t.type = e.type)
+            ON CONFLICT (user_id, date, start_time, type)
+                DO UPDATE SET version = EXCLUDED.version, hlc = EXCLUDED.hlc
+                WHERE tt.version <= EXCLUDED.version
+            RETURNING date, start_time, type, CAST(NULL AS BIGINT) AS activity_id, version, hlc
+            """.formatted(MERGE_SOURCE);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<LocalTime, Long> shiftSlots(Long userId, LocalDate date, TimeBlockType type, LocalTime startTime, LocalTime endTime, int minutes) {
+        List<ShiftedBlock> blocks = jdbcTemplate.query("""
+                        SELECT id, activity_id, start_time, version, hlc FROM time_block
+                        WHERE user_id = ? AND date = ? AND type = ? AND start_time BETWEEN ? AND ?
+                        """,
+                (rs, rowNum) -> new ShiftedBlock(
+                        rs.getLong("id"),
+                        rs.getLong("activity_id"),
+                        rs.getObject("start_time", LocalTime.class).plusMinutes(minutes),
+                        rs.getLong("version") + 1,
+                        HybridTimestamp.after(rs.getLong("hlc"))),
+                userId, date, type.name(), startTime, endTime);
+        if (blocks.isEmpty()) {
+            return Map.of();
+        }
+
+        jdbcTemplate.update("""
+                        DELETE FROM time_block
+                        WHERE user_id = ? AND date = ? AND type = ?
+                          AND (start_time BETWEEN ? AND ? OR start_time BETWEEN ? AND ?)
+                        """,
+                userId, date, type.name(), startTime, endTime, startTime.plusMinutes(minutes), endTime.plusMinutes(minutes));
+
+        // 대상 슬롯에 있던 블록은 위 DELETE로 툼스톤(버전 + 1)이 남았으므로 그 다음 버전/HLC로 기록
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO time_block (id, user_id, activity_id, date, start_time, type, version, hlc)
+                        VALUES (?, ?, ?, ?, ?, ?,
+                                GREATEST(?, COALESCE((SELECT tt.version + 1 FROM time_block_tombstone tt
+                                                      WHERE tt.user_id = ? AND tt.date = ? AND tt.start_time = ? AND tt.type = ?), 0)),
+                                GREATEST(?, COALESCE((SELECT tt.hlc + 1 FROM time_block_tombstone tt
+                                                      WHERE tt.user_id = ? AND tt.date = ? AND tt.start_time = ? AND tt.type = ?), 0)))
+                        """,
+                blocks.stream()
+                        .map(block -> new Object[]{block.id(), userId, block.activityId(), date, block.startTime(), type.name(),
+                                block.version(), userId, date, block.startTime(), type.name(),
+                                block.hlc(), userId, date, block.startTime(), type.name()})
+                        .toList());
+        return blocks.stream().collect(Collectors.toMap(ShiftedBlock::startTime, ShiftedBlock::activityId));
+    }
+
+    @Override
+    public List<TimeBlockSlotState> copySlots(Long userId, LocalDate sourceFrom, LocalDate sourceTo, String sourceType,
+                                              int dayOffset, int sourceDays, int repeats, LocalDate targetTo, String targetType) {
+        return jdbcTemplate.query(COPY_SLOTS, SLOT_STATE_MAPPER,
+                dayOffset, sourceDays, targetType, repeats, userId, sourceFrom, sourceTo,
+                sourceType, sourceType, dayOffset, sourceDays, targetTo);
+    }
+
+    @Override
+    public List<TimeBlockFileRow> findExportPage(Long userId, TimeBlockFileRow after, int limit) {
+        String sql = """
+                SELECT tb.date, tb.start_time, tb.type, a.name AS activity_name, c.name AS category_name, c.color AS category_color
+                FROM time_block tb
+                         JOIN activity a ON a.id = tb.activity_id
+                         JOIN category c ON c.id = a.category_id
+                WHERE tb.user_id = ? %s
+                ORDER BY tb.date, tb.start_time, tb.type
+                LIMIT ?
+                """.formatted(after == null ? "" : "AND (tb.date, tb.start_time, tb.type) > (?, ?, ?)");
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(limit);
+            int index = 1;
+            statement.setLong(index++, userId);
+            if (after != null) {
+                statement.setObject(index++, after.date());
+                statement.setObject(index++, after.startTime());
+                statement.setString(index++, after.type().name());
+            }
+            statement.setInt(index, limit);
+            return statement;
+        }, EXPORT_ROW_MAPPER);
+    }
+
+    @Override
+    public int importSlots(Long userId, List<TimeBlockImportSlot> slots) {
+        if (slots.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.execute(CREATE_IMPORT_STAGING);
+        Boolean copied = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> copyToStaging(connection, slots));
+        if (!Boolean.TRUE.equals(copied)) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO time_block_import_staging (line, date, start_time, type, activity_id) VALUES (?, ?, ?, ?, ?)",
+                    slots.stream()
+                            .map(slot -> new Object[]{slot.line(), slot.date(), slot.startTime(), slot.type().name(), slot.activityId()})
+                            .toList());
+        }
+
+        // 한 구문에서 같은 행을 두 번 갱신할 수 없으므로 슬롯별로 마지막 행만 남김
+        return jdbcTemplate.update("""
+                        INSERT INTO time_block (id, user_id, activity_id, date, start_time, type, version, hlc)
+                        SELECT nextval('time_block_seq'), u.user_id, s.activity_id, s.date, s.start_time, s.type,
+                               COALESCE(tt.version + 1, 0), GREATEST(time_block_hlc_now(), COALESCE(tt.hlc + 1, 0))
+                        FROM (SELECT CAST(? AS BIGINT) AS user_id) u
+                        CROSS JOIN (SELECT DISTINCT ON (date, start_time, type) date, start_time, type, activity_id
+                                    FROM time_block_import_staging
+                                    ORDER BY date, start_time, type, line DESC) s
+                        LEFT JOIN time_block_tombstone tt
+                            ON tt.user_id = u.user_id AND tt.date = s.date AND tt.start_time = s.start_time AND tt.type = s.type
+                        ON CONFLICT (user_id, date, start_time, type)
+                            DO UPDATE SET activity_id = EXCLUDED.activity_id, version = time_block.version + 1,
+                                          hlc = GREATEST(time_block.hlc + 1, EXCLUDED.hlc)
+                        """,
+                userId);
+    }
+
+    @Override
+    public List<TimeBlockSlotState> findSlotStates(Long userId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return List.of();
+        }
+        String[] dateArray = dates.stream().map(LocalDate::toString).toArray(String[]::new);
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("""
+                    SELECT date, start_time, type, activity_id, version, hlc
+                    FROM time_block
+                    WHERE user_id = ? AND date = ANY (CAST(? AS date[]))
+                    UNION ALL
+                    SELECT date, start_time, type, NULL, version, hlc
+                    FROM time_block_tombstone
+                    WHERE user_id = ? AND date = ANY (CAST(? AS date[]))
+                    """);
+            statement.setLong(1, userId);
+            statement.setArray(2, connection.createArrayOf("text", dateArray));
+            statement.setLong(3, userId);
+            statement.setArray(4, connection.createArrayOf("text", dateArray));
+            return statement;
+        }, SLOT_STATE_MAPPER);
+    }
+
+    @Override
+    public List<TimeBlockSlotState> findTombstones(Long userId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return List.of();
+        }
+        String[] dateArray = dates.stream().map(LocalDate::toString).toArray(String[]::new);
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("""
+                    SELECT date, start_time, type, NULL AS activity_id, version, hlc
+                    FROM time_block_tombstone
+                    WHERE user_id = ? AND date = ANY (CAST(? AS date[]))
+                    """);
+            statement.setLong(1, userId);
+            statement.setArray(2, connection.createArrayOf("text", dateArray));
+            return statement;
+        }, SLOT_STATE_MAPPER);
+    }
+
+    @Override
+    public List<TimeBlockSlotState> mergeSlots(Long userId, List<TimeBlockSlotWrite> writes) {
+        List<TimeBlockSlotWrite> updates = writes.stream().filter(w -> w.activityId() != null && w.expectedVersion() != null).toList();
+        List<TimeBlockSlotWrite> inserts = writes.stream().filter(w -> w.activityId() != null && w.expectedVersion() == null).toList();
+        List<TimeBlockSlotWrite> deletes = writes.stream().filter(w -> w.activityId() == null && w.expectedVersion() != null).toList();
+        List<TimeBlockSlotWrite> tombstones = new ArrayList<>(writes.stream().filter(w -> w.activityId() == null && w.expectedVersion() == null).toList());
+
+        List<TimeBlockSlotState> applied = new ArrayList<>();
+        applied.addAll(executeMerge(MERGE_UPDATE, userId, updates, true));
+        applied.addAll(executeMerge(MERGE_INSERT, userId, inserts, false));
+        // 삭제된 타임블록에도 툼스톤을 남겨 이후의 오래된 편집과 비교할 수 있게 함
+        for (TimeBlockSlotState deleted : executeMerge(MERGE_DELETE, userId, deletes, true)) {
+            tombstones.add(new TimeBlockSlotWrite(deleted.date(), deleted.startTime(), deleted.type(), null, null, deleted.version(), deleted.hlc()));
+        }
+        applied.addAll(executeMerge(MERGE_TOMBSTONE, userId, tombstones, false));
+        return applied;
+    }
+
+    private List<TimeBlockSlotState> executeMerge(String sql, Long userId, List<TimeBlockSlotWrite> writes, boolean prunedByDate) {
+        if (writes.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setLong(1, userId);
+            statement.setArray(2, connection.createArrayOf("text", writes.stream().map(w -> w.date().toString()).toArray(String[]::new)));
+            statement.setArray(3, connection.createArrayOf("text", writes.stream().map(w -> w.startTime().toString()).toArray(String[]::new)));
+            statement.setArray(4, connection.createArrayOf("text", writes.stream().map(w -> w.type().name()).toArray(String[]::new)));
+            statement.setArray(5, connection.createArrayOf("bigint", writes.stream().map(TimeBlockSlotWrite::activityId).toArray(Long[]::new)));
+            statement.setArray(6, connection.createArrayOf("bigint", writes.stream().map(TimeBlockSlotWrite::expectedVersion).toArray(Long[]::new)));
+            statement.setArray(7, connection.createArrayOf("bigint", writes.stream().map(TimeBlockSlotWrite::version).toArray(Long[]::new)));
+            statement.setArray(8, connection.createArrayOf("bigint", writes.stream().map(TimeBlockSlotWrite::hlc).toArray(Long[]::new)));
+            if (prunedByDate) {
+                statement.setArray(9, connection.createArrayOf("text", writes.stream().map(w -> w.date().toString()).distinct().toArray(String[]::new)));
+            }
+            return statement;
+        }, SLOT_STATE_MAPPER);
+    }
+
+    /**
+     * PostgreSQL 드라이버 커넥션이면 COPY로 임시 테이블에 적재하고 true를 반환 (그 외에는 false를 반환하고 JDBC 배치로 대체)
+     */
+    private static boolean copyToStaging(Connection connection, List<TimeBlockImportSlot> slots) throws SQLException {
+        if (!connection.isWrapperFor(PGConnection.class)) {
+            return false;
+        }
+        // 모든 값이 날짜/시간/열거형/숫자이므로 CSV 이스케이프가 필요 없음
+        String rows = slots.stream()
+                .map(slot -> slot.line() + "," + slot.date() + "," + slot.startTime() + "," + slot.type().name() + "," + slot.activityId())
+                .collect(Collectors.joining("\n", "", "\n"));
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_IMPORT_STAGING, new StringReader(rows));
+            return true;
+        } catch (IOException e) {
+            throw new SQLException("가져오기 임시 테이블 COPY에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 이동될 블록 (startTime은 이동 후 시작 시간, version은 원본 버전 + 1, hlc는 원본 이후의 새 기록 시각)
+     */
+    private record ShiftedBlock(Long id, Long activityId, LocalTime startTime, long version, long hlc) {
+    }
+}
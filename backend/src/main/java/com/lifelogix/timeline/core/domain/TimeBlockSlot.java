@@ -0,0 +1,18 @@
+package com.lifelogix.timeline.core.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 계획/실제 비교에 필요한 슬롯 단위 프로젝션 (활동 이름 없이 활동 ID와 카테고리만 포함)
+ */
+public record TimeBlockSlot(
+        LocalDate date,
+        LocalTime startTime,
+        TimeBlockType type,
+        Long activityId,
+        Long categoryId,
+        String categoryName,
+        String categoryColor
+) {
+}
@@ -0,0 +1,20 @@
+package com.lifelogix.timeline.core.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 병합 판정과 변경 알림에 쓰는 슬롯의 현재 상태 (activityId가 null이면 삭제되어 툼스톤만 남은 슬롯)
+ */
+public record TimeBlockSlotState(
+        LocalDate date,
+        LocalTime startTime,
+        TimeBlockType type,
+        Long activityId,
+        long version,
+        long hlc
+) {
+    public boolean deleted() {
+        return activityId == null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.lifelogix.timeline.core.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 병합에서 이긴 슬롯 쓰기 (activityId가 null이면 삭제)
+ * expectedVersion은 판정 시점의 타임블록 버전이며, 타임블록이 없었으면 null (그 사이 바뀌었으면 쓰기가 반영되지 않음)
+ */
+public record TimeBlockSlotWrite(
+        LocalDate date,
+        LocalTime startTime,
+        TimeBlockType type,
+        Long activityId,
+        Long expectedVersion,
+        long version,
+        long hlc
+) {
+}
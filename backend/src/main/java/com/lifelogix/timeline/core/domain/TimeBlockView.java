@@ -0,0 +1,20 @@
+package com.lifelogix.timeline.core.domain;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 타임라인 조회 전용 프로젝션
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 응답에 필요한 컬럼만 조회 (스냅샷/더티 체킹 없음)
+ */
+public record TimeBlockView(
+        Long blockId,
+        LocalDate date,
+        LocalTime startTime,
+        TimeBlockType type,
+        Long activityId,
+        String activityName,
+        String categoryName,
+        String categoryColor
+) {
+}
@@ -0,0 +1,95 @@
+package com.lifelogix.timeline.core.domain;
+
+import com.lifelogix.user.domain.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 가져오기 작업의 진행 상태
+ * processedRows는 커밋까지 끝난 입력 행 수로, 실패한 가져오기를 같은 파일로 다시 요청하면 그 다음 행부터 이어서 처리함
+ */
+@Entity
+@Table(name = "timeline_import_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = "id")
+public class TimelineImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false, length = 20)
+    private String format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TimelineImportStatus status;
+
+    @Column(nullable = false)
+    private long processedRows;
+
+    @Column(nullable = false)
+    private long importedRows;
+
+    @Column(nullable = false)
+    private long failedRows;
+
+    // 상태 변경(재개/완료/실패)의 낙관적 잠금 (묶음 체크포인트는 TimelineImportJobRepository.claimCheckpoint로 보호)
+    @Version
+    private long version;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public TimelineImportJob(User user, String format) {
+        this.user = user;
+        this.format = format;
+        this.status = TimelineImportStatus.IN_PROGRESS;
+    }
+
+    @Deprecated
+    public TimelineImportJob(Long id, User user, String format) {
+        this.id = id;
+        this.user = user;
+        this.format = format;
+        this.status = TimelineImportStatus.IN_PROGRESS;
+    }
+
+    /**
+     * 한 묶음(chunk)의 처리 결과를 체크포인트로 기록 (같은 트랜잭션에서 타임블록과 함께 커밋됨)
+     */
+    public void advance(long processed, long imported, long failed) {
+        this.processedRows += processed;
+        this.importedRows += imported;
+        this.failedRows += failed;
+    }
+
+    public void resume() {
+        this.status = TimelineImportStatus.IN_PROGRESS;
+    }
+
+    public void complete() {
+        this.status = TimelineImportStatus.COMPLETED;
+    }
+
+    public void fail() {
+        this.status = TimelineImportStatus.FAILED;
+    }
+}
@@ -0,0 +1,20 @@
+package com.lifelogix.timeline.core.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TimelineImportJobRepository extends JpaRepository<TimelineImportJob, Long> {
+    Optional<TimelineImportJob> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * 체크포인트(processedRows)가 묶음을 읽기 시작한 시점 그대로일 때만 작업 행을 잠금 (그 사이 다른 요청이 진행했으면 0을 반환)
+     * 잠금은 묶음 트랜잭션이 끝날 때까지 유지되므로, 같은 체크포인트에서 시작한 다른 요청은 커밋을 기다린 뒤 0을 받음
+     */
+    @Modifying
+    @Query("UPDATE TimelineImportJob j SET j.updatedAt = CURRENT_TIMESTAMP WHERE j.id = :id AND j.processedRows = :expectedProcessedRows")
+    int claimCheckpoint(@Param("id") Long id, @Param("expectedProcessedRows") long expectedProcessedRows);
+}
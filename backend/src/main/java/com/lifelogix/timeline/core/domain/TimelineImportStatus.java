@@ -0,0 +1,7 @@
+package com.lifelogix.timeline.core.domain;
+
+public enum TimelineImportStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,292 @@
+package com.lifelogix.timeline.seed.application;
+
+import com.lifelogix.timeline.core.domain.TimeBlock;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 재현 가능한 합성 사용자 데이터 (DB와 무관한 순수 생성기)
+ * 사용자 프로필은 (시드, 사용자 번호)로, 하루치 기록은 (시드, 사용자 번호, 날짜)로만 결정되므로
+ * 적재 범위나 순서를 바꿔도 같은 날짜에는 항상 같은 블록이 만들어짐
+ */
+public class SyntheticDataGenerator {
+
+    public static final int SLOTS_PER_DAY = 24 * 60 / TimeBlock.SLOT_MINUTES;
+    // 기록이 없는 슬롯
+    public static final int EMPTY = -1;
+
+    private static final long USER_MIX = 0x9E3779B97F4A7C15L;
+    private static final long DAY_MIX = 0xC2B2AE3D27D4EB4FL;
+    private static final String[] COLORS = {"#1ABC9C", "#16A085", "#27AE60", "#2980B9", "#8E44AD", "#2C3E50",
+            "#F39C12", "#D35400", "#C0392B", "#7F8C8D", "#E84393", "#00B894"};
+    // 자유 시간에 배치할 루틴과 가중치
+    private static final Routine[] LEISURE = {Routine.EXERCISE, Routine.STUDY, Routine.SELF_DEVELOPMENT,
+            Routine.HOBBY, Routine.SOCIAL, Routine.REST, Routine.HOUSEWORK};
+    private static final int[] LEISURE_WEIGHTS = {3, 3, 2, 4, 1, 4, 2};
+
+    private final long seed;
+
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * 사용자 번호별 프로필 (시스템 카테고리 아래의 사용자 카테고리 트리와 활동 목록, 기록 습관)
+     */
+    public UserProfile user(int index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (index + 1) * USER_MIX);
+
+        List<CategorySpec> categories = new ArrayList<>();
+        List<ActivitySpec> activities = new ArrayList<>();
+        for (Routine routine : Routine.values()) {
+            List<String> categoryNames = new ArrayList<>();
+            categoryNames.add(routine.systemCategory);
+            for (String name : pick(random, routine.subcategories, random.nextInt(routine.subcategories.length + 1))) {
+                categories.add(new CategorySpec(name, COLORS[random.nextInt(COLORS.length)], routine.systemCategory));
+                categoryNames.add(name);
+            }
+            // 루틴마다 최소 한 개의 활동이 있어야 하루 일정을 채울 수 있음
+            int activityCount = 1 + random.nextInt(routine.activities.length);
+            for (String name : pick(random, routine.activities, activityCount)) {
+                activities.add(new ActivitySpec(name, categoryNames.get(random.nextInt(categoryNames.size())), routine));
+            }
+        }
+
+        return new UserProfile(index,
+                String.format("seed%05d@lifelogix.dev", index),
+                String.format("seed%05d", index),
+                categories,
+                activities,
+                0.4 + random.nextDouble() * 0.55,
+                0.6 + random.nextDouble() * 0.38);
+    }
+
+    /**
+     * 하루치 계획/실제 슬롯 (슬롯별 활동 인덱스, 기록이 없으면 EMPTY)
+     * 계획은 출퇴근/식사/수면 틀 위에 자유 시간을 채운 일정이고, 실제는 그 일정에서 취침/기상 시각과 일부 자유 시간이 어긋난 기록
+     */
+    public DayPlan day(UserProfile user, LocalDate date) {
+        SplittableRandom random = new SplittableRandom(seed ^ (user.index() + 1) * USER_MIX ^ (date.toEpochDay() + 1) * DAY_MIX);
+        int[] routine = schedule(random, date);
+
+        int[] plan = new int[SLOTS_PER_DAY];
+        int[] actual = new int[SLOTS_PER_DAY];
+        Arrays.fill(plan, EMPTY);
+        Arrays.fill(actual, EMPTY);
+        boolean planned = random.nextDouble() < user.planningRate();
+        boolean logged = random.nextDouble() < user.loggingRate();
+        if (planned) {
+            fill(random, user, routine, plan);
+        }
+        if (logged) {
+            fill(random, user, deviate(random, routine), actual);
+            if (planned) {
+                // 계획대로 지낸 슬롯은 대부분 계획과 같은 활동으로 기록함
+                for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                    if (routine[slot] == routineOf(user, actual[slot]) && random.nextInt(10) < 8) {
+                        actual[slot] = plan[slot];
+                    }
+                }
+            }
+            // 기록을 빠뜨린 슬롯
+            for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+                if (random.nextInt(20) == 0) {
+                    actual[slot] = EMPTY;
+                }
+            }
+        }
+        return new DayPlan(date, plan, actual);
+    }
+
+    /**
+     * 슬롯별 루틴 (Routine ordinal)
+     */
+    private int[] schedule(SplittableRandom random, LocalDate date) {
+        int[] slots = new int[SLOTS_PER_DAY];
+        boolean workday = date.getDayOfWeek().getValue() <= DayOfWeek.FRIDAY.getValue() && random.nextInt(20) != 0;
+        int wake = workday ? 13 + random.nextInt(3) : 15 + random.nextInt(5);
+        int sleep = 45 + random.nextInt(3);
+
+        Arrays.fill(slots, Routine.SLEEP.ordinal());
+        int slot = wake;
+        slot = block(slots, slot, 1, Routine.GROOMING);
+        slot = block(slots, slot, 1, Routine.MEAL);
+        if (workday) {
+            slot = block(slots, slot, 2, Routine.COMMUTE);
+            slot = block(slots, slot, 24 - slot, Routine.WORK);
+            slot = block(slots, slot, 2, Routine.MEAL);
+            slot = block(slots, slot, 36 - slot, Routine.WORK);
+            slot = block(slots, slot, 2, Routine.COMMUTE);
+        } else {
+            slot = leisure(random, slots, slot, 24);
+            slot = block(slots, slot, 2, Routine.MEAL);
+            slot = leisure(random, slots, slot, 37);
+        }
+        slot = block(slots, slot, 2, Routine.MEAL);
+        leisure(random, slots, slot, sleep);
+        return slots;
+    }
+
+    /**
+     * 실제 기록: 취침/기상이 한두 슬롯 어긋나고, 자유 시간 일부가 휴식이나 취미로 바뀜
+     */
+    private int[] deviate(SplittableRandom random, int[] routine) {
+        int[] slots = routine.clone();
+        int shift = random.nextInt(5) - 2;
+        for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+            boolean asleep = routine[slot] == Routine.SLEEP.ordinal();
+            int shifted = Math.max(0, Math.min(SLOTS_PER_DAY - 1, slot - shift));
+            if (asleep != (routine[shifted] == Routine.SLEEP.ordinal())) {
+                slots[slot] = routine[shifted];
+            }
+        }
+        for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+            if (isLeisure(slots[slot]) && random.nextInt(4) == 0) {
+                int length = 1 + random.nextInt(3);
+                Routine replacement = random.nextBoolean() ? Routine.REST : Routine.HOBBY;
+                for (int i = slot; i < Math.min(slot + length, SLOTS_PER_DAY) && isLeisure(slots[i]); i++) {
+                    slots[i] = replacement.ordinal();
+                }
+                slot += length;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * 루틴마다 사용자의 해당 루틴 활동 중 하나를 고름 (연속된 같은 루틴은 같은 활동, 앞쪽 활동을 더 자주 고름)
+     */
+    private void fill(SplittableRandom random, UserProfile user, int[] routine, int[] activities) {
+        int previousRoutine = EMPTY;
+        int activity = EMPTY;
+        for (int slot = 0; slot < SLOTS_PER_DAY; slot++) {
+            if (routine[slot] != previousRoutine) {
+                int[] candidates = user.activitiesOf(Routine.values()[routine[slot]]);
+                activity = candidates[Math.min(random.nextInt(candidates.length), random.nextInt(candidates.length))];
+                previousRoutine = routine[slot];
+            }
+            activities[slot] = activity;
+        }
+    }
+
+    private int leisure(SplittableRandom random, int[] slots, int from, int to) {
+        int slot = from;
+        while (slot < to) {
+            slot = block(slots, slot, Math.min(2 + random.nextInt(3), to - slot), weighted(random));
+        }
+        return slot;
+    }
+
+    private static int block(int[] slots, int from, int length, Routine routine) {
+        int to = Math.min(from + Math.max(length, 0), SLOTS_PER_DAY);
+        Arrays.fill(slots, from, to, routine.ordinal());
+        return to;
+    }
+
+    private static Routine weighted(SplittableRandom random) {
+        int total = Arrays.stream(LEISURE_WEIGHTS).sum();
+        int value = random.nextInt(total);
+        for (int i = 0; i < LEISURE.length; i++) {
+            value -= LEISURE_WEIGHTS[i];
+            if (value < 0) {
+                return LEISURE[i];
+            }
+        }
+        return Routine.REST;
+    }
+
+    private static boolean isLeisure(int routine) {
+        for (Routine leisure : LEISURE) {
+            if (leisure.ordinal() == routine) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int routineOf(UserProfile user, int activity) {
+        return activity == EMPTY ? EMPTY : user.activities().get(activity).routine().ordinal();
+    }
+
+    private static List<String> pick(SplittableRandom random, String[] names, int count) {
+        List<String> shuffled = new ArrayList<>(Arrays.asList(names));
+        for (int i = shuffled.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            shuffled.set(j, shuffled.set(i, shuffled.get(j)));
+        }
+        return shuffled.subList(0, count);
+    }
+
+    /**
+     * 하루 일정의 단위 (DataInitializer의 시스템 카테고리와 1:1로 대응)
+     */
+    public enum Routine {
+        SLEEP("수면", new String[]{"밤잠", "낮잠"}, new String[]{}),
+        MEAL("식사", new String[]{"아침 식사", "점심 식사", "저녁 식사", "간식"}, new String[]{"외식"}),
+        GROOMING("개인정비", new String[]{"샤워", "세면", "옷 정리"}, new String[]{}),
+        COMMUTE("이동", new String[]{"지하철", "버스", "운전", "도보"}, new String[]{"출퇴근"}),
+        WORK("직장/학교", new String[]{"업무", "회의", "수업", "과제", "메일 정리"}, new String[]{"프로젝트", "사내 교육"}),
+        HOUSEWORK("가사", new String[]{"청소", "빨래", "요리", "장보기"}, new String[]{}),
+        STUDY("학습", new String[]{"영어 공부", "독서", "온라인 강의", "코딩 공부"}, new String[]{"어학", "자격증"}),
+        EXERCISE("운동", new String[]{"달리기", "헬스", "요가", "수영", "자전거"}, new String[]{"유산소", "근력"}),
+        SELF_DEVELOPMENT("자기계발", new String[]{"글쓰기", "사이드 프로젝트", "명상"}, new String[]{"블로그"}),
+        HOBBY("취미/오락", new String[]{"게임", "영화", "음악 감상", "그림"}, new String[]{"게임", "영상"}),
+        SOCIAL("사회 활동", new String[]{"친구 만남", "가족 모임", "동호회"}, new String[]{"모임"}),
+        REST("휴식", new String[]{"휴식", "산책", "유튜브"}, new String[]{});
+
+        private final String systemCategory;
+        private final String[] activities;
+        private final String[] subcategories;
+
+        Routine(String systemCategory, String[] activities, String[] subcategories) {
+            this.systemCategory = systemCategory;
+            this.activities = activities;
+            this.subcategories = subcategories;
+        }
+
+        public String systemCategory() {
+            return systemCategory;
+        }
+    }
+
+    /**
+     * 사용자 카테고리 (parentName은 시스템 카테고리 이름)
+     */
+    public record CategorySpec(String name, String color, String parentName) {
+    }
+
+    /**
+     * 활동 (categoryName은 시스템 카테고리 또는 사용자 카테고리 이름)
+     */
+    public record ActivitySpec(String name, String categoryName, Routine routine) {
+    }
+
+    /**
+     * planningRate: 계획을 세우는 날의 비율, loggingRate: 실제 기록을 남기는 날의 비율
+     */
+    public record UserProfile(int index, String email, String nickname, List<CategorySpec> categories,
+                              List<ActivitySpec> activities, double planningRate, double loggingRate) {
+
+        int[] activitiesOf(Routine routine) {
+            int[] indexes = new int[activities.size()];
+            int count = 0;
+            for (int i = 0; i < activities.size(); i++) {
+                if (activities.get(i).routine() == routine) {
+                    indexes[count++] = i;
+                }
+            }
+            return Arrays.copyOf(indexes, count);
+        }
+    }
+
+    /**
+     * 하루치 슬롯 (배열 인덱스가 슬롯 번호, 값은 UserProfile.activities의 인덱스)
+     */
+    public record DayPlan(LocalDate date, int[] plan, int[] actual) {
+    }
+}
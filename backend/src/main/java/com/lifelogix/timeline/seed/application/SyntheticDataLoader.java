@@ -0,0 +1,215 @@
+package com.lifelogix.timeline.seed.application;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.application.TimeBlockPartitionService;
+import com.lifelogix.timeline.core.domain.HybridTimestamp;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.ActivitySpec;
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.CategorySpec;
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.DayPlan;
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.UserProfile;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 합성 데이터를 DB에 적재 (DataInitializer의 시스템 카테고리가 먼저 있어야 함)
+ * 사용자/카테고리/활동은 사용자마다 JPA로 저장하고, 양이 많은 타임블록은 사용자-월 단위 트랜잭션에서 JDBC 배치 INSERT로 적재
+ * 같은 이메일의 사용자가 이미 있으면 그 사용자의 마지막 적재 날짜 다음 날부터 이어서 적재하므로, 같은 시드로 다시 실행하면 중단된 사용자와 부족한 사용자만 채워짐
+ * 사용자-월 트랜잭션이 커밋된 날짜까지만 남고 하루는 항상 계획 블록이 있으므로 마지막 날짜가 이어서 적재할 기준이 됨
+ * 이미 적재된 날짜보다 앞선 기간은 채우지 않으며, 다른 시드로 만든 사용자처럼 활동 목록이 맞지 않으면 건너뜀
+ */
+@Component
+@RequiredArgsConstructor
+public class SyntheticDataLoader {
+
+    // 적재된 사용자는 이 비밀번호로 로그인할 수 있음
+    public static final String PASSWORD = "Seed1234!";
+    static final int BATCH_SIZE = 1_000;
+    private static final String INSERT_TIME_BLOCK = """
+            INSERT INTO time_block (id, user_id, activity_id, date, start_time, type, hlc)
+            VALUES (nextval('time_block_seq'), ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String SELECT_LAST_LOADED_DATE = "SELECT MAX(date) FROM time_block WHERE user_id = ?";
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataLoader.class);
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final ActivityRepository activityRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final PasswordEncoder passwordEncoder;
+    private final TimeBlockPartitionService partitionService;
+
+    /**
+     * 0번부터 users명의 사용자와 from ~ to(포함) 기간의 타임블록을 적재
+     */
+    public Result load(SyntheticDataGenerator generator, int users, LocalDate from, LocalDate to) {
+        Map<String, Category> systemCategories = categoryRepository.findByUserIsNull().stream()
+                .collect(Collectors.toMap(Category::getName, Function.identity()));
+        if (systemCategories.isEmpty()) {
+            throw new IllegalStateException("시스템 카테고리가 없습니다. DataInitializer 실행 후 적재해야 합니다.");
+        }
+        // 과거 기간의 행이 기본 파티션에 쌓이지 않도록 적재 기간의 월 파티션을 먼저 생성
+        partitionService.ensureMonths(from, to);
+
+        // BCrypt는 의도적으로 느리므로 한 번만 인코딩해 모든 사용자에게 사용
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Result total = new Result(0, 0, 0, 0);
+        for (int index = 0; index < users; index++) {
+            UserProfile profile = generator.user(index);
+            Optional<User> existing = userRepository.findByEmail(profile.email());
+            if (existing.isPresent()) {
+                total = total.plus(resume(transactionTemplate, generator, profile, existing.get().getId(), from, to));
+                continue;
+            }
+            Catalog catalog = transactionTemplate.execute(status -> saveCatalog(profile, systemCategories, encodedPassword));
+            long timeBlocks = saveTimeBlocks(transactionTemplate, generator, profile, catalog, from, to);
+            total = total.plus(new Result(1, profile.categories().size(), profile.activities().size(), timeBlocks));
+            log.info("[Backend|SyntheticDataLoader] Load - Loaded user {}/{} ({} time blocks)", index + 1, users, timeBlocks);
+        }
+        log.info("[Backend|SyntheticDataLoader] Load - Success from {} to {}. {}", from, to, total);
+        return total;
+    }
+
+    /**
+     * 이미 있는 사용자의 타임블록을 마지막 적재 날짜 다음 날부터 to까지 이어서 적재
+     */
+    private Result resume(TransactionTemplate transactionTemplate, SyntheticDataGenerator generator, UserProfile profile,
+                          Long userId, LocalDate from, LocalDate to) {
+        LocalDate lastLoaded = jdbcTemplate.queryForObject(SELECT_LAST_LOADED_DATE, LocalDate.class, userId);
+        LocalDate start = lastLoaded == null || lastLoaded.isBefore(from) ? from : lastLoaded.plusDays(1);
+        if (start.isAfter(to)) {
+            log.info("[Backend|SyntheticDataLoader] Load - Skipped fully loaded user: {}", profile.email());
+            return new Result(0, 0, 0, 0);
+        }
+        Optional<Catalog> catalog = findCatalog(profile, userId);
+        if (catalog.isEmpty()) {
+            log.warn("[Backend|SyntheticDataLoader] Load - Skipped existing user with different activities: {}", profile.email());
+            return new Result(0, 0, 0, 0);
+        }
+        long timeBlocks = saveTimeBlocks(transactionTemplate, generator, profile, catalog.get(), start, to);
+        log.info("[Backend|SyntheticDataLoader] Load - Resumed user {} from {} ({} time blocks)", profile.email(), start, timeBlocks);
+        return new Result(0, 0, 0, timeBlocks);
+    }
+
+    /**
+     * 이미 저장된 활동을 (카테고리 이름, 활동 이름)으로 찾아 UserProfile.activities 순서로 맞춤 (하나라도 없으면 빈 값)
+     */
+    private Optional<Catalog> findCatalog(UserProfile profile, Long userId) {
+        Map<String, Long> saved = activityRepository.findByUserIdOrderByCategory(userId).stream()
+                .collect(Collectors.toMap(activity -> activity.getCategory().getName() + "/" + activity.getName(),
+                        Activity::getId, (first, second) -> first));
+        List<Long> activityIds = new ArrayList<>(profile.activities().size());
+        for (ActivitySpec spec : profile.activities()) {
+            Long activityId = saved.get(spec.categoryName() + "/" + spec.name());
+            if (activityId == null) {
+                return Optional.empty();
+            }
+            activityIds.add(activityId);
+        }
+        return Optional.of(new Catalog(userId, activityIds));
+    }
+
+    private Catalog saveCatalog(UserProfile profile, Map<String, Category> systemCategories, String encodedPassword) {
+        User user = userRepository.save(User.builder()
+                .email(profile.email())
+                .password(encodedPassword)
+                .nickname(profile.nickname())
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .build());
+
+        Map<String, Category> categories = new HashMap<>(systemCategories);
+        for (CategorySpec spec : profile.categories()) {
+            categories.put(spec.name(), new Category(spec.name(), spec.color(), user, systemCategories.get(spec.parentName())));
+        }
+        categoryRepository.saveAll(categories.values().stream()
+                .filter(category -> category.getUser() != null)
+                .toList());
+
+        List<Activity> activities = new ArrayList<>(profile.activities().size());
+        for (ActivitySpec spec : profile.activities()) {
+            activities.add(new Activity(spec.name(), user, categories.get(spec.categoryName())));
+        }
+        List<Long> activityIds = activityRepository.saveAll(activities).stream()
+                .map(Activity::getId)
+                .toList();
+        return new Catalog(user.getId(), activityIds);
+    }
+
+    private long saveTimeBlocks(TransactionTemplate transactionTemplate, SyntheticDataGenerator generator, UserProfile profile,
+                                Catalog catalog, LocalDate from, LocalDate to) {
+        long saved = 0;
+        for (LocalDate month = from.withDayOfMonth(1); !month.isAfter(to); month = month.plusMonths(1)) {
+            LocalDate start = month.isBefore(from) ? from : month;
+            LocalDate end = month.plusMonths(1).isAfter(to) ? to.plusDays(1) : month.plusMonths(1);
+            List<Object[]> rows = new ArrayList<>();
+            for (LocalDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+                DayPlan day = generator.day(profile, date);
+                // 기록 시각은 해당 날짜가 끝날 때로 둠 (병합 판정에서 이후 편집보다 항상 오래된 값)
+                long hlc = HybridTimestamp.of(date.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli(), 0);
+                addRows(rows, catalog, date, TimeBlockType.PLAN, day.plan(), hlc);
+                addRows(rows, catalog, date, TimeBlockType.ACTUAL, day.actual(), hlc);
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_TIME_BLOCK, rows, BATCH_SIZE, (statement, row) -> {
+                        for (int i = 0; i < row.length; i++) {
+                            statement.setObject(i + 1, row[i]);
+                        }
+                    }));
+            saved += rows.size();
+        }
+        return saved;
+    }
+
+    private void addRows(List<Object[]> rows, Catalog catalog, LocalDate date, TimeBlockType type, int[] slots, long hlc) {
+        for (int slot = 0; slot < slots.length; slot++) {
+            if (slots[slot] != SyntheticDataGenerator.EMPTY) {
+                LocalTime startTime = LocalTime.MIN.plusMinutes((long) slot * TimeBlock.SLOT_MINUTES);
+                rows.add(new Object[]{catalog.userId(), catalog.activityIds().get(slots[slot]), date, startTime, type.name(), hlc});
+            }
+        }
+    }
+
+    /**
+     * 적재된 사용자의 ID와 UserProfile.activities 순서대로 저장된 활동 ID
+     */
+    private record Catalog(Long userId, List<Long> activityIds) {
+    }
+
+    /**
+     * 새로 적재한 행 수 (이어서 적재한 기존 사용자는 타임블록만 포함)
+     */
+    public record Result(int users, int categories, int activities, long timeBlocks) {
+        Result plus(Result other) {
+            return new Result(users + other.users, categories + other.categories,
+                    activities + other.activities, timeBlocks + other.timeBlocks);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.lifelogix.timeline.seed.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "timeline.seed")
+public class SyntheticDataProperties {
+    // 생성기 시드 (같은 시드면 같은 데이터)
+    private long seed = 42;
+    // 적재할 사용자 수
+    private int users = 100;
+    // 사용자마다 적재할 기록 기간(년)
+    private int years = 2;
+    // 기록 기간의 마지막 날 (비우면 어제)
+    private LocalDate endDate;
+    // 적재가 끝나면 애플리케이션을 종료 (CLI 실행용)
+    private boolean exitOnCompletion = true;
+}
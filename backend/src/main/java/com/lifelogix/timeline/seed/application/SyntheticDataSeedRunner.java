@@ -0,0 +1,45 @@
+package com.lifelogix.timeline.seed.application;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * seed 프로필로 실행하면 기동 직후 합성 데이터를 적재 (DataInitializer 등 ApplicationRunner가 끝난 뒤 실행됨)
+ * ./gradlew bootRun --args='--spring.profiles.active=local,seed --timeline.seed.users=1000 --timeline.seed.years=3'
+ */
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class SyntheticDataSeedRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataSeedRunner.class);
+    private final SyntheticDataLoader syntheticDataLoader;
+    private final SyntheticDataProperties seedProperties;
+    private final ApplicationContext applicationContext;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        LocalDate to = seedProperties.getEndDate() == null ? LocalDate.now().minusDays(1) : seedProperties.getEndDate();
+        LocalDate from = to.minusYears(seedProperties.getYears()).plusDays(1);
+        log.info("[Backend|SyntheticDataSeedRunner] SeedOnStartup - Loading {} users from {} to {} with seed {}",
+                seedProperties.getUsers(), from, to, seedProperties.getSeed());
+
+        long startedAt = System.nanoTime();
+        SyntheticDataLoader.Result result = syntheticDataLoader.load(
+                new SyntheticDataGenerator(seedProperties.getSeed()), seedProperties.getUsers(), from, to);
+        log.info("[Backend|SyntheticDataSeedRunner] SeedOnStartup - Success in {} ms. {}", (System.nanoTime() - startedAt) / 1_000_000, result);
+
+        if (seedProperties.isExitOnCompletion()) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+}
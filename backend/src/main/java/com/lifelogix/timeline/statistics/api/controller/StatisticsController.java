@@ -0,0 +1,53 @@
+package com.lifelogix.timeline.statistics.api.controller;
+
+import com.lifelogix.timeline.statistics.api.dto.response.AdherenceResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.StatisticsResponse;
+import com.lifelogix.timeline.statistics.application.AdherenceService;
+import com.lifelogix.timeline.statistics.application.StatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+
+    private static final Logger log = LoggerFactory.getLogger(StatisticsController.class);
+    private final StatisticsService statisticsService;
+    private final AdherenceService adherenceService;
+
+    /**
+     * 기간(from ~ to) 내 카테고리/활동별 계획·실제 시간 합계를 조회
+     */
+    @GetMapping
+    public ResponseEntity<StatisticsResponse> getStatistics(
+            Principal principal,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|StatisticsController] GetStatistics - Received request from userId: {} from: {} to: {}", userId, from, to);
+        return ResponseEntity.ok(statisticsService.getStatistics(userId, from, to));
+    }
+
+    /**
+     * 기간(from ~ to) 내 일별/카테고리별 계획 대비 실행률을 조회
+     */
+    @GetMapping("/adherence")
+    public ResponseEntity<AdherenceResponse> getAdherence(
+            Principal principal,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|StatisticsController] GetAdherence - Received request from userId: {} from: {} to: {}", userId, from, to);
+        return ResponseEntity.ok(adherenceService.getAdherence(userId, from, to));
+    }
+}
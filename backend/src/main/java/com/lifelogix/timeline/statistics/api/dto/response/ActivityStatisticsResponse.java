@@ -0,0 +1,8 @@
+package com.lifelogix.timeline.statistics.api.dto.response;
+
+public record ActivityStatisticsResponse(
+        Long activityId,
+        String name,
+        long plannedMinutes,
+        long actualMinutes
+) {}
@@ -0,0 +1,15 @@
+package com.lifelogix.timeline.statistics.api.dto.response;
+
+/**
+ * matchRate: 계획 시간 중 같은 활동으로 실행된 비율 (0 ~ 1, 계획이 없으면 null)
+ * skippedMinutes: 계획했지만 실행하지 않았거나 다른 활동을 한 시간
+ * unplannedMinutes: 계획 없이 했거나 계획과 다른 활동을 한 시간
+ */
+public record AdherenceMetricsResponse(
+        long plannedMinutes,
+        long actualMinutes,
+        long matchedMinutes,
+        long skippedMinutes,
+        long unplannedMinutes,
+        Double matchRate
+) {}
@@ -0,0 +1,12 @@
+package com.lifelogix.timeline.statistics.api.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record AdherenceResponse(
+        LocalDate from,
+        LocalDate to,
+        AdherenceMetricsResponse total,
+        List<DailyAdherenceResponse> days,
+        List<CategoryAdherenceResponse> categories
+) {}
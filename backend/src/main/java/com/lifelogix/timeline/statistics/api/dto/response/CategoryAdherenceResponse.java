@@ -0,0 +1,8 @@
+package com.lifelogix.timeline.statistics.api.dto.response;
+
+public record CategoryAdherenceResponse(
+        Long categoryId,
+        String name,
+        String color,
+        AdherenceMetricsResponse adherence
+) {}
@@ -0,0 +1,12 @@
+package com.lifelogix.timeline.statistics.api.dto.response;
+
+import java.util.List;
+
+public record CategoryStatisticsResponse(
+        Long categoryId,
+        String name,
+        String color,
+        long plannedMinutes,
+        long actualMinutes,
+        List<ActivityStatisticsResponse> activities
+) {}
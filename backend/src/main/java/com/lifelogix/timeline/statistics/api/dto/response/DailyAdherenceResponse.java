@@ -0,0 +1,8 @@
+package com.lifelogix.timeline.statistics.api.dto.response;
+
+import java.time.LocalDate;
+
+public record DailyAdherenceResponse(
+        LocalDate date,
+        AdherenceMetricsResponse adherence
+) {}
@@ -0,0 +1,12 @@
+package com.lifelogix.timeline.statistics.api.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record StatisticsResponse(
+        LocalDate from,
+        LocalDate to,
+        long plannedMinutes,
+        long actualMinutes,
+        List<CategoryStatisticsResponse> categories
+) {}
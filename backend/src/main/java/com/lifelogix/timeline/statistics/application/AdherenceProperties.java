@@ -0,0 +1,18 @@
+package com.lifelogix.timeline.statistics.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "timeline.adherence")
+public class AdherenceProperties {
+    // 지난 주(종료된 주)의 계산 결과를 보관할 최대 (사용자, 주) 항목 수
+    private long cacheMaximumSize = 10_000;
+    private Duration cacheTtl = Duration.ofHours(6);
+}
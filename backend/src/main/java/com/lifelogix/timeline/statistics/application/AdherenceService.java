@@ -0,0 +1,157 @@
+package com.lifelogix.timeline.statistics.application;
+
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockSlot;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.statistics.api.dto.response.AdherenceResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.CategoryAdherenceResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.DailyAdherenceResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class AdherenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(AdherenceService.class);
+    private static final int MAX_RANGE_DAYS = 366;
+    private final TimeBlockRepository timeBlockRepository;
+    private final AdherenceWeekCache weekCache;
+
+    /**
+     * 기간 내 일별/카테고리별 계획 대비 실행률
+     * 종료된 주는 캐시에서 가져오고, 나머지 날짜는 한 번의 조회로 (date, startTime) 순 슬롯을 읽어 단일 순회로 비교함
+     */
+    public AdherenceResponse getAdherence(Long userId, LocalDate from, LocalDate to) {
+        log.info("[Backend|AdherenceService] GetAdherence - Attempt for userId: {} from: {} to: {}", userId, from, to);
+        validateDateRange(from, to);
+
+        LocalDate currentWeek = AdherenceWeekCache.weekStart(LocalDate.now());
+        Map<LocalDate, DailyAdherence> days = new HashMap<>();
+        List<LocalDate> uncachedClosedWeeks = new ArrayList<>();
+        int cachedWeeks = 0;
+        LocalDate loadFrom = null;
+        LocalDate loadTo = null;
+        for (LocalDate week = AdherenceWeekCache.weekStart(from); !week.isAfter(to); week = week.plusWeeks(1)) {
+            LocalDate weekEnd = week.plusDays(6);
+            if (week.isBefore(currentWeek)) {
+                List<DailyAdherence> cached = weekCache.get(userId, week);
+                if (cached != null) {
+                    cached.forEach(day -> days.put(day.date(), day));
+                    cachedWeeks++;
+                    continue;
+                }
+                // 캐시에 넣을 수 있도록 종료된 주는 요청 기간과 관계없이 한 주 전체를 읽음
+                uncachedClosedWeeks.add(week);
+                loadFrom = min(loadFrom, week);
+                loadTo = max(loadTo, weekEnd);
+            } else {
+                loadFrom = min(loadFrom, max(week, from));
+                loadTo = max(loadTo, min(weekEnd, to));
+            }
+        }
+
+        if (loadFrom != null) {
+            long generation = weekCache.generation(userId);
+            Map<LocalDate, DailyAdherence> loaded = compareSlots(timeBlockRepository.findSlotsByUserIdAndDateBetween(userId, loadFrom, loadTo));
+            for (LocalDate week : uncachedClosedWeeks) {
+                List<DailyAdherence> weekDays = week.datesUntil(week.plusWeeks(1))
+                        .filter(loaded::containsKey)
+                        .map(loaded::get)
+                        .toList();
+                weekCache.put(userId, week, weekDays, generation);
+            }
+            days.putAll(loaded);
+        }
+
+        AdherenceResponse response = toResponse(from, to, days);
+        log.info("[Backend|AdherenceService] GetAdherence - Success for userId: {}. Cached weeks: {}, Loaded: {} ~ {}", userId, cachedWeeks, loadFrom, loadTo);
+        return response;
+    }
+
+    /**
+     * (date, startTime) 순으로 정렬된 슬롯을 한 번 순회하며 같은 슬롯의 계획/실제를 짝지어 일별로 누적
+     */
+    private Map<LocalDate, DailyAdherence> compareSlots(List<TimeBlockSlot> slots) {
+        Map<LocalDate, DailyAdherence> days = new LinkedHashMap<>();
+        TimeBlockSlot plan = null;
+        TimeBlockSlot actual = null;
+        LocalDate date = null;
+        LocalTime startTime = null;
+        for (TimeBlockSlot slot : slots) {
+            if (!slot.date().equals(date) || !slot.startTime().equals(startTime)) {
+                recordSlot(days, plan, actual);
+                plan = null;
+                actual = null;
+                date = slot.date();
+                startTime = slot.startTime();
+            }
+            if (slot.type() == TimeBlockType.PLAN) {
+                plan = slot;
+            } else {
+                actual = slot;
+            }
+        }
+        recordSlot(days, plan, actual);
+        return days;
+    }
+
+    private void recordSlot(Map<LocalDate, DailyAdherence> days, TimeBlockSlot plan, TimeBlockSlot actual) {
+        if (plan == null && actual == null) {
+            return;
+        }
+        LocalDate date = plan != null ? plan.date() : actual.date();
+        days.computeIfAbsent(date, DailyAdherence::new).record(plan, actual);
+    }
+
+    private AdherenceResponse toResponse(LocalDate from, LocalDate to, Map<LocalDate, DailyAdherence> days) {
+        AdherenceTally total = new AdherenceTally();
+        Map<DailyAdherence.CategoryKey, AdherenceTally> categories = new LinkedHashMap<>();
+        List<DailyAdherenceResponse> dailyResponses = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DailyAdherence day = days.getOrDefault(date, new DailyAdherence(date));
+            total.add(day.total());
+            day.categories().forEach((key, tally) -> categories.computeIfAbsent(key, k -> new AdherenceTally()).add(tally));
+            dailyResponses.add(new DailyAdherenceResponse(date, day.total().toResponse()));
+        }
+
+        List<CategoryAdherenceResponse> categoryResponses = categories.entrySet().stream()
+                .map(entry -> new CategoryAdherenceResponse(
+                        entry.getKey().id(), entry.getKey().name(), entry.getKey().color(), entry.getValue().toResponse()))
+                .sorted(Comparator.comparingLong((CategoryAdherenceResponse category) -> category.adherence().plannedMinutes()).reversed()
+                        .thenComparing(CategoryAdherenceResponse::name))
+                .toList();
+        return new AdherenceResponse(from, to, total.toResponse(), dailyResponses, categoryResponses);
+    }
+
+    private void validateDateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            log.warn("[Backend|AdherenceService] ValidateDateRange - Failed: Invalid range from: {} to: {}", from, to);
+            throw new BusinessException(ErrorCode.INVALID_STATISTICS_RANGE);
+        }
+    }
+
+    private static LocalDate min(LocalDate current, LocalDate candidate) {
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    private static LocalDate max(LocalDate current, LocalDate candidate) {
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+}
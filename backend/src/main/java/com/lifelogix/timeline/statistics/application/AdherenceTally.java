@@ -0,0 +1,56 @@
+package com.lifelogix.timeline.statistics.application;
+
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.statistics.api.dto.response.AdherenceMetricsResponse;
+
+/**
+ * 계획/실제 비교 결과의 슬롯 수 누적
+ * 같은 슬롯의 계획과 실제 활동이 같으면 matched, 계획만 있거나 실제 활동이 다르면 skipped,
+ * 실제만 있거나 계획과 활동이 다르면 unplanned 로 집계 (활동이 다른 슬롯은 skipped와 unplanned 모두에 포함)
+ */
+class AdherenceTally {
+
+    private int planned;
+    private int actual;
+    private int matched;
+    private int skipped;
+    private int unplanned;
+
+    void recordPlan(boolean matched) {
+        planned++;
+        if (matched) {
+            this.matched++;
+        } else {
+            skipped++;
+        }
+    }
+
+    void recordActual(boolean matched) {
+        actual++;
+        if (!matched) {
+            unplanned++;
+        }
+    }
+
+    void add(AdherenceTally other) {
+        planned += other.planned;
+        actual += other.actual;
+        matched += other.matched;
+        skipped += other.skipped;
+        unplanned += other.unplanned;
+    }
+
+    AdherenceMetricsResponse toResponse() {
+        return new AdherenceMetricsResponse(
+                minutes(planned),
+                minutes(actual),
+                minutes(matched),
+                minutes(skipped),
+                minutes(unplanned),
+                planned == 0 ? null : (double) matched / planned);
+    }
+
+    private static long minutes(int slots) {
+        return (long) slots * TimeBlock.SLOT_MINUTES;
+    }
+}
@@ -0,0 +1,101 @@
+package com.lifelogix.timeline.statistics.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lifelogix.timeline.core.application.TimelineCache;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 종료된 주(월요일 ~ 일요일)의 일별 계획/실제 비교 결과를 (사용자, 주 시작일) 단위로 보관하는 로컬 캐시
+ * 지난 날짜도 수정될 수 있으므로 타임라인 변경 이벤트(로컬 커밋 이후 + 다른 인스턴스의 TimelineCache 무효화 메시지)로 해당 주를 무효화함
+ */
+@Component
+public class AdherenceWeekCache implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Key, List<DailyAdherence>> cache;
+    // 계산 중에 같은 사용자의 무효화가 일어났다면 계산 결과를 캐시에 넣지 않기 위한 사용자별 세대 번호
+    // (다른 사용자의 변경은 이 사용자의 계산 결과에 영향을 주지 않으므로 세대를 공유하지 않음)
+    private final Map<Long, Long> evictionGenerations = new ConcurrentHashMap<>();
+
+    public AdherenceWeekCache(RedisMessageListenerContainer listenerContainer, AdherenceProperties adherenceProperties) {
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(adherenceProperties.getCacheMaximumSize())
+                .expireAfterWrite(adherenceProperties.getCacheTtl())
+                .build();
+    }
+
+    @PostConstruct
+    void subscribeEvictions() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(TimelineCache.EVICTION_CHANNEL));
+    }
+
+    static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * 캐시된 주의 일별 결과 (기록이 있는 날만 포함), 없으면 null
+     */
+    List<DailyAdherence> get(Long userId, LocalDate weekStart) {
+        return cache.getIfPresent(new Key(userId, weekStart));
+    }
+
+    long generation(Long userId) {
+        return evictionGenerations.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * generation을 읽은 뒤 해당 사용자의 무효화가 없었을 때만 캐시에 넣음
+     * 세대 확인과 저장을 같은 키의 compute 안에서 하므로, 무효화(세대 증가 후 키 제거)와 엇갈려도 오래된 결과가 남지 않음
+     */
+    void put(Long userId, LocalDate weekStart, List<DailyAdherence> days, long generation) {
+        List<DailyAdherence> copy = List.copyOf(days);
+        cache.asMap().compute(new Key(userId, weekStart),
+                (key, current) -> generation(userId) == generation ? copy : current);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTimelineChanged(TimelineChangedEvent event) {
+        evict(event);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(TimelineChangedEvent.fromMessage(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+    private void evict(TimelineChangedEvent event) {
+        evictionGenerations.merge(event.userId(), 1L, Long::sum);
+        if (event.affectsAllDates()) {
+            cache.invalidateAll(cache.asMap().keySet().stream()
+                    .filter(key -> key.userId().equals(event.userId()))
+                    .toList());
+        } else {
+            cache.invalidateAll(event.dates().stream()
+                    .map(date -> new Key(event.userId(), weekStart(date)))
+                    .distinct()
+                    .toList());
+        }
+    }
+
+    private record Key(Long userId, LocalDate weekStart) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.lifelogix.timeline.statistics.application;
+
+import com.lifelogix.timeline.core.domain.TimeBlockSlot;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 하루의 계획/실제 비교 결과 (전체 + 카테고리별)
+ * 캐시에 저장된 뒤에는 변경하지 않으며, 기간 합산은 새 AdherenceTally에 더해서 만듦
+ */
+class DailyAdherence {
+
+    private final LocalDate date;
+    private final AdherenceTally total = new AdherenceTally();
+    private final Map<CategoryKey, AdherenceTally> categories = new LinkedHashMap<>();
+
+    DailyAdherence(LocalDate date) {
+        this.date = date;
+    }
+
+    /**
+     * 한 슬롯의 계획(plan)과 실제(actual)를 비교하여 누적 (둘 중 하나는 null일 수 있음)
+     */
+    void record(TimeBlockSlot plan, TimeBlockSlot actual) {
+        boolean matched = plan != null && actual != null && Objects.equals(plan.activityId(), actual.activityId());
+        if (plan != null) {
+            total.recordPlan(matched);
+            category(plan).recordPlan(matched);
+        }
+        if (actual != null) {
+            total.recordActual(matched);
+            category(actual).recordActual(matched);
+        }
+    }
+
+    LocalDate date() {
+        return date;
+    }
+
+    AdherenceTally total() {
+        return total;
+    }
+
+    Map<CategoryKey, AdherenceTally> categories() {
+        return categories;
+    }
+
+    private AdherenceTally category(TimeBlockSlot slot) {
+        return categories.computeIfAbsent(
+                new CategoryKey(slot.categoryId(), slot.categoryName(), slot.categoryColor()),
+                key -> new AdherenceTally());
+    }
+
+    record CategoryKey(Long id, String name, String color) {
+    }
+}
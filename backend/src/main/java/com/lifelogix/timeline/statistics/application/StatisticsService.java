@@ -0,0 +1,101 @@
+package com.lifelogix.timeline.statistics.application;
+
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.statistics.api.dto.response.ActivityStatisticsResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.CategoryStatisticsResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.StatisticsResponse;
+import com.lifelogix.timeline.statistics.domain.RollupTotal;
+import com.lifelogix.timeline.statistics.domain.TimeBlockDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class StatisticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatisticsService.class);
+    // 집계 테이블을 읽으므로 원본 타임라인 조회보다 긴 기간(최대 1년)을 허용
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final Comparator<CategoryStatisticsResponse> CATEGORY_ORDER =
+            Comparator.comparingLong(CategoryStatisticsResponse::actualMinutes).reversed()
+                    .thenComparing(Comparator.comparingLong(CategoryStatisticsResponse::plannedMinutes).reversed())
+                    .thenComparing(CategoryStatisticsResponse::name);
+    private static final Comparator<ActivityStatisticsResponse> ACTIVITY_ORDER =
+            Comparator.comparingLong(ActivityStatisticsResponse::actualMinutes).reversed()
+                    .thenComparing(Comparator.comparingLong(ActivityStatisticsResponse::plannedMinutes).reversed())
+                    .thenComparing(ActivityStatisticsResponse::name);
+    private final TimeBlockDailyRollupRepository rollupRepository;
+
+    /**
+     * 기간 내 카테고리/활동별 계획·실제 시간(분) 합계
+     * time_block 대신 일별 집계 테이블을 읽으므로 조회 비용이 블록 수가 아닌 날짜 수에 비례
+     */
+    public StatisticsResponse getStatistics(Long userId, LocalDate from, LocalDate to) {
+        log.info("[Backend|StatisticsService] GetStatistics - Attempt for userId: {} from: {} to: {}", userId, from, to);
+        validateDateRange(from, to);
+
+        List<RollupTotal> totals = rollupRepository.sumByUserIdAndDateBetween(userId, from, to);
+        Map<Long, List<RollupTotal>> totalsByCategory = totals.stream()
+                .collect(Collectors.groupingBy(RollupTotal::categoryId, LinkedHashMap::new, Collectors.toList()));
+        List<CategoryStatisticsResponse> categories = totalsByCategory.values().stream()
+                .map(this::toCategoryStatistics)
+                .sorted(CATEGORY_ORDER)
+                .toList();
+
+        log.info("[Backend|StatisticsService] GetStatistics - Success for userId: {}. Found {} categories.", userId, categories.size());
+        return new StatisticsResponse(from, to,
+                categories.stream().mapToLong(CategoryStatisticsResponse::plannedMinutes).sum(),
+                categories.stream().mapToLong(CategoryStatisticsResponse::actualMinutes).sum(),
+                categories);
+    }
+
+    private CategoryStatisticsResponse toCategoryStatistics(List<RollupTotal> totals) {
+        Map<Long, List<RollupTotal>> totalsByActivity = totals.stream()
+                .collect(Collectors.groupingBy(RollupTotal::activityId, LinkedHashMap::new, Collectors.toList()));
+        List<ActivityStatisticsResponse> activities = totalsByActivity.values().stream()
+                .map(activityTotals -> new ActivityStatisticsResponse(
+                        activityTotals.get(0).activityId(),
+                        activityTotals.get(0).activityName(),
+                        minutesOf(activityTotals, TimeBlockType.PLAN),
+                        minutesOf(activityTotals, TimeBlockType.ACTUAL)))
+                .sorted(ACTIVITY_ORDER)
+                .toList();
+        RollupTotal first = totals.get(0);
+        return new CategoryStatisticsResponse(
+                first.categoryId(),
+                first.categoryName(),
+                first.categoryColor(),
+                minutesOf(totals, TimeBlockType.PLAN),
+                minutesOf(totals, TimeBlockType.ACTUAL),
+                activities);
+    }
+
+    private long minutesOf(List<RollupTotal> totals, TimeBlockType type) {
+        return totals.stream()
+                .filter(total -> total.type() == type)
+                .mapToLong(RollupTotal::slotCount)
+                .sum() * TimeBlock.SLOT_MINUTES;
+    }
+
+    private void validateDateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            log.warn("[Backend|StatisticsService] ValidateDateRange - Failed: Invalid range from: {} to: {}", from, to);
+            throw new BusinessException(ErrorCode.INVALID_STATISTICS_RANGE);
+        }
+    }
+}
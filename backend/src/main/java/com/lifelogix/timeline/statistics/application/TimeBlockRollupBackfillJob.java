@@ -0,0 +1,115 @@
+package com.lifelogix.timeline.statistics.application;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 기존 time_block 이력으로 time_block_daily_rollup을 월 단위로 나누어 병렬로 재계산 (PostgreSQL 전용)
+ * 월마다 별도 트랜잭션에서 해당 월의 time_block 파티션을 SHARE 모드로 잠근 뒤 집계를 지우고 다시 INSERT ... SELECT 함
+ * 재계산 중에는 해당 월의 쓰기가 대기하므로(다른 월의 쓰기는 막지 않음), 트리거 변경분과 재계산 결과가 이중으로 더해지지 않음
+ */
+@Component
+@ConditionalOnProperty(prefix = "timeline.rollup", name = "backfill-on-startup", havingValue = "true")
+@RequiredArgsConstructor
+public class TimeBlockRollupBackfillJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TimeBlockRollupBackfillJob.class);
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final TimeBlockRollupProperties rollupProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        backfill();
+    }
+
+    /**
+     * 전체 이력을 재계산하고, 생성된 집계 행 수를 반환
+     */
+    public int backfill() {
+        Map<String, Object> bounds = jdbcTemplate.queryForMap("SELECT MIN(date) AS min_date, MAX(date) AS max_date FROM time_block");
+        if (bounds.get("min_date") == null) {
+            log.info("[Backend|TimeBlockRollupBackfillJob] Backfill - Skipped: No time blocks");
+            return 0;
+        }
+        LocalDate firstMonth = ((Date) bounds.get("min_date")).toLocalDate().withDayOfMonth(1);
+        LocalDate lastMonth = ((Date) bounds.get("max_date")).toLocalDate().withDayOfMonth(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(rollupProperties.getBackfillParallelism());
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (LocalDate month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                LocalDate target = month;
+                results.add(executor.submit(() -> rebuildMonth(target)));
+            }
+            int rows = 0;
+            for (Future<Integer> result : results) {
+                rows += result.get();
+            }
+            log.info("[Backend|TimeBlockRollupBackfillJob] Backfill - Success from {} to {}. Rollup rows: {}", firstMonth, lastMonth, rows);
+            return rows;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("집계 재계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("집계 재계산에 실패했습니다.", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 한 달치 집계를 단일 트랜잭션에서 재계산 (date 조건으로 해당 월 파티션만 읽음)
+     * 트랜잭션 처음에 잠금을 잡으므로, 진행 중이던 해당 월의 쓰기가 커밋될 때까지 기다린 뒤 그 결과까지 포함해 계산함
+     */
+    public int rebuildMonth(LocalDate month) {
+        LocalDate start = month.withDayOfMonth(1);
+        LocalDate end = start.plusMonths(1);
+        Integer rows = new TransactionTemplate(transactionManager).execute(status -> {
+            lockMonth(start);
+            jdbcTemplate.update("DELETE FROM time_block_daily_rollup WHERE date >= ? AND date < ?", start, end);
+            return jdbcTemplate.update("""
+                            INSERT INTO time_block_daily_rollup (user_id, date, activity_id, type, category_id, slot_count)
+                            SELECT tb.user_id, tb.date, tb.activity_id, tb.type, a.category_id, COUNT(*)
+                            FROM time_block tb
+                                     JOIN activity a ON a.id = tb.activity_id
+                            WHERE tb.date >= ? AND tb.date < ?
+                            GROUP BY tb.user_id, tb.date, tb.activity_id, tb.type, a.category_id
+                            """,
+                    start, end);
+        });
+        log.info("[Backend|TimeBlockRollupBackfillJob] RebuildMonth - Rebuilt {}. Rollup rows: {}", start, rows);
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * 해당 월의 행이 들어있는 파티션(월 파티션이 아직 없으면 기본 파티션)을 SHARE 모드로 잠가 쓰기를 막음
+     * 월 파티션이 만들어지면 기본 파티션의 해당 월 행은 모두 옮겨지므로, 두 파티션 중 하나만 잠그면 됨
+     * 잠글 파티션을 고른 뒤 파티션이 새로 만들어지지 않도록 create_time_block_partition의 advisory 잠금을 공유 모드로 잡음
+     */
+    private void lockMonth(LocalDate start) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock_shared(hashtext('create_time_block_partition'))");
+        String partition = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(to_regclass(?), 'time_block_default'::regclass)::text",
+                String.class, String.format("time_block_p%d%02d", start.getYear(), start.getMonthValue()));
+        jdbcTemplate.execute("LOCK TABLE " + partition + " IN SHARE MODE");
+    }
+}
@@ -0,0 +1,17 @@
+package com.lifelogix.timeline.statistics.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "timeline.rollup")
+public class TimeBlockRollupProperties {
+    // 기동 시 기존 time_block 이력으로 집계 테이블을 다시 만듦 (집계 트리거 도입 후 한 번만 켬)
+    private boolean backfillOnStartup;
+    // 동시에 재계산할 월 수
+    private int backfillParallelism = 4;
+}
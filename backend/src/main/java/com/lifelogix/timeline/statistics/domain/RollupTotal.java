@@ -0,0 +1,16 @@
+package com.lifelogix.timeline.statistics.domain;
+
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+
+/**
+ * 기간 내 활동/타입별 슬롯 수 합계 (TimeBlockDailyRollupRepository 조회 결과)
+ */
+public record RollupTotal(
+        Long categoryId,
+        String categoryName,
+        String categoryColor,
+        Long activityId,
+        String activityName,
+        TimeBlockType type,
+        Long slotCount
+) {}
@@ -0,0 +1,31 @@
+package com.lifelogix.timeline.statistics.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 사용자/날짜/활동/타입별 슬롯 수 집계
+ * time_block 트리거(PostgreSQL)가 쓰기와 같은 트랜잭션에서 갱신하므로 애플리케이션에서는 읽기만 함
+ */
+@Entity
+@Immutable
+@Table(name = "time_block_daily_rollup")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TimeBlockDailyRollup {
+
+    @EmbeddedId
+    private TimeBlockDailyRollupId id;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "slot_count", nullable = false)
+    private int slotCount;
+}
@@ -0,0 +1,34 @@
+package com.lifelogix.timeline.statistics.domain;
+
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class TimeBlockDailyRollupId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "activity_id", nullable = false)
+    private Long activityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TimeBlockType type;
+}
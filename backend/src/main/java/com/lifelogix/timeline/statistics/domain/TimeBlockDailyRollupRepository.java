@@ -0,0 +1,25 @@
+package com.lifelogix.timeline.statistics.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TimeBlockDailyRollupRepository extends JpaRepository<TimeBlockDailyRollup, TimeBlockDailyRollupId> {
+
+    /**
+     * 기간 내 집계 행을 활동/타입별로 합산 (PK (user_id, date, ...) 범위 스캔, 읽는 행 수는 날짜 수 × 활동 수에 비례)
+     */
+    @Query("""
+            SELECT new com.lifelogix.timeline.statistics.domain.RollupTotal(
+                r.categoryId, c.name, c.color, r.id.activityId, a.name, r.id.type, SUM(r.slotCount))
+            FROM TimeBlockDailyRollup r
+                JOIN Activity a ON a.id = r.id.activityId
+                JOIN Category c ON c.id = r.categoryId
+            WHERE r.id.userId = :userId AND r.id.date BETWEEN :from AND :to
+            GROUP BY r.categoryId, c.name, c.color, r.id.activityId, a.name, r.id.type
+            """)
+    List<RollupTotal> sumByUserIdAndDateBetween(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
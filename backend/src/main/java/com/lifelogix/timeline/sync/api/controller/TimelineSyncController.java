@@ -0,0 +1,78 @@
+package com.lifelogix.timeline.sync.api.controller;
+
+import com.lifelogix.timeline.sync.api.dto.request.MergeTimeBlocksRequest;
+import com.lifelogix.timeline.sync.api.dto.response.MergedSlotResponse;
+import com.lifelogix.timeline.sync.api.dto.response.TimelineChangesResponse;
+import com.lifelogix.timeline.sync.application.TimelineDeltaService;
+import com.lifelogix.timeline.sync.application.TimelineMergeService;
+import com.lifelogix.timeline.sync.application.TimelineSyncService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/timeline")
+@RequiredArgsConstructor
+public class TimelineSyncController {
+
+    private static final Logger log = LoggerFactory.getLogger(TimelineSyncController.class);
+    private final TimelineSyncService timelineSyncService;
+    private final TimelineDeltaService timelineDeltaService;
+    private final TimelineMergeService timelineMergeService;
+
+    /**
+     * 타임라인 변경 이벤트 스트림 (SSE)
+     * 재연결 시 Last-Event-ID 헤더로 마지막으로 받은 이벤트 이후부터 이어받음
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            Principal principal,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineSyncController] StreamChanges - Received request from userId: {} (lastEventId: {})", userId, lastEventId);
+        return timelineSyncService.subscribe(userId, lastEventId);
+    }
+
+    /**
+     * 오프라인 클라이언트의 증분 동기화: since 이후의 변경을 변경 번호 순으로 최대 limit건 반환
+     * 처음 동기화할 때는 since=0으로 전체를 받으며, 응답의 nextSeq를 다음 요청의 since로 사용
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TimelineChangesResponse> getChanges(
+            Principal principal,
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "limit", defaultValue = "500") int limit) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineSyncController] GetChanges - Received request from userId: {} since: {} (limit: {})", userId, since, limit);
+        return ResponseEntity.ok(timelineDeltaService.getChanges(userId, since, limit));
+    }
+
+    /**
+     * 여러 기기의 슬롯 편집 병합: 슬롯별로 최종 기록자 우선 규칙을 적용하고 병합된 최종 상태를 반환
+     */
+    @PostMapping("/merge")
+    public ResponseEntity<List<MergedSlotResponse>> mergeTimeBlocks(
+            Principal principal,
+            @Valid @RequestBody MergeTimeBlocksRequest request) {
+
+        Long userId = Long.parseLong(principal.getName());
+        log.info("[Backend|TimelineSyncController] MergeTimeBlocks - Received request from userId: {} ({} edits)", userId, request.edits().size());
+        return ResponseEntity.ok(timelineMergeService.mergeTimeBlocks(userId, request));
+    }
+}
@@ -0,0 +1,14 @@
+package com.lifelogix.timeline.sync.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record MergeTimeBlocksRequest(
+        @NotEmpty(message = "병합할 편집은 최소 1개 이상이어야 합니다.")
+        @Size(max = 336, message = "한 번에 최대 336개의 편집까지 병합할 수 있습니다.")
+        List<@NotNull @Valid SlotEditRequest> edits
+) {}
@@ -0,0 +1,22 @@
+package com.lifelogix.timeline.sync.api.dto.request;
+
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 기기에서 발생한 슬롯 편집 한 건
+ * activityId가 null이면 슬롯 삭제, baseVersion은 편집 당시 기기가 알던 슬롯 버전(빈 슬롯이었으면 null)
+ * hlc는 기기의 하이브리드 논리 시계 값 (상위 48비트 epoch 밀리초, 하위 16비트 논리 카운터)
+ */
+public record SlotEditRequest(
+        @NotNull LocalDate date,
+        @NotNull LocalTime startTime,
+        @NotNull TimeBlockType type,
+        Long activityId,
+        Long baseVersion,
+        @NotNull @Positive Long hlc
+) {}
@@ -0,0 +1,14 @@
+package com.lifelogix.timeline.sync.api.dto.response;
+
+import com.lifelogix.timeline.sync.domain.ActivityChangeRow;
+
+public record ActivityChangeResponse(
+        Long id,
+        String name,
+        Long categoryId,
+        boolean deleted
+) {
+    public static ActivityChangeResponse from(ActivityChangeRow row) {
+        return new ActivityChangeResponse(row.activityId(), row.name(), row.categoryId(), row.deleted());
+    }
+}
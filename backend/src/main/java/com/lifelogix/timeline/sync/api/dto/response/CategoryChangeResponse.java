@@ -0,0 +1,15 @@
+package com.lifelogix.timeline.sync.api.dto.response;
+
+import com.lifelogix.timeline.sync.domain.CategoryChangeRow;
+
+public record CategoryChangeResponse(
+        Long id,
+        String name,
+        String color,
+        Long parentId,
+        boolean deleted
+) {
+    public static CategoryChangeResponse from(CategoryChangeRow row) {
+        return new CategoryChangeResponse(row.categoryId(), row.name(), row.color(), row.parentId(), row.deleted());
+    }
+}
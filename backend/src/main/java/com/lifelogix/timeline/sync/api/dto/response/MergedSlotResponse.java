@@ -0,0 +1,21 @@
+package com.lifelogix.timeline.sync.api.dto.response;
+
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 병합 후 슬롯의 최종 상태 (activityId가 null이면 빈 슬롯, version이 null이면 한 번도 기록된 적 없는 슬롯)
+ * accepted는 요청한 편집의 값이 최종 상태와 같은지 여부 (false면 다른 기기의 더 늦은 기록이 이김)
+ */
+public record MergedSlotResponse(
+        LocalDate date,
+        LocalTime startTime,
+        TimeBlockType type,
+        Long activityId,
+        Long version,
+        long hlc,
+        boolean accepted
+) {
+}
@@ -0,0 +1,25 @@
+package com.lifelogix.timeline.sync.api.dto.response;
+
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.sync.domain.TimeBlockChange;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 슬롯 하나의 마지막 변경 (activityId가 null이면 삭제된 슬롯이며, version/hlc는 툼스톤의 값)
+ * version은 이 슬롯을 다시 편집할 때 병합 요청의 baseVersion으로 사용
+ */
+public record TimeBlockChangeResponse(
+        LocalDate date,
+        LocalTime startTime,
+        TimeBlockType type,
+        Long activityId,
+        long version,
+        long hlc
+) {
+    public static TimeBlockChangeResponse from(TimeBlockChange change) {
+        return new TimeBlockChangeResponse(change.getId().getDate(), change.getId().getStartTime(), change.getId().getType(),
+                change.getActivityId(), change.getVersion(), change.getHlc());
+    }
+}
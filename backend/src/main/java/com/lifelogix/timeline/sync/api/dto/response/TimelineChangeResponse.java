@@ -0,0 +1,21 @@
+package com.lifelogix.timeline.sync.api.dto.response;
+
+import com.lifelogix.timeline.core.application.SlotChange;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 실시간 동기화로 전달하는 타임라인 변경 내용
+ * slots가 비어 있으면 dates의 타임라인을 다시 조회해야 하며, dates도 비어 있으면 모든 날짜를 다시 조회해야 함
+ */
+public record TimelineChangeResponse(
+        Set<LocalDate> dates,
+        List<SlotChange> slots
+) {
+    public static TimelineChangeResponse from(TimelineChangedEvent event) {
+        return new TimelineChangeResponse(event.dates(), event.slots());
+    }
+}
@@ -0,0 +1,17 @@
+package com.lifelogix.timeline.sync.api.dto.response;
+
+import java.util.List;
+
+/**
+ * since 이후의 변경 묶음 (변경 번호 순으로 앞에서부터 잘라낸 구간)
+ * 클라이언트는 카테고리 → 활동 → 슬롯 순으로 반영한 뒤 nextSeq를 다음 요청의 since로 사용하고, hasMore가 false가 될 때까지 반복함
+ * 슬롯의 activityId가 null이면 삭제된 슬롯이며, 슬롯의 version/hlc는 이후 병합 요청의 기준 버전과 HLC 비교에 사용
+ */
+public record TimelineChangesResponse(
+        long nextSeq,
+        boolean hasMore,
+        List<CategoryChangeResponse> categories,
+        List<ActivityChangeResponse> activities,
+        List<TimeBlockChangeResponse> timeBlocks
+) {
+}
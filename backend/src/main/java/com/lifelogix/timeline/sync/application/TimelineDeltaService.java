@@ -0,0 +1,85 @@
+package com.lifelogix.timeline.sync.application;
+
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.sync.api.dto.response.ActivityChangeResponse;
+import com.lifelogix.timeline.sync.api.dto.response.CategoryChangeResponse;
+import com.lifelogix.timeline.sync.api.dto.response.TimeBlockChangeResponse;
+import com.lifelogix.timeline.sync.api.dto.response.TimelineChangesResponse;
+import com.lifelogix.timeline.sync.domain.ActivityChangeRepository;
+import com.lifelogix.timeline.sync.domain.ActivityChangeRow;
+import com.lifelogix.timeline.sync.domain.CategoryChangeRepository;
+import com.lifelogix.timeline.sync.domain.CategoryChangeRow;
+import com.lifelogix.timeline.sync.domain.TimeBlockChange;
+import com.lifelogix.timeline.sync.domain.TimeBlockChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 오프라인 클라이언트의 증분 동기화
+ * 슬롯/활동/카테고리의 변경 피드를 변경 번호(사용자별 단조 증가) 순으로 합쳐, since 이후 limit건을 한 묶음으로 반환
+ * 같은 대상의 변경은 마지막 것만 남아 있으므로 받는 양은 오프라인 동안 바뀐 대상 수에 비례함
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineDeltaService {
+
+    static final int MAX_LIMIT = 1_000;
+    private static final Logger log = LoggerFactory.getLogger(TimelineDeltaService.class);
+
+    private final TimeBlockChangeRepository timeBlockChangeRepository;
+    private final ActivityChangeRepository activityChangeRepository;
+    private final CategoryChangeRepository categoryChangeRepository;
+
+    /**
+     * since 이후의 변경을 최대 limit건 조회
+     * 세 피드를 같은 스냅샷에서 읽어야 묶음 경계(nextSeq) 앞의 변경이 누락되지 않으므로 REPEATABLE READ로 조회
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public TimelineChangesResponse getChanges(Long userId, long since, int limit) {
+        if (since < 0 || limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException(ErrorCode.INVALID_SYNC_CURSOR);
+        }
+
+        // 피드마다 limit + 1건을 읽으면, 합친 결과의 앞 limit건은 어느 피드에서 더 읽더라도 바뀌지 않음
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<TimeBlockChange> timeBlocks = timeBlockChangeRepository.findByIdUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(userId, since, fetchLimit);
+        List<ActivityChangeRow> activities = activityChangeRepository.findChanges(userId, since, fetchLimit);
+        List<CategoryChangeRow> categories = categoryChangeRepository.findChanges(userId, since, fetchLimit);
+
+        long[] seqs = Stream.of(
+                        timeBlocks.stream().mapToLong(TimeBlockChange::getChangeSeq),
+                        activities.stream().mapToLong(ActivityChangeRow::changeSeq),
+                        categories.stream().mapToLong(CategoryChangeRow::changeSeq))
+                .flatMapToLong(seq -> seq)
+                .sorted()
+                .toArray();
+        boolean hasMore = seqs.length > limit;
+        long nextSeq = seqs.length == 0 ? since : seqs[Math.min(seqs.length, limit) - 1];
+
+        log.info("[Backend|TimelineDeltaService] GetChanges - Returning changes ({}, {}] for userId: {} (hasMore: {})", since, nextSeq, userId, hasMore);
+        return new TimelineChangesResponse(
+                nextSeq,
+                hasMore,
+                categories.stream()
+                        .filter(row -> row.changeSeq() <= nextSeq)
+                        .map(CategoryChangeResponse::from)
+                        .toList(),
+                activities.stream()
+                        .filter(row -> row.changeSeq() <= nextSeq)
+                        .map(ActivityChangeResponse::from)
+                        .toList(),
+                timeBlocks.stream()
+                        .filter(change -> change.getChangeSeq() <= nextSeq)
+                        .map(TimeBlockChangeResponse::from)
+                        .toList());
+    }
+}
@@ -0,0 +1,210 @@
+package com.lifelogix.timeline.sync.application;
+
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.core.application.SlotChange;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
+import com.lifelogix.timeline.core.domain.HybridTimestamp;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockSlotState;
+import com.lifelogix.timeline.core.domain.TimeBlockSlotWrite;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.sync.api.dto.request.MergeTimeBlocksRequest;
+import com.lifelogix.timeline.sync.api.dto.request.SlotEditRequest;
+import com.lifelogix.timeline.sync.api.dto.response.MergedSlotResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 기기에서 오프라인으로 편집한 슬롯을 한 번에 병합
+ * 기기가 본 버전(baseVersion)이 현재 버전과 같으면 그대로 반영하고, 그 사이 다른 기기가 바꿨으면 HLC가 더 늦은 쪽이 이김 (슬롯별 최종 기록자 우선)
+ * 판정은 잠금 없이 읽은 상태로 하고, 쓰기는 판정 시점의 버전이 그대로일 때만 반영되므로 그 사이 바뀐 슬롯은 다시 읽어 재판정함
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineMergeService {
+
+    static final int MAX_ATTEMPTS = 3;
+    static final Duration MAX_CLOCK_DRIFT = Duration.ofMinutes(1);
+    private static final Logger log = LoggerFactory.getLogger(TimelineMergeService.class);
+
+    // HLC가 같으면 활동 ID로 결정 (삭제가 가장 낮음) -> 어느 기기가 판정해도 같은 결과
+    private static final Comparator<Long> ACTIVITY_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final TimeBlockRepository timeBlockRepository;
+    private final ActivityRepository activityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public List<MergedSlotResponse> mergeTimeBlocks(Long userId, MergeTimeBlocksRequest request) {
+        validateTimestamps(userId, request.edits());
+        validateActivities(userId, request.edits());
+
+        // 한 요청 안에 같은 슬롯의 편집이 여러 개면 그중 이기는 편집만 남김
+        Map<Slot, SlotEditRequest> edits = request.edits().stream()
+                .collect(Collectors.toMap(Slot::of, Function.identity(),
+                        (left, right) -> wins(right.hlc(), right.activityId(), left.hlc(), left.activityId()) ? right : left,
+                        LinkedHashMap::new));
+
+        Map<Slot, TimeBlockSlotState> resolved = new HashMap<>();
+        List<TimeBlockSlotState> written = new ArrayList<>();
+        Map<Slot, SlotEditRequest> pending = new LinkedHashMap<>(edits);
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            if (attempt > MAX_ATTEMPTS) {
+                log.warn("[Backend|TimelineMergeService] MergeTimeBlocks - Failed: {} slots kept changing concurrently for userId: {}", pending.size(), userId);
+                throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+            }
+
+            Map<Slot, TimeBlockSlotState> current = findCurrentStates(userId, pending.keySet());
+            List<TimeBlockSlotWrite> writes = new ArrayList<>();
+            for (Map.Entry<Slot, SlotEditRequest> entry : pending.entrySet()) {
+                Slot slot = entry.getKey();
+                TimeBlockSlotState state = current.get(slot);
+                TimeBlockSlotWrite write = decide(slot, entry.getValue(), state);
+                if (write == null) {
+                    resolved.put(slot, state);
+                } else {
+                    writes.add(write);
+                }
+            }
+            pending.keySet().removeAll(resolved.keySet());
+
+            // 반영되지 않은 쓰기는 판정 후 다른 요청이 슬롯을 바꾼 것이므로 pending에 남아 다음 시도에서 재판정
+            for (TimeBlockSlotState applied : timeBlockRepository.mergeSlots(userId, writes)) {
+                Slot slot = Slot.of(applied);
+                resolved.put(slot, applied);
+                written.add(applied);
+                pending.remove(slot);
+            }
+        }
+
+        if (!written.isEmpty()) {
+            eventPublisher.publishEvent(TimelineChangedEvent.ofSlots(userId, written.stream()
+                    .map(state -> new SlotChange(state.date(), state.startTime(), state.type(), state.activityId()))
+                    .toList()));
+        }
+        log.info("[Backend|TimelineMergeService] MergeTimeBlocks - Merged {} edits ({} written) for userId: {}", edits.size(), written.size(), userId);
+
+        return edits.entrySet().stream()
+                .map(entry -> toResponse(entry.getKey(), entry.getValue(), resolved.get(entry.getKey())))
+                .toList();
+    }
+
+    /**
+     * 편집 하나를 현재 상태와 비교해 쓸 값을 결정 (쓸 필요가 없으면 null)
+     */
+    private TimeBlockSlotWrite decide(Slot slot, SlotEditRequest edit, TimeBlockSlotState state) {
+        Long currentVersion = state == null ? null : state.version();
+        boolean fastForward = Objects.equals(edit.baseVersion(), currentVersion);
+        if (!fastForward && state != null && !wins(edit.hlc(), edit.activityId(), state.hlc(), state.activityId())) {
+            return null;
+        }
+        Long currentActivityId = state == null ? null : state.activityId();
+        if (Objects.equals(edit.activityId(), currentActivityId)) {
+            return null;
+        }
+
+        // 기기가 본 상태 위에 쓴 편집은 기기 시계가 늦더라도 현재 값보다 뒤에 기록된 것으로 취급
+        long hlc = fastForward && state != null ? Math.max(edit.hlc(), state.hlc() + 1) : edit.hlc();
+        long version = state == null ? 0 : state.version() + 1;
+        Long expectedVersion = state == null || state.deleted() ? null : state.version();
+        return new TimeBlockSlotWrite(slot.date(), slot.startTime(), slot.type(), edit.activityId(), expectedVersion, version, hlc);
+    }
+
+    private boolean wins(long hlc, Long activityId, long otherHlc, Long otherActivityId) {
+        if (hlc != otherHlc) {
+            return hlc > otherHlc;
+        }
+        return ACTIVITY_ORDER.compare(activityId, otherActivityId) > 0;
+    }
+
+    /**
+     * 슬롯별 현재 상태 (타임블록과 툼스톤이 함께 있으면 타임블록이 최신)
+     */
+    private Map<Slot, TimeBlockSlotState> findCurrentStates(Long userId, Set<Slot> slots) {
+        Set<LocalDate> dates = slots.stream()
+                .map(Slot::date)
+                .collect(Collectors.toSet());
+        Map<Slot, TimeBlockSlotState> states = new HashMap<>();
+        for (TimeBlockSlotState state : timeBlockRepository.findSlotStates(userId, dates)) {
+            Slot slot = Slot.of(state);
+            if (slots.contains(slot)) {
+                states.merge(slot, state, (left, right) -> left.deleted() ? right : left);
+            }
+        }
+        return states;
+    }
+
+    private void validateTimestamps(Long userId, List<SlotEditRequest> edits) {
+        long maxPhysicalMillis = System.currentTimeMillis() + MAX_CLOCK_DRIFT.toMillis();
+        for (SlotEditRequest edit : edits) {
+            if (HybridTimestamp.physicalMillis(edit.hlc()) > maxPhysicalMillis) {
+                log.warn("[Backend|TimelineMergeService] ValidateTimestamps - Failed: HLC {} is ahead of server time for userId: {}", edit.hlc(), userId);
+                throw new BusinessException(ErrorCode.INVALID_MERGE_TIMESTAMP);
+            }
+        }
+    }
+
+    private void validateActivities(Long userId, List<SlotEditRequest> edits) {
+        Set<Long> activityIds = edits.stream()
+                .map(SlotEditRequest::activityId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (activityIds.isEmpty()) {
+            return;
+        }
+        List<Activity> activities = activityRepository.findAllWithCategoryByIdIn(activityIds);
+        if (activities.size() != activityIds.size()) {
+            log.warn("[Backend|TimelineMergeService] ValidateActivities - Failed: Some activities not found for ids: {}", activityIds);
+            throw new BusinessException(ErrorCode.ACTIVITY_NOT_FOUND);
+        }
+        for (Activity activity : activities) {
+            if (!activity.getUser().getId().equals(userId)) {
+                log.warn("[Backend|TimelineMergeService] ValidateActivities - Failed: Permission denied for userId: {} on activityId: {}", userId, activity.getId());
+                throw new BusinessException(ErrorCode.PERMISSION_DENIED);
+            }
+        }
+    }
+
+    private MergedSlotResponse toResponse(Slot slot, SlotEditRequest edit, TimeBlockSlotState state) {
+        Long activityId = state == null ? null : state.activityId();
+        return new MergedSlotResponse(
+                slot.date(),
+                slot.startTime(),
+                slot.type(),
+                activityId,
+                state == null ? null : state.version(),
+                state == null ? 0 : state.hlc(),
+                Objects.equals(edit.activityId(), activityId));
+    }
+
+    private record Slot(LocalDate date, LocalTime startTime, TimeBlockType type) {
+        static Slot of(SlotEditRequest edit) {
+            return new Slot(edit.date(), edit.startTime(), edit.type());
+        }
+
+        static Slot of(TimeBlockSlotState state) {
+            return new Slot(state.date(), state.startTime(), state.type());
+        }
+    }
+}
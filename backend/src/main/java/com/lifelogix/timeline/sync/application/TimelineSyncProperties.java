@@ -0,0 +1,25 @@
+package com.lifelogix.timeline.sync.application;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "timeline.sync")
+public class TimelineSyncProperties {
+    // 재연결 시 이어받을 수 있도록 사용자별 Redis Stream에 보관할 최근 변경 이벤트 수 (근사값으로 잘라냄)
+    private long streamMaxLength = 1_000;
+    // 마지막 변경 이후 사용자별 Stream을 보관하는 시간
+    private Duration streamTtl = Duration.ofDays(1);
+    // SSE 연결 하나의 최대 유지 시간 (만료되면 클라이언트가 Last-Event-ID로 재연결)
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+    // 프록시가 유휴 연결을 끊지 않도록 보내는 주석 이벤트 주기
+    private Duration heartbeatInterval = Duration.ofSeconds(25);
+    // 사용자당 인스턴스별 최대 동시 연결 수 (초과하면 가장 오래된 연결을 닫음)
+    private int maxConnectionsPerUser = 10;
+}
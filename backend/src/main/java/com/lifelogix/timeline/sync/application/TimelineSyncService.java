@@ -0,0 +1,249 @@
+package com.lifelogix.timeline.sync.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
+import com.lifelogix.timeline.sync.api.dto.response.TimelineChangeResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 사용자의 모든 기기에 타임라인 변경을 SSE로 실시간 전달
+ * 커밋된 변경은 사용자별 Redis Stream(timeline:sync:{userId})에 기록한 뒤 pub/sub으로 모든 인스턴스에 알리고,
+ * 각 인스턴스는 자신에게 연결된 해당 사용자의 SSE 연결로 전달함
+ * Stream의 레코드 ID를 SSE 이벤트 ID로 사용하므로, 재연결 시 Last-Event-ID 이후의 이벤트를 Stream에서 이어서 보냄
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineSyncService implements MessageListener {
+
+    static final String STREAM_KEY_PREFIX = "timeline:sync:";
+    static final String CHANNEL = "timeline:sync";
+    static final String CHANGE_EVENT = "timeline";
+    // 놓친 이벤트가 Stream에서 이미 잘려 나갔으면 전체를 다시 조회하라는 이벤트
+    static final String RESET_EVENT = "reset";
+    // 새 연결이 준비되었음을 알리는 이벤트 (ID는 현재 마지막 이벤트 ID로, 이후 재연결의 기준이 됨)
+    static final String READY_EVENT = "ready";
+    private static final String DATA_FIELD = "data";
+    private static final Logger log = LoggerFactory.getLogger(TimelineSyncService.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final TimelineSyncProperties properties;
+    private final Map<Long, List<SyncConnection>> connections = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeChanges() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 사용자의 변경 이벤트를 받을 SSE 연결을 생성 (lastEventId가 있으면 그 이후의 이벤트부터 전달)
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeout().toMillis());
+        register(userId, emitter, lastEventId);
+        return emitter;
+    }
+
+    void register(Long userId, SseEmitter emitter, String lastEventId) {
+        SyncConnection connection = new SyncConnection(emitter);
+        List<SyncConnection> evicted = new ArrayList<>();
+        emitter.onCompletion(() -> remove(userId, connection));
+        emitter.onTimeout(() -> remove(userId, connection));
+        emitter.onError(e -> remove(userId, connection));
+
+        // 연결 잠금을 잡은 채로 등록한 뒤 Stream을 읽으므로, 그 사이에 pub/sub으로 도착한 이벤트는 Stream 재전송이 끝날 때까지 대기함
+        // 대기한 이벤트 중 이미 Stream에서 보낸 ID 이하의 이벤트는 deliver에서 걸러내므로 순서가 뒤바뀌거나 중복되지 않음
+        synchronized (connection) {
+            connections.compute(userId, (id, userConnections) -> {
+                List<SyncConnection> updated = userConnections == null ? new CopyOnWriteArrayList<>() : userConnections;
+                updated.add(connection);
+                while (updated.size() > properties.getMaxConnectionsPerUser()) {
+                    evicted.add(updated.remove(0));
+                }
+                return updated;
+            });
+            log.info("[Backend|TimelineSyncService] Subscribe - Connected userId: {} (lastEventId: {})", userId, lastEventId);
+            try {
+                catchUp(userId, connection, lastEventId);
+            } catch (DataAccessException e) {
+                log.warn("[Backend|TimelineSyncService] Subscribe - Failed to read stream for userId: {}", userId, e);
+                send(userId, connection, null, RESET_EVENT, "{}");
+            }
+        }
+        evicted.forEach(oldest -> oldest.emitter.complete());
+    }
+
+    private void catchUp(Long userId, SyncConnection connection, String lastEventId) {
+        String key = STREAM_KEY_PREFIX + userId;
+        if (lastEventId == null) {
+            List<MapRecord<String, Object, Object>> latest = redisTemplate.opsForStream().reverseRange(key, Range.unbounded(), Limit.limit().count(1));
+            String latestId = latest == null || latest.isEmpty() ? null : latest.get(0).getId().getValue();
+            if (send(userId, connection, latestId, READY_EVENT, "{}")) {
+                connection.lastSentId = latestId;
+            }
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> oldest = redisTemplate.opsForStream().range(key, Range.unbounded(), Limit.limit().count(1));
+        if (!isValidId(lastEventId) || oldest == null || oldest.isEmpty() || compareIds(oldest.get(0).getId().getValue(), lastEventId) > 0) {
+            log.info("[Backend|TimelineSyncService] Subscribe - Events after {} are no longer retained for userId: {}", lastEventId, userId);
+            send(userId, connection, null, RESET_EVENT, "{}");
+            return;
+        }
+        connection.lastSentId = lastEventId;
+        List<MapRecord<String, Object, Object>> missed = redisTemplate.opsForStream().range(key, Range.rightUnbounded(Range.Bound.exclusive(lastEventId)));
+        for (MapRecord<String, Object, Object> record : missed == null ? List.<MapRecord<String, Object, Object>>of() : missed) {
+            String id = record.getId().getValue();
+            if (!send(userId, connection, id, CHANGE_EVENT, String.valueOf(record.getValue().get(DATA_FIELD)))) {
+                return;
+            }
+            connection.lastSentId = id;
+        }
+    }
+
+    /**
+     * 커밋된 변경을 사용자별 Stream에 기록하고 모든 인스턴스에 알림
+     * Redis를 사용할 수 없으면 이 인스턴스의 연결에만 ID 없이 전달함
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTimelineChanged(TimelineChangedEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(TimelineChangeResponse.from(event));
+        } catch (JsonProcessingException e) {
+            log.error("[Backend|TimelineSyncService] Publish - Failed to serialize change for userId: {}", event.userId(), e);
+            return;
+        }
+        String key = STREAM_KEY_PREFIX + event.userId();
+        try {
+            RecordId id = redisTemplate.opsForStream().add(StreamRecords.string(Map.of(DATA_FIELD, data)).withStreamKey(key));
+            redisTemplate.opsForStream().trim(key, properties.getStreamMaxLength(), true);
+            redisTemplate.expire(key, properties.getStreamTtl());
+            redisTemplate.convertAndSend(CHANNEL, event.userId() + ":" + id.getValue() + ":" + data);
+        } catch (DataAccessException e) {
+            log.warn("[Backend|TimelineSyncService] Publish - Failed to publish change for userId: {}. Delivering locally only.", event.userId(), e);
+            deliver(event.userId(), null, data);
+        }
+    }
+
+    /**
+     * pub/sub으로 받은 변경("{userId}:{eventId}:{data}")을 이 인스턴스의 연결에 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":", 3);
+        deliver(Long.parseLong(parts[0]), parts[1], parts[2]);
+    }
+
+    @Scheduled(fixedDelayString = "${timeline.sync.heartbeat-interval:PT25S}")
+    void sendHeartbeats() {
+        connections.forEach((userId, userConnections) -> userConnections.forEach(connection -> {
+            synchronized (connection) {
+                try {
+                    connection.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(userId, connection);
+                }
+            }
+        }));
+    }
+
+    private void deliver(Long userId, String id, String data) {
+        List<SyncConnection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (SyncConnection connection : userConnections) {
+            synchronized (connection) {
+                // 재연결 직후 Stream에서 이미 보낸 이벤트는 건너뜀
+                if (id != null && connection.lastSentId != null && compareIds(id, connection.lastSentId) <= 0) {
+                    continue;
+                }
+                if (send(userId, connection, id, CHANGE_EVENT, data) && id != null) {
+                    connection.lastSentId = id;
+                }
+            }
+        }
+    }
+
+    private boolean send(Long userId, SyncConnection connection, String id, String name, String data) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        if (id != null) {
+            event.id(id);
+        }
+        try {
+            connection.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("[Backend|TimelineSyncService] Send - Dropping closed connection for userId: {}", userId);
+            remove(userId, connection);
+            return false;
+        }
+    }
+
+    private void remove(Long userId, SyncConnection connection) {
+        connections.computeIfPresent(userId, (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private static boolean isValidId(String id) {
+        try {
+            RecordId.of(id);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stream 레코드 ID("{밀리초}-{순번}")를 생성 순서로 비교
+     */
+    static int compareIds(String left, String right) {
+        RecordId leftId = RecordId.of(left);
+        RecordId rightId = RecordId.of(right);
+        int byTime = Long.compare(leftId.getTimestamp(), rightId.getTimestamp());
+        return byTime != 0 ? byTime : Long.compare(leftId.getSequence(), rightId.getSequence());
+    }
+
+    private static final class SyncConnection {
+        private final SseEmitter emitter;
+        // 이 연결로 마지막으로 보낸 이벤트 ID (연결 단위로 동기화하여 접근)
+        private String lastSentId;
+
+        private SyncConnection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.lifelogix.timeline.sync.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 활동별 마지막 변경 (삭제된 활동은 deleted로 남음)
+ * activity 트리거(PostgreSQL)가 갱신하므로 애플리케이션에서는 읽기만 함
+ */
+@Entity
+@Immutable
+@Table(name = "activity_change")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityChange {
+
+    @Id
+    @Column(name = "activity_id")
+    private Long activityId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+}
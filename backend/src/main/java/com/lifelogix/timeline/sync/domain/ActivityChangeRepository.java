@@ -0,0 +1,24 @@
+package com.lifelogix.timeline.sync.domain;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ActivityChangeRepository extends JpaRepository<ActivityChange, Long> {
+
+    /**
+     * since 이후의 활동 변경을 현재 상태와 함께 변경 번호 순으로 조회
+     */
+    @Query("""
+            SELECT new com.lifelogix.timeline.sync.domain.ActivityChangeRow(
+                c.changeSeq, c.activityId, c.deleted, a.name, a.category.id)
+            FROM ActivityChange c
+                LEFT JOIN Activity a ON a.id = c.activityId
+            WHERE c.userId = :userId AND c.changeSeq > :since
+            ORDER BY c.changeSeq
+            """)
+    List<ActivityChangeRow> findChanges(@Param("userId") Long userId, @Param("since") long since, Limit limit);
+}
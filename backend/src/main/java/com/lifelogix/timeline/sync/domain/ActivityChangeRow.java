@@ -0,0 +1,13 @@
+package com.lifelogix.timeline.sync.domain;
+
+/**
+ * 활동 변경과 현재 상태 (삭제된 활동은 name, categoryId가 null)
+ */
+public record ActivityChangeRow(
+        long changeSeq,
+        Long activityId,
+        boolean deleted,
+        String name,
+        Long categoryId
+) {
+}
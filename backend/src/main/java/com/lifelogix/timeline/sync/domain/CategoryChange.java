@@ -0,0 +1,35 @@
+package com.lifelogix.timeline.sync.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 사용자 정의 카테고리별 마지막 변경 (삭제된 카테고리는 deleted로 남음)
+ * category 트리거(PostgreSQL)가 갱신하므로 애플리케이션에서는 읽기만 함
+ */
+@Entity
+@Immutable
+@Table(name = "category_change")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryChange {
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+}
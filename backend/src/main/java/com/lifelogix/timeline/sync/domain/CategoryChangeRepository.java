@@ -0,0 +1,24 @@
+package com.lifelogix.timeline.sync.domain;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CategoryChangeRepository extends JpaRepository<CategoryChange, Long> {
+
+    /**
+     * since 이후의 카테고리 변경을 현재 상태와 함께 변경 번호 순으로 조회
+     */
+    @Query("""
+            SELECT new com.lifelogix.timeline.sync.domain.CategoryChangeRow(
+                c.changeSeq, c.categoryId, c.deleted, g.name, g.color, g.parent.id)
+            FROM CategoryChange c
+                LEFT JOIN Category g ON g.id = c.categoryId
+            WHERE c.userId = :userId AND c.changeSeq > :since
+            ORDER BY c.changeSeq
+            """)
+    List<CategoryChangeRow> findChanges(@Param("userId") Long userId, @Param("since") long since, Limit limit);
+}
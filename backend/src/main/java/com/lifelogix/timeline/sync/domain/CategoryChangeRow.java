@@ -0,0 +1,14 @@
+package com.lifelogix.timeline.sync.domain;
+
+/**
+ * 카테고리 변경과 현재 상태 (삭제된 카테고리는 name, color, parentId가 null)
+ */
+public record CategoryChangeRow(
+        long changeSeq,
+        Long categoryId,
+        boolean deleted,
+        String name,
+        String color,
+        Long parentId
+) {
+}
@@ -0,0 +1,46 @@
+package com.lifelogix.timeline.sync.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 슬롯별 마지막 변경 (activityId가 null이면 삭제된 슬롯이며, version/hlc는 툼스톤의 값)
+ * time_block 트리거(PostgreSQL)가 쓰기와 같은 트랜잭션에서 갱신하므로 애플리케이션에서는 읽기만 함
+ */
+@Entity
+@Immutable
+@Table(name = "time_block_change")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TimeBlockChange {
+
+    @EmbeddedId
+    private TimeBlockChangeId id;
+
+    @Column(name = "activity_id")
+    private Long activityId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private long hlc;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Deprecated
+    public TimeBlockChange(TimeBlockChangeId id, Long activityId, long version, long hlc, long changeSeq) {
+        this.id = id;
+        this.activityId = activityId;
+        this.version = version;
+        this.hlc = hlc;
+        this.changeSeq = changeSeq;
+    }
+}
@@ -0,0 +1,14 @@
+package com.lifelogix.timeline.sync.domain;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TimeBlockChangeRepository extends JpaRepository<TimeBlockChange, TimeBlockChangeId> {
+
+    /**
+     * since 이후의 슬롯 변경을 변경 번호 순으로 조회 ((user_id, change_seq) 인덱스 키셋)
+     */
+    List<TimeBlockChange> findByIdUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(Long userId, long since, Limit limit);
+}
@@ -8,6 +8,7 @@ import com.lifelogix.user.api.dto.request.UserLoginRequest;
 import com.lifelogix.user.api.dto.request.UserRegisterRequest;
 import com.lifelogix.user.api.dto.response.AccessTokenResponse;
 import com.lifelogix.user.api.dto.response.TokenResponse;
+import com.lifelogix.user.application.RefreshTokenService;
 import com.lifelogix.user.application.UserService;
 import com.lifelogix.user.domain.User;
 import com.lifelogix.user.domain.UserRepository;
@@ -19,13 +20,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Duration;
 import java.util.Map;
 
 @RestController
@@ -39,7 +38,7 @@ public class AuthController {
     private final OAuthTempCodeService oAuthTempCodeService;
     private final UserRepository userRepository;
     private final JwtTokenProvider tokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/register")
     public ResponseEntity<?> register(@Valid @RequestBody UserRegisterRequest request) {
@@ -78,15 +77,9 @@ public class AuthController {
         String accessToken = tokenProvider.generateAccessToken(principalDetails);
         String refreshToken = tokenProvider.generateRefreshToken(principalDetails);
 
-        long refreshTokenValiditySeconds = jwtProperties.getRefreshTokenValiditySeconds();
+        refreshTokenService.save(userId, refreshToken);
 
-        redisTemplate.opsForValue().set(
-                userId.toString(),
-                refreshToken,
-                Duration.ofSeconds(refreshTokenValiditySeconds)
-        );
-
-        CookieUtil.addCookie(response, "refresh_token", refreshToken, (int) refreshTokenValiditySeconds);
+        CookieUtil.addCookie(response, "refresh_token", refreshToken, (int) jwtProperties.getRefreshTokenValiditySeconds());
 
         log.info("[Backend|AuthController] OAuthToken - Successfully issued tokens for userId: {}", userId);
         return ResponseEntity.ok(AccessTokenResponse.of(accessToken));
@@ -0,0 +1,41 @@
+package com.lifelogix.user.application;
+
+import com.lifelogix.config.jwt.JwtProperties;
+import com.lifelogix.config.metrics.MetricsConfig;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 리프레시 토큰 저장소 (Redis key: {userId}, TTL: 리프레시 토큰 유효 기간)
+ * 로그인/토큰 갱신/OAuth 코드 교환/로그아웃이 같은 키를 사용하며, Redis 명령 지연 시간을 연산별로 기록함
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtProperties jwtProperties;
+
+    @Timed(value = MetricsConfig.REDIS_COMMAND_TIMER, extraTags = {"operation", "refresh_token.save"})
+    public void save(Long userId, String refreshToken) {
+        redisTemplate.opsForValue().set(
+                userId.toString(),
+                refreshToken,
+                Duration.ofSeconds(jwtProperties.getRefreshTokenValiditySeconds())
+        );
+    }
+
+    @Timed(value = MetricsConfig.REDIS_COMMAND_TIMER, extraTags = {"operation", "refresh_token.find"})
+    public String find(Long userId) {
+        return redisTemplate.opsForValue().get(userId.toString());
+    }
+
+    @Timed(value = MetricsConfig.REDIS_COMMAND_TIMER, extraTags = {"operation", "refresh_token.delete"})
+    public void delete(Long userId) {
+        redisTemplate.delete(userId.toString());
+    }
+}
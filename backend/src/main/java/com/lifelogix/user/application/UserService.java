@@ -1,26 +1,25 @@
 package com.lifelogix.user.application;
 
-import com.lifelogix.config.jwt.JwtProperties;
 import com.lifelogix.user.PrincipalDetails;
 import com.lifelogix.user.domain.User;
 import com.lifelogix.user.domain.UserRepository;
 import com.lifelogix.config.jwt.JwtTokenProvider;
+import com.lifelogix.config.metrics.MetricsConfig;
 import com.lifelogix.exception.BusinessException;
 import com.lifelogix.exception.ErrorCode;
 import com.lifelogix.user.api.dto.request.UserLoginRequest;
 import com.lifelogix.user.api.dto.request.UserRegisterRequest;
 import com.lifelogix.user.api.dto.response.TokenResponse;
 import com.lifelogix.user.domain.RoleType;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
-import java.time.Duration;
-
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Slf4j
@@ -29,8 +28,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final JwtProperties jwtProperties;
+    private final RefreshTokenService refreshTokenService;
 
     @Transactional
     public void register(UserRegisterRequest request) {
@@ -73,12 +71,7 @@ public class UserService {
         String refreshToken = jwtTokenProvider.generateRefreshToken(principalDetails);
         log.info("Refresh token generated for user: {}", user.getEmail());
 
-        long refreshTokenValiditySeconds = jwtProperties.getRefreshTokenValiditySeconds();
-        redisTemplate.opsForValue().set(
-                user.getId().toString(),
-                refreshToken,
-                Duration.ofSeconds(refreshTokenValiditySeconds)
-        );
+        refreshTokenService.save(user.getId(), refreshToken);
         log.info("Refresh token saved to Redis for user: {}", user.getEmail());
 
         return TokenResponse.of(accessToken, refreshToken);
@@ -91,7 +84,7 @@ public class UserService {
 
     @Transactional
     public void logout(Long userId) {
-        redisTemplate.delete(userId.toString());
+        refreshTokenService.delete(userId);
         log.info("User {} logged out, refresh token deleted from Redis.", userId);
     }
 
@@ -101,26 +94,21 @@ public class UserService {
             throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        String userId = jwtTokenProvider.getClaims(refreshToken).getSubject();
-        String storedRefreshToken = redisTemplate.opsForValue().get(userId);
+        Long userId = Long.parseLong(jwtTokenProvider.getClaims(refreshToken).getSubject());
+        String storedRefreshToken = refreshTokenService.find(userId);
 
         if (storedRefreshToken == null || !storedRefreshToken.equals(refreshToken)) {
             throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        User user = userRepository.findById(Long.parseLong(userId))
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         PrincipalDetails principalDetails = PrincipalDetails.create(user);
         String newAccessToken = jwtTokenProvider.generateAccessToken(principalDetails);
         String newRefreshToken = jwtTokenProvider.generateRefreshToken(principalDetails);
 
-        long refreshTokenValiditySeconds = jwtProperties.getRefreshTokenValiditySeconds();
-        redisTemplate.opsForValue().set(
-                userId,
-                newRefreshToken,
-                Duration.ofSeconds(refreshTokenValiditySeconds)
-        );
+        refreshTokenService.save(userId, newRefreshToken);
 
         return TokenResponse.of(newAccessToken, newRefreshToken);
     }
@@ -1,6 +1,8 @@
 package com.lifelogix.user.oauth;
 
+import com.lifelogix.config.metrics.MetricsConfig;
 import com.lifelogix.user.PrincipalDetails;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
@@ -17,6 +19,7 @@ public class OAuthTempCodeService {
     private static final Duration CODE_EXPIRATION = Duration.ofMinutes(1);
     private static final String CODE_PREFIX = "oauth-code:";
 
+    @Timed(value = MetricsConfig.REDIS_COMMAND_TIMER, extraTags = {"operation", "oauth_code.store"})
     public String generateAndStore(Authentication authentication) {
         PrincipalDetails principalDetails = (PrincipalDetails) authentication.getPrincipal();
         Long userId = principalDetails.getId();
@@ -26,6 +29,7 @@ public class OAuthTempCodeService {
         return code;
     }
 
+    @Timed(value = MetricsConfig.REDIS_COMMAND_TIMER, extraTags = {"operation", "oauth_code.exchange"})
     public Long exchange(String code) {
         String key = CODE_PREFIX + code;
         String userIdStr = redisTemplate.opsForValue().get(key);
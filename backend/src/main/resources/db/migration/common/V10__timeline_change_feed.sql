@@ -0,0 +1,50 @@
+-- 오프라인 클라이언트의 증분 동기화를 위한 변경 피드
+-- 사용자마다 단조 증가하는 변경 번호(change_seq)를 발급하고, 엔티티별로 마지막 변경 번호와 상태만 남김
+-- (같은 슬롯/활동/카테고리가 여러 번 바뀌어도 행은 하나이므로, 받아야 할 변경 수는 바뀐 대상 수에 비례)
+-- PostgreSQL에서는 트리거(V11)가 쓰기와 같은 트랜잭션에서 갱신함
+
+-- 사용자별 마지막 발급 번호 (이 행의 잠금이 커밋까지 유지되므로 같은 사용자의 변경 번호는 커밋 순서대로 보임)
+CREATE TABLE sync_sequence
+(
+    user_id  BIGINT NOT NULL,
+    last_seq BIGINT NOT NULL,
+    CONSTRAINT sync_sequence_pkey PRIMARY KEY (user_id),
+    CONSTRAINT fk_sync_sequence_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- 슬롯별 마지막 변경 (activity_id가 NULL이면 삭제된 슬롯)
+CREATE TABLE time_block_change
+(
+    user_id     BIGINT       NOT NULL,
+    date        DATE         NOT NULL,
+    start_time  TIME(6)      NOT NULL,
+    type        VARCHAR(255) NOT NULL,
+    activity_id BIGINT,
+    change_seq  BIGINT       NOT NULL,
+    CONSTRAINT time_block_change_pkey PRIMARY KEY (user_id, date, start_time, type),
+    CONSTRAINT fk_time_block_change_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_time_block_change_seq ON time_block_change (user_id, change_seq);
+
+-- 활동/카테고리별 마지막 변경 (삭제된 뒤에도 deleted로 남아야 하므로 원본 테이블을 참조하지 않음)
+CREATE TABLE activity_change
+(
+    activity_id BIGINT  NOT NULL,
+    user_id     BIGINT  NOT NULL,
+    deleted     BOOLEAN NOT NULL,
+    change_seq  BIGINT  NOT NULL,
+    CONSTRAINT activity_change_pkey PRIMARY KEY (activity_id),
+    CONSTRAINT fk_activity_change_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_activity_change_seq ON activity_change (user_id, change_seq);
+
+CREATE TABLE category_change
+(
+    category_id BIGINT  NOT NULL,
+    user_id     BIGINT  NOT NULL,
+    deleted     BOOLEAN NOT NULL,
+    change_seq  BIGINT  NOT NULL,
+    CONSTRAINT category_change_pkey PRIMARY KEY (category_id),
+    CONSTRAINT fk_category_change_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+CREATE INDEX idx_category_change_seq ON category_change (user_id, change_seq);
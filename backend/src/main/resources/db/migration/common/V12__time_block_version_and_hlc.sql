@@ -0,0 +1,18 @@
+-- 기기 간 동시 편집 병합을 위한 슬롯 버전과 HLC(하이브리드 논리 시계) 값
+-- version은 JPA 낙관적 잠금(@Version)과 병합 요청의 기준 버전 비교에, hlc는 충돌 시 최종 기록자 판정에 사용
+-- 기존 행은 version 0, hlc 0(가장 오래된 기록)으로 시작함
+ALTER TABLE time_block ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE time_block ADD COLUMN hlc BIGINT NOT NULL DEFAULT 0;
+
+-- 병합으로 삭제된 슬롯의 마지막 버전과 HLC (삭제보다 오래된 편집이 슬롯을 되살리지 않도록 남김)
+CREATE TABLE time_block_tombstone
+(
+    user_id    BIGINT       NOT NULL,
+    date       DATE         NOT NULL,
+    start_time TIME(6)      NOT NULL,
+    type       VARCHAR(255) NOT NULL,
+    version    BIGINT       NOT NULL,
+    hlc        BIGINT       NOT NULL,
+    CONSTRAINT time_block_tombstone_pkey PRIMARY KEY (user_id, date, start_time, type),
+    CONSTRAINT fk_time_block_tombstone_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
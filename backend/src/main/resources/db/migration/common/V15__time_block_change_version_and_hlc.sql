@@ -0,0 +1,5 @@
+-- 슬롯 변경 피드에 슬롯 버전과 HLC를 함께 남김
+-- 증분 동기화로 받은 슬롯을 다음 병합 요청의 기준 버전(baseVersion)과 HLC 비교에 그대로 쓸 수 있도록 함
+-- 삭제된 슬롯은 툼스톤의 버전/HLC를 가짐 (PostgreSQL에서는 V16의 트리거가 채움)
+ALTER TABLE time_block_change ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE time_block_change ADD COLUMN hlc BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,46 @@
+-- 마이그레이션 도입 이전(ddl-auto로 생성되던) 스키마
+-- 기존 데이터베이스는 baseline-on-migrate 설정으로 이 버전을 건너뛰고, 신규 데이터베이스에서만 실행됨
+
+CREATE TABLE users
+(
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email         VARCHAR(255) NOT NULL,
+    password      VARCHAR(255),
+    nickname      VARCHAR(255) NOT NULL,
+    provider_type VARCHAR(255) NOT NULL,
+    provider_id   VARCHAR(255),
+    role_type     VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE category
+(
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name      VARCHAR(50) NOT NULL,
+    color     VARCHAR(7)  NOT NULL,
+    user_id   BIGINT,
+    parent_id BIGINT,
+    CONSTRAINT fk_category_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_category_parent FOREIGN KEY (parent_id) REFERENCES category (id)
+);
+
+CREATE TABLE activity
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    category_id BIGINT       NOT NULL,
+    CONSTRAINT fk_activity_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_activity_category FOREIGN KEY (category_id) REFERENCES category (id)
+);
+
+CREATE TABLE time_block
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    date        DATE         NOT NULL,
+    start_time  TIME(6)      NOT NULL,
+    type        VARCHAR(255) NOT NULL,
+    activity_id BIGINT       NOT NULL,
+    CONSTRAINT fk_time_block_activity FOREIGN KEY (activity_id) REFERENCES activity (id)
+);
@@ -0,0 +1,8 @@
+-- 슬롯 단위 upsert(ON CONFLICT)의 충돌 대상인 (소유자, 날짜, 시작 시간, 타입) 유니크 키
+-- 소유자(user_id)는 아직 비어 있을 수 있으며, NULL인 행끼리는 충돌하지 않으므로 기존 행과 무관하게 생성 가능
+-- ddl-auto로 컬럼이 먼저 추가된 개발 데이터베이스도 고려하여 IF NOT EXISTS 사용
+
+ALTER TABLE time_block ADD COLUMN IF NOT EXISTS user_id BIGINT;
+
+CREATE UNIQUE INDEX uk_time_block_owner_slot
+    ON time_block (user_id, date, start_time, type);
@@ -0,0 +1,13 @@
+-- Repository 조회 및 삭제 전 사용 여부 검사가 외래 키 전체 스캔이 되지 않도록 인덱스 추가
+
+-- CategoryRepository.findByUserIdOrUserIsNull, existsByUserAndName
+CREATE INDEX idx_category_user_name ON category (user_id, name);
+
+-- ActivityRepository.existsByUserAndCategoryAndName, findByUserIdOrderByCategory
+CREATE INDEX idx_activity_user_category_name ON activity (user_id, category_id, name);
+
+-- ActivityRepository.existsByCategory (카테고리 삭제 시 사용 여부 검사)
+CREATE INDEX idx_activity_category ON activity (category_id);
+
+-- TimeBlockRepository.existsByActivity (활동 삭제 시 사용 여부 검사)
+CREATE INDEX idx_time_block_activity ON time_block (activity_id);
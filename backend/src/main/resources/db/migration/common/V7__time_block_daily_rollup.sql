@@ -0,0 +1,15 @@
+-- 사용자/날짜/활동/타입별 슬롯 수 집계 테이블 (카테고리/활동별 통계 조회용)
+-- 통계 조회가 타임블록 수가 아닌 날짜 수에 비례하도록, 원본 time_block 대신 이 테이블을 읽음
+-- category_id는 활동의 카테고리를 비정규화한 값 (활동의 카테고리는 생성 후 변경되지 않음)
+-- PostgreSQL에서는 time_block 트리거(V8)가 쓰기와 같은 트랜잭션에서 변경분을 반영함
+CREATE TABLE time_block_daily_rollup
+(
+    user_id     BIGINT       NOT NULL,
+    date        DATE         NOT NULL,
+    activity_id BIGINT       NOT NULL,
+    type        VARCHAR(255) NOT NULL,
+    category_id BIGINT       NOT NULL,
+    slot_count  INTEGER      NOT NULL,
+    CONSTRAINT time_block_daily_rollup_pkey PRIMARY KEY (user_id, date, activity_id, type),
+    CONSTRAINT fk_time_block_daily_rollup_activity FOREIGN KEY (activity_id) REFERENCES activity (id) ON DELETE CASCADE
+);
@@ -0,0 +1,15 @@
+-- 기록 가져오기 작업의 체크포인트 (processed_rows는 타임블록과 같은 트랜잭션에서 갱신됨)
+CREATE TABLE timeline_import_job
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id        BIGINT       NOT NULL,
+    format         VARCHAR(20)  NOT NULL,
+    status         VARCHAR(20)  NOT NULL,
+    processed_rows BIGINT       NOT NULL,
+    imported_rows  BIGINT       NOT NULL,
+    failed_rows    BIGINT       NOT NULL,
+    version        BIGINT       NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_timeline_import_job_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
@@ -0,0 +1,4 @@
+-- PostgreSQL V2와 동일한 목적의 H2(테스트용) 스크립트
+-- H2는 항상 빈 데이터베이스에서 시작하므로 시퀀스 보정이 필요 없음
+
+CREATE SEQUENCE IF NOT EXISTS time_block_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,6 @@
+-- PostgreSQL V4와 동일한 목적의 H2(테스트용) 스크립트
+-- H2는 항상 빈 데이터베이스에서 시작하므로 백필이 필요 없고, INCLUDE 인덱스는 지원하지 않아 V3의 유니크 인덱스를 그대로 사용
+
+ALTER TABLE time_block ALTER COLUMN user_id SET NOT NULL;
+
+ALTER TABLE time_block ADD CONSTRAINT fk_time_block_user FOREIGN KEY (user_id) REFERENCES users (id);
@@ -0,0 +1,132 @@
+-- 변경 피드(V10) 갱신 트리거와 기존 데이터 백필
+
+-- 사용자의 변경 번호를 p_count개 발급하고 마지막 번호를 반환 ((반환값 - p_count, 반환값] 구간을 사용)
+CREATE OR REPLACE FUNCTION next_change_seq(p_user_id BIGINT, p_count BIGINT) RETURNS BIGINT AS
+$$
+    INSERT INTO sync_sequence (user_id, last_seq)
+    VALUES (p_user_id, p_count)
+    ON CONFLICT (user_id) DO UPDATE SET last_seq = sync_sequence.last_seq + EXCLUDED.last_seq
+    RETURNING last_seq;
+$$ LANGUAGE sql;
+
+-- time_block 변경분을 슬롯별 마지막 변경으로 반영하는 문장 단위 트리거 (V8 집계 트리거와 같은 구조)
+-- 문장 단위이므로 구간 채우기/복사/가져오기도 사용자별 번호 발급과 upsert가 문장당 한 번으로 끝나고,
+-- 파티션 생성 시 기본 파티션에서 행을 옮기는 작업은 부모 테이블 트리거를 거치지 않으므로 변경으로 기록되지 않음
+CREATE OR REPLACE FUNCTION record_time_block_change() RETURNS TRIGGER AS
+$$
+DECLARE
+    -- UPDATE로 슬롯 자체가 바뀐 경우, 이전 슬롯은 삭제로 기록
+    v_changes TEXT := CASE TG_OP
+        WHEN 'INSERT' THEN 'SELECT user_id, date, start_time, type, activity_id FROM new_rows'
+        WHEN 'DELETE' THEN 'SELECT user_id, date, start_time, type, NULL::BIGINT AS activity_id FROM old_rows'
+        ELSE 'SELECT user_id, date, start_time, type, activity_id FROM new_rows
+              UNION ALL
+              SELECT o.user_id, o.date, o.start_time, o.type, NULL::BIGINT FROM old_rows o
+              WHERE NOT EXISTS (SELECT 1 FROM new_rows n
+                                WHERE n.user_id = o.user_id AND n.date = o.date
+                                  AND n.start_time = o.start_time AND n.type = o.type)'
+        END;
+BEGIN
+    EXECUTE format($sql$
+        WITH changes AS (%s),
+             counts AS (SELECT user_id, COUNT(*) AS cnt FROM changes GROUP BY user_id),
+             issued AS (SELECT user_id, cnt, next_change_seq(user_id, cnt) AS last_seq FROM counts ORDER BY user_id)
+        INSERT INTO time_block_change (user_id, date, start_time, type, activity_id, change_seq)
+        SELECT c.user_id, c.date, c.start_time, c.type, c.activity_id,
+               i.last_seq - i.cnt + ROW_NUMBER() OVER (PARTITION BY c.user_id ORDER BY c.date, c.start_time, c.type)
+        FROM changes c
+                 JOIN issued i ON i.user_id = c.user_id
+        ON CONFLICT (user_id, date, start_time, type)
+            DO UPDATE SET activity_id = EXCLUDED.activity_id, change_seq = EXCLUDED.change_seq
+        $sql$, v_changes);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION record_activity_change() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        INSERT INTO activity_change (activity_id, user_id, deleted, change_seq)
+        VALUES (OLD.id, OLD.user_id, TRUE, next_change_seq(OLD.user_id, 1))
+        ON CONFLICT (activity_id) DO UPDATE SET deleted = TRUE, change_seq = EXCLUDED.change_seq;
+    ELSE
+        INSERT INTO activity_change (activity_id, user_id, deleted, change_seq)
+        VALUES (NEW.id, NEW.user_id, FALSE, next_change_seq(NEW.user_id, 1))
+        ON CONFLICT (activity_id) DO UPDATE SET deleted = FALSE, change_seq = EXCLUDED.change_seq;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 시스템 기본 카테고리(user_id가 NULL)는 사용자별 변경 피드에 포함하지 않음
+CREATE OR REPLACE FUNCTION record_category_change() RETURNS TRIGGER AS
+$$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        IF OLD.user_id IS NOT NULL THEN
+            INSERT INTO category_change (category_id, user_id, deleted, change_seq)
+            VALUES (OLD.id, OLD.user_id, TRUE, next_change_seq(OLD.user_id, 1))
+            ON CONFLICT (category_id) DO UPDATE SET deleted = TRUE, change_seq = EXCLUDED.change_seq;
+        END IF;
+    ELSIF NEW.user_id IS NOT NULL THEN
+        INSERT INTO category_change (category_id, user_id, deleted, change_seq)
+        VALUES (NEW.id, NEW.user_id, FALSE, next_change_seq(NEW.user_id, 1))
+        ON CONFLICT (category_id) DO UPDATE SET deleted = FALSE, change_seq = EXCLUDED.change_seq;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 기존 데이터 백필: 처음 동기화하는 클라이언트가 since=0으로 전체를 받을 수 있도록
+-- 참조되는 쪽이 먼저 오도록 사용자별로 카테고리 → 활동 → 타임블록 순서로 번호를 매김
+INSERT INTO category_change (category_id, user_id, deleted, change_seq)
+SELECT id, user_id, FALSE, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY id)
+FROM category
+WHERE user_id IS NOT NULL;
+
+INSERT INTO activity_change (activity_id, user_id, deleted, change_seq)
+SELECT a.id, a.user_id, FALSE, COALESCE(o.last_seq, 0) + ROW_NUMBER() OVER (PARTITION BY a.user_id ORDER BY a.id)
+FROM activity a
+         LEFT JOIN (SELECT user_id, MAX(change_seq) AS last_seq FROM category_change GROUP BY user_id) o
+                   ON o.user_id = a.user_id;
+
+INSERT INTO time_block_change (user_id, date, start_time, type, activity_id, change_seq)
+SELECT t.user_id, t.date, t.start_time, t.type, t.activity_id,
+       COALESCE(o.last_seq, 0) + ROW_NUMBER() OVER (PARTITION BY t.user_id ORDER BY t.date, t.start_time, t.type)
+FROM time_block t
+         LEFT JOIN (SELECT user_id, MAX(change_seq) AS last_seq FROM activity_change GROUP BY user_id) o
+                   ON o.user_id = t.user_id;
+
+INSERT INTO sync_sequence (user_id, last_seq)
+SELECT user_id, MAX(change_seq)
+FROM (SELECT user_id, change_seq FROM category_change
+      UNION ALL
+      SELECT user_id, change_seq FROM activity_change
+      UNION ALL
+      SELECT user_id, change_seq FROM time_block_change) seqs
+GROUP BY user_id;
+
+-- 전이 테이블은 이벤트가 하나인 트리거에만 지정할 수 있으므로 이벤트별로 트리거를 만듦
+CREATE TRIGGER time_block_change_insert
+    AFTER INSERT ON time_block
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_time_block_change();
+
+CREATE TRIGGER time_block_change_update
+    AFTER UPDATE ON time_block
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_time_block_change();
+
+CREATE TRIGGER time_block_change_delete
+    AFTER DELETE ON time_block
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_time_block_change();
+
+CREATE TRIGGER activity_change_row
+    AFTER INSERT OR UPDATE OR DELETE ON activity
+    FOR EACH ROW EXECUTE FUNCTION record_activity_change();
+
+CREATE TRIGGER category_change_row
+    AFTER INSERT OR UPDATE OR DELETE ON category
+    FOR EACH ROW EXECUTE FUNCTION record_category_change();
@@ -0,0 +1,3 @@
+-- 네이티브 쓰기 경로(구간 채우기, 복사, 가져오기 등)가 새로 기록하는 슬롯의 HLC를 DB 시각으로 채움 (논리 카운터 0)
+-- 휘발성 기본값을 ADD COLUMN에 바로 지정하면 테이블 전체를 다시 쓰므로, 컬럼 추가(V12) 이후 기본값만 변경함
+ALTER TABLE time_block ALTER COLUMN hlc SET DEFAULT (CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000 AS BIGINT) * 65536);
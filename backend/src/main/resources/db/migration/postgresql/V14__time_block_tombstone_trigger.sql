@@ -0,0 +1,28 @@
+-- 모든 삭제 경로(단일 삭제, 구간 비우기, 구간 이동, 병합)에서 지워진 슬롯의 툼스톤을 남기는 문장 단위 트리거
+-- 툼스톤 버전은 삭제된 행의 버전 + 1이므로, 같은 슬롯을 다시 기록하는 쓰기는 툼스톤 버전 + 1(HLC는 툼스톤 이후)부터 시작해 슬롯 버전이 되돌아가지 않음
+-- 삭제 전 버전을 기준으로 한 오래된 오프라인 편집은 병합에서 더 이상 그대로 반영(fast-forward)되지 않음
+-- 파티션 생성 시 기본 파티션에서 행을 옮기는 작업은 부모 테이블 트리거를 거치지 않으므로 툼스톤을 남기지 않음
+
+-- 현재 DB 시각의 HLC 값 (V12의 hlc 기본값과 같은 식, 네이티브 쓰기에서 툼스톤 이후 시각을 맞출 때 사용)
+CREATE OR REPLACE FUNCTION time_block_hlc_now() RETURNS BIGINT AS
+$$
+SELECT CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000 AS BIGINT) * 65536
+$$ LANGUAGE sql VOLATILE;
+
+CREATE OR REPLACE FUNCTION record_time_block_tombstone() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO time_block_tombstone AS tt (user_id, date, start_time, type, version, hlc)
+    SELECT user_id, date, start_time, type, version + 1,
+           GREATEST(hlc + 1, time_block_hlc_now())
+    FROM old_rows
+    ON CONFLICT (user_id, date, start_time, type)
+        DO UPDATE SET version = GREATEST(tt.version, EXCLUDED.version), hlc = GREATEST(tt.hlc, EXCLUDED.hlc);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER time_block_tombstone_delete
+    AFTER DELETE ON time_block
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION record_time_block_tombstone();
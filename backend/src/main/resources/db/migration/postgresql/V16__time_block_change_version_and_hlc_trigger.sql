@@ -0,0 +1,60 @@
+-- 슬롯 변경 피드(V11 트리거)에 버전과 HLC(V15 컬럼)를 함께 기록
+-- 기록된 슬롯은 new_rows의 값을, 삭제된 슬롯은 툼스톤(V14)의 값을 사용함
+
+-- 같은 시점의 AFTER 트리거는 이름 순으로 실행되므로, 삭제 변경 트리거가 툼스톤 트리거(time_block_tombstone_delete) 다음에 실행되도록 이름을 바꿈
+ALTER TRIGGER time_block_change_delete ON time_block RENAME TO time_block_tombstoned_change;
+
+CREATE OR REPLACE FUNCTION record_time_block_change() RETURNS TRIGGER AS
+$$
+DECLARE
+    -- UPDATE로 슬롯 자체가 바뀐 경우, 이전 슬롯은 삭제로 기록 (툼스톤이 없거나 이전 삭제의 툼스톤이면 옮겨진 행의 다음 버전/HLC)
+    v_changes TEXT := CASE TG_OP
+        WHEN 'INSERT' THEN 'SELECT user_id, date, start_time, type, activity_id, version, hlc FROM new_rows'
+        WHEN 'DELETE' THEN 'SELECT o.user_id, o.date, o.start_time, o.type, NULL::BIGINT AS activity_id,
+                                   GREATEST(tt.version, o.version + 1) AS version, GREATEST(tt.hlc, o.hlc + 1) AS hlc
+                            FROM old_rows o
+                                     LEFT JOIN time_block_tombstone tt
+                                               ON tt.user_id = o.user_id AND tt.date = o.date
+                                                   AND tt.start_time = o.start_time AND tt.type = o.type'
+        ELSE 'SELECT user_id, date, start_time, type, activity_id, version, hlc FROM new_rows
+              UNION ALL
+              SELECT o.user_id, o.date, o.start_time, o.type, NULL::BIGINT,
+                     GREATEST(tt.version, o.version + 1), GREATEST(tt.hlc, o.hlc + 1)
+              FROM old_rows o
+                       LEFT JOIN time_block_tombstone tt
+                                 ON tt.user_id = o.user_id AND tt.date = o.date
+                                     AND tt.start_time = o.start_time AND tt.type = o.type
+              WHERE NOT EXISTS (SELECT 1 FROM new_rows n
+                                WHERE n.user_id = o.user_id AND n.date = o.date
+                                  AND n.start_time = o.start_time AND n.type = o.type)'
+        END;
+BEGIN
+    EXECUTE format($sql$
+        WITH changes AS (%s),
+             counts AS (SELECT user_id, COUNT(*) AS cnt FROM changes GROUP BY user_id),
+             issued AS (SELECT user_id, cnt, next_change_seq(user_id, cnt) AS last_seq FROM counts ORDER BY user_id)
+        INSERT INTO time_block_change (user_id, date, start_time, type, activity_id, version, hlc, change_seq)
+        SELECT c.user_id, c.date, c.start_time, c.type, c.activity_id, c.version, c.hlc,
+               i.last_seq - i.cnt + ROW_NUMBER() OVER (PARTITION BY c.user_id ORDER BY c.date, c.start_time, c.type)
+        FROM changes c
+                 JOIN issued i ON i.user_id = c.user_id
+        ON CONFLICT (user_id, date, start_time, type)
+            DO UPDATE SET activity_id = EXCLUDED.activity_id, version = EXCLUDED.version, hlc = EXCLUDED.hlc,
+                          change_seq = EXCLUDED.change_seq
+        $sql$, v_changes);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 기존 변경 행 백필 (변경 번호는 그대로 두므로 이미 동기화한 클라이언트가 다시 받지 않음)
+UPDATE time_block_change c
+SET version = t.version, hlc = t.hlc
+FROM time_block t
+WHERE t.user_id = c.user_id AND t.date = c.date AND t.start_time = c.start_time AND t.type = c.type
+  AND c.activity_id IS NOT NULL;
+
+UPDATE time_block_change c
+SET version = tt.version, hlc = tt.hlc
+FROM time_block_tombstone tt
+WHERE tt.user_id = c.user_id AND tt.date = c.date AND tt.start_time = c.start_time AND tt.type = c.type
+  AND c.activity_id IS NULL;
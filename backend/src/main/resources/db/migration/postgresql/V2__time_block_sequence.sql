@@ -0,0 +1,9 @@
+-- 배치 INSERT를 위한 시퀀스 기반 ID (allocationSize = 50과 동일한 증가폭)
+CREATE SEQUENCE IF NOT EXISTS time_block_seq START WITH 1 INCREMENT BY 50;
+
+-- 기존 ID와 충돌하지 않도록 시퀀스를 현재 최대 ID 이후로 이동 (이미 더 앞서 있다면 유지)
+SELECT setval('time_block_seq',
+              GREATEST((SELECT last_value FROM time_block_seq),
+                       (SELECT COALESCE(MAX(id), 0) FROM time_block) + 50));
+
+ALTER TABLE time_block ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,18 @@
+-- time_block의 소유자(user_id)를 필수로 만들어 activity 조인 없이 사용자 단위 조회가 가능하도록 함
+
+-- 1. 기존 타임블록의 소유자를 활동의 소유자로 백필
+UPDATE time_block
+SET user_id = (SELECT a.user_id FROM activity a WHERE a.id = time_block.activity_id)
+WHERE user_id IS NULL;
+
+ALTER TABLE time_block ALTER COLUMN user_id SET NOT NULL;
+
+ALTER TABLE time_block DROP CONSTRAINT IF EXISTS fk_time_block_user;
+ALTER TABLE time_block ADD CONSTRAINT fk_time_block_user FOREIGN KEY (user_id) REFERENCES users (id);
+
+-- 2. 슬롯 유니크 키를 사용자/날짜 조회용 커버링 인덱스로 교체
+-- findByUserIdAndDate, findUserTimeBlockForSlot이 activity 조인 없이 인덱스만으로 처리되도록 activity_id, id를 포함
+-- upsert(ON CONFLICT)의 충돌 대상으로도 계속 사용됨
+DROP INDEX uk_time_block_owner_slot;
+CREATE UNIQUE INDEX uk_time_block_owner_slot
+    ON time_block (user_id, date, start_time, type) INCLUDE (activity_id, id);
@@ -0,0 +1,83 @@
+-- time_block을 date 기준 월 단위 선언적 범위 파티션 테이블로 전환
+-- 모든 조회가 date 조건을 포함하므로 파티션 프루닝이 적용되고, VACUUM/인덱스 유지보수가 파티션 단위로 이루어짐
+-- 파티션 테이블의 PK/유니크 인덱스는 파티션 키(date)를 포함해야 하므로 PK는 (id, date)가 됨
+
+-- 1. 기존 테이블과 인덱스 이름을 비워둠
+ALTER TABLE time_block RENAME TO time_block_legacy;
+ALTER TABLE time_block_legacy RENAME CONSTRAINT time_block_pkey TO time_block_legacy_pkey;
+ALTER INDEX uk_time_block_owner_slot RENAME TO uk_time_block_legacy_owner_slot;
+ALTER INDEX idx_time_block_activity RENAME TO idx_time_block_legacy_activity;
+
+-- 2. 파티션 부모 테이블
+CREATE TABLE time_block
+(
+    id          BIGINT       NOT NULL,
+    date        DATE         NOT NULL,
+    start_time  TIME(6)      NOT NULL,
+    type        VARCHAR(255) NOT NULL,
+    activity_id BIGINT       NOT NULL,
+    user_id     BIGINT       NOT NULL,
+    CONSTRAINT time_block_pkey PRIMARY KEY (id, date),
+    CONSTRAINT fk_time_block_activity FOREIGN KEY (activity_id) REFERENCES activity (id),
+    CONSTRAINT fk_time_block_user FOREIGN KEY (user_id) REFERENCES users (id)
+) PARTITION BY RANGE (date);
+
+CREATE UNIQUE INDEX uk_time_block_owner_slot
+    ON time_block (user_id, date, start_time, type) INCLUDE (activity_id, id);
+CREATE INDEX idx_time_block_activity ON time_block (activity_id);
+
+-- 미리 만들어두지 않은 먼 과거/미래 날짜를 받아주는 기본 파티션
+CREATE TABLE time_block_default PARTITION OF time_block DEFAULT;
+
+-- 3. 월 파티션 생성 함수 (TimeBlockPartitionScheduler가 주기적으로 호출)
+-- 기본 파티션에 이미 들어가 있는 해당 월의 행은 새 파티션으로 옮긴 뒤 연결함
+CREATE OR REPLACE FUNCTION create_time_block_partition(p_month DATE) RETURNS VOID AS
+$$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_end   DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name  TEXT := format('time_block_p%s', to_char(v_start, 'YYYYMM'));
+BEGIN
+    -- 여러 인스턴스가 동시에 같은 파티션을 만들지 않도록 직렬화
+    PERFORM pg_advisory_xact_lock(hashtext('create_time_block_partition'));
+
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE time_block INCLUDING DEFAULTS)', v_name);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (date >= %L AND date < %L)',
+                   v_name, v_name || '_range', v_start, v_end);
+    EXECUTE format('INSERT INTO %I SELECT * FROM time_block_default WHERE date >= %L AND date < %L',
+                   v_name, v_start, v_end);
+    EXECUTE format('DELETE FROM time_block_default WHERE date >= %L AND date < %L', v_start, v_end);
+    EXECUTE format('ALTER TABLE time_block ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_start, v_end);
+    -- ATTACH 시 범위 검증 스캔을 건너뛰기 위해 추가했던 CHECK 제약은 더 이상 필요 없음
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', v_name, v_name || '_range');
+END;
+$$ LANGUAGE plpgsql;
+
+-- 4. 기존 데이터가 있는 가장 오래된 달부터 3개월 뒤까지 파티션 생성
+DO
+$$
+DECLARE
+    v_month DATE;
+BEGIN
+    FOR v_month IN
+        SELECT generate_series(
+                       date_trunc('month', LEAST(COALESCE((SELECT MIN(date) FROM time_block_legacy), CURRENT_DATE), CURRENT_DATE)),
+                       date_trunc('month', CURRENT_DATE) + INTERVAL '3 months',
+                       INTERVAL '1 month')::DATE
+        LOOP
+            PERFORM create_time_block_partition(v_month);
+        END LOOP;
+END
+$$;
+
+-- 5. 데이터 이관 후 기존 테이블 삭제
+INSERT INTO time_block (id, date, start_time, type, activity_id, user_id)
+SELECT id, date, start_time, type, activity_id, user_id
+FROM time_block_legacy;
+
+DROP TABLE time_block_legacy;
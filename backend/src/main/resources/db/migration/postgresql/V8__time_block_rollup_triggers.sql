@@ -0,0 +1,54 @@
+-- time_block 변경분을 time_block_daily_rollup에 같은 트랜잭션에서 반영하는 문장 단위 트리거
+-- 전이 테이블(new_rows/old_rows)을 (사용자, 날짜, 활동, 타입)으로 묶어 문장당 한 번의 upsert로 반영하므로
+-- 구간 채우기/복사 같은 집합 단위 쓰기도 행 수와 무관하게 집계 쓰기는 한 번으로 끝남
+-- 트리거는 파티션 부모 테이블에만 걸리므로, 파티션 생성 시 기본 파티션에서 행을 옮기는 작업은 집계에 영향을 주지 않음
+-- 기존 데이터는 TimeBlockRollupBackfillJob으로 채움
+
+CREATE OR REPLACE FUNCTION apply_time_block_rollup_delta() RETURNS TRIGGER AS
+$$
+DECLARE
+    -- 트리거 종류마다 참조할 수 있는 전이 테이블이 다르므로 변경분 조회문을 동적으로 구성
+    v_changes TEXT := CASE TG_OP
+        WHEN 'INSERT' THEN 'SELECT user_id, date, activity_id, type, 1 AS diff FROM new_rows'
+        WHEN 'DELETE' THEN 'SELECT user_id, date, activity_id, type, -1 AS diff FROM old_rows'
+        ELSE 'SELECT user_id, date, activity_id, type, 1 AS diff FROM new_rows
+              UNION ALL
+              SELECT user_id, date, activity_id, type, -1 AS diff FROM old_rows'
+        END;
+BEGIN
+    EXECUTE format($sql$
+        INSERT INTO time_block_daily_rollup (user_id, date, activity_id, type, category_id, slot_count)
+        SELECT c.user_id, c.date, c.activity_id, c.type, a.category_id, SUM(c.diff)
+        FROM (%s) c
+                 JOIN activity a ON a.id = c.activity_id
+        GROUP BY c.user_id, c.date, c.activity_id, c.type, a.category_id
+        HAVING SUM(c.diff) <> 0
+        ON CONFLICT (user_id, date, activity_id, type)
+            DO UPDATE SET slot_count = time_block_daily_rollup.slot_count + EXCLUDED.slot_count
+        $sql$, v_changes);
+
+    -- 슬롯이 모두 사라진 집계 행은 삭제 (삭제/변경이 있었던 사용자·날짜만 확인)
+    IF TG_OP <> 'INSERT' THEN
+        DELETE FROM time_block_daily_rollup r
+        USING (SELECT DISTINCT user_id, date FROM old_rows) changed
+        WHERE r.user_id = changed.user_id AND r.date = changed.date AND r.slot_count <= 0;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 전이 테이블은 이벤트가 하나인 트리거에만 지정할 수 있으므로 이벤트별로 트리거를 만듦
+CREATE TRIGGER time_block_rollup_insert
+    AFTER INSERT ON time_block
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_time_block_rollup_delta();
+
+CREATE TRIGGER time_block_rollup_update
+    AFTER UPDATE ON time_block
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_time_block_rollup_delta();
+
+CREATE TRIGGER time_block_rollup_delete
+    AFTER DELETE ON time_block
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION apply_time_block_rollup_delta();
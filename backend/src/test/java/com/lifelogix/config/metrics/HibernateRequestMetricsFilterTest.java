@@ -0,0 +1,82 @@
+package com.lifelogix.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HibernateRequestMetricsFilter 단위 테스트")
+class HibernateRequestMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HibernateRequestMetricsFilter filter = new HibernateRequestMetricsFilter(meterRegistry);
+    private final HibernateRequestStatistics.SessionListener sessionListener = new HibernateRequestStatistics.SessionListener();
+
+    private DistributionSummary summary(String name, String uri) {
+        return meterRegistry.find(name).tags("method", "GET", "uri", uri).summary();
+    }
+
+    @Nested
+    @DisplayName("요청별 Hibernate 통계 기록")
+    class Record {
+
+        @Test
+        @DisplayName("성공 - 요청 중 실행된 구문/엔티티 로드/플러시 수를 경로 패턴 태그로 기록")
+        void record_success() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/timeline/2024-01-01");
+            FilterChain chain = (req, res) -> {
+                sessionListener.jdbcExecuteStatementEnd();
+                sessionListener.jdbcExecuteBatchEnd();
+                HibernateRequestStatistics.entityLoaded();
+                sessionListener.flushEnd(1, 0);
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/timeline/{date}");
+            };
+
+            // when
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            // then
+            String uri = "/api/v1/timeline/{date}";
+            assertThat(summary(HibernateRequestMetricsFilter.STATEMENTS, uri).totalAmount()).isEqualTo(2);
+            assertThat(summary(HibernateRequestMetricsFilter.ENTITY_LOADS, uri).totalAmount()).isEqualTo(1);
+            assertThat(summary(HibernateRequestMetricsFilter.FLUSHES, uri).totalAmount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - 요청 밖에서 실행된 구문은 다음 요청에 합산되지 않음")
+        void record_success_ignoresOutsideRequest() throws Exception {
+            // given
+            sessionListener.jdbcExecuteStatementEnd();
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/categories");
+
+            // when
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> sessionListener.jdbcExecuteStatementEnd());
+
+            // then: 매핑된 핸들러가 없으면 UNKNOWN으로 기록
+            DistributionSummary statements = summary(HibernateRequestMetricsFilter.STATEMENTS, "UNKNOWN");
+            assertThat(statements.count()).isEqualTo(1);
+            assertThat(statements.totalAmount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("제외 - 메트릭 수집 요청은 기록하지 않음")
+        void record_skipsActuator() throws Exception {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+
+            // when
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> sessionListener.jdbcExecuteStatementEnd());
+
+            // then
+            assertThat(meterRegistry.find(HibernateRequestMetricsFilter.STATEMENTS).summaries()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.lifelogix.config.query;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문(@BeforeEach 이후)에서 실행될 수 있는 SQL 구문 수의 상한
+ * 상한을 넘으면 실행된 SQL 목록과 함께 테스트가 실패하므로, N+1 같은 쿼리 수 회귀가 빌드에서 드러남
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /**
+     * 허용하는 최대 구문 수 (배치 실행은 한 번으로 셈)
+     */
+    int value();
+}
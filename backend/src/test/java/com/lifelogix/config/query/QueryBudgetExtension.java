@@ -0,0 +1,40 @@
+package com.lifelogix.config.query;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @QueryBudget이 붙은 테스트 메서드 본문에서 실행된 SQL을 세어 상한과 비교
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        StatementRecorder.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        List<String> statements = StatementRecorder.stop();
+        // 본문이 이미 실패했으면 그 원인을 그대로 보고
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        int budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .orElseThrow()
+                .value();
+        if (statements.size() > budget) {
+            String executed = IntStream.range(0, statements.size())
+                    .mapToObj(index -> "  " + (index + 1) + ". " + statements.get(index))
+                    .collect(Collectors.joining("\n"));
+            throw new AssertionError(String.format("%s - SQL 구문 수 상한 초과: 최대 %d개, 실행 %d개%n%s",
+                    context.getDisplayName(), budget, statements.size(), executed));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.lifelogix.config.query;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource를 datasource-proxy로 감싸 실행되는 모든 SQL(JPA, JdbcTemplate, 네이티브 쿼리)을 StatementRecorder에 전달
+ * 테스트에 @Import(QueryCountTestConfig.class)로 등록한 뒤 @QueryBudget으로 구문 수 상한을 선언
+ */
+@TestConfiguration
+public class QueryCountTestConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("query-count")
+                            .listener(new StatementRecorder())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.lifelogix.config.query;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 프록시 DataSource를 거쳐 실행된 SQL을 현재 스레드 기준으로 기록
+ * JDBC 실행 한 번(배치는 executeBatch 한 번)을 구문 하나로 셈 -> DB 왕복 횟수와 같음
+ */
+public class StatementRecorder implements QueryExecutionListener {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+    private static volatile boolean installed;
+
+    StatementRecorder() {
+        installed = true;
+    }
+
+    /**
+     * 현재 스레드에서 기록을 시작 (이전 기록은 버림)
+     */
+    public static void start() {
+        if (!installed) {
+            throw new IllegalStateException("QueryCountTestConfig가 등록되지 않아 실행된 SQL을 셀 수 없습니다.");
+        }
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    /**
+     * 기록을 멈추고 start() 이후 실행된 SQL을 반환
+     */
+    public static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements == null ? List.of() : statements;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> statements = STATEMENTS.get();
+        if (statements == null) {
+            return;
+        }
+        String sql = queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .map(query -> query.replaceAll("\\s+", " ").trim())
+                .collect(Collectors.joining("; "));
+        statements.add(execInfo.isBatch() ? "[batch x" + execInfo.getBatchSize() + "] " + sql : sql);
+    }
+}
@@ -0,0 +1,164 @@
+package com.lifelogix.timeline;
+
+import com.lifelogix.config.query.QueryBudget;
+import com.lifelogix.config.query.QueryCountTestConfig;
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.api.dto.request.BatchTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.CopyTimeBlocksRequest;
+import com.lifelogix.timeline.core.api.dto.request.CreateTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.FillTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.ShiftTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
+import com.lifelogix.timeline.core.application.TimelineCache;
+import com.lifelogix.timeline.core.application.TimelineService;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ON CONFLICT, generate_series 등 PostgreSQL 전용 SQL을 쓰는 TimelineService 쓰기 경로의 SQL 구문 수 상한(@QueryBudget)을 실제 PostgreSQL 컨테이너에서 검증
+ * 나머지 서비스 메서드(조회, 수정/삭제, 활동/카테고리, 실패 경로)는 ServiceQueryBudgetTest가 H2에서 항상 검증함
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜀
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({QueryCountTestConfig.class, TimelineService.class})
+@ActiveProfiles("test")
+@DisplayName("서비스 SQL 구문 수 상한 테스트 - 네이티브 SQL 쓰기 경로 (PostgreSQL)")
+class NativeServiceQueryBudgetTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private TimelineService timelineService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private TimelineCache timelineCache;
+
+    private final LocalDate monday = LocalDate.of(2025, 10, 13);
+    private final LocalTime nine = LocalTime.of(9, 0);
+    private Long userId;
+    private Activity running;
+    private Activity reading;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .email("query-budget@example.com")
+                .nickname("tester")
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .build());
+        userId = user.getId();
+        Category systemCategory = categoryRepository.save(new Category("운동", "#2ECC71", null, null));
+        Category customCategory = categoryRepository.save(new Category("유산소", "#1ABC9C", user, systemCategory));
+        running = activityRepository.save(new Activity("달리기", user, customCategory));
+        reading = activityRepository.save(new Activity("독서", user, systemCategory));
+        timeBlockRepository.save(new TimeBlock(monday, nine, TimeBlockType.PLAN, running));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 사용자를 참조하는 카테고리/활동/타임블록/집계 행도 함께 지움
+        jdbcTemplate.execute("TRUNCATE TABLE users, category CASCADE");
+    }
+
+    @Nested
+    @DisplayName("TimelineService")
+    class Timeline {
+
+        @BeforeEach
+        void setUpCache() {
+            // 캐시 미스 경로의 구문 수를 측정
+            given(timelineCache.get(any(), any(), any())).willAnswer(invocation ->
+                    invocation.<Supplier<TimelineResponse>>getArgument(2).get());
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("단일 기록 - 활동 조회(카테고리 포함) + UPSERT")
+        void createOrUpdateTimeBlock() {
+            timelineService.createOrUpdateTimeBlock(userId, new CreateTimeBlockRequest(monday, nine, TimeBlockType.ACTUAL, running.getId()));
+        }
+
+        @Test
+        @QueryBudget(6)
+        @DisplayName("일괄 기록 - 활동 조회 + 기존 블록 조회 + 툼스톤 조회 + 시퀀스 + 배치 INSERT + 배치 UPDATE (슬롯 수와 무관)")
+        void createOrUpdateTimeBlocks() {
+            timelineService.createOrUpdateTimeBlocks(userId, new BatchTimeBlockRequest(List.of(
+                    new CreateTimeBlockRequest(monday, nine, TimeBlockType.PLAN, reading.getId()),
+                    new CreateTimeBlockRequest(monday, LocalTime.of(9, 30), TimeBlockType.PLAN, running.getId()),
+                    new CreateTimeBlockRequest(monday, LocalTime.of(10, 0), TimeBlockType.PLAN, running.getId()),
+                    new CreateTimeBlockRequest(monday.plusDays(1), nine, TimeBlockType.ACTUAL, reading.getId()))));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("구간 채우기 - 소유 확인 + INSERT ... SELECT")
+        void fillRange() {
+            timelineService.fillRange(userId, new FillTimeBlockRangeRequest(monday, nine, LocalTime.of(12, 0), TimeBlockType.PLAN, reading.getId()));
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("구간 이동 - 원본 조회 + DELETE + 배치 INSERT")
+        void shiftRange() {
+            timelineService.shiftRange(userId, new ShiftTimeBlockRangeRequest(monday, nine, LocalTime.of(10, 0), TimeBlockType.PLAN, 2));
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("복사 - INSERT ... SELECT ... RETURNING 한 번")
+        void copyTimeBlocks() {
+            timelineService.copyTimeBlocks(userId, new CopyTimeBlocksRequest(
+                    monday, monday, monday.plusDays(1), monday.plusDays(5), TimeBlockType.PLAN, null));
+        }
+    }
+}
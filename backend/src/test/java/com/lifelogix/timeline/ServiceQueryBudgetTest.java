@@ -0,0 +1,345 @@
+package com.lifelogix.timeline;
+
+import com.lifelogix.config.query.QueryBudget;
+import com.lifelogix.config.query.QueryCountTestConfig;
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.activity.api.dto.request.CreateActivityRequest;
+import com.lifelogix.timeline.activity.api.dto.request.UpdateActivityRequest;
+import com.lifelogix.timeline.activity.application.ActivityService;
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.api.dto.request.CreateCategoryRequest;
+import com.lifelogix.timeline.category.api.dto.request.UpdateCategoryRequest;
+import com.lifelogix.timeline.category.application.CategoryService;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.api.dto.request.CreateTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.FillTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.TimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.UpdateTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
+import com.lifelogix.timeline.core.application.TimelineCache;
+import com.lifelogix.timeline.core.application.TimelineService;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 서비스 메서드마다 실행할 수 있는 SQL 구문 수의 상한(@QueryBudget)을 검증
+ * 서비스 트랜잭션이 실제로 커밋되도록 테스트 트랜잭션 없이 실행하므로, 커밋 시점의 flush(UPDATE/INSERT)까지 구문 수에 포함됨
+ * 상한은 정상 경로와 실패 경로(404/403 구분을 위한 존재 확인, 사용 중 확인)별로 두며, 연관 엔티티를 지연 로딩하는 코드가 추가되면 구문 수가 늘어 실패함
+ * 네이티브 SQL을 쓰지 않는 경로만 모아 H2에서 항상 실행하고, PostgreSQL 전용 쓰기 경로는 NativeServiceQueryBudgetTest에서 검증함
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({QueryCountTestConfig.class, TimelineService.class, ActivityService.class, CategoryService.class})
+@ActiveProfiles("test")
+@DisplayName("서비스 SQL 구문 수 상한 테스트")
+class ServiceQueryBudgetTest {
+
+    @Autowired
+    private TimelineService timelineService;
+    @Autowired
+    private ActivityService activityService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private TimelineCache timelineCache;
+
+    private final LocalDate monday = LocalDate.of(2025, 10, 13);
+    private final LocalTime nine = LocalTime.of(9, 0);
+    private final Long missingId = Long.MAX_VALUE;
+    private Long userId;
+    private Long otherUserId;
+    private Category systemCategory;
+    private Category customCategory;
+    private Category unusedCategory;
+    private Category otherCategory;
+    private Activity running;
+    private Activity reading;
+    private Activity unusedActivity;
+    private Activity otherActivity;
+    private TimeBlock timeBlock;
+    private TimeBlock otherTimeBlock;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(user("query-budget@example.com"));
+        User otherUser = userRepository.save(user("query-budget-other@example.com"));
+        userId = user.getId();
+        otherUserId = otherUser.getId();
+        systemCategory = categoryRepository.save(new Category("운동", "#2ECC71", null, null));
+        customCategory = categoryRepository.save(new Category("유산소", "#1ABC9C", user, systemCategory));
+        unusedCategory = categoryRepository.save(new Category("근력", "#16A085", user, systemCategory));
+        otherCategory = categoryRepository.save(new Category("요가", "#27AE60", otherUser, systemCategory));
+        running = activityRepository.save(new Activity("달리기", user, customCategory));
+        reading = activityRepository.save(new Activity("독서", user, systemCategory));
+        unusedActivity = activityRepository.save(new Activity("명상", user, systemCategory));
+        otherActivity = activityRepository.save(new Activity("수영", otherUser, systemCategory));
+        timeBlock = timeBlockRepository.save(new TimeBlock(monday, nine, TimeBlockType.PLAN, running));
+        otherTimeBlock = timeBlockRepository.save(new TimeBlock(monday, nine, TimeBlockType.PLAN, otherActivity));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 서비스 트랜잭션이 커밋한 행을 참조 순서대로 지움 (H2는 TRUNCATE ... CASCADE를 지원하지 않음)
+        for (Long id : List.of(userId, otherUserId)) {
+            jdbcTemplate.update("DELETE FROM time_block WHERE user_id = ?", id);
+            jdbcTemplate.update("DELETE FROM activity WHERE user_id = ?", id);
+            jdbcTemplate.update("DELETE FROM category WHERE user_id = ?", id);
+        }
+        jdbcTemplate.update("DELETE FROM category WHERE id = ?", systemCategory.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", userId, otherUserId);
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .nickname("tester")
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .build();
+    }
+
+    private static void assertFails(ErrorCode errorCode, Executable executable) {
+        assertThat(assertThrows(BusinessException.class, executable).getErrorCode()).isEqualTo(errorCode);
+    }
+
+    @Nested
+    @DisplayName("TimelineService")
+    class Timeline {
+
+        @BeforeEach
+        void setUpCache() {
+            // 캐시 미스 경로의 구문 수를 측정
+            given(timelineCache.get(any(), any(), any())).willAnswer(invocation ->
+                    invocation.<Supplier<TimelineResponse>>getArgument(2).get());
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("일간 조회 - 프로젝션 조회 한 번")
+        void getDailyTimeline() {
+            timelineService.getDailyTimeline(userId, monday);
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("기간 조회 - 기간과 무관하게 범위 조회 한 번")
+        void getTimelineRange() {
+            timelineService.getTimelineRange(userId, monday, monday.plusDays(6));
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("블록 수정 - 블록 조회 + 활동 조회 + UPDATE")
+        void updateTimeBlock() {
+            timelineService.updateTimeBlock(userId, timeBlock.getId(), new UpdateTimeBlockRequest(reading.getId()));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("블록 수정 실패(403) - 소유자 조건 조회 + 존재 확인")
+        void updateTimeBlock_permissionDenied() {
+            assertFails(ErrorCode.PERMISSION_DENIED,
+                    () -> timelineService.updateTimeBlock(userId, otherTimeBlock.getId(), new UpdateTimeBlockRequest(reading.getId())));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("블록 수정 실패(404) - 소유자 조건 조회 + 존재 확인")
+        void updateTimeBlock_notFound() {
+            assertFails(ErrorCode.TIME_BLOCK_NOT_FOUND,
+                    () -> timelineService.updateTimeBlock(userId, missingId, new UpdateTimeBlockRequest(reading.getId())));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("블록 삭제 - 슬롯 조회 + DELETE")
+        void deleteTimeBlock() {
+            timelineService.deleteTimeBlock(userId, timeBlock.getId());
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("블록 삭제 실패(403) - 소유자 조건 조회 + 존재 확인")
+        void deleteTimeBlock_permissionDenied() {
+            assertFails(ErrorCode.PERMISSION_DENIED, () -> timelineService.deleteTimeBlock(userId, otherTimeBlock.getId()));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("단일 기록 실패(403) - 활동 조회 + 존재 확인 (UPSERT 전에 실패)")
+        void createOrUpdateTimeBlock_permissionDenied() {
+            assertFails(ErrorCode.PERMISSION_DENIED, () -> timelineService.createOrUpdateTimeBlock(userId,
+                    new CreateTimeBlockRequest(monday, nine, TimeBlockType.ACTUAL, otherActivity.getId())));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("구간 채우기 실패(404) - 소유 확인 + 존재 확인 (INSERT 전에 실패)")
+        void fillRange_notFound() {
+            assertFails(ErrorCode.ACTIVITY_NOT_FOUND, () -> timelineService.fillRange(userId,
+                    new FillTimeBlockRangeRequest(monday, nine, LocalTime.of(12, 0), TimeBlockType.PLAN, missingId)));
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("구간 비우기 - DELETE 한 번")
+        void clearRange() {
+            timelineService.clearRange(userId, new TimeBlockRangeRequest(monday, nine, LocalTime.of(12, 0), TimeBlockType.PLAN));
+        }
+    }
+
+    @Nested
+    @DisplayName("ActivityService")
+    class Activities {
+
+        @Test
+        @QueryBudget(4)
+        @DisplayName("활동 생성 - 사용자 조회 + 카테고리 조회 + 중복 확인 + INSERT")
+        void createActivity() {
+            activityService.createActivity(userId, new CreateActivityRequest("수영", customCategory.getId()));
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("활동 목록 - 사용자/카테고리를 함께 가져오는 조회 한 번")
+        void findAllActivitiesGroupedByCategory() {
+            activityService.findAllActivitiesGroupedByCategory(userId);
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("활동 수정 - 활동 조회 + 중복 확인 + UPDATE")
+        void updateActivity() {
+            activityService.updateActivity(userId, running.getId(), new UpdateActivityRequest("조깅"));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("활동 수정 실패(403) - 소유자 조건 조회 + 존재 확인")
+        void updateActivity_permissionDenied() {
+            assertFails(ErrorCode.PERMISSION_DENIED,
+                    () -> activityService.updateActivity(userId, otherActivity.getId(), new UpdateActivityRequest("조깅")));
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("활동 삭제 - 미사용 조건부 DELETE 한 번")
+        void deleteActivity() {
+            activityService.deleteActivity(userId, unusedActivity.getId());
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("활동 삭제 실패(사용 중) - 조건부 DELETE + 소유 확인")
+        void deleteActivity_inUse() {
+            assertFails(ErrorCode.ACTIVITY_IN_USE, () -> activityService.deleteActivity(userId, running.getId()));
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("활동 삭제 실패(404) - 조건부 DELETE + 소유 확인 + 존재 확인")
+        void deleteActivity_notFound() {
+            assertFails(ErrorCode.ACTIVITY_NOT_FOUND, () -> activityService.deleteActivity(userId, missingId));
+        }
+    }
+
+    @Nested
+    @DisplayName("CategoryService")
+    class Categories {
+
+        @Test
+        @QueryBudget(4)
+        @DisplayName("카테고리 생성 - 사용자 조회 + 상위 카테고리 조회 + 중복 확인 + INSERT")
+        void createCustomCategory() {
+            categoryService.createCustomCategory(userId, new CreateCategoryRequest("스트레칭", "#FFFFFF", systemCategory.getId()));
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("카테고리 목록 - 사용자/상위 카테고리를 함께 가져오는 조회 한 번")
+        void findAllCategoriesForUser() {
+            categoryService.findAllCategoriesForUser(userId);
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("카테고리 수정 - 카테고리 조회 + 중복 확인 + UPDATE")
+        void updateCustomCategory() {
+            categoryService.updateCustomCategory(userId, customCategory.getId(), new UpdateCategoryRequest("러닝", "#000000"));
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("카테고리 수정 실패(403) - 소유자 조건 조회 + 존재 확인")
+        void updateCustomCategory_permissionDenied() {
+            assertFails(ErrorCode.PERMISSION_DENIED,
+                    () -> categoryService.updateCustomCategory(userId, otherCategory.getId(), new UpdateCategoryRequest("러닝", "#000000")));
+        }
+
+        @Test
+        @QueryBudget(1)
+        @DisplayName("카테고리 삭제 - 미사용 조건부 DELETE 한 번")
+        void deleteCustomCategory() {
+            categoryService.deleteCustomCategory(userId, unusedCategory.getId());
+        }
+
+        @Test
+        @QueryBudget(2)
+        @DisplayName("카테고리 삭제 실패(사용 중) - 조건부 DELETE + 소유 확인")
+        void deleteCustomCategory_inUse() {
+            assertFails(ErrorCode.CATEGORY_IN_USE, () -> categoryService.deleteCustomCategory(userId, customCategory.getId()));
+        }
+
+        @Test
+        @QueryBudget(3)
+        @DisplayName("카테고리 삭제 실패(403) - 조건부 DELETE + 소유 확인 + 존재 확인")
+        void deleteCustomCategory_permissionDenied() {
+            assertFails(ErrorCode.PERMISSION_DENIED, () -> categoryService.deleteCustomCategory(userId, otherCategory.getId()));
+        }
+    }
+}
@@ -10,6 +10,10 @@ import com.lifelogix.timeline.activity.api.dto.request.UpdateActivityRequest;
 import com.lifelogix.timeline.activity.api.dto.response.ActivitiesByCategoryResponse;
 import com.lifelogix.timeline.activity.api.dto.response.ActivityResponse;
 import com.lifelogix.timeline.activity.application.ActivityService;
+import com.lifelogix.timeline.core.application.IdempotencyService;
+import com.lifelogix.timeline.core.application.ResourceVersionService;
+import com.lifelogix.timeline.core.application.VersionedResource;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -26,6 +30,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -60,8 +65,21 @@ class ActivityControllerTest {
     @MockBean
     private ActivityService activityService;
 
+    @MockBean
+    private ResourceVersionService resourceVersionService;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     private final Long userId = 1L;
 
+    @BeforeEach
+    void setUpIdempotency() {
+        // 멱등성 키 처리는 IdempotencyServiceTest에서 검증하므로 여기서는 요청을 그대로 실행
+        given(idempotencyService.execute(any(), any(), any(), any(), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(5).get());
+    }
+
     @Nested
     @DisplayName("POST /api/v1/activities - 활동 생성")
     class CreateActivity {
@@ -121,6 +139,18 @@ class ActivityControllerTest {
                     .andExpect(jsonPath("$[0].activities[0].name").value("달리기"));
         }
 
+        @Test
+        @DisplayName("성공 - ETag가 현재 버전과 같으면 304 Not Modified")
+        void getAll_notModified() throws Exception {
+            // given
+            given(resourceVersionService.currentETag(userId, VersionedResource.ACTIVITIES)).willReturn("\"activities-42\"");
+
+            // when & then
+            mockMvc.perform(get("/api/v1/activities").header("If-None-Match", "\"activities-42\"")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isNotModified());
+            then(activityService).shouldHaveNoInteractions();
+        }
 
     }
 
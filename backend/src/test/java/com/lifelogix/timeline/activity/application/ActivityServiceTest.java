@@ -10,7 +10,7 @@ import com.lifelogix.timeline.activity.domain.Activity;
 import com.lifelogix.timeline.activity.domain.ActivityRepository;
 import com.lifelogix.timeline.category.domain.Category;
 import com.lifelogix.timeline.category.domain.CategoryRepository;
-import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
 import com.lifelogix.user.domain.User;
 import com.lifelogix.user.domain.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -44,7 +45,7 @@ class ActivityServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
     @Mock
-    private TimeBlockRepository timeBlockRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     private User user;
     private Category category;
@@ -163,7 +164,7 @@ class ActivityServiceTest {
             // given
             UpdateActivityRequest request = new UpdateActivityRequest("빠르게 달리기");
             Activity activity = new Activity(1L, "달리기", user, category);
-            given(activityRepository.findById(activity.getId())).willReturn(Optional.of(activity));
+            given(activityRepository.findByIdAndUserId(activity.getId(), user.getId())).willReturn(Optional.of(activity));
             given(activityRepository.existsByUserAndCategoryAndName(user, category, request.name())).willReturn(false);
 
             // when
@@ -171,6 +172,8 @@ class ActivityServiceTest {
 
             // then
             assertThat(response.name()).isEqualTo("빠르게 달리기");
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.allDates(user.getId()));
+            then(activityRepository).should(never()).existsById(any());
         }
 
         @Test
@@ -178,52 +181,82 @@ class ActivityServiceTest {
         void update_fail_permissionDenied() {
             // given
             UpdateActivityRequest request = new UpdateActivityRequest("빠르게 달리기");
-            Activity activity = new Activity(1L, "달리기", user, category);
             Long otherUserId = 99L;
-            given(activityRepository.findById(activity.getId())).willReturn(Optional.of(activity));
+            given(activityRepository.findByIdAndUserId(1L, otherUserId)).willReturn(Optional.empty());
+            given(activityRepository.existsById(1L)).willReturn(true);
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> activityService.updateActivity(otherUserId, activity.getId(), request));
+                    () -> activityService.updateActivity(otherUserId, 1L, request));
 
             // then
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PERMISSION_DENIED);
         }
+
+        @Test
+        @DisplayName("실패 - 존재하지 않는 활동")
+        void update_fail_activityNotFound() {
+            // given
+            UpdateActivityRequest request = new UpdateActivityRequest("빠르게 달리기");
+            given(activityRepository.findByIdAndUserId(999L, user.getId())).willReturn(Optional.empty());
+            given(activityRepository.existsById(999L)).willReturn(false);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> activityService.updateActivity(user.getId(), 999L, request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ACTIVITY_NOT_FOUND);
+        }
     }
 
     @Nested
     @DisplayName("활동 삭제")
     class DeleteActivity {
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 - 소유자/미사용 조건의 단일 삭제")
         void delete_success() {
             // given
-            Activity activity = new Activity(1L, "달리기", user, category);
-            given(activityRepository.findById(activity.getId())).willReturn(Optional.of(activity));
-            given(timeBlockRepository.existsByActivity(activity)).willReturn(false);
-            willDoNothing().given(activityRepository).delete(activity);
+            given(activityRepository.deleteUnusedByIdAndUserId(1L, user.getId())).willReturn(1);
 
             // when
-            activityService.deleteActivity(user.getId(), activity.getId());
+            activityService.deleteActivity(user.getId(), 1L);
 
             // then
-            then(activityRepository).should().delete(activity);
+            then(activityRepository).should().deleteUnusedByIdAndUserId(1L, user.getId());
+            then(activityRepository).should(never()).existsByIdAndUserId(any(), any());
         }
 
         @Test
         @DisplayName("실패 - 활동이 사용 중")
         void delete_fail_activityInUse() {
             // given
-            Activity activity = new Activity(1L, "달리기", user, category);
-            given(activityRepository.findById(activity.getId())).willReturn(Optional.of(activity));
-            given(timeBlockRepository.existsByActivity(activity)).willReturn(true);
+            given(activityRepository.deleteUnusedByIdAndUserId(1L, user.getId())).willReturn(0);
+            given(activityRepository.existsByIdAndUserId(1L, user.getId())).willReturn(true);
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> activityService.deleteActivity(user.getId(), activity.getId()));
+                    () -> activityService.deleteActivity(user.getId(), 1L));
 
             // then
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ACTIVITY_IN_USE);
         }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 활동")
+        void delete_fail_permissionDenied() {
+            // given
+            Long otherUserId = 99L;
+            given(activityRepository.deleteUnusedByIdAndUserId(1L, otherUserId)).willReturn(0);
+            given(activityRepository.existsByIdAndUserId(1L, otherUserId)).willReturn(false);
+            given(activityRepository.existsById(1L)).willReturn(true);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> activityService.deleteActivity(otherUserId, 1L));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PERMISSION_DENIED);
+        }
     }
 }
\ No newline at end of file
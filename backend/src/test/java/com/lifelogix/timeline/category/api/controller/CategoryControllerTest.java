@@ -9,6 +9,10 @@ import com.lifelogix.timeline.category.api.dto.request.CreateCategoryRequest;
 import com.lifelogix.timeline.category.api.dto.request.UpdateCategoryRequest;
 import com.lifelogix.timeline.category.api.dto.response.CategoryResponse;
 import com.lifelogix.timeline.category.application.CategoryService;
+import com.lifelogix.timeline.core.application.IdempotencyService;
+import com.lifelogix.timeline.core.application.ResourceVersionService;
+import com.lifelogix.timeline.core.application.VersionedResource;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,11 +23,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.net.URI;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -58,8 +65,21 @@ class CategoryControllerTest {
     @MockBean
     private CategoryService categoryService;
 
+    @MockBean
+    private ResourceVersionService resourceVersionService;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     private final Long userId = 1L;
 
+    @BeforeEach
+    void setUpIdempotency() {
+        // 멱등성 키 처리는 IdempotencyServiceTest에서 검증하므로 여기서는 요청을 그대로 실행
+        given(idempotencyService.execute(any(), any(), any(), any(), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(5).get());
+    }
+
     @Nested
     @DisplayName("POST /api/v1/categories - 카테고리 생성")
     class CreateCategory {
@@ -86,6 +106,28 @@ class CategoryControllerTest {
 
 
 
+        @Test
+        @DisplayName("성공 - 같은 Idempotency-Key로 재시도하면 저장된 응답을 그대로 반환")
+        void create_success_replayed() throws Exception {
+            // given
+            CreateCategoryRequest request = new CreateCategoryRequest("헬스", "#FFFFFF", 10L);
+            CategoryResponse response = new CategoryResponse(1L, "헬스", "#FFFFFF", true, 10L);
+            given(idempotencyService.execute(eq(userId), eq("retry-1"), eq("POST /api/v1/categories"), any(), eq(CategoryResponse.class), any()))
+                    .willReturn(ResponseEntity.created(URI.create("/api/v1/categories/1")).header(IdempotencyService.REPLAYED_HEADER, "true").body(response));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/categories")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .header(IdempotencyService.HEADER, "retry-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(IdempotencyService.REPLAYED_HEADER, "true"))
+                    .andExpect(jsonPath("$.id").value(1));
+            then(categoryService).shouldHaveNoInteractions();
+        }
+
         @Test
         @DisplayName("실패 - 이름 중복으로 409 Conflict 반환")
         void create_fail_duplicateName() throws Exception {
@@ -127,6 +169,18 @@ class CategoryControllerTest {
                     .andExpect(jsonPath("$[1].name").value("헬스"));
         }
 
+        @Test
+        @DisplayName("성공 - ETag가 현재 버전과 같으면 304 Not Modified")
+        void getAll_notModified() throws Exception {
+            // given
+            given(resourceVersionService.currentETag(userId, VersionedResource.CATEGORIES)).willReturn("\"categories-42\"");
+
+            // when & then
+            mockMvc.perform(get("/api/v1/categories").header("If-None-Match", "\"categories-42\"")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isNotModified());
+            then(categoryService).shouldHaveNoInteractions();
+        }
 
     }
 
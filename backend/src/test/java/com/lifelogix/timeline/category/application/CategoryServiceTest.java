@@ -2,12 +2,12 @@ package com.lifelogix.timeline.category.application;
 
 import com.lifelogix.exception.BusinessException;
 import com.lifelogix.exception.ErrorCode;
-import com.lifelogix.timeline.activity.domain.ActivityRepository;
 import com.lifelogix.timeline.category.api.dto.request.CreateCategoryRequest;
 import com.lifelogix.timeline.category.api.dto.request.UpdateCategoryRequest;
 import com.lifelogix.timeline.category.api.dto.response.CategoryResponse;
 import com.lifelogix.timeline.category.domain.Category;
 import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
 import com.lifelogix.user.domain.User;
 import com.lifelogix.user.domain.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,7 +42,7 @@ class CategoryServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private ActivityRepository activityRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     private User user;
     private Category systemParentCategory;
@@ -185,7 +186,7 @@ class CategoryServiceTest {
         @DisplayName("성공")
         void update_success() {
             // given
-            given(categoryRepository.findById(customCategory.getId())).willReturn(Optional.of(customCategory));
+            given(categoryRepository.findByIdAndUserId(customCategory.getId(), user.getId())).willReturn(Optional.of(customCategory));
             given(categoryRepository.existsByUserAndName(user, request.name())).willReturn(false);
 
             // when
@@ -195,6 +196,7 @@ class CategoryServiceTest {
             assertThat(response.id()).isEqualTo(customCategory.getId());
             assertThat(response.name()).isEqualTo("필라테스");
             assertThat(response.color()).isEqualTo("#BBBBBB");
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.allDates(user.getId()));
         }
 
         @Test
@@ -202,7 +204,7 @@ class CategoryServiceTest {
         void update_success_onlyColor() {
             // given
             UpdateCategoryRequest onlyColorRequest = new UpdateCategoryRequest(customCategory.getName(), "#CCCCCC");
-            given(categoryRepository.findById(customCategory.getId())).willReturn(Optional.of(customCategory));
+            given(categoryRepository.findByIdAndUserId(customCategory.getId(), user.getId())).willReturn(Optional.of(customCategory));
 
             // when
             CategoryResponse response = categoryService.updateCustomCategory(user.getId(), customCategory.getId(), onlyColorRequest);
@@ -218,7 +220,8 @@ class CategoryServiceTest {
         void update_fail_permissionDenied_otherUser() {
             // given
             Long otherUserId = 2L;
-            given(categoryRepository.findById(customCategory.getId())).willReturn(Optional.of(customCategory));
+            given(categoryRepository.findByIdAndUserId(customCategory.getId(), otherUserId)).willReturn(Optional.empty());
+            given(categoryRepository.existsById(customCategory.getId())).willReturn(true);
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
@@ -232,7 +235,8 @@ class CategoryServiceTest {
         @DisplayName("실패 - 권한 없음 (시스템 카테고리)")
         void update_fail_permissionDenied_systemCategory() {
             // given
-            given(categoryRepository.findById(systemParentCategory.getId())).willReturn(Optional.of(systemParentCategory));
+            given(categoryRepository.findByIdAndUserId(systemParentCategory.getId(), user.getId())).willReturn(Optional.empty());
+            given(categoryRepository.existsById(systemParentCategory.getId())).willReturn(true);
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
@@ -246,7 +250,7 @@ class CategoryServiceTest {
         @DisplayName("실패 - 이름 중복")
         void update_fail_duplicateName() {
             // given
-            given(categoryRepository.findById(customCategory.getId())).willReturn(Optional.of(customCategory));
+            given(categoryRepository.findByIdAndUserId(customCategory.getId(), user.getId())).willReturn(Optional.of(customCategory));
             given(categoryRepository.existsByUserAndName(user, request.name())).willReturn(true);
 
             // when
@@ -270,18 +274,17 @@ class CategoryServiceTest {
         }
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 - 소유자/미사용 조건의 단일 삭제")
         void delete_success() {
             // given
-            given(categoryRepository.findById(customCategory.getId())).willReturn(Optional.of(customCategory));
-            given(activityRepository.existsByCategory(customCategory)).willReturn(false);
-            willDoNothing().given(categoryRepository).deleteById(customCategory.getId());
+            given(categoryRepository.deleteUnusedByIdAndUserId(customCategory.getId(), user.getId())).willReturn(1);
 
             // when
             categoryService.deleteCustomCategory(user.getId(), customCategory.getId());
 
             // then
-            then(categoryRepository).should().deleteById(customCategory.getId());
+            then(categoryRepository).should().deleteUnusedByIdAndUserId(customCategory.getId(), user.getId());
+            then(categoryRepository).should(never()).existsByIdAndUserId(any(), any());
         }
 
         @Test
@@ -289,7 +292,9 @@ class CategoryServiceTest {
         void delete_fail_permissionDenied() {
             // given
             Long otherUserId = 2L;
-            given(categoryRepository.findById(customCategory.getId())).willReturn(Optional.of(customCategory));
+            given(categoryRepository.deleteUnusedByIdAndUserId(customCategory.getId(), otherUserId)).willReturn(0);
+            given(categoryRepository.existsByIdAndUserId(customCategory.getId(), otherUserId)).willReturn(false);
+            given(categoryRepository.existsById(customCategory.getId())).willReturn(true);
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
@@ -303,8 +308,8 @@ class CategoryServiceTest {
         @DisplayName("실패 - 사용 중인 카테고리")
         void delete_fail_categoryInUse() {
             // given
-            given(categoryRepository.findById(customCategory.getId())).willReturn(Optional.of(customCategory));
-            given(activityRepository.existsByCategory(customCategory)).willReturn(true);
+            given(categoryRepository.deleteUnusedByIdAndUserId(customCategory.getId(), user.getId())).willReturn(0);
+            given(categoryRepository.existsByIdAndUserId(customCategory.getId(), user.getId())).willReturn(true);
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
@@ -313,5 +318,21 @@ class CategoryServiceTest {
             // then
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CATEGORY_IN_USE);
         }
+
+        @Test
+        @DisplayName("실패 - 존재하지 않는 카테고리")
+        void delete_fail_categoryNotFound() {
+            // given
+            given(categoryRepository.deleteUnusedByIdAndUserId(999L, user.getId())).willReturn(0);
+            given(categoryRepository.existsByIdAndUserId(999L, user.getId())).willReturn(false);
+            given(categoryRepository.existsById(999L)).willReturn(false);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> categoryService.deleteCustomCategory(user.getId(), 999L));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CATEGORY_NOT_FOUND);
+        }
     }
 }
\ No newline at end of file
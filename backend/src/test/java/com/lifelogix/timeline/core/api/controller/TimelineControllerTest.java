@@ -5,13 +5,29 @@ import com.lifelogix.config.TestSecurityConfig;
 import com.lifelogix.config.jwt.JwtProperties;
 import com.lifelogix.exception.BusinessException;
 import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.core.api.dto.request.BatchTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.CopyTimeBlocksRequest;
 import com.lifelogix.timeline.core.api.dto.request.CreateTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.FillTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.ShiftTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.TimeBlockRangeRequest;
 import com.lifelogix.timeline.core.api.dto.request.UpdateTimeBlockRequest;
 import com.lifelogix.timeline.core.api.dto.response.BlockDetailResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockCopyResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockRangeResponse;
 import com.lifelogix.timeline.core.api.dto.response.TimeBlockResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimelineImportResponse;
 import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
+import com.lifelogix.timeline.core.application.IdempotencyService;
+import com.lifelogix.timeline.core.application.ResourceVersionService;
+import com.lifelogix.timeline.core.application.TimelineExportService;
+import com.lifelogix.timeline.core.application.TimelineFileFormat;
+import com.lifelogix.timeline.core.application.TimelineImportService;
 import com.lifelogix.timeline.core.application.TimelineService;
+import com.lifelogix.timeline.core.application.VersionedResource;
 import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.core.domain.TimelineImportStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -22,13 +38,19 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -36,7 +58,10 @@ import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.mock;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TimelineController.class)
@@ -64,8 +89,27 @@ class TimelineControllerTest {
     @MockBean
     private TimelineService timelineService;
 
+    @MockBean
+    private ResourceVersionService resourceVersionService;
+
+    @MockBean
+    private TimelineExportService timelineExportService;
+
+    @MockBean
+    private TimelineImportService timelineImportService;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     private final Long userId = 1L;
 
+    @BeforeEach
+    void setUpIdempotency() {
+        // 멱등성 키 처리는 IdempotencyServiceTest에서 검증하므로 여기서는 요청을 그대로 실행
+        given(idempotencyService.execute(any(), any(), any(), any(), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(5).get());
+    }
+
     @Nested
     @DisplayName("GET /api/v1/timeline - 일일 타임라인 조회")
     class GetDailyTimeline {
@@ -86,9 +130,154 @@ class TimelineControllerTest {
                     .andExpect(jsonPath("$.date").value(date.toString()));
         }
 
+        @Test
+        @DisplayName("성공 - 200 OK와 함께 현재 버전의 ETag 반환")
+        void get_success_withETag() throws Exception {
+            // given
+            LocalDate date = LocalDate.of(2025, 10, 12);
+            given(resourceVersionService.currentETag(userId, VersionedResource.TIMELINE)).willReturn("\"timeline-42\"");
+            given(timelineService.getDailyTimeline(userId, date)).willReturn(new TimelineResponse(date, List.of()));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/timeline").param("date", date.toString())
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"timeline-42\""))
+                    .andExpect(header().string("Cache-Control", "no-cache, private"));
+        }
+
+        @Test
+        @DisplayName("성공 - ETag가 현재 버전과 같으면 304 Not Modified")
+        void get_notModified() throws Exception {
+            // given
+            given(resourceVersionService.currentETag(userId, VersionedResource.TIMELINE)).willReturn("\"timeline-42\"");
+
+            // when & then
+            mockMvc.perform(get("/api/v1/timeline").param("date", "2025-10-12").header("If-None-Match", "\"timeline-42\"")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isNotModified());
+            then(timelineService).shouldHaveNoInteractions();
+        }
 
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/timeline/range - 기간 타임라인 조회")
+    class GetTimelineRange {
+        @Test
+        @DisplayName("성공 - 200 OK")
+        void getRange_success() throws Exception {
+            // given
+            LocalDate from = LocalDate.of(2025, 10, 13);
+            LocalDate to = LocalDate.of(2025, 10, 14);
+            List<TimelineResponse> responses = List.of(
+                    new TimelineResponse(from, Collections.singletonList(new TimeBlockResponse(LocalTime.of(9, 0), null, null))),
+                    new TimelineResponse(to, Collections.emptyList())
+            );
+            given(timelineService.getTimelineRange(userId, from, to)).willReturn(responses);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/timeline/range").param("from", from.toString()).param("to", to.toString())
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].date").value(from.toString()))
+                    .andExpect(jsonPath("$[1].timeBlocks").isEmpty());
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 기간으로 400 Bad Request")
+        void getRange_fail_invalidRange() throws Exception {
+            // given
+            LocalDate from = LocalDate.of(2025, 10, 14);
+            LocalDate to = LocalDate.of(2025, 10, 13);
+            given(timelineService.getTimelineRange(userId, from, to))
+                    .willThrow(new BusinessException(ErrorCode.INVALID_DATE_RANGE));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/timeline/range").param("from", from.toString()).param("to", to.toString())
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/timeline/export - 전체 기록 내보내기")
+    class ExportTimeline {
+        @Test
+        @DisplayName("성공 - 200 OK와 첨부 파일로 스트리밍")
+        void export_success() throws Exception {
+            // given
+            given(timelineExportService.export(eq(userId), eq(TimelineFileFormat.NDJSON), any(OutputStream.class)))
+                    .willAnswer(invocation -> {
+                        invocation.getArgument(2, OutputStream.class).write("{\"type\":\"PLAN\"}\n".getBytes(StandardCharsets.UTF_8));
+                        return 1L;
+                    });
+
+            // when
+            MvcResult result = mockMvc.perform(get("/api/v1/timeline/export").param("format", "ndjson")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=\"lifelogix-timeline.ndjson\""))
+                    .andExpect(content().string("{\"type\":\"PLAN\"}\n"));
+        }
+
+        @Test
+        @DisplayName("실패 - 지원하지 않는 형식으로 400 Bad Request 반환")
+        void export_fail_invalidFormat() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/v1/timeline/export").param("format", "xlsx")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isBadRequest());
+            then(timelineExportService).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/timeline/import - 기록 가져오기")
+    class ImportTimeline {
+        private final MockMultipartFile file = new MockMultipartFile("file", "history.csv", "text/csv",
+                "2025-10-13,09:00,PLAN,달리기,운동\n".getBytes(StandardCharsets.UTF_8));
+
+        @Test
+        @DisplayName("성공 - 200 OK와 작업 진행 상태 반환")
+        void import_success() throws Exception {
+            // given
+            TimelineImportResponse response = new TimelineImportResponse(50L, TimelineImportStatus.COMPLETED, 1, 1, 0, List.of());
+            given(timelineImportService.importTimeline(eq(userId), eq(TimelineFileFormat.CSV), isNull(), isNull(), any()))
+                    .willReturn(response);
+
+            // when & then
+            mockMvc.perform(multipart("/api/v1/timeline/import").file(file)
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.jobId").value(50))
+                    .andExpect(jsonPath("$.status").value("COMPLETED"))
+                    .andExpect(jsonPath("$.importedRows").value(1));
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 작업을 이어서 처리하면 404 Not Found 반환")
+        void import_fail_jobNotFound() throws Exception {
+            // given
+            given(timelineImportService.importTimeline(eq(userId), eq(TimelineFileFormat.CSV), eq(50L), isNull(), any()))
+                    .willThrow(new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+
+            // when & then
+            mockMvc.perform(multipart("/api/v1/timeline/import").file(file).param("jobId", "50")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf()))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/v1/timeline/block - 타임블록 생성/수정")
     class CreateOrUpdateTimeBlock {
@@ -111,6 +300,51 @@ class TimelineControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/timeline/block/batch - 타임블록 일괄 기록")
+    class CreateOrUpdateTimeBlocks {
+        @Test
+        @DisplayName("성공 - 201 Created")
+        void batch_success() throws Exception {
+            // given
+            LocalDate date = LocalDate.now();
+            BatchTimeBlockRequest request = new BatchTimeBlockRequest(List.of(
+                    new CreateTimeBlockRequest(date, LocalTime.of(9, 0), TimeBlockType.PLAN, 10L),
+                    new CreateTimeBlockRequest(date, LocalTime.of(9, 30), TimeBlockType.PLAN, 10L)
+            ));
+            List<BlockDetailResponse> responses = List.of(
+                    new BlockDetailResponse(1L, 10L, "운동", "건강", "#FFFFFF"),
+                    new BlockDetailResponse(2L, 10L, "운동", "건강", "#FFFFFF")
+            );
+            given(timelineService.createOrUpdateTimeBlocks(eq(userId), any(BatchTimeBlockRequest.class))).willReturn(responses);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/timeline/block/batch")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.length()").value(2));
+        }
+
+        @Test
+        @DisplayName("실패 - 빈 요청으로 400 Bad Request")
+        void batch_fail_emptyBlocks() throws Exception {
+            // given
+            BatchTimeBlockRequest request = new BatchTimeBlockRequest(List.of());
+
+            // when & then
+            mockMvc.perform(post("/api/v1/timeline/block/batch")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+            then(timelineService).shouldHaveNoInteractions();
+        }
+    }
+
     @Nested
     @DisplayName("PUT /api/v1/timeline/block/{timeBlockId} - 타임블록 활동 변경")
     class UpdateTimeBlock {
@@ -152,6 +386,110 @@ class TimelineControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/timeline/block/range/* - 구간 기록/삭제/이동")
+    class RangeOperations {
+        private final LocalDate date = LocalDate.of(2025, 10, 13);
+
+        @Test
+        @DisplayName("성공 - 구간 채우기 200 OK")
+        void fill_success() throws Exception {
+            // given
+            FillTimeBlockRangeRequest request = new FillTimeBlockRangeRequest(
+                    date, LocalTime.of(9, 0), LocalTime.of(11, 30), TimeBlockType.PLAN, 10L);
+            given(timelineService.fillRange(eq(userId), any(FillTimeBlockRangeRequest.class)))
+                    .willReturn(new TimeBlockRangeResponse(date, 6));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/timeline/block/range/fill")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.date").value("2025-10-13"))
+                    .andExpect(jsonPath("$.affectedBlocks").value(6));
+        }
+
+        @Test
+        @DisplayName("실패 - 30분 단위가 아닌 구간 비우기 400 Bad Request")
+        void clear_fail_invalidRange() throws Exception {
+            // given
+            TimeBlockRangeRequest request = new TimeBlockRangeRequest(date, LocalTime.of(9, 10), LocalTime.of(10, 0), TimeBlockType.PLAN);
+            given(timelineService.clearRange(eq(userId), any(TimeBlockRangeRequest.class)))
+                    .willThrow(new BusinessException(ErrorCode.INVALID_SLOT_RANGE));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/timeline/block/range/clear")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("실패 - 이동할 슬롯 수 누락 400 Bad Request")
+        void shift_fail_missingSlots() throws Exception {
+            // given
+            ShiftTimeBlockRangeRequest request = new ShiftTimeBlockRangeRequest(
+                    date, LocalTime.of(9, 0), LocalTime.of(10, 0), TimeBlockType.PLAN, null);
+
+            // when & then
+            mockMvc.perform(post("/api/v1/timeline/block/range/shift")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+            then(timelineService).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/timeline/copy - 기간 복사")
+    class CopyTimeBlocks {
+
+        @Test
+        @DisplayName("성공 - 200 OK와 복사된 블록 수 반환")
+        void copy_success() throws Exception {
+            // given
+            LocalDate monday = LocalDate.of(2025, 10, 13);
+            CopyTimeBlocksRequest request = new CopyTimeBlocksRequest(
+                    monday, monday.plusDays(6), monday.plusDays(7), monday.plusDays(13), TimeBlockType.PLAN, null);
+            given(timelineService.copyTimeBlocks(eq(userId), any(CopyTimeBlocksRequest.class)))
+                    .willReturn(new TimeBlockCopyResponse(monday.plusDays(7), monday.plusDays(13), 70));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/timeline/copy")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.copiedBlocks").value(70));
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 복사 기간 400 Bad Request")
+        void copy_fail_invalidRange() throws Exception {
+            // given
+            LocalDate monday = LocalDate.of(2025, 10, 13);
+            CopyTimeBlocksRequest request = new CopyTimeBlocksRequest(
+                    monday, monday.plusDays(10), monday.plusDays(14), monday.plusDays(20), null, null);
+            given(timelineService.copyTimeBlocks(eq(userId), any(CopyTimeBlocksRequest.class)))
+                    .willThrow(new BusinessException(ErrorCode.INVALID_COPY_RANGE));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/timeline/copy")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /api/v1/timeline/block/{timeBlockId} - 타임블록 삭제")
     class DeleteTimeBlock {
@@ -0,0 +1,220 @@
+package com.lifelogix.timeline.core.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.category.api.dto.request.CreateCategoryRequest;
+import com.lifelogix.timeline.category.api.dto.response.CategoryResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService 단위 테스트")
+class IdempotencyServiceTest {
+
+    private static final String KEY = "idempotency:1:retry-1";
+    private static final String OPERATION = "POST /api/v1/categories";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private IdempotencyService idempotencyService;
+
+    private final Long userId = 1L;
+    private final CreateCategoryRequest request = new CreateCategoryRequest("헬스", "#FFFFFF", 10L);
+    private final CategoryResponse response = new CategoryResponse(1L, "헬스", "#FFFFFF", true, 10L);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(redisTemplate, new ObjectMapper());
+    }
+
+    private Supplier<ResponseEntity<CategoryResponse>> createCategory() {
+        return () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.created(URI.create("/api/v1/categories/1")).body(response);
+        };
+    }
+
+    private ResponseEntity<CategoryResponse> execute(String key, Object body) {
+        return idempotencyService.execute(userId, key, OPERATION, body, CategoryResponse.class, createCategory());
+    }
+
+    /**
+     * 첫 요청을 실행해 Redis에 저장된 응답을 반환
+     */
+    private String executeFirst() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(IdempotencyService.IN_FLIGHT_TTL))).willReturn(true);
+        execute("retry-1", request);
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        then(valueOperations).should().set(eq(KEY), stored.capture(), eq(IdempotencyService.RESPONSE_TTL));
+        return stored.getValue();
+    }
+
+    @Nested
+    @DisplayName("멱등 실행")
+    class Execute {
+
+        @Test
+        @DisplayName("성공 - 키가 없으면 Redis를 거치지 않고 실행")
+        void execute_success_withoutKey() {
+            // when
+            ResponseEntity<CategoryResponse> result = execute(null, request);
+
+            // then
+            assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(executions).hasValue(1);
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공 - 같은 키로 재시도하면 다시 실행하지 않고 저장된 응답을 재생")
+        void execute_success_replay() {
+            // given
+            String stored = executeFirst();
+            given(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(IdempotencyService.IN_FLIGHT_TTL))).willReturn(false);
+            given(valueOperations.get(KEY)).willReturn(stored);
+
+            // when
+            ResponseEntity<CategoryResponse> replayed = execute("retry-1", request);
+
+            // then
+            assertThat(executions).hasValue(1);
+            assertThat(replayed.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(replayed.getHeaders().getLocation()).isEqualTo(URI.create("/api/v1/categories/1"));
+            assertThat(replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(replayed.getBody()).isEqualTo(response);
+        }
+
+        @Test
+        @DisplayName("성공 - 첫 요청이 처리 중이면 끝날 때까지 기다렸다가 응답을 재생")
+        void execute_success_waitsForInFlight() {
+            // given: 처리 중 표시를 한 번 읽은 뒤 완료된 응답을 읽음
+            String stored = executeFirst();
+            AtomicReference<String> inFlight = new AtomicReference<>();
+            given(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(IdempotencyService.IN_FLIGHT_TTL))).willAnswer(invocation -> {
+                inFlight.set(invocation.getArgument(1));
+                return false;
+            });
+            given(valueOperations.get(KEY)).willAnswer(invocation -> inFlight.getAndSet(stored));
+
+            // when
+            ResponseEntity<CategoryResponse> replayed = execute("retry-1", request);
+
+            // then
+            assertThat(executions).hasValue(1);
+            assertThat(replayed.getBody()).isEqualTo(response);
+        }
+
+        @Test
+        @DisplayName("실패 - 같은 키를 다른 요청 본문에 쓰면 IDEMPOTENCY_KEY_REUSED 예외 발생")
+        void execute_fail_keyReused() {
+            // given
+            String stored = executeFirst();
+            given(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(IdempotencyService.IN_FLIGHT_TTL))).willReturn(false);
+            given(valueOperations.get(KEY)).willReturn(stored);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> execute("retry-1", new CreateCategoryRequest("필라테스", "#FFFFFF", 10L)));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            assertThat(executions).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("실패 - 첫 요청이 대기 시간 안에 끝나지 않으면 IDEMPOTENT_REQUEST_IN_PROGRESS 예외 발생")
+        void execute_fail_stillInFlight() {
+            // given
+            AtomicReference<String> inFlight = new AtomicReference<>();
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(IdempotencyService.IN_FLIGHT_TTL))).willAnswer(invocation -> {
+                inFlight.set(invocation.getArgument(1));
+                return false;
+            });
+            given(valueOperations.get(KEY)).willAnswer(invocation -> inFlight.get());
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class, () -> execute("retry-1", request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            assertThat(executions).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("실패 - 실행 중 예외가 나면 키를 풀어 같은 키로 다시 시도할 수 있게 함")
+        void execute_fail_releasesKeyOnError() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(IdempotencyService.IN_FLIGHT_TTL))).willReturn(true);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class, () -> idempotencyService.execute(
+                    userId, "retry-1", OPERATION, request, CategoryResponse.class, () -> {
+                        throw new BusinessException(ErrorCode.CATEGORY_NAME_DUPLICATE);
+                    }));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CATEGORY_NAME_DUPLICATE);
+            then(redisTemplate).should().delete(KEY);
+            then(valueOperations).should(never()).set(anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 키 형식이 올바르지 않으면 INVALID_IDEMPOTENCY_KEY 예외 발생")
+        void execute_fail_invalidKey() {
+            // when
+            BusinessException exception = assertThrows(BusinessException.class, () -> execute("retry 1", request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            assertThat(executions).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("Redis 장애 - 키 없이 그대로 실행")
+        void execute_redisUnavailable() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(KEY), anyString(), eq(IdempotencyService.IN_FLIGHT_TTL)))
+                    .willThrow(new RedisConnectionFailureException("connection refused"));
+
+            // when
+            ResponseEntity<CategoryResponse> result = execute("retry-1", request);
+
+            // then
+            assertThat(result.getBody()).isEqualTo(response);
+            assertThat(executions).hasValue(1);
+        }
+    }
+}
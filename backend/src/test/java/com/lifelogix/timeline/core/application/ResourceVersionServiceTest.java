@@ -0,0 +1,115 @@
+package com.lifelogix.timeline.core.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResourceVersionService 단위 테스트")
+class ResourceVersionServiceTest {
+
+    @InjectMocks
+    private ResourceVersionService resourceVersionService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, String, String> hashOperations;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+    }
+
+    @Nested
+    @DisplayName("ETag 조회")
+    class CurrentETag {
+
+        @Test
+        @DisplayName("성공 - 저장된 버전으로 강한 ETag 생성")
+        void currentETag_success() {
+            // given
+            given(hashOperations.get("version:1", "timeline")).willReturn("42");
+
+            // when
+            String eTag = resourceVersionService.currentETag(userId, VersionedResource.TIMELINE);
+
+            // then
+            assertThat(eTag).isEqualTo("\"timeline-42\"");
+            then(hashOperations).should(never()).putIfAbsent(anyString(), anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("성공 - 버전이 없으면 초기화 후 반환")
+        void currentETag_success_initialize() {
+            // given
+            given(hashOperations.get("version:1", "categories")).willReturn(null, "1700000000000");
+
+            // when
+            String eTag = resourceVersionService.currentETag(userId, VersionedResource.CATEGORIES);
+
+            // then
+            assertThat(eTag).isEqualTo("\"categories-1700000000000\"");
+            then(hashOperations).should().putIfAbsent(eq("version:1"), eq("categories"), anyString());
+        }
+
+        @Test
+        @DisplayName("실패 - Redis 장애 시 null 반환")
+        void currentETag_fail_redisUnavailable() {
+            // given
+            given(hashOperations.get(any(), any())).willThrow(new RedisConnectionFailureException("down"));
+
+            // when
+            String eTag = resourceVersionService.currentETag(userId, VersionedResource.ACTIVITIES);
+
+            // then
+            assertThat(eTag).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("버전 증가")
+    class Increment {
+
+        @Test
+        @DisplayName("성공 - 타임라인 변경 시 타임라인 버전만 증가")
+        void increment_success_timeline() {
+            // when
+            resourceVersionService.onTimelineChanged(TimelineChangedEvent.of(userId, LocalDate.of(2025, 10, 13)));
+
+            // then
+            then(hashOperations).should().increment("version:1", "timeline", 1);
+            then(hashOperations).should(never()).increment("version:1", "activities", 1);
+        }
+
+        @Test
+        @DisplayName("성공 - 카테고리 변경 시 요청된 리소스 버전을 모두 증가")
+        void increment_success_resources() {
+            // when
+            resourceVersionService.onResourceChanged(
+                    ResourceChangedEvent.of(userId, VersionedResource.CATEGORIES, VersionedResource.ACTIVITIES));
+
+            // then
+            then(hashOperations).should().increment("version:1", "categories", 1);
+            then(hashOperations).should().increment("version:1", "activities", 1);
+        }
+    }
+}
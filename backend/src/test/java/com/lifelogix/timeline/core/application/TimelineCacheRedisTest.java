@@ -0,0 +1,123 @@
+package com.lifelogix.timeline.core.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.timeline.core.api.dto.response.BlockDetailResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인스턴스 두 개가 같은 Redis를 공유할 때 조회와 무효화가 엇갈려도 오래된 값이 L2에 남지 않는지 실제 Redis 컨테이너에서 검증
+ * 인스턴스 간 pub/sub은 연결하지 않아, 로컬 세대 번호가 아닌 Redis 버전 번호만으로 막히는지 확인
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("TimelineCache 인스턴스 간 무효화 테스트 (Redis)")
+class TimelineCacheRedisTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final Long userId = 1L;
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private TimelineResponse before;
+    private TimelineResponse after;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        before = timeline(new BlockDetailResponse(5L, 10L, "달리기", "운동", "#111111"));
+        after = timeline(new BlockDetailResponse(5L, 11L, "독서", "공부", "#222222"));
+    }
+
+    private TimelineResponse timeline(BlockDetailResponse plan) {
+        return new TimelineResponse(date, List.of(new TimeBlockResponse(LocalTime.of(9, 0), plan, null)));
+    }
+
+    private TimelineCache newInstance() {
+        return new TimelineCache(redisTemplate, Mockito.mock(RedisMessageListenerContainer.class), objectMapper,
+                new TimelineCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("조회 도중 다른 인스턴스가 무효화하면 조회한 값을 L2/L1에 기록하지 않음")
+    void get_concurrentEvictionOnOtherInstance_skipsStaleWrite() {
+        // given
+        TimelineCache reader = newInstance();
+        TimelineCache writer = newInstance();
+
+        // when: reader가 DB에서 변경 전 값을 읽은 직후, writer 인스턴스에서 변경이 커밋되어 무효화됨
+        TimelineResponse loaded = reader.get(userId, date, () -> {
+            writer.onTimelineChanged(TimelineChangedEvent.of(userId, date));
+            return before;
+        });
+        AtomicInteger loads = new AtomicInteger();
+        TimelineResponse next = reader.get(userId, date, () -> {
+            loads.incrementAndGet();
+            return after;
+        });
+
+        // then
+        assertThat(loaded).isEqualTo(before);
+        assertThat(next).isEqualTo(after);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(newInstance().get(userId, date, () -> {
+            throw new AssertionError("loader should not be called");
+        })).isEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("무효화 이후에 시작한 조회는 L2에 기록되어 다른 인스턴스가 DB 없이 응답")
+    void get_afterEviction_sharesWithOtherInstance() {
+        // given
+        TimelineCache first = newInstance();
+        TimelineCache second = newInstance();
+        second.onTimelineChanged(TimelineChangedEvent.of(userId, date));
+
+        // when
+        first.get(userId, date, () -> after);
+        TimelineResponse response = second.get(userId, date, () -> {
+            throw new AssertionError("loader should not be called");
+        });
+
+        // then
+        assertThat(response).isEqualTo(after);
+        assertThat(redisTemplate.opsForValue().get("timeline:1:version")).isEqualTo("1");
+    }
+}
@@ -0,0 +1,182 @@
+package com.lifelogix.timeline.core.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.timeline.core.api.dto.response.BlockDetailResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimelineCache 단위 테스트")
+class TimelineCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TimelineCache timelineCache;
+
+    private final Long userId = 1L;
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private TimelineResponse timeline;
+
+    @BeforeEach
+    void setUp() {
+        timelineCache = new TimelineCache(redisTemplate, listenerContainer, objectMapper, new TimelineCacheProperties(), meterRegistry);
+        BlockDetailResponse plan = new BlockDetailResponse(5L, 10L, "달리기", "운동", "#111111");
+        timeline = new TimelineResponse(date, List.of(new TimeBlockResponse(LocalTime.of(9, 0), plan, null)));
+        lenient().when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Get {
+
+        @Test
+        @DisplayName("성공 - 두 번째 조회는 로컬 캐시에서 응답")
+        void get_success_localHit() {
+            // given
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            timelineCache.get(userId, date, () -> {
+                loads.incrementAndGet();
+                return timeline;
+            });
+            TimelineResponse response = timelineCache.get(userId, date, () -> {
+                loads.incrementAndGet();
+                return timeline;
+            });
+
+            // then
+            assertThat(response).isEqualTo(timeline);
+            assertThat(loads.get()).isEqualTo(1);
+            then(hashOperations).should(times(1)).get("timeline:1", "2025-10-13");
+            assertThat(meterRegistry.get("timeline.cache.gets").tag("level", "local").tag("result", "hit").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - Redis에 있으면 DB를 조회하지 않음")
+        void get_success_redisHit() throws Exception {
+            // given
+            given(hashOperations.get("timeline:1", "2025-10-13")).willReturn(objectMapper.writeValueAsString(timeline));
+
+            // when
+            TimelineResponse response = timelineCache.get(userId, date, () -> {
+                throw new AssertionError("loader should not be called");
+            });
+
+            // then
+            assertThat(response).isEqualTo(timeline);
+            assertThat(meterRegistry.get("timeline.cache.gets").tag("level", "redis").tag("result", "hit").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 장애 시 DB 조회 결과를 반환")
+        void get_success_redisUnavailable() {
+            // given
+            given(hashOperations.get(any(), any())).willThrow(new RedisConnectionFailureException("down"));
+            given(valueOperations.get(any())).willThrow(new RedisConnectionFailureException("down"));
+
+            // when
+            TimelineResponse response = timelineCache.get(userId, date, () -> timeline);
+
+            // then
+            assertThat(response).isEqualTo(timeline);
+        }
+
+        @Test
+        @DisplayName("성공 - 조회 도중 다른 인스턴스가 무효화해 L2에 기록되지 않으면 L1에도 넣지 않음")
+        void get_success_skipsStaleWrite() {
+            // given
+            given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any())).willReturn(0L);
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            timelineCache.get(userId, date, () -> {
+                loads.incrementAndGet();
+                return timeline;
+            });
+            timelineCache.get(userId, date, () -> {
+                loads.incrementAndGet();
+                return timeline;
+            });
+
+            // then
+            assertThat(loads.get()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class Evict {
+
+        @Test
+        @DisplayName("성공 - 변경된 날짜만 양쪽 계층에서 제거하고 다른 인스턴스에 알림")
+        void evict_success_dates() {
+            // given
+            timelineCache.get(userId, date, () -> timeline);
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            timelineCache.onTimelineChanged(TimelineChangedEvent.of(userId, date));
+            timelineCache.get(userId, date, () -> {
+                loads.incrementAndGet();
+                return timeline;
+            });
+
+            // then: 버전 번호를 올린 뒤에 L2를 지움
+            assertThat(loads.get()).isEqualTo(1);
+            InOrder inOrder = inOrder(valueOperations, hashOperations);
+            inOrder.verify(valueOperations).increment("timeline:1:version");
+            inOrder.verify(hashOperations).delete("timeline:1", "2025-10-13");
+            then(redisTemplate).should().convertAndSend("timeline:cache:evict", "1:2025-10-13");
+        }
+
+        @Test
+        @DisplayName("성공 - 이름 변경 시 사용자의 모든 날짜를 제거")
+        void evict_success_allDates() {
+            // when
+            timelineCache.onTimelineChanged(TimelineChangedEvent.allDates(userId));
+
+            // then
+            then(redisTemplate).should().delete("timeline:1");
+            then(redisTemplate).should().convertAndSend("timeline:cache:evict", "1");
+        }
+    }
+}
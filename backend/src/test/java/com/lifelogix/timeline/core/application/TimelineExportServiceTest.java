@@ -0,0 +1,158 @@
+package com.lifelogix.timeline.core.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.core.domain.TimeBlockFileRow;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimelineExportService 단위 테스트")
+class TimelineExportServiceTest {
+
+    @Mock
+    private TimeBlockRepository timeBlockRepository;
+
+    private TimelineExportService timelineExportService;
+
+    private final Long userId = 1L;
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        timelineExportService = new TimelineExportService(timeBlockRepository, objectMapper);
+    }
+
+    private TimeBlockFileRow row(int slot, String activityName) {
+        return new TimeBlockFileRow(date, LocalTime.MIDNIGHT.plusMinutes(30L * slot), TimeBlockType.PLAN,
+                activityName, "운동", "#2ECC71");
+    }
+
+    @Nested
+    @DisplayName("CSV 내보내기")
+    class ExportCsv {
+        @Test
+        @DisplayName("성공 - 헤더와 행을 쓰고, 쉼표/따옴표가 포함된 값은 따옴표로 감쌈")
+        void exportCsv_success() throws Exception {
+            // given
+            given(timeBlockRepository.findExportPage(eq(userId), isNull(), eq(TimelineExportService.PAGE_SIZE)))
+                    .willReturn(List.of(row(18, "달리기"), row(19, "책 \"읽기\", 정리")));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long exported = timelineExportService.export(userId, TimelineFileFormat.CSV, out);
+
+            // then
+            assertThat(exported).isEqualTo(2);
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                    date,start_time,type,activity,category,category_color
+                    2025-10-13,09:00,PLAN,달리기,운동,#2ECC71
+                    2025-10-13,09:30,PLAN,"책 ""읽기"", 정리",운동,#2ECC71
+                    """);
+        }
+
+        @Test
+        @DisplayName("성공 - 가득 찬 페이지 다음에는 마지막 행을 커서로 다음 페이지를 조회")
+        void exportCsv_keysetPaging() throws Exception {
+            // given
+            List<TimeBlockFileRow> fullPage = new ArrayList<>(Collections.nCopies(TimelineExportService.PAGE_SIZE, row(0, "수면")));
+            TimeBlockFileRow last = row(1, "수면");
+            fullPage.set(fullPage.size() - 1, last);
+            given(timeBlockRepository.findExportPage(eq(userId), isNull(), eq(TimelineExportService.PAGE_SIZE))).willReturn(fullPage);
+            given(timeBlockRepository.findExportPage(userId, last, TimelineExportService.PAGE_SIZE)).willReturn(List.of(row(2, "수면")));
+
+            // when
+            long exported = timelineExportService.export(userId, TimelineFileFormat.CSV, new ByteArrayOutputStream());
+
+            // then
+            assertThat(exported).isEqualTo(TimelineExportService.PAGE_SIZE + 1);
+            then(timeBlockRepository).should(times(2)).findExportPage(eq(userId), any(), eq(TimelineExportService.PAGE_SIZE));
+        }
+
+        @Test
+        @DisplayName("성공 - 기록이 없으면 헤더만 씀")
+        void exportCsv_empty() throws Exception {
+            // given
+            given(timeBlockRepository.findExportPage(eq(userId), isNull(), anyInt())).willReturn(List.of());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            long exported = timelineExportService.export(userId, TimelineFileFormat.CSV, out);
+
+            // then
+            assertThat(exported).isZero();
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("date,start_time,type,activity,category,category_color\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON 내보내기")
+    class ExportNdjson {
+        @Test
+        @DisplayName("성공 - 한 줄에 하나의 JSON 객체")
+        void exportNdjson_success() throws Exception {
+            // given
+            given(timeBlockRepository.findExportPage(eq(userId), isNull(), eq(TimelineExportService.PAGE_SIZE)))
+                    .willReturn(IntStream.of(18, 19).mapToObj(slot -> row(slot, "달리기")).toList());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            timelineExportService.export(userId, TimelineFileFormat.NDJSON, out);
+
+            // then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).isEqualTo("{\"date\":\"2025-10-13\",\"startTime\":\"09:00:00\",\"type\":\"PLAN\","
+                    + "\"activityName\":\"달리기\",\"categoryName\":\"운동\",\"categoryColor\":\"#2ECC71\"}");
+        }
+    }
+
+    @Nested
+    @DisplayName("형식 해석")
+    class ParseFormat {
+        @Test
+        @DisplayName("성공 - 대소문자 구분 없이 확장자로 해석")
+        void from_success() {
+            assertThat(TimelineFileFormat.from("CSV")).isEqualTo(TimelineFileFormat.CSV);
+            assertThat(TimelineFileFormat.from("ndjson")).isEqualTo(TimelineFileFormat.NDJSON);
+        }
+
+        @Test
+        @DisplayName("실패 - 지원하지 않는 형식")
+        void from_fail() {
+            // when
+            BusinessException exception = assertThrows(BusinessException.class, () -> TimelineFileFormat.from("xlsx"));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_FILE_FORMAT);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.lifelogix.timeline.core.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.api.dto.response.ImportRowErrorResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimelineImportResponse;
+import com.lifelogix.timeline.core.domain.TimeBlockImportSlot;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.core.domain.TimelineImportJob;
+import com.lifelogix.timeline.core.domain.TimelineImportJobRepository;
+import com.lifelogix.timeline.core.domain.TimelineImportStatus;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimelineImportService 단위 테스트")
+class TimelineImportServiceTest {
+
+    @Mock
+    private TimeBlockRepository timeBlockRepository;
+    @Mock
+    private TimeBlockPartitionService partitionService;
+    @Mock
+    private TimelineImportJobRepository importJobRepository;
+    @Mock
+    private ActivityRepository activityRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TimelineImportService timelineImportService;
+
+    private final Long userId = 1L;
+    private final Long jobId = 50L;
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private User user;
+    private Category exercise;
+    private TimelineImportJob job;
+
+    @BeforeEach
+    void setUp() {
+        timelineImportService = new TimelineImportService(timeBlockRepository, partitionService, importJobRepository, activityRepository,
+                categoryRepository, userRepository, transactionManager, eventPublisher, new ObjectMapper().findAndRegisterModules());
+        user = User.builder().id(userId).email("test@example.com").nickname("tester").build();
+        exercise = new Category(100L, "운동", "#2ECC71", null, null);
+        job = new TimelineImportJob(jobId, user, TimelineFileFormat.CSV.name());
+    }
+
+    private InputStream file(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void givenExistingNames() {
+        given(categoryRepository.findByUserIdOrUserIsNull(userId)).willReturn(List.of(exercise));
+        given(activityRepository.findByUserIdOrderByCategory(userId)).willReturn(List.of(new Activity(10L, "달리기", user, exercise)));
+    }
+
+    private void givenNewJob() {
+        givenExistingNames();
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(importJobRepository.save(any(TimelineImportJob.class))).willReturn(job);
+        given(importJobRepository.findById(jobId)).willReturn(Optional.of(job));
+        given(importJobRepository.claimCheckpoint(eq(jobId), anyLong())).willReturn(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TimeBlockImportSlot> importedSlots() {
+        ArgumentCaptor<List<TimeBlockImportSlot>> captor = ArgumentCaptor.forClass(List.class);
+        then(timeBlockRepository).should().importSlots(eq(userId), captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("새 가져오기")
+    class ImportTimeline {
+        @Test
+        @DisplayName("성공 - 유효한 행은 일괄 기록하고, 잘못된 행은 줄 번호와 함께 보고")
+        void import_success() {
+            // given
+            givenNewJob();
+            String csv = """
+                    date,start_time,type,activity,category,category_color
+                    2025-10-13,09:00,PLAN,달리기,운동,#2ECC71
+                    2025-10-13,09:10,PLAN,달리기,운동
+                    2025-10-13,09:30,actual,달리기,운동
+                    """;
+
+            // when
+            TimelineImportResponse response = timelineImportService.importTimeline(userId, TimelineFileFormat.CSV, null, null, file(csv));
+
+            // then
+            assertThat(response.status()).isEqualTo(TimelineImportStatus.COMPLETED);
+            assertThat(response.processedRows()).isEqualTo(3);
+            assertThat(response.importedRows()).isEqualTo(2);
+            assertThat(response.failedRows()).isEqualTo(1);
+            assertThat(response.errors()).containsExactly(new ImportRowErrorResponse(3, "시작 시간은 30분 단위여야 합니다."));
+            assertThat(importedSlots()).containsExactly(
+                    new TimeBlockImportSlot(2, date, LocalTime.of(9, 0), TimeBlockType.PLAN, 10L),
+                    new TimeBlockImportSlot(4, date, LocalTime.of(9, 30), TimeBlockType.ACTUAL, 10L));
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.of(userId, date));
+        }
+
+        @Test
+        @DisplayName("성공 - 묶음을 쓰기 전에 유효한 행의 날짜가 속한 월 파티션을 트랜잭션 밖에서 만듦")
+        void import_success_ensuresPartitionsBeforeChunk() {
+            // given
+            givenNewJob();
+            String csv = """
+                    2023-01-31,09:00,PLAN,달리기,운동
+                    2024-06-01,09:00,ACTUAL,달리기,운동
+                    1999-13-01,09:00,PLAN,달리기,운동
+                    """;
+
+            // when
+            timelineImportService.importTimeline(userId, TimelineFileFormat.CSV, null, null, file(csv));
+
+            // then
+            InOrder inOrder = inOrder(partitionService, transactionManager, importJobRepository);
+            inOrder.verify(partitionService).ensureMonths(List.of(LocalDate.of(2023, 1, 31), LocalDate.of(2024, 6, 1)));
+            inOrder.verify(transactionManager).getTransaction(any());
+            inOrder.verify(importJobRepository).claimCheckpoint(jobId, 0L);
+        }
+
+        @Test
+        @DisplayName("성공 - 없는 활동은 한 번만 만들고, 부모 카테고리를 지정하지 않으면 없는 카테고리의 행은 오류")
+        void import_createsActivityOnce() {
+            // given
+            givenNewJob();
+            given(userRepository.getReferenceById(userId)).willReturn(user);
+            given(categoryRepository.getReferenceById(100L)).willReturn(exercise);
+            given(activityRepository.save(any(Activity.class))).willReturn(new Activity(11L, "수영", user, exercise));
+            String csv = """
+                    2025-10-13,09:00,PLAN,수영,운동
+                    2025-10-13,09:30,PLAN,수영,운동
+                    2025-10-13,10:00,PLAN,명상,마음챙김
+                    """;
+
+            // when
+            TimelineImportResponse response = timelineImportService.importTimeline(userId, TimelineFileFormat.CSV, null, null, file(csv));
+
+            // then
+            assertThat(response.importedRows()).isEqualTo(2);
+            assertThat(response.errors()).extracting(ImportRowErrorResponse::line).containsExactly(3L);
+            assertThat(importedSlots()).extracting(TimeBlockImportSlot::activityId).containsExactly(11L, 11L);
+            then(activityRepository).should(times(1)).save(any(Activity.class));
+            then(categoryRepository).should(never()).save(any(Category.class));
+            then(eventPublisher).should().publishEvent(ResourceChangedEvent.of(userId, VersionedResource.ACTIVITIES));
+        }
+
+        @Test
+        @DisplayName("성공 - 부모 카테고리를 지정하면 없는 카테고리를 만들어 가져옴")
+        void import_createsCategoryUnderParent() {
+            // given
+            givenNewJob();
+            given(categoryRepository.findById(100L)).willReturn(Optional.of(exercise));
+            given(userRepository.getReferenceById(userId)).willReturn(user);
+            Category mindfulness = new Category(300L, "마음챙김", "#AABBCC", user, exercise);
+            given(categoryRepository.getReferenceById(100L)).willReturn(exercise);
+            given(categoryRepository.getReferenceById(300L)).willReturn(mindfulness);
+            given(categoryRepository.save(any(Category.class))).willReturn(mindfulness);
+            given(activityRepository.save(any(Activity.class))).willReturn(new Activity(12L, "명상", user, mindfulness));
+
+            // when
+            TimelineImportResponse response = timelineImportService.importTimeline(userId, TimelineFileFormat.CSV, null, 100L,
+                    file("2025-10-13,10:00,PLAN,명상,마음챙김,#AABBCC\n"));
+
+            // then
+            assertThat(response.importedRows()).isEqualTo(1);
+            assertThat(importedSlots()).extracting(TimeBlockImportSlot::activityId).containsExactly(12L);
+        }
+
+        @Test
+        @DisplayName("성공 - NDJSON은 한 줄에 하나의 JSON 객체로 읽고, 깨진 줄은 오류로 보고")
+        void import_ndjson() {
+            // given
+            givenNewJob();
+            String ndjson = """
+                    {"date":"2025-10-13","startTime":"09:00:00","type":"PLAN","activityName":"달리기","categoryName":"운동"}
+                    {"date":"2025-10-13",
+                    """;
+
+            // when
+            TimelineImportResponse response = timelineImportService.importTimeline(userId, TimelineFileFormat.NDJSON, null, null, file(ndjson));
+
+            // then
+            assertThat(response.errors()).containsExactly(new ImportRowErrorResponse(2, "JSON 형식이 올바르지 않습니다."));
+            assertThat(importedSlots()).extracting(TimeBlockImportSlot::line, TimeBlockImportSlot::activityId)
+                    .containsExactly(tuple(1L, 10L));
+        }
+
+        @Test
+        @DisplayName("실패 - 기록 중 오류가 나면 작업을 FAILED로 남기고 체크포인트는 유지")
+        void import_fail_marksJobFailed() {
+            // given
+            givenNewJob();
+            willThrow(new DataAccessResourceFailureException("connection lost"))
+                    .given(timeBlockRepository).importSlots(eq(userId), anyList());
+
+            // when
+            TimelineImportResponse response = timelineImportService.importTimeline(userId, TimelineFileFormat.CSV, null, null,
+                    file("2025-10-13,09:00,PLAN,달리기,운동\n"));
+
+            // then
+            assertThat(response.status()).isEqualTo(TimelineImportStatus.FAILED);
+            assertThat(response.processedRows()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("이어서 가져오기")
+    class ResumeImport {
+        @Test
+        @DisplayName("성공 - 이전에 커밋된 행은 건너뛰고 다음 행부터 처리")
+        void resume_success() {
+            // given
+            job.advance(1, 1, 0);
+            job.fail();
+            givenExistingNames();
+            given(importJobRepository.findByIdAndUserId(jobId, userId)).willReturn(Optional.of(job));
+            given(importJobRepository.findById(jobId)).willReturn(Optional.of(job));
+            given(importJobRepository.claimCheckpoint(jobId, 1L)).willReturn(1);
+            String csv = """
+                    date,start_time,type,activity,category
+                    2025-10-13,09:00,PLAN,달리기,운동
+                    2025-10-13,09:30,PLAN,달리기,운동
+                    """;
+
+            // when
+            TimelineImportResponse response = timelineImportService.importTimeline(userId, TimelineFileFormat.CSV, jobId, null, file(csv));
+
+            // then
+            assertThat(response.status()).isEqualTo(TimelineImportStatus.COMPLETED);
+            assertThat(response.processedRows()).isEqualTo(2);
+            assertThat(importedSlots()).extracting(TimeBlockImportSlot::line).containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 요청이 같은 작업을 먼저 진행했으면 기록하지 않고 작업 상태도 바꾸지 않음")
+        void resume_fail_checkpointMoved() {
+            // given
+            job.fail();
+            givenExistingNames();
+            given(importJobRepository.findByIdAndUserId(jobId, userId)).willReturn(Optional.of(job));
+            given(importJobRepository.claimCheckpoint(jobId, 0L)).willReturn(0);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineImportService.importTimeline(userId, TimelineFileFormat.CSV, jobId, null,
+                            file("2025-10-13,09:00,PLAN,달리기,운동\n")));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONCURRENT_MODIFICATION);
+            then(timeBlockRepository).should(never()).importSlots(any(), anyList());
+            then(importJobRepository).should(never()).findById(jobId);
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 작업")
+        void resume_fail_notFound() {
+            // given
+            given(importJobRepository.findByIdAndUserId(jobId, userId)).willReturn(Optional.empty());
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineImportService.importTimeline(userId, TimelineFileFormat.CSV, jobId, null, file("")));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.IMPORT_JOB_NOT_FOUND);
+        }
+    }
+}
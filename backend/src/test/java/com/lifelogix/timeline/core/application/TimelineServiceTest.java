@@ -5,13 +5,24 @@ import com.lifelogix.exception.ErrorCode;
 import com.lifelogix.timeline.activity.domain.Activity;
 import com.lifelogix.timeline.activity.domain.ActivityRepository;
 import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.core.api.dto.request.BatchTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.CopyTimeBlocksRequest;
 import com.lifelogix.timeline.core.api.dto.request.CreateTimeBlockRequest;
+import com.lifelogix.timeline.core.api.dto.request.FillTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.ShiftTimeBlockRangeRequest;
+import com.lifelogix.timeline.core.api.dto.request.TimeBlockRangeRequest;
 import com.lifelogix.timeline.core.api.dto.request.UpdateTimeBlockRequest;
 import com.lifelogix.timeline.core.api.dto.response.BlockDetailResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockCopyResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockRangeResponse;
+import com.lifelogix.timeline.core.api.dto.response.TimeBlockResponse;
 import com.lifelogix.timeline.core.api.dto.response.TimelineResponse;
+import com.lifelogix.timeline.core.domain.HybridTimestamp;
 import com.lifelogix.timeline.core.domain.TimeBlock;
 import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockSlotState;
 import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.core.domain.TimeBlockView;
 import com.lifelogix.user.domain.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,15 +32,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +62,12 @@ class TimelineServiceTest {
     @Mock
     private ActivityRepository activityRepository;
 
+    @Mock
+    private TimelineCache timelineCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private User user;
     private Category category;
     private Activity activity;
@@ -64,34 +87,38 @@ class TimelineServiceTest {
     class CreateOrUpdateTimeBlock {
 
         @Test
-        @DisplayName("성공 - 새로운 타임블록 생성")
+        @DisplayName("성공 - 슬롯에 단일 upsert로 기록")
         void create_success() {
             // given
             CreateTimeBlockRequest request = new CreateTimeBlockRequest(LocalDate.now(), LocalTime.of(9, 0), TimeBlockType.PLAN, activity.getId());
-            given(activityRepository.findById(request.activityId())).willReturn(Optional.of(activity));
-            given(timeBlockRepository.findUserTimeBlockForSlot(user.getId(), request.date(), request.startTime(), request.type())).willReturn(Optional.empty());
+            given(activityRepository.findWithCategoryByIdAndUserId(request.activityId(), user.getId())).willReturn(Optional.of(activity));
+            given(timeBlockRepository.upsertSlot(user.getId(), request.date(), request.startTime(), "PLAN", activity.getId())).willReturn(5L);
 
             // when
-            timelineService.createOrUpdateTimeBlock(user.getId(), request);
+            BlockDetailResponse response = timelineService.createOrUpdateTimeBlock(user.getId(), request);
 
             // then
-            then(timeBlockRepository).should().save(any(TimeBlock.class));
+            assertThat(response.timeBlockId()).isEqualTo(5L);
+            assertThat(response.activityId()).isEqualTo(activity.getId());
+            assertThat(response.categoryName()).isEqualTo(category.getName());
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.ofSlots(user.getId(),
+                    List.of(new SlotChange(request.date(), LocalTime.of(9, 0), TimeBlockType.PLAN, activity.getId()))));
         }
 
         @Test
-        @DisplayName("성공 - 기존 타임블록 활동 업데이트")
+        @DisplayName("성공 - 기존 슬롯 조회 없이 upsert 한 번으로 갱신")
         void update_success() {
             // given
             CreateTimeBlockRequest request = new CreateTimeBlockRequest(LocalDate.now(), LocalTime.of(9, 0), TimeBlockType.PLAN, activity.getId());
-            TimeBlock existingBlock = new TimeBlock(1L, request.date(), request.startTime(), request.type(), anotherActivity);
-            given(activityRepository.findById(request.activityId())).willReturn(Optional.of(activity));
-            given(timeBlockRepository.findUserTimeBlockForSlot(user.getId(), request.date(), request.startTime(), request.type())).willReturn(Optional.of(existingBlock));
+            given(activityRepository.findWithCategoryByIdAndUserId(request.activityId(), user.getId())).willReturn(Optional.of(activity));
+            given(timeBlockRepository.upsertSlot(user.getId(), request.date(), request.startTime(), "PLAN", activity.getId())).willReturn(1L);
 
             // when
             BlockDetailResponse response = timelineService.createOrUpdateTimeBlock(user.getId(), request);
 
             // then
-            assertThat(response.activityId()).isEqualTo(activity.getId());
+            assertThat(response.timeBlockId()).isEqualTo(1L);
+            then(timeBlockRepository).should(never()).findUserTimeBlockForSlot(any(), any(), any(), any());
             then(timeBlockRepository).should(never()).save(any(TimeBlock.class));
         }
 
@@ -101,7 +128,8 @@ class TimelineServiceTest {
             User otherUser = User.builder().id(2L).email("other@test.com").nickname("other").build();
             Activity otherActivity = new Activity(12L, "독서", otherUser, category);
             CreateTimeBlockRequest permissionRequest = new CreateTimeBlockRequest(LocalDate.now(), LocalTime.of(9, 0), TimeBlockType.PLAN, otherActivity.getId());
-            given(activityRepository.findById(permissionRequest.activityId())).willReturn(Optional.of(otherActivity));
+            given(activityRepository.findWithCategoryByIdAndUserId(permissionRequest.activityId(), user.getId())).willReturn(Optional.empty());
+            given(activityRepository.existsById(permissionRequest.activityId())).willReturn(true);
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
@@ -109,6 +137,106 @@ class TimelineServiceTest {
 
             // then
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PERMISSION_DENIED);
+            then(timeBlockRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("타임블록 일괄 기록")
+    class CreateOrUpdateTimeBlocks {
+
+        @Test
+        @DisplayName("성공 - 기존 슬롯은 수정하고 신규 슬롯은 한 번에 저장")
+        void batch_success() {
+            // given
+            LocalDate date = LocalDate.now();
+            TimeBlock existingBlock = new TimeBlock(1L, date, LocalTime.of(9, 0), TimeBlockType.PLAN, anotherActivity);
+            BatchTimeBlockRequest request = new BatchTimeBlockRequest(List.of(
+                    new CreateTimeBlockRequest(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity.getId()),
+                    new CreateTimeBlockRequest(date, LocalTime.of(9, 30), TimeBlockType.PLAN, activity.getId()),
+                    new CreateTimeBlockRequest(date, LocalTime.of(10, 0), TimeBlockType.PLAN, anotherActivity.getId())
+            ));
+            given(activityRepository.findAllWithCategoryByIdIn(Set.of(activity.getId(), anotherActivity.getId())))
+                    .willReturn(List.of(activity, anotherActivity));
+            given(timeBlockRepository.findByUserIdAndDateIn(user.getId(), Set.of(date))).willReturn(List.of(existingBlock));
+
+            // when
+            List<BlockDetailResponse> responses = timelineService.createOrUpdateTimeBlocks(user.getId(), request);
+
+            // then
+            assertThat(responses).extracting(BlockDetailResponse::activityId)
+                    .containsExactly(activity.getId(), activity.getId(), anotherActivity.getId());
+            assertThat(existingBlock.getActivity()).isEqualTo(activity);
+            then(activityRepository).should(times(1)).findAllWithCategoryByIdIn(anyCollection());
+            then(timeBlockRepository).should().saveAll(argThat((List<TimeBlock> blocks) -> blocks.size() == 2));
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.ofSlots(user.getId(), List.of(
+                    new SlotChange(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity.getId()),
+                    new SlotChange(date, LocalTime.of(9, 30), TimeBlockType.PLAN, activity.getId()),
+                    new SlotChange(date, LocalTime.of(10, 0), TimeBlockType.PLAN, anotherActivity.getId()))));
+        }
+
+        @Test
+        @DisplayName("성공 - 삭제된 슬롯에 새로 기록하는 블록은 툼스톤 다음 버전/HLC에서 시작")
+        void batch_success_continuesAfterTombstone() {
+            // given
+            LocalDate date = LocalDate.now();
+            long tombstoneHlc = HybridTimestamp.now() + 1000;
+            BatchTimeBlockRequest request = new BatchTimeBlockRequest(List.of(
+                    new CreateTimeBlockRequest(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity.getId()),
+                    new CreateTimeBlockRequest(date, LocalTime.of(9, 30), TimeBlockType.PLAN, activity.getId())
+            ));
+            given(activityRepository.findAllWithCategoryByIdIn(Set.of(activity.getId()))).willReturn(List.of(activity));
+            given(timeBlockRepository.findByUserIdAndDateIn(user.getId(), Set.of(date))).willReturn(List.of());
+            given(timeBlockRepository.findTombstones(user.getId(), Set.of(date))).willReturn(List.of(
+                    new TimeBlockSlotState(date, LocalTime.of(9, 0), TimeBlockType.PLAN, null, 3, tombstoneHlc)));
+
+            // when
+            timelineService.createOrUpdateTimeBlocks(user.getId(), request);
+
+            // then
+            then(timeBlockRepository).should().saveAll(argThat((List<TimeBlock> blocks) ->
+                    blocks.get(0).getVersion() == 4 && blocks.get(0).getHlc() == tombstoneHlc + 1
+                            && blocks.get(1).getVersion() == 0));
+        }
+
+        @Test
+        @DisplayName("실패 - 존재하지 않는 활동 포함")
+        void batch_fail_activityNotFound() {
+            // given
+            LocalDate date = LocalDate.now();
+            BatchTimeBlockRequest request = new BatchTimeBlockRequest(List.of(
+                    new CreateTimeBlockRequest(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity.getId()),
+                    new CreateTimeBlockRequest(date, LocalTime.of(9, 30), TimeBlockType.PLAN, 999L)
+            ));
+            given(activityRepository.findAllWithCategoryByIdIn(Set.of(activity.getId(), 999L))).willReturn(List.of(activity));
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineService.createOrUpdateTimeBlocks(user.getId(), request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ACTIVITY_NOT_FOUND);
+            then(timeBlockRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 활동 포함")
+        void batch_fail_permissionDenied() {
+            // given
+            User otherUser = User.builder().id(2L).email("other@test.com").nickname("other").build();
+            Activity otherActivity = new Activity(12L, "독서", otherUser, category);
+            BatchTimeBlockRequest request = new BatchTimeBlockRequest(List.of(
+                    new CreateTimeBlockRequest(LocalDate.now(), LocalTime.of(9, 0), TimeBlockType.PLAN, otherActivity.getId())
+            ));
+            given(activityRepository.findAllWithCategoryByIdIn(Set.of(otherActivity.getId()))).willReturn(List.of(otherActivity));
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineService.createOrUpdateTimeBlocks(user.getId(), request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PERMISSION_DENIED);
+            then(timeBlockRepository).shouldHaveNoInteractions();
         }
     }
 
@@ -120,9 +248,11 @@ class TimelineServiceTest {
         void get_success() {
             // given
             LocalDate date = LocalDate.now();
-            TimeBlock planBlock = new TimeBlock(1L, date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity);
-            TimeBlock actualBlock = new TimeBlock(2L, date, LocalTime.of(9, 0), TimeBlockType.ACTUAL, anotherActivity);
-            given(timeBlockRepository.findByUserIdAndDate(user.getId(), date)).willReturn(List.of(planBlock, actualBlock));
+            TimeBlockView planBlock = view(1L, date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity);
+            TimeBlockView actualBlock = view(2L, date, LocalTime.of(9, 0), TimeBlockType.ACTUAL, anotherActivity);
+            given(timeBlockRepository.findViewsByUserIdAndDate(user.getId(), date)).willReturn(List.of(planBlock, actualBlock));
+            given(timelineCache.get(eq(user.getId()), eq(date), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<TimelineResponse>>getArgument(2).get());
 
             // when
             TimelineResponse response = timelineService.getDailyTimeline(user.getId(), date);
@@ -132,6 +262,85 @@ class TimelineServiceTest {
             assertThat(response.timeBlocks().get(0).startTime()).isEqualTo(LocalTime.of(9, 0));
             assertThat(response.timeBlocks().get(0).plan().activityId()).isEqualTo(activity.getId());
             assertThat(response.timeBlocks().get(0).actual().activityId()).isEqualTo(anotherActivity.getId());
+            assertThat(response.timeBlocks().get(0).actual().categoryName()).isEqualTo("공부");
+            then(timeBlockRepository).should(never()).findByUserIdAndDate(any(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 캐시 적중 시 DB를 조회하지 않음")
+        void get_success_cacheHit() {
+            // given
+            LocalDate date = LocalDate.now();
+            TimelineResponse cached = new TimelineResponse(date, List.of());
+            given(timelineCache.get(eq(user.getId()), eq(date), any())).willReturn(cached);
+
+            // when
+            TimelineResponse response = timelineService.getDailyTimeline(user.getId(), date);
+
+            // then
+            assertThat(response).isSameAs(cached);
+            then(timeBlockRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("기간 타임라인 조회")
+    class GetTimelineRange {
+        @Test
+        @DisplayName("성공 - 블록이 없는 날짜도 빈 타임라인으로 포함")
+        void getRange_success() {
+            // given
+            LocalDate from = LocalDate.of(2025, 10, 13);
+            LocalDate to = LocalDate.of(2025, 10, 15);
+            TimeBlockView firstDayPlan = view(1L, from, LocalTime.of(9, 0), TimeBlockType.PLAN, activity);
+            TimeBlockView lastDayActual = view(2L, to, LocalTime.of(10, 30), TimeBlockType.ACTUAL, anotherActivity);
+            TimeBlockView lastDayPlan = view(3L, to, LocalTime.of(8, 0), TimeBlockType.PLAN, activity);
+            given(timeBlockRepository.findViewsByUserIdAndDateBetween(user.getId(), from, to))
+                    .willReturn(List.of(firstDayPlan, lastDayActual, lastDayPlan));
+
+            // when
+            List<TimelineResponse> responses = timelineService.getTimelineRange(user.getId(), from, to);
+
+            // then
+            assertThat(responses).extracting(TimelineResponse::date)
+                    .containsExactly(from, from.plusDays(1), to);
+            assertThat(responses.get(0).timeBlocks()).hasSize(1);
+            assertThat(responses.get(1).timeBlocks()).isEmpty();
+            assertThat(responses.get(2).timeBlocks()).extracting(TimeBlockResponse::startTime)
+                    .containsExactly(LocalTime.of(8, 0), LocalTime.of(10, 30));
+            assertThat(responses.get(2).timeBlocks().get(1).actual().activityId()).isEqualTo(anotherActivity.getId());
+            then(timeBlockRepository).should(never()).findViewsByUserIdAndDate(any(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 시작일이 종료일보다 늦은 경우")
+        void getRange_fail_invertedRange() {
+            // given
+            LocalDate from = LocalDate.of(2025, 10, 15);
+            LocalDate to = LocalDate.of(2025, 10, 13);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineService.getTimelineRange(user.getId(), from, to));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_DATE_RANGE);
+            then(timeBlockRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 최대 조회 기간 초과")
+        void getRange_fail_tooLong() {
+            // given
+            LocalDate from = LocalDate.of(2025, 1, 1);
+            LocalDate to = from.plusDays(42);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineService.getTimelineRange(user.getId(), from, to));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_DATE_RANGE);
         }
     }
 
@@ -146,8 +355,8 @@ class TimelineServiceTest {
             UpdateTimeBlockRequest request = new UpdateTimeBlockRequest(anotherActivity.getId());
             TimeBlock timeBlock = new TimeBlock(timeBlockId, LocalDate.now(), LocalTime.now(), TimeBlockType.PLAN, activity);
 
-            given(timeBlockRepository.findById(timeBlockId)).willReturn(Optional.of(timeBlock));
-            given(activityRepository.findById(request.activityId())).willReturn(Optional.of(anotherActivity));
+            given(timeBlockRepository.findByIdAndUserId(timeBlockId, user.getId())).willReturn(Optional.of(timeBlock));
+            given(activityRepository.findWithCategoryByIdAndUserId(request.activityId(), user.getId())).willReturn(Optional.of(anotherActivity));
 
             // when
             BlockDetailResponse response = timelineService.updateTimeBlock(user.getId(), timeBlockId, request);
@@ -155,6 +364,8 @@ class TimelineServiceTest {
             // then
             assertThat(response.activityId()).isEqualTo(anotherActivity.getId());
             assertThat(timeBlock.getActivity()).isEqualTo(anotherActivity);
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.ofSlots(user.getId(),
+                    List.of(new SlotChange(timeBlock.getDate(), timeBlock.getStartTime(), timeBlock.getType(), anotherActivity.getId()))));
         }
 
         @Test
@@ -162,12 +373,10 @@ class TimelineServiceTest {
         void update_fail_permissionDenied_onTimeBlock() {
             // given
             Long timeBlockId = 1L;
-            User otherUser = User.builder().id(2L).nickname("other").build();
-            Activity otherActivity = new Activity(12L, "독서", otherUser, category);
-            TimeBlock otherUsersBlock = new TimeBlock(timeBlockId, LocalDate.now(), LocalTime.now(), TimeBlockType.PLAN, otherActivity);
             UpdateTimeBlockRequest request = new UpdateTimeBlockRequest(activity.getId());
 
-            given(timeBlockRepository.findById(timeBlockId)).willReturn(Optional.of(otherUsersBlock));
+            given(timeBlockRepository.findByIdAndUserId(timeBlockId, user.getId())).willReturn(Optional.empty());
+            given(timeBlockRepository.existsById(timeBlockId)).willReturn(true);
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
@@ -182,13 +391,12 @@ class TimelineServiceTest {
         void update_fail_permissionDenied_onActivity() {
             // given
             Long timeBlockId = 1L;
-            User otherUser = User.builder().id(2L).nickname("other").build();
-            Activity otherActivity = new Activity(12L, "독서", otherUser, category);
             TimeBlock timeBlock = new TimeBlock(timeBlockId, LocalDate.now(), LocalTime.now(), TimeBlockType.PLAN, activity);
-            UpdateTimeBlockRequest request = new UpdateTimeBlockRequest(otherActivity.getId());
+            UpdateTimeBlockRequest request = new UpdateTimeBlockRequest(12L);
 
-            given(timeBlockRepository.findById(timeBlockId)).willReturn(Optional.of(timeBlock));
-            given(activityRepository.findById(request.activityId())).willReturn(Optional.of(otherActivity));
+            given(timeBlockRepository.findByIdAndUserId(timeBlockId, user.getId())).willReturn(Optional.of(timeBlock));
+            given(activityRepository.findWithCategoryByIdAndUserId(request.activityId(), user.getId())).willReturn(Optional.empty());
+            given(activityRepository.existsById(request.activityId())).willReturn(true);
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
@@ -196,6 +404,24 @@ class TimelineServiceTest {
 
             // then
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PERMISSION_DENIED);
+            assertThat(timeBlock.getActivity()).isEqualTo(activity);
+        }
+
+        @Test
+        @DisplayName("실패 - 존재하지 않는 타임블록")
+        void update_fail_timeBlockNotFound() {
+            // given
+            UpdateTimeBlockRequest request = new UpdateTimeBlockRequest(activity.getId());
+            given(timeBlockRepository.findByIdAndUserId(999L, user.getId())).willReturn(Optional.empty());
+            given(timeBlockRepository.existsById(999L)).willReturn(false);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineService.updateTimeBlock(user.getId(), 999L, request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.TIME_BLOCK_NOT_FOUND);
+            then(activityRepository).shouldHaveNoInteractions();
         }
     }
 
@@ -208,15 +434,19 @@ class TimelineServiceTest {
         void delete_success() {
             // given
             Long timeBlockId = 1L;
-            TimeBlock timeBlock = new TimeBlock(timeBlockId, LocalDate.now(), LocalTime.now(), TimeBlockType.PLAN, activity);
-            given(timeBlockRepository.findById(timeBlockId)).willReturn(Optional.of(timeBlock));
-            willDoNothing().given(timeBlockRepository).delete(timeBlock);
+            LocalDate date = LocalDate.of(2025, 10, 13);
+            given(timeBlockRepository.findSlotStateByIdAndUserId(timeBlockId, user.getId()))
+                    .willReturn(Optional.of(new TimeBlockSlotState(date, LocalTime.of(9, 30), TimeBlockType.ACTUAL, 100L, 2L, 7L)));
+            given(timeBlockRepository.deleteByIdAndUserIdAndDate(timeBlockId, user.getId(), date)).willReturn(1);
 
             // when
             timelineService.deleteTimeBlock(user.getId(), timeBlockId);
 
             // then
-            then(timeBlockRepository).should().delete(timeBlock);
+            then(timeBlockRepository).should().deleteByIdAndUserIdAndDate(timeBlockId, user.getId(), date);
+            then(timeBlockRepository).should(never()).existsById(any());
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.ofSlots(user.getId(),
+                    List.of(new SlotChange(date, LocalTime.of(9, 30), TimeBlockType.ACTUAL, null))));
         }
 
         @Test
@@ -224,10 +454,8 @@ class TimelineServiceTest {
         void delete_fail_permissionDenied() {
             // given
             Long timeBlockId = 1L;
-            User otherUser = User.builder().id(2L).email("other@test.com").nickname("other").build();
-            Activity otherActivity = new Activity(12L, "독서", otherUser, category);
-            TimeBlock timeBlock = new TimeBlock(timeBlockId, LocalDate.now(), LocalTime.now(), TimeBlockType.PLAN, otherActivity);
-            given(timeBlockRepository.findById(timeBlockId)).willReturn(Optional.of(timeBlock));
+            given(timeBlockRepository.findSlotStateByIdAndUserId(timeBlockId, user.getId())).willReturn(Optional.empty());
+            given(timeBlockRepository.existsById(timeBlockId)).willReturn(true);
 
             // when
             BusinessException exception = assertThrows(BusinessException.class,
@@ -235,6 +463,263 @@ class TimelineServiceTest {
 
             // then
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PERMISSION_DENIED);
+            then(timeBlockRepository).should(never()).deleteByIdAndUserIdAndDate(any(), any(), any());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("구간 기록/삭제/이동")
+    class RangeOperations {
+        private final LocalDate date = LocalDate.of(2025, 10, 13);
+
+        @Test
+        @DisplayName("성공 - 구간 채우기는 슬롯 수를 계산해 단일 구문으로 기록")
+        void fill_success() {
+            // given
+            FillTimeBlockRangeRequest request = new FillTimeBlockRangeRequest(
+                    date, LocalTime.of(9, 0), LocalTime.of(11, 30), TimeBlockType.PLAN, activity.getId());
+            given(activityRepository.existsByIdAndUserId(activity.getId(), user.getId())).willReturn(true);
+            given(timeBlockRepository.fillSlots(user.getId(), date, LocalTime.of(9, 0), 6, "PLAN", activity.getId())).willReturn(6);
+
+            // when
+            TimeBlockRangeResponse response = timelineService.fillRange(user.getId(), request);
+
+            // then
+            assertThat(response.affectedBlocks()).isEqualTo(6);
+            then(activityRepository).should(never()).findWithCategoryByIdAndUserId(any(), any());
+            then(eventPublisher).should().publishEvent(argThat((TimelineChangedEvent event) -> event.dates().equals(Set.of(date))
+                    && event.slots().size() == 6
+                    && event.slots().stream().allMatch(slot -> activity.getId().equals(slot.activityId()))));
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 활동으로 채우기")
+        void fill_fail_permissionDenied() {
+            // given
+            FillTimeBlockRangeRequest request = new FillTimeBlockRangeRequest(
+                    date, LocalTime.of(9, 0), LocalTime.of(9, 30), TimeBlockType.PLAN, activity.getId());
+            given(activityRepository.existsByIdAndUserId(activity.getId(), user.getId())).willReturn(false);
+            given(activityRepository.existsById(activity.getId())).willReturn(true);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineService.fillRange(user.getId(), request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PERMISSION_DENIED);
+            then(timeBlockRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 30분 단위가 아닌 구간")
+        void fill_fail_misalignedRange() {
+            // given
+            FillTimeBlockRangeRequest request = new FillTimeBlockRangeRequest(
+                    date, LocalTime.of(9, 15), LocalTime.of(10, 0), TimeBlockType.PLAN, activity.getId());
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineService.fillRange(user.getId(), request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_SLOT_RANGE);
+            then(activityRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공 - 구간 비우기")
+        void clear_success() {
+            // given
+            TimeBlockRangeRequest request = new TimeBlockRangeRequest(date, LocalTime.of(9, 0), LocalTime.of(12, 0), TimeBlockType.ACTUAL);
+            given(timeBlockRepository.deleteSlots(user.getId(), date, TimeBlockType.ACTUAL, LocalTime.of(9, 0), LocalTime.of(12, 0))).willReturn(4);
+
+            // when
+            TimeBlockRangeResponse response = timelineService.clearRange(user.getId(), request);
+
+            // then
+            assertThat(response).isEqualTo(new TimeBlockRangeResponse(date, 4));
+            then(eventPublisher).should().publishEvent(argThat((TimelineChangedEvent event) -> event.dates().equals(Set.of(date))
+                    && event.slots().size() == 7
+                    && event.slots().stream().allMatch(slot -> slot.activityId() == null && slot.type() == TimeBlockType.ACTUAL)));
+        }
+
+        @Test
+        @DisplayName("성공 - 슬롯 수를 분 단위로 변환해 이동하고, 원본/대상 구간의 슬롯 변경을 알림")
+        void shift_success() {
+            // given: 09:00 ~ 10:00 을 2칸(1시간) 앞으로, 09:30은 비어 있음
+            ShiftTimeBlockRangeRequest request = new ShiftTimeBlockRangeRequest(
+                    date, LocalTime.of(9, 0), LocalTime.of(10, 0), TimeBlockType.PLAN, -2);
+            given(timeBlockRepository.shiftSlots(user.getId(), date, TimeBlockType.PLAN, LocalTime.of(9, 0), LocalTime.of(10, 0), -60))
+                    .willReturn(Map.of(LocalTime.of(8, 0), 100L, LocalTime.of(9, 0), 200L));
+
+            // when
+            TimeBlockRangeResponse response = timelineService.shiftRange(user.getId(), request);
+
+            // then: 대상 구간(08:00 ~ 09:00)과 원본에만 속한 구간(09:30 ~ 10:00)을 한 번씩 알림
+            assertThat(response.affectedBlocks()).isEqualTo(2);
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.ofSlots(user.getId(), List.of(
+                    new SlotChange(date, LocalTime.of(8, 0), TimeBlockType.PLAN, 100L),
+                    new SlotChange(date, LocalTime.of(8, 30), TimeBlockType.PLAN, null),
+                    new SlotChange(date, LocalTime.of(9, 0), TimeBlockType.PLAN, 200L),
+                    new SlotChange(date, LocalTime.of(9, 30), TimeBlockType.PLAN, null),
+                    new SlotChange(date, LocalTime.of(10, 0), TimeBlockType.PLAN, null))));
+        }
+
+        @Test
+        @DisplayName("성공 - 겹치지 않는 구간으로 이동하면 사이 슬롯은 알리지 않음")
+        void shift_disjoint_success() {
+            // given: 09:00 ~ 09:30 을 3칸 뒤(10:30 ~ 11:00)로
+            ShiftTimeBlockRangeRequest request = new ShiftTimeBlockRangeRequest(
+                    date, LocalTime.of(9, 0), LocalTime.of(9, 30), TimeBlockType.PLAN, 3);
+            given(timeBlockRepository.shiftSlots(user.getId(), date, TimeBlockType.PLAN, LocalTime.of(9, 0), LocalTime.of(9, 30), 90))
+                    .willReturn(Map.of(LocalTime.of(10, 30), 100L));
+
+            // when
+            timelineService.shiftRange(user.getId(), request);
+
+            // then
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.ofSlots(user.getId(), List.of(
+                    new SlotChange(date, LocalTime.of(9, 0), TimeBlockType.PLAN, null),
+                    new SlotChange(date, LocalTime.of(9, 30), TimeBlockType.PLAN, null),
+                    new SlotChange(date, LocalTime.of(10, 30), TimeBlockType.PLAN, 100L),
+                    new SlotChange(date, LocalTime.of(11, 0), TimeBlockType.PLAN, null))));
+        }
+
+        @Test
+        @DisplayName("성공 - 이동할 기록이 없으면 변경을 알리지 않음")
+        void shift_empty_success() {
+            // given
+            ShiftTimeBlockRangeRequest request = new ShiftTimeBlockRangeRequest(
+                    date, LocalTime.of(9, 0), LocalTime.of(10, 0), TimeBlockType.PLAN, 2);
+            given(timeBlockRepository.shiftSlots(user.getId(), date, TimeBlockType.PLAN, LocalTime.of(9, 0), LocalTime.of(10, 0), 60))
+                    .willReturn(Map.of());
+
+            // when
+            TimeBlockRangeResponse response = timelineService.shiftRange(user.getId(), request);
+
+            // then
+            assertThat(response.affectedBlocks()).isZero();
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 이동 결과가 자정을 넘음")
+        void shift_fail_outOfDay() {
+            // given
+            ShiftTimeBlockRangeRequest request = new ShiftTimeBlockRangeRequest(
+                    date, LocalTime.of(22, 0), LocalTime.of(23, 0), TimeBlockType.PLAN, 2);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineService.shiftRange(user.getId(), request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_SLOT_RANGE);
+            then(timeBlockRepository).shouldHaveNoInteractions();
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("기간 복사")
+    class CopyTimeBlocks {
+        private final LocalDate monday = LocalDate.of(2025, 10, 13);
+
+        @Test
+        @DisplayName("성공 - 일주일을 4주에 반복 복사하도록 오프셋과 반복 횟수를 계산")
+        void copy_week_success() {
+            // given
+            CopyTimeBlocksRequest request = new CopyTimeBlocksRequest(
+                    monday, monday.plusDays(6), monday.plusDays(7), monday.plusDays(34), TimeBlockType.PLAN, null);
+            List<TimeBlockSlotState> copied = monday.plusDays(7).datesUntil(monday.plusDays(35))
+                    .map(date -> new TimeBlockSlotState(date, LocalTime.of(7, 0), TimeBlockType.PLAN, 100L, 0L, 1L))
+                    .toList();
+            given(timeBlockRepository.copySlots(user.getId(), monday, monday.plusDays(6), "PLAN", 7, 7, 4, monday.plusDays(34), null))
+                    .willReturn(copied);
+
+            // when
+            TimeBlockCopyResponse response = timelineService.copyTimeBlocks(user.getId(), request);
+
+            // then
+            assertThat(response).isEqualTo(new TimeBlockCopyResponse(monday.plusDays(7), monday.plusDays(34), 28));
+            then(timeBlockRepository).should(never()).findByUserIdAndDateIn(any(), anyCollection());
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.ofSlots(user.getId(), copied.stream()
+                    .map(slot -> new SlotChange(slot.date(), LocalTime.of(7, 0), TimeBlockType.PLAN, 100L))
+                    .toList()));
+        }
+
+        @Test
+        @DisplayName("성공 - 같은 날의 계획을 실제로 복사")
+        void copy_planToActual_success() {
+            // given
+            CopyTimeBlocksRequest request = new CopyTimeBlocksRequest(
+                    monday, monday, monday, monday, TimeBlockType.PLAN, TimeBlockType.ACTUAL);
+            given(timeBlockRepository.copySlots(user.getId(), monday, monday, "PLAN", 0, 1, 1, monday, "ACTUAL"))
+                    .willReturn(List.of(
+                            new TimeBlockSlotState(monday, LocalTime.of(9, 0), TimeBlockType.ACTUAL, 100L, 0L, 1L),
+                            new TimeBlockSlotState(monday, LocalTime.of(9, 30), TimeBlockType.ACTUAL, 200L, 3L, 2L)));
+
+            // when
+            TimeBlockCopyResponse response = timelineService.copyTimeBlocks(user.getId(), request);
+
+            // then
+            assertThat(response.copiedBlocks()).isEqualTo(2);
+            then(eventPublisher).should().publishEvent(TimelineChangedEvent.ofSlots(user.getId(), List.of(
+                    new SlotChange(monday, LocalTime.of(9, 0), TimeBlockType.ACTUAL, 100L),
+                    new SlotChange(monday, LocalTime.of(9, 30), TimeBlockType.ACTUAL, 200L))));
+        }
+
+        @Test
+        @DisplayName("성공 - 복사된 기록이 없으면 변경을 알리지 않음")
+        void copy_empty_success() {
+            // given
+            CopyTimeBlocksRequest request = new CopyTimeBlocksRequest(
+                    monday, monday, monday.plusDays(1), monday.plusDays(1), null, null);
+            given(timeBlockRepository.copySlots(user.getId(), monday, monday, null, 1, 1, 1, monday.plusDays(1), null))
+                    .willReturn(List.of());
+
+            // when
+            TimeBlockCopyResponse response = timelineService.copyTimeBlocks(user.getId(), request);
+
+            // then
+            assertThat(response.copiedBlocks()).isZero();
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 타입 변환 없이 원본과 대상 기간이 겹침")
+        void copy_fail_overlappingSameType() {
+            // given
+            CopyTimeBlocksRequest request = new CopyTimeBlocksRequest(
+                    monday, monday.plusDays(1), monday.plusDays(1), monday.plusDays(2), null, null);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineService.copyTimeBlocks(user.getId(), request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_COPY_RANGE);
+            then(timeBlockRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 원본 타입 없이 대상 타입만 지정")
+        void copy_fail_targetTypeWithoutSourceType() {
+            // given
+            CopyTimeBlocksRequest request = new CopyTimeBlocksRequest(
+                    monday, monday, monday.plusDays(1), monday.plusDays(1), null, TimeBlockType.ACTUAL);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineService.copyTimeBlocks(user.getId(), request));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_COPY_RANGE);
+        }
+    }
+
+    private TimeBlockView view(Long blockId, LocalDate date, LocalTime startTime, TimeBlockType type, Activity activity) {
+        return new TimeBlockView(blockId, date, startTime, type, activity.getId(), activity.getName(),
+                activity.getCategory().getName(), activity.getCategory().getColor());
+    }
+}
@@ -0,0 +1,206 @@
+package com.lifelogix.timeline.core.domain;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.application.TimeBlockPartitionProperties;
+import com.lifelogix.timeline.core.application.TimeBlockPartitionScheduler;
+import com.lifelogix.timeline.core.application.TimeBlockPartitionService;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * time_block 월 파티셔닝(V6)과 create_time_block_partition 함수를 PostgreSQL 컨테이너에서 검증
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜀
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "timeline.partition.enabled=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@Import({TimeBlockPartitionService.class, TimeBlockPartitionScheduler.class, TimeBlockPartitionTest.TestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("time_block 월 파티션 테스트 (PostgreSQL)")
+class TimeBlockPartitionTest {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @TestConfiguration
+    @EnableConfigurationProperties(TimeBlockPartitionProperties.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private TimeBlockPartitionService partitionService;
+    @Autowired
+    private TimeBlockPartitionScheduler partitionScheduler;
+    @Autowired
+    private TimeBlockPartitionProperties partitionProperties;
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DataSource dataSource;
+
+    private TransactionTemplate transactionTemplate;
+    private Activity running;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            timeBlockRepository.deleteAllInBatch();
+            activityRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+
+            User user = userRepository.save(User.builder()
+                    .email("partition@example.com")
+                    .nickname("partition")
+                    .providerType(ProviderType.LOCAL)
+                    .roleType(RoleType.USER)
+                    .build());
+            Category category = categoryRepository.save(new Category("운동", "#2ECC71", null, null));
+            running = activityRepository.save(new Activity("달리기", user, category));
+        });
+    }
+
+    private static String partitionName(LocalDate month) {
+        return "time_block_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private String partitionOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM time_block WHERE id = ?", String.class, id);
+    }
+
+    private int defaultPartitionRows() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM time_block_default", Integer.class);
+    }
+
+    private boolean isAttached(String schema, String partition) {
+        return jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_namespace n ON n.oid = c.relnamespace
+                WHERE n.nspname = ? AND c.relname = ?
+                """, Integer.class, schema, partition) == 1;
+    }
+
+    @Test
+    @DisplayName("파티션이 없는 과거 월의 행은 기본 파티션에 저장되고, 함수를 두 번 호출해도 월 파티션으로 한 번만 옮겨짐")
+    void createPartition_movesDefaultRowsIdempotently() {
+        // given
+        LocalDate pastDate = LocalDate.of(2020, 3, 15);
+        Long id = transactionTemplate.execute(status ->
+                timeBlockRepository.save(new TimeBlock(pastDate, LocalTime.of(9, 0), TimeBlockType.PLAN, running)).getId());
+        assertThat(partitionOf(id)).isEqualTo("time_block_default");
+
+        // when
+        partitionService.ensureMonths(List.of(pastDate));
+        partitionService.ensureMonths(List.of(pastDate.withDayOfMonth(1), pastDate.withDayOfMonth(31)));
+
+        // then
+        String partition = partitionName(pastDate);
+        assertThat(partitionOf(id)).isEqualTo(partition);
+        assertThat(defaultPartitionRows()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM " + partition, Integer.class)).isEqualTo(1);
+        assertThat(isAttached("public", partition)).isTrue();
+        assertThat(timeBlockRepository.findByUserIdAndDate(running.getUser().getId(), pastDate))
+                .extracting(TimeBlock::getId)
+                .containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("스케줄러는 이번 달부터 months-ahead개월 뒤까지의 파티션을 만들고, 그 기간의 쓰기는 기본 파티션으로 가지 않음")
+    void scheduler_createsUpcomingPartitions() {
+        // when
+        partitionScheduler.createUpcomingPartitions();
+        partitionScheduler.createUpcomingPartitions();
+        LocalDate lastMonth = LocalDate.now().withDayOfMonth(1).plusMonths(partitionProperties.getMonthsAhead());
+        Long id = transactionTemplate.execute(status ->
+                timeBlockRepository.save(new TimeBlock(lastMonth, LocalTime.of(9, 0), TimeBlockType.PLAN, running)).getId());
+
+        // then
+        for (LocalDate month = LocalDate.now().withDayOfMonth(1); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            assertThat(isAttached("public", partitionName(month))).isTrue();
+        }
+        assertThat(partitionOf(id)).isEqualTo(partitionName(lastMonth));
+        assertThat(defaultPartitionRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("기존 time_block의 행은 V6 적용 시 월 파티션으로 옮겨지고 기존 테이블은 삭제됨")
+    void migration_movesLegacyRowsIntoPartitions() {
+        // given: 파티셔닝 이전(V5)까지 적용한 별도 스키마에 기존 기록
+        FluentConfiguration legacy = Flyway.configure()
+                .dataSource(dataSource)
+                .schemas("legacy")
+                .locations("classpath:db/migration/common", "classpath:db/migration/postgresql");
+        legacy.target("5").load().migrate();
+        LocalDate pastDate = LocalDate.of(2019, 11, 2);
+        LocalDate today = LocalDate.now();
+        jdbcTemplate.update("INSERT INTO legacy.users (id, email, nickname, provider_type, role_type, created_at) VALUES (1, 'legacy@example.com', 'legacy', 'LOCAL', 'USER', now())");
+        jdbcTemplate.update("INSERT INTO legacy.category (id, name, color) VALUES (1, '운동', '#2ECC71')");
+        jdbcTemplate.update("INSERT INTO legacy.activity (id, name, user_id, category_id) VALUES (1, '달리기', 1, 1)");
+        jdbcTemplate.update("INSERT INTO legacy.time_block (id, date, start_time, type, activity_id, user_id) VALUES (1, ?, '09:00', 'PLAN', 1, 1), (2, ?, '09:00', 'PLAN', 1, 1)",
+                pastDate, today);
+
+        // when
+        legacy.target("6").load().migrate();
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT id, tableoid::regclass::text AS partition FROM legacy.time_block ORDER BY id"))
+                .extracting(row -> row.get("partition"))
+                .containsExactly("legacy." + partitionName(pastDate), "legacy." + partitionName(today));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM legacy.time_block_default", Integer.class)).isZero();
+        assertThat(isAttached("legacy", partitionName(today.withDayOfMonth(1).plusMonths(3)))).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('legacy.time_block_legacy') IS NULL", Boolean.class)).isTrue();
+    }
+}
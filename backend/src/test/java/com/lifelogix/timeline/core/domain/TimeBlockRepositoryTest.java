@@ -0,0 +1,304 @@
+package com.lifelogix.timeline.core.domain;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Flyway 마이그레이션(common + h2)으로 생성한 H2 스키마 위에서 Repository 쿼리를 검증
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("TimeBlockRepository 테스트")
+class TimeBlockRepositoryTest {
+
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private User user;
+    private Activity activity;
+    private Activity otherUsersActivity;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(createUser("owner@example.com"));
+        User otherUser = userRepository.save(createUser("other@example.com"));
+        Category category = categoryRepository.save(new Category("운동", "#2ECC71", null, null));
+        activity = activityRepository.save(new Activity("달리기", user, category));
+        otherUsersActivity = activityRepository.save(new Activity("수영", otherUser, category));
+    }
+
+    @Nested
+    @DisplayName("사용자/날짜별 조회")
+    class FindByUserIdAndDate {
+        @Test
+        @DisplayName("성공 - 소유자 컬럼으로 해당 사용자의 블록만 조회")
+        void find_success() {
+            // given
+            timeBlockRepository.saveAll(List.of(
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.ACTUAL, activity),
+                    new TimeBlock(date.plusDays(1), LocalTime.of(9, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, otherUsersActivity)
+            ));
+
+            // when
+            List<TimeBlock> blocks = timeBlockRepository.findByUserIdAndDate(user.getId(), date);
+
+            // then
+            assertThat(blocks).hasSize(2)
+                    .allSatisfy(block -> assertThat(block.getUser().getId()).isEqualTo(user.getId()));
+        }
+
+        @Test
+        @DisplayName("성공 - 기간 조회")
+        void findBetween_success() {
+            // given
+            timeBlockRepository.saveAll(List.of(
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date.plusDays(2), LocalTime.of(9, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date.plusDays(3), LocalTime.of(9, 0), TimeBlockType.PLAN, activity)
+            ));
+
+            // when
+            List<TimeBlock> blocks = timeBlockRepository.findByUserIdAndDateBetween(user.getId(), date, date.plusDays(2));
+
+            // then
+            assertThat(blocks).extracting(TimeBlock::getDate).containsExactlyInAnyOrder(date, date.plusDays(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("프로젝션 조회")
+    class FindViews {
+        @Test
+        @DisplayName("성공 - 응답에 필요한 컬럼만 레코드로 조회")
+        void findViews_success() {
+            // given
+            TimeBlock saved = timeBlockRepository.save(new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity));
+            timeBlockRepository.save(new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, otherUsersActivity));
+
+            // when
+            List<TimeBlockView> views = timeBlockRepository.findViewsByUserIdAndDate(user.getId(), date);
+
+            // then
+            assertThat(views).containsExactly(new TimeBlockView(saved.getId(), date, LocalTime.of(9, 0), TimeBlockType.PLAN,
+                    activity.getId(), "달리기", "운동", "#2ECC71"));
+        }
+
+        @Test
+        @DisplayName("성공 - 기간 조회")
+        void findViewsBetween_success() {
+            // given
+            timeBlockRepository.saveAll(List.of(
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date.plusDays(1), LocalTime.of(9, 0), TimeBlockType.ACTUAL, activity),
+                    new TimeBlock(date.plusDays(2), LocalTime.of(9, 0), TimeBlockType.PLAN, activity)
+            ));
+
+            // when
+            List<TimeBlockView> views = timeBlockRepository.findViewsByUserIdAndDateBetween(user.getId(), date, date.plusDays(1));
+
+            // then
+            assertThat(views).extracting(TimeBlockView::date).containsExactlyInAnyOrder(date, date.plusDays(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("슬롯 순서 조회")
+    class FindSlots {
+        @Test
+        @DisplayName("성공 - (날짜, 시작 시간) 순으로 정렬해 조회")
+        void findSlots_success() {
+            // given
+            timeBlockRepository.saveAll(List.of(
+                    new TimeBlock(date.plusDays(1), LocalTime.of(8, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(10, 0), TimeBlockType.ACTUAL, activity),
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, otherUsersActivity)
+            ));
+
+            // when
+            List<TimeBlockSlot> slots = timeBlockRepository.findSlotsByUserIdAndDateBetween(user.getId(), date, date.plusDays(1));
+
+            // then
+            assertThat(slots)
+                    .extracting(TimeBlockSlot::date, TimeBlockSlot::startTime, TimeBlockSlot::categoryName)
+                    .containsExactly(
+                            tuple(date, LocalTime.of(9, 0), "운동"),
+                            tuple(date, LocalTime.of(10, 0), "운동"),
+                            tuple(date.plusDays(1), LocalTime.of(8, 0), "운동"));
+        }
+    }
+
+    @Nested
+    @DisplayName("내보내기 키셋 페이지 조회")
+    class FindExportPage {
+        @Test
+        @DisplayName("성공 - (날짜, 시작 시간, 타입) 순으로 커서 다음 행부터 limit 건 조회")
+        void findExportPage_success() {
+            // given
+            timeBlockRepository.saveAllAndFlush(List.of(
+                    new TimeBlock(date.plusDays(1), LocalTime.of(8, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.ACTUAL, activity),
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, otherUsersActivity)
+            ));
+
+            // when
+            List<TimeBlockFileRow> first = timeBlockRepository.findExportPage(user.getId(), null, 2);
+            List<TimeBlockFileRow> second = timeBlockRepository.findExportPage(user.getId(), first.get(1), 2);
+
+            // then
+            assertThat(first)
+                    .extracting(TimeBlockFileRow::date, TimeBlockFileRow::startTime, TimeBlockFileRow::type)
+                    .containsExactly(
+                            tuple(date, LocalTime.of(9, 0), TimeBlockType.ACTUAL),
+                            tuple(date, LocalTime.of(9, 0), TimeBlockType.PLAN));
+            assertThat(second).containsExactly(new TimeBlockFileRow(date.plusDays(1), LocalTime.of(8, 0), TimeBlockType.PLAN,
+                    "달리기", "운동", "#2ECC71"));
+        }
+    }
+
+    @Nested
+    @DisplayName("소유자 조건 조회/삭제")
+    class OwnerScoped {
+        @Test
+        @DisplayName("성공 - 소유자가 다르면 조회/삭제되지 않음")
+        void ownerScoped_success() {
+            // given
+            TimeBlock block = timeBlockRepository.save(new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity));
+            Long otherUserId = otherUsersActivity.getUser().getId();
+
+            // when & then
+            assertThat(timeBlockRepository.findByIdAndUserId(block.getId(), otherUserId)).isEmpty();
+            assertThat(timeBlockRepository.findSlotStateByIdAndUserId(block.getId(), otherUserId)).isEmpty();
+            assertThat(timeBlockRepository.findSlotStateByIdAndUserId(block.getId(), user.getId()))
+                    .get()
+                    .extracting(TimeBlockSlotState::date, TimeBlockSlotState::startTime, TimeBlockSlotState::type, TimeBlockSlotState::activityId)
+                    .containsExactly(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity.getId());
+            assertThat(timeBlockRepository.deleteByIdAndUserIdAndDate(block.getId(), otherUserId, date)).isZero();
+            assertThat(timeBlockRepository.deleteByIdAndUserIdAndDate(block.getId(), user.getId(), date)).isOne();
+        }
+
+        @Test
+        @DisplayName("성공 - 타임블록이 참조하는 활동은 삭제되지 않음")
+        void deleteUnusedActivity_success() {
+            // given
+            timeBlockRepository.save(new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity));
+            Activity unused = activityRepository.save(new Activity("걷기", user, activity.getCategory()));
+
+            // when & then
+            assertThat(activityRepository.deleteUnusedByIdAndUserId(activity.getId(), user.getId())).isZero();
+            assertThat(activityRepository.deleteUnusedByIdAndUserId(unused.getId(), otherUsersActivity.getUser().getId())).isZero();
+            assertThat(activityRepository.deleteUnusedByIdAndUserId(unused.getId(), user.getId())).isOne();
+        }
+    }
+
+    @Nested
+    @DisplayName("구간 삭제/이동")
+    class RangeOperations {
+        @Test
+        @DisplayName("성공 - 구간 내 해당 타입의 블록만 삭제")
+        void deleteSlots_success() {
+            // given
+            timeBlockRepository.saveAll(List.of(
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(9, 30), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(10, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.ACTUAL, activity),
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, otherUsersActivity)
+            ));
+
+            // when
+            int deleted = timeBlockRepository.deleteSlots(user.getId(), date, TimeBlockType.PLAN, LocalTime.of(9, 0), LocalTime.of(9, 30));
+
+            // then
+            assertThat(deleted).isEqualTo(2);
+            assertThat(timeBlockRepository.findViewsByUserIdAndDate(user.getId(), date))
+                    .extracting(TimeBlockView::startTime, TimeBlockView::type)
+                    .containsExactlyInAnyOrder(
+                            tuple(LocalTime.of(9, 0), TimeBlockType.ACTUAL),
+                            tuple(LocalTime.of(10, 0), TimeBlockType.PLAN));
+        }
+
+        @Test
+        @DisplayName("성공 - 겹치는 구간으로 이동하면 ID를 유지한 채 대상 구간을 덮어씀")
+        void shiftSlots_success() {
+            // given
+            Activity reading = activityRepository.save(new Activity("독서", user, activity.getCategory()));
+            List<TimeBlock> saved = timeBlockRepository.saveAllAndFlush(List.of(
+                    new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(9, 30), TimeBlockType.PLAN, activity),
+                    new TimeBlock(date, LocalTime.of(10, 30), TimeBlockType.PLAN, reading)
+            ));
+
+            // when: 09:00 ~ 10:00 을 2칸(1시간) 뒤로 이동
+            Map<LocalTime, Long> shifted = timeBlockRepository.shiftSlots(user.getId(), date, TimeBlockType.PLAN, LocalTime.of(9, 0), LocalTime.of(10, 0), 60);
+
+            // then
+            assertThat(shifted).containsOnly(
+                    entry(LocalTime.of(10, 0), activity.getId()),
+                    entry(LocalTime.of(10, 30), activity.getId()));
+            assertThat(timeBlockRepository.findViewsByUserIdAndDate(user.getId(), date))
+                    .extracting(TimeBlockView::blockId, TimeBlockView::startTime, TimeBlockView::activityName)
+                    .containsExactlyInAnyOrder(
+                            tuple(saved.get(0).getId(), LocalTime.of(10, 0), "달리기"),
+                            tuple(saved.get(1).getId(), LocalTime.of(10, 30), "달리기"));
+        }
+    }
+
+    @Nested
+    @DisplayName("활동 사용 여부 확인")
+    class ExistsByActivity {
+        @Test
+        @DisplayName("성공 - 타임블록이 참조하는 활동만 사용 중으로 판단")
+        void exists_success() {
+            // given
+            timeBlockRepository.save(new TimeBlock(date, LocalTime.of(9, 0), TimeBlockType.PLAN, activity));
+
+            // when & then
+            assertThat(timeBlockRepository.existsByActivity(activity)).isTrue();
+            assertThat(timeBlockRepository.existsByActivity(otherUsersActivity)).isFalse();
+        }
+    }
+
+    private User createUser(String email) {
+        return User.builder()
+                .email(email)
+                .nickname("tester")
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .build();
+    }
+}
@@ -0,0 +1,220 @@
+package com.lifelogix.timeline.core.domain;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * generate_series, ON CONFLICT 등 PostgreSQL 전용 구문을 쓰는 집합 단위 쓰기를 실제 PostgreSQL 컨테이너에서 검증
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜀
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@DisplayName("TimeBlock 집합 단위 쓰기 테스트 (PostgreSQL)")
+class TimeBlockSetOperationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final LocalDate monday = LocalDate.of(2025, 10, 13);
+    private User user;
+    private Activity running;
+    private Activity reading;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("set-operation@example.com")
+                .nickname("tester")
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .build());
+        Category category = categoryRepository.save(new Category("운동", "#2ECC71", null, null));
+        running = activityRepository.save(new Activity("달리기", user, category));
+        reading = activityRepository.save(new Activity("독서", user, category));
+    }
+
+    @Test
+    @DisplayName("구간 채우기 - 빈 슬롯은 생성하고 기록된 슬롯은 활동만 변경")
+    void fillSlots_success() {
+        // given
+        timeBlockRepository.saveAndFlush(new TimeBlock(monday, LocalTime.of(9, 30), TimeBlockType.PLAN, reading));
+
+        // when
+        int written = timeBlockRepository.fillSlots(user.getId(), monday, LocalTime.of(9, 0), 3, TimeBlockType.PLAN.name(), running.getId());
+
+        // then
+        assertThat(written).isEqualTo(3);
+        assertThat(timeBlockRepository.findViewsByUserIdAndDate(user.getId(), monday))
+                .extracting(TimeBlockView::startTime, TimeBlockView::activityName)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalTime.of(9, 0), "달리기"),
+                        tuple(LocalTime.of(9, 30), "달리기"),
+                        tuple(LocalTime.of(10, 0), "달리기"));
+    }
+
+    @Test
+    @DisplayName("하루 복사 - 계획을 같은 날의 실제로 변환")
+    void copySlots_planToActual() {
+        // given
+        timeBlockRepository.saveAllAndFlush(List.of(
+                new TimeBlock(monday, LocalTime.of(9, 0), TimeBlockType.PLAN, running),
+                new TimeBlock(monday, LocalTime.of(9, 30), TimeBlockType.PLAN, reading),
+                new TimeBlock(monday, LocalTime.of(9, 30), TimeBlockType.ACTUAL, running)
+        ));
+
+        // when
+        List<TimeBlockSlotState> copied = timeBlockRepository.copySlots(user.getId(), monday, monday, "PLAN", 0, 1, 1, monday, "ACTUAL");
+
+        // then: 이미 기록된 09:30 실제 슬롯은 덮어써 버전이 증가
+        assertThat(copied)
+                .extracting(TimeBlockSlotState::startTime, TimeBlockSlotState::type, TimeBlockSlotState::activityId, TimeBlockSlotState::version)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalTime.of(9, 0), TimeBlockType.ACTUAL, running.getId(), 0L),
+                        tuple(LocalTime.of(9, 30), TimeBlockType.ACTUAL, reading.getId(), 1L));
+        assertThat(timeBlockRepository.findViewsByUserIdAndDate(user.getId(), monday))
+                .filteredOn(view -> view.type() == TimeBlockType.ACTUAL)
+                .extracting(TimeBlockView::startTime, TimeBlockView::activityName)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalTime.of(9, 0), "달리기"),
+                        tuple(LocalTime.of(9, 30), "독서"));
+    }
+
+    @Test
+    @DisplayName("이틀 복사 - 대상 기간(5일)에 원본 패턴을 반복하고 대상 종료일 이후는 제외")
+    void copySlots_repeatsPattern() {
+        // given: 월요일은 달리기, 화요일은 독서
+        timeBlockRepository.saveAllAndFlush(List.of(
+                new TimeBlock(monday, LocalTime.of(7, 0), TimeBlockType.PLAN, running),
+                new TimeBlock(monday.plusDays(1), LocalTime.of(7, 0), TimeBlockType.PLAN, reading)
+        ));
+        LocalDate targetFrom = monday.plusDays(7);
+        LocalDate targetTo = targetFrom.plusDays(4);
+
+        // when
+        List<TimeBlockSlotState> copied = timeBlockRepository.copySlots(user.getId(), monday, monday.plusDays(1), null, 7, 2, 3, targetTo, null);
+
+        // then
+        assertThat(copied).hasSize(5);
+        assertThat(timeBlockRepository.findViewsByUserIdAndDateBetween(user.getId(), targetFrom, targetTo.plusDays(1)))
+                .extracting(TimeBlockView::date, TimeBlockView::activityName)
+                .containsExactlyInAnyOrder(
+                        tuple(targetFrom, "달리기"),
+                        tuple(targetFrom.plusDays(1), "독서"),
+                        tuple(targetFrom.plusDays(2), "달리기"),
+                        tuple(targetFrom.plusDays(3), "독서"),
+                        tuple(targetFrom.plusDays(4), "달리기"));
+    }
+
+    @Test
+    @DisplayName("가져오기 - COPY로 적재해 기존 슬롯은 덮어쓰고, 같은 슬롯이 반복되면 마지막 행을 반영")
+    void importSlots_success() {
+        // given
+        timeBlockRepository.saveAndFlush(new TimeBlock(monday, LocalTime.of(9, 0), TimeBlockType.PLAN, reading));
+        List<TimeBlockImportSlot> slots = List.of(
+                new TimeBlockImportSlot(2, monday, LocalTime.of(9, 0), TimeBlockType.PLAN, running.getId()),
+                new TimeBlockImportSlot(3, monday, LocalTime.of(9, 30), TimeBlockType.PLAN, running.getId()),
+                new TimeBlockImportSlot(4, monday, LocalTime.of(9, 30), TimeBlockType.PLAN, reading.getId()),
+                new TimeBlockImportSlot(5, monday, LocalTime.of(9, 30), TimeBlockType.ACTUAL, running.getId()));
+
+        // when
+        int written = timeBlockRepository.importSlots(user.getId(), slots);
+
+        // then
+        assertThat(written).isEqualTo(3);
+        assertThat(timeBlockRepository.findViewsByUserIdAndDate(user.getId(), monday))
+                .extracting(TimeBlockView::startTime, TimeBlockView::type, TimeBlockView::activityName)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalTime.of(9, 0), TimeBlockType.PLAN, "달리기"),
+                        tuple(LocalTime.of(9, 30), TimeBlockType.PLAN, "독서"),
+                        tuple(LocalTime.of(9, 30), TimeBlockType.ACTUAL, "달리기"));
+    }
+
+    @Test
+    @DisplayName("병합 쓰기 - 판정 시점의 버전이 그대로인 슬롯만 반영하고 버전과 HLC를 기록")
+    void mergeSlots_appliesOnlyUnchangedSlots() {
+        // given: 9:00은 버전 0, 9:30은 판정 이후 다른 요청이 한 번 더 바꿔 버전 1
+        timeBlockRepository.saveAllAndFlush(List.of(
+                new TimeBlock(monday, LocalTime.of(9, 0), TimeBlockType.PLAN, reading),
+                new TimeBlock(monday, LocalTime.of(9, 30), TimeBlockType.PLAN, reading)));
+        timeBlockRepository.fillSlots(user.getId(), monday, LocalTime.of(9, 30), 1, TimeBlockType.PLAN.name(), running.getId());
+        long hlc = HybridTimestamp.now();
+
+        // when
+        List<TimeBlockSlotState> applied = timeBlockRepository.mergeSlots(user.getId(), List.of(
+                new TimeBlockSlotWrite(monday, LocalTime.of(9, 0), TimeBlockType.PLAN, running.getId(), 0L, 1, hlc),
+                new TimeBlockSlotWrite(monday, LocalTime.of(9, 30), TimeBlockType.PLAN, reading.getId(), 0L, 1, hlc),
+                new TimeBlockSlotWrite(monday, LocalTime.of(10, 0), TimeBlockType.PLAN, running.getId(), null, 0, hlc)));
+
+        // then
+        assertThat(applied)
+                .extracting(TimeBlockSlotState::startTime, TimeBlockSlotState::activityId, TimeBlockSlotState::version, TimeBlockSlotState::hlc)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalTime.of(9, 0), running.getId(), 1L, hlc),
+                        tuple(LocalTime.of(10, 0), running.getId(), 0L, hlc));
+        assertThat(timeBlockRepository.findSlotStates(user.getId(), List.of(monday)))
+                .extracting(TimeBlockSlotState::startTime, TimeBlockSlotState::activityId, TimeBlockSlotState::version)
+                .containsExactlyInAnyOrder(
+                        tuple(LocalTime.of(9, 0), running.getId(), 1L),
+                        tuple(LocalTime.of(9, 30), running.getId(), 1L),
+                        tuple(LocalTime.of(10, 0), running.getId(), 0L));
+    }
+
+    @Test
+    @DisplayName("병합 삭제 - 타임블록을 지우고 툼스톤을 남기며, 다시 기록하면 타임블록이 툼스톤보다 우선")
+    void mergeSlots_deleteLeavesTombstone() {
+        // given
+        timeBlockRepository.saveAndFlush(new TimeBlock(monday, LocalTime.of(9, 0), TimeBlockType.PLAN, reading));
+        long hlc = HybridTimestamp.now();
+
+        // when
+        List<TimeBlockSlotState> deleted = timeBlockRepository.mergeSlots(user.getId(), List.of(
+                new TimeBlockSlotWrite(monday, LocalTime.of(9, 0), TimeBlockType.PLAN, null, 0L, 1, hlc)));
+        List<TimeBlockSlotState> rewritten = timeBlockRepository.mergeSlots(user.getId(), List.of(
+                new TimeBlockSlotWrite(monday, LocalTime.of(9, 0), TimeBlockType.PLAN, running.getId(), null, 2, hlc + 1)));
+
+        // then
+        assertThat(deleted)
+                .extracting(TimeBlockSlotState::deleted, TimeBlockSlotState::version)
+                .containsExactly(tuple(true, 1L));
+        assertThat(rewritten).extracting(TimeBlockSlotState::activityId).containsExactly(running.getId());
+        assertThat(timeBlockRepository.findSlotStates(user.getId(), List.of(monday)))
+                .extracting(TimeBlockSlotState::activityId, TimeBlockSlotState::version)
+                .containsExactlyInAnyOrder(tuple(null, 1L), tuple(running.getId(), 2L));
+    }
+}
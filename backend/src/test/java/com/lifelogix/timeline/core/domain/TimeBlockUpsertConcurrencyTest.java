@@ -0,0 +1,136 @@
+package com.lifelogix.timeline.core.domain;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ON CONFLICT 구문은 PostgreSQL 전용이므로 실제 PostgreSQL 컨테이너에 마이그레이션을 적용하여 검증
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜀
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("TimeBlock 슬롯 upsert 동시성 테스트")
+class TimeBlockUpsertConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int WRITES_PER_THREAD = 50;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User user;
+    private List<Activity> activities;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            timeBlockRepository.deleteAllInBatch();
+            activityRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+
+            user = userRepository.save(User.builder()
+                    .email("stress@example.com")
+                    .nickname("stress")
+                    .providerType(ProviderType.LOCAL)
+                    .roleType(RoleType.USER)
+                    .build());
+            Category category = categoryRepository.save(new Category("운동", "#2ECC71", null, null));
+            activities = activityRepository.saveAll(List.of(
+                    new Activity("달리기", user, category),
+                    new Activity("수영", user, category)
+            ));
+        });
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 슬롯을 동시에 기록해도 하나의 행만 유지")
+    void concurrentUpsert_keepsSingleRow() throws Exception {
+        // given
+        LocalDate date = LocalDate.of(2025, 10, 13);
+        LocalTime startTime = LocalTime.of(9, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ConcurrentLinkedQueue<Long> returnedIds = new ConcurrentLinkedQueue<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int thread = 0; thread < THREAD_COUNT; thread++) {
+            Long activityId = activities.get(thread % activities.size()).getId();
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                for (int write = 0; write < WRITES_PER_THREAD; write++) {
+                    Long id = transactionTemplate.execute(status -> timeBlockRepository.upsertSlot(
+                            user.getId(), date, startTime, TimeBlockType.PLAN.name(), activityId));
+                    returnedIds.add(id);
+                }
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        List<TimeBlock> blocks = transactionTemplate.execute(status -> timeBlockRepository.findByUserIdAndDate(user.getId(), date));
+        assertThat(blocks).hasSize(1);
+        Set<Long> distinctIds = new HashSet<>(returnedIds);
+        assertThat(returnedIds).hasSize(THREAD_COUNT * WRITES_PER_THREAD);
+        assertThat(distinctIds).containsExactly(blocks.get(0).getId());
+    }
+}
@@ -0,0 +1,118 @@
+package com.lifelogix.timeline.core.domain;
+
+import com.lifelogix.config.query.QueryBudget;
+import com.lifelogix.config.query.QueryCountTestConfig;
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일간 타임라인 조회 경로 비교 (엔티티 fetch join vs DTO 프로젝션)
+ * 두 경로 모두 블록 수(하루 96개)와 무관하게 SQL 한 번으로 끝나야 하며, 프로젝션 경로는 영속성 컨텍스트에 엔티티를 올리지 않아야 함
+ * 실제 PostgreSQL에서의 호출당 시간/할당량 비교는 부하 테스트 환경의 ReadPathComparison(./gradlew readPathComparison)이 담당하며,
+ * 여기서는 회귀를 빌드에서 잡을 수 있는 구조적 차이만 검증함
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryCountTestConfig.class)
+@DisplayName("일간 타임라인 조회 경로 테스트")
+class TimelineReadPathTest {
+
+    private static final int BLOCKS_PER_DAY = 96;
+
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("read-path@example.com")
+                .nickname("tester")
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .build());
+        Category category = categoryRepository.save(new Category("운동", "#2ECC71", null, null));
+        List<Activity> activities = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            activities.add(activityRepository.save(new Activity("활동" + i, user, category)));
+        }
+
+        // 하루 48개 슬롯 x PLAN/ACTUAL = 96개 블록
+        List<TimeBlock> blocks = new ArrayList<>();
+        for (int slot = 0; slot < 48; slot++) {
+            LocalTime startTime = LocalTime.MIDNIGHT.plusMinutes(30L * slot);
+            blocks.add(new TimeBlock(date, startTime, TimeBlockType.PLAN, activities.get(slot % activities.size())));
+            blocks.add(new TimeBlock(date, startTime, TimeBlockType.ACTUAL, activities.get((slot + 1) % activities.size())));
+        }
+        timeBlockRepository.saveAll(blocks);
+        // 매 요청이 새로운 영속성 컨텍스트에서 시작하는 상황을 재현
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private int managedEntities() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+
+    @Test
+    @QueryBudget(1)
+    @DisplayName("엔티티 조회 - fetch join 한 번으로 활동/카테고리까지 읽지만 블록마다 엔티티를 영속성 컨텍스트에 올림")
+    void entityPath() {
+        // when
+        List<String> colors = timeBlockRepository.findByUserIdAndDate(user.getId(), date).stream()
+                .map(block -> block.getActivity().getCategory().getColor())
+                .toList();
+
+        // then
+        assertThat(colors).hasSize(BLOCKS_PER_DAY);
+        assertThat(managedEntities()).isGreaterThan(BLOCKS_PER_DAY);
+    }
+
+    @Test
+    @QueryBudget(1)
+    @DisplayName("프로젝션 조회 - 필요한 컬럼만 한 번에 읽고 엔티티를 영속성 컨텍스트에 올리지 않음")
+    void projectionPath() {
+        // when
+        List<String> colors = timeBlockRepository.findViewsByUserIdAndDate(user.getId(), date).stream()
+                .map(TimeBlockView::categoryColor)
+                .toList();
+
+        // then
+        assertThat(colors).hasSize(BLOCKS_PER_DAY);
+        assertThat(managedEntities()).isZero();
+    }
+}
@@ -0,0 +1,121 @@
+package com.lifelogix.timeline.seed.application;
+
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.ActivitySpec;
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.CategorySpec;
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.DayPlan;
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.Routine;
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.UserProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SyntheticDataGenerator 단위 테스트")
+class SyntheticDataGeneratorTest {
+
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+
+    @Nested
+    @DisplayName("사용자 프로필")
+    class GenerateUser {
+        @Test
+        @DisplayName("성공 - 같은 시드와 번호면 항상 같은 프로필")
+        void user_success_deterministic() {
+            // when
+            UserProfile first = generator.user(7);
+            UserProfile second = new SyntheticDataGenerator(42).user(7);
+
+            // then
+            assertThat(second).isEqualTo(first);
+            assertThat(new SyntheticDataGenerator(43).user(7)).isNotEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("성공 - 사용자 카테고리는 시스템 카테고리 아래에 있고, 모든 루틴에 활동이 하나 이상 있음")
+        void user_success_categoryTree() {
+            // given
+            Set<String> systemCategories = Arrays.stream(Routine.values())
+                    .map(Routine::systemCategory)
+                    .collect(Collectors.toSet());
+
+            // when
+            UserProfile profile = generator.user(3);
+
+            // then
+            Set<String> userCategories = profile.categories().stream()
+                    .map(CategorySpec::name)
+                    .collect(Collectors.toSet());
+            assertThat(profile.categories()).extracting(CategorySpec::parentName).isSubsetOf(systemCategories);
+            assertThat(userCategories).doesNotContainAnyElementsOf(systemCategories);
+            assertThat(profile.activities()).extracting(ActivitySpec::categoryName)
+                    .allMatch(name -> systemCategories.contains(name) || userCategories.contains(name));
+            assertThat(profile.activities()).extracting(ActivitySpec::routine).contains(Routine.values());
+            assertThat(profile.activities()).extracting(ActivitySpec::name).doesNotHaveDuplicates();
+        }
+    }
+
+    @Nested
+    @DisplayName("하루치 기록")
+    class GenerateDay {
+        @Test
+        @DisplayName("성공 - 같은 날짜면 생성 순서와 관계없이 같은 슬롯")
+        void day_success_deterministic() {
+            // given
+            UserProfile profile = generator.user(0);
+
+            // when
+            DayPlan first = generator.day(profile, date);
+            generator.day(profile, date.plusDays(1));
+            DayPlan second = generator.day(profile, date);
+
+            // then
+            assertThat(second.plan()).isEqualTo(first.plan());
+            assertThat(second.actual()).isEqualTo(first.actual());
+        }
+
+        @Test
+        @DisplayName("성공 - 슬롯은 48개이며, 기록된 슬롯은 모두 사용자의 활동")
+        void day_success_slots() {
+            // given
+            UserProfile profile = generator.user(1);
+
+            // when: 한 달치
+            for (LocalDate day = date; day.isBefore(date.plusMonths(1)); day = day.plusDays(1)) {
+                DayPlan plan = generator.day(profile, day);
+
+                // then
+                assertThat(plan.plan()).hasSize(SyntheticDataGenerator.SLOTS_PER_DAY);
+                assertThat(plan.actual()).hasSize(SyntheticDataGenerator.SLOTS_PER_DAY);
+                assertThat(Arrays.stream(plan.plan()).filter(activity -> activity != SyntheticDataGenerator.EMPTY))
+                        .allMatch(activity -> activity < profile.activities().size());
+                assertThat(Arrays.stream(plan.actual()).filter(activity -> activity != SyntheticDataGenerator.EMPTY))
+                        .allMatch(activity -> activity < profile.activities().size());
+            }
+        }
+
+        @Test
+        @DisplayName("성공 - 계획한 날은 새벽 슬롯이 수면으로 채워짐")
+        void day_success_sleepsAtNight() {
+            // given
+            UserProfile profile = generator.user(2);
+            Set<Integer> sleepActivities = Arrays.stream(profile.activitiesOf(Routine.SLEEP)).boxed().collect(Collectors.toSet());
+
+            // when
+            for (LocalDate day = date; day.isBefore(date.plusMonths(1)); day = day.plusDays(1)) {
+                int[] plan = generator.day(profile, day).plan();
+
+                // then: 03:00 슬롯
+                if (plan[6] != SyntheticDataGenerator.EMPTY) {
+                    assertThat(sleepActivities).contains(plan[6]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.lifelogix.timeline.seed.application;
+
+import com.lifelogix.config.DataInitializer;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.application.TimeBlockPartitionProperties;
+import com.lifelogix.timeline.core.application.TimeBlockPartitionService;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.DayPlan;
+import com.lifelogix.timeline.seed.application.SyntheticDataGenerator.UserProfile;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Flyway 마이그레이션(common + h2)으로 생성한 H2 스키마에 합성 데이터를 적재
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SyntheticDataLoader.class, TimeBlockPartitionService.class, SyntheticDataLoaderTest.TestConfig.class})
+@DisplayName("SyntheticDataLoader 테스트")
+class SyntheticDataLoaderTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+
+        @Bean
+        public TimeBlockPartitionProperties timeBlockPartitionProperties() {
+            return new TimeBlockPartitionProperties();
+        }
+    }
+
+    @Autowired
+    private SyntheticDataLoader syntheticDataLoader;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+    private final LocalDate from = LocalDate.of(2025, 9, 20);
+    private final LocalDate to = LocalDate.of(2025, 10, 13);
+
+    private long countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private long expectedTimeBlocks(UserProfile profile) {
+        return expectedTimeBlocks(profile, from, to);
+    }
+
+    private long expectedTimeBlocks(UserProfile profile, LocalDate start, LocalDate end) {
+        long count = 0;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            DayPlan day = generator.day(profile, date);
+            count += Arrays.stream(day.plan()).filter(slot -> slot != SyntheticDataGenerator.EMPTY).count();
+            count += Arrays.stream(day.actual()).filter(slot -> slot != SyntheticDataGenerator.EMPTY).count();
+        }
+        return count;
+    }
+
+    @Nested
+    @DisplayName("적재")
+    class Load {
+        @BeforeEach
+        void setUp() {
+            new DataInitializer(categoryRepository).run(null);
+        }
+
+        @Test
+        @DisplayName("성공 - 생성기가 만든 사용자/카테고리/활동/타임블록을 그대로 적재")
+        void load_success() {
+            // given
+            UserProfile first = generator.user(0);
+            UserProfile second = generator.user(1);
+
+            // when
+            SyntheticDataLoader.Result result = syntheticDataLoader.load(generator, 2, from, to);
+
+            // then
+            long timeBlocks = expectedTimeBlocks(first) + expectedTimeBlocks(second);
+            assertThat(result).isEqualTo(new SyntheticDataLoader.Result(2,
+                    first.categories().size() + second.categories().size(),
+                    first.activities().size() + second.activities().size(),
+                    timeBlocks));
+            assertThat(countRows("time_block")).isEqualTo(timeBlocks);
+            assertThat(countRows("activity")).isEqualTo(result.activities());
+            assertThat(countRows("category")).isEqualTo(12 + result.categories());
+
+            // 적재된 사용자는 공통 비밀번호로 로그인할 수 있고, 블록은 자신의 활동만 참조함
+            User user = userRepository.findByEmail(first.email()).orElseThrow();
+            assertThat(passwordEncoder.matches(SyntheticDataLoader.PASSWORD, user.getPassword())).isTrue();
+            List<TimeBlock> blocks = timeBlockRepository.findByUserIdAndDate(user.getId(), to);
+            assertThat(blocks).allSatisfy(block -> assertThat(block.getActivity().getUser().getId()).isEqualTo(user.getId()));
+        }
+
+        @Test
+        @DisplayName("성공 - 이미 적재된 사용자는 건너뛰고 부족한 사용자만 추가")
+        void load_success_skipsExistingUsers() {
+            // given
+            syntheticDataLoader.load(generator, 1, from, to);
+            long activities = countRows("activity");
+
+            // when
+            SyntheticDataLoader.Result result = syntheticDataLoader.load(generator, 2, from, to);
+
+            // then
+            assertThat(result.users()).isEqualTo(1);
+            assertThat(userRepository.count()).isEqualTo(2);
+            assertThat(countRows("activity")).isEqualTo(activities + generator.user(1).activities().size());
+            assertThat(activityRepository.count()).isEqualTo(countRows("activity"));
+        }
+
+        @Test
+        @DisplayName("성공 - 기간 중간까지만 적재된 사용자는 마지막 적재 날짜 다음 날부터 이어서 적재")
+        void load_success_resumesPartiallyLoadedUser() {
+            // given: 첫 실행이 9월까지만 적재하고 중단된 상황
+            LocalDate lastLoaded = LocalDate.of(2025, 9, 30);
+            syntheticDataLoader.load(generator, 1, from, lastLoaded);
+            long activities = countRows("activity");
+
+            // when
+            SyntheticDataLoader.Result result = syntheticDataLoader.load(generator, 1, from, to);
+
+            // then
+            UserProfile first = generator.user(0);
+            assertThat(result).isEqualTo(new SyntheticDataLoader.Result(0, 0, 0,
+                    expectedTimeBlocks(first, lastLoaded.plusDays(1), to)));
+            assertThat(countRows("time_block")).isEqualTo(expectedTimeBlocks(first));
+            assertThat(countRows("activity")).isEqualTo(activities);
+            User user = userRepository.findByEmail(first.email()).orElseThrow();
+            assertThat(timeBlockRepository.findByUserIdAndDate(user.getId(), to))
+                    .allSatisfy(block -> assertThat(block.getActivity().getUser().getId()).isEqualTo(user.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("실패 - 시스템 카테고리가 없으면 적재하지 않음")
+    void load_fail_withoutSystemCategories() {
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> syntheticDataLoader.load(generator, 1, from, to));
+
+        // then
+        assertThat(exception.getMessage()).contains("시스템 카테고리");
+        assertThat(userRepository.count()).isZero();
+    }
+}
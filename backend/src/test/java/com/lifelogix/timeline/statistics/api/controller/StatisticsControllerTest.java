@@ -0,0 +1,126 @@
+package com.lifelogix.timeline.statistics.api.controller;
+
+import com.lifelogix.config.TestSecurityConfig;
+import com.lifelogix.config.jwt.JwtProperties;
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.statistics.api.dto.response.ActivityStatisticsResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.AdherenceMetricsResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.AdherenceResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.CategoryStatisticsResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.StatisticsResponse;
+import com.lifelogix.timeline.statistics.application.AdherenceService;
+import com.lifelogix.timeline.statistics.application.StatisticsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StatisticsController.class)
+@Import({TestSecurityConfig.class, StatisticsControllerTest.TestConfig.class})
+@ActiveProfiles("local")
+@DisplayName("StatisticsController 통합 테스트")
+class StatisticsControllerTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public JwtProperties jwtProperties() {
+            JwtProperties mockProperties = mock(JwtProperties.class);
+            given(mockProperties.getSecret()).willReturn("bGlmZWxvZ2l4LWp3dC1zZWNyZXQta2V5LWZvci10ZXN0LWVudmlyb25tZW50Cg==");
+            return mockProperties;
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StatisticsService statisticsService;
+
+    @MockBean
+    private AdherenceService adherenceService;
+
+    private final Long userId = 1L;
+    private final LocalDate from = LocalDate.of(2025, 10, 1);
+    private final LocalDate to = LocalDate.of(2025, 10, 31);
+
+    @Nested
+    @DisplayName("GET /api/v1/statistics - 기간 통계 조회")
+    class GetStatistics {
+
+        @Test
+        @DisplayName("성공 - 200 OK와 카테고리별 합계 반환")
+        void getStatistics_success() throws Exception {
+            // given
+            StatisticsResponse response = new StatisticsResponse(from, to, 120, 60, List.of(
+                    new CategoryStatisticsResponse(100L, "운동", "#111111", 120, 60, List.of(
+                            new ActivityStatisticsResponse(10L, "달리기", 120, 60)))));
+            given(statisticsService.getStatistics(userId, from, to)).willReturn(response);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/statistics")
+                            .param("from", "2025-10-01")
+                            .param("to", "2025-10-31")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.plannedMinutes").value(120))
+                    .andExpect(jsonPath("$.categories[0].activities[0].name").value("달리기"));
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 기간 400 Bad Request")
+        void getStatistics_fail_invalidRange() throws Exception {
+            // given
+            given(statisticsService.getStatistics(userId, to, from))
+                    .willThrow(new BusinessException(ErrorCode.INVALID_STATISTICS_RANGE));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/statistics")
+                            .param("from", "2025-10-31")
+                            .param("to", "2025-10-01")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/statistics/adherence - 계획 대비 실행률 조회")
+    class GetAdherence {
+
+        @Test
+        @DisplayName("성공 - 200 OK와 전체/일별/카테고리별 실행률 반환")
+        void getAdherence_success() throws Exception {
+            // given
+            AdherenceMetricsResponse metrics = new AdherenceMetricsResponse(60, 30, 30, 30, 0, 0.5);
+            given(adherenceService.getAdherence(userId, from, to))
+                    .willReturn(new AdherenceResponse(from, to, metrics, List.of(), List.of()));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/statistics/adherence")
+                            .param("from", "2025-10-01")
+                            .param("to", "2025-10-31")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total.matchRate").value(0.5))
+                    .andExpect(jsonPath("$.total.skippedMinutes").value(30));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.lifelogix.timeline.statistics.application;
+
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockSlot;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.statistics.api.dto.response.AdherenceMetricsResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.AdherenceResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.CategoryAdherenceResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdherenceService 단위 테스트")
+class AdherenceServiceTest {
+
+    @Mock
+    private TimeBlockRepository timeBlockRepository;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private AdherenceWeekCache weekCache;
+    private AdherenceService adherenceService;
+
+    private final Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        weekCache = new AdherenceWeekCache(listenerContainer, new AdherenceProperties());
+        adherenceService = new AdherenceService(timeBlockRepository, weekCache);
+    }
+
+    @Nested
+    @DisplayName("계획 대비 실행률 조회")
+    class GetAdherence {
+
+        @Test
+        @DisplayName("성공 - 같은 슬롯의 계획/실제를 비교해 일치/건너뜀/계획 외 시간을 집계")
+        void getAdherence_success() {
+            // given: 아직 종료되지 않은 주 (캐시 대상 아님)
+            LocalDate monday = LocalDate.of(2099, 1, 5);
+            given(timeBlockRepository.findSlotsByUserIdAndDateBetween(userId, monday, monday.plusDays(1))).willReturn(List.of(
+                    slot(monday, 9, 0, TimeBlockType.PLAN, 10L, 100L, "운동"),
+                    slot(monday, 9, 0, TimeBlockType.ACTUAL, 10L, 100L, "운동"),
+                    slot(monday, 9, 30, TimeBlockType.PLAN, 10L, 100L, "운동"),
+                    slot(monday, 9, 30, TimeBlockType.ACTUAL, 20L, 200L, "공부"),
+                    slot(monday, 10, 0, TimeBlockType.PLAN, 20L, 200L, "공부"),
+                    slot(monday, 10, 30, TimeBlockType.ACTUAL, 10L, 100L, "운동")
+            ));
+
+            // when
+            AdherenceResponse response = adherenceService.getAdherence(userId, monday, monday.plusDays(1));
+
+            // then
+            assertThat(response.total()).isEqualTo(new AdherenceMetricsResponse(90, 90, 30, 60, 60, 1.0 / 3));
+            assertThat(response.days()).hasSize(2);
+            assertThat(response.days().get(1).adherence()).isEqualTo(new AdherenceMetricsResponse(0, 0, 0, 0, 0, null));
+            assertThat(response.categories()).containsExactly(
+                    new CategoryAdherenceResponse(100L, "운동", "#111111", new AdherenceMetricsResponse(60, 60, 30, 30, 30, 0.5)),
+                    new CategoryAdherenceResponse(200L, "공부", "#111111", new AdherenceMetricsResponse(30, 30, 0, 30, 30, 0.0)));
+        }
+
+        @Test
+        @DisplayName("성공 - 종료된 주는 한 주 전체를 한 번 읽어 캐시하고, 해당 주가 변경되면 다시 읽음")
+        void getAdherence_cachesClosedWeeks() {
+            // given
+            LocalDate monday = LocalDate.of(2025, 10, 13);
+            given(timeBlockRepository.findSlotsByUserIdAndDateBetween(userId, monday, monday.plusDays(6))).willReturn(List.of(
+                    slot(monday.plusDays(2), 9, 0, TimeBlockType.PLAN, 10L, 100L, "운동"),
+                    slot(monday.plusDays(2), 9, 0, TimeBlockType.ACTUAL, 10L, 100L, "운동")
+            ));
+
+            // when
+            AdherenceResponse first = adherenceService.getAdherence(userId, monday.plusDays(2), monday.plusDays(3));
+            AdherenceResponse second = adherenceService.getAdherence(userId, monday, monday.plusDays(6));
+            weekCache.onTimelineChanged(TimelineChangedEvent.of(userId, monday.plusDays(4)));
+            adherenceService.getAdherence(userId, monday, monday.plusDays(6));
+
+            // then
+            assertThat(first.total().matchRate()).isEqualTo(1.0);
+            assertThat(second.total().matchedMinutes()).isEqualTo(30);
+            assertThat(second.days()).hasSize(7);
+            then(timeBlockRepository).should(times(2)).findSlotsByUserIdAndDateBetween(userId, monday, monday.plusDays(6));
+        }
+
+        @Test
+        @DisplayName("성공 - 읽는 동안 다른 사용자의 기록이 바뀌어도 이 사용자의 주는 캐시하고, 같은 사용자의 기록이 바뀌면 캐시하지 않음")
+        void getAdherence_generationIsPerUser() {
+            // given
+            LocalDate monday = LocalDate.of(2025, 10, 13);
+            Long otherUserId = 2L;
+            given(timeBlockRepository.findSlotsByUserIdAndDateBetween(userId, monday, monday.plusDays(6))).willAnswer(invocation -> {
+                weekCache.onTimelineChanged(TimelineChangedEvent.of(otherUserId, monday));
+                return List.of();
+            });
+            given(timeBlockRepository.findSlotsByUserIdAndDateBetween(otherUserId, monday, monday.plusDays(6))).willAnswer(invocation -> {
+                weekCache.onTimelineChanged(TimelineChangedEvent.of(otherUserId, monday.plusDays(1)));
+                return List.of();
+            });
+
+            // when
+            adherenceService.getAdherence(userId, monday, monday.plusDays(6));
+            adherenceService.getAdherence(userId, monday, monday.plusDays(6));
+            adherenceService.getAdherence(otherUserId, monday, monday.plusDays(6));
+            adherenceService.getAdherence(otherUserId, monday, monday.plusDays(6));
+
+            // then
+            then(timeBlockRepository).should(times(1)).findSlotsByUserIdAndDateBetween(userId, monday, monday.plusDays(6));
+            then(timeBlockRepository).should(times(2)).findSlotsByUserIdAndDateBetween(otherUserId, monday, monday.plusDays(6));
+        }
+
+        @Test
+        @DisplayName("실패 - 시작일이 종료일보다 늦음")
+        void getAdherence_fail_invalidRange() {
+            // given
+            LocalDate date = LocalDate.of(2025, 10, 13);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> adherenceService.getAdherence(userId, date, date.minusDays(1)));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_STATISTICS_RANGE);
+            then(timeBlockRepository).should(never()).findSlotsByUserIdAndDateBetween(any(), any(), any());
+        }
+    }
+
+    private TimeBlockSlot slot(LocalDate date, int hour, int minute, TimeBlockType type, Long activityId, Long categoryId, String categoryName) {
+        return new TimeBlockSlot(date, LocalTime.of(hour, minute), type, activityId, categoryId, categoryName, "#111111");
+    }
+}
@@ -0,0 +1,81 @@
+package com.lifelogix.timeline.statistics.application;
+
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.statistics.api.dto.response.ActivityStatisticsResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.CategoryStatisticsResponse;
+import com.lifelogix.timeline.statistics.api.dto.response.StatisticsResponse;
+import com.lifelogix.timeline.statistics.domain.RollupTotal;
+import com.lifelogix.timeline.statistics.domain.TimeBlockDailyRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatisticsService 단위 테스트")
+class StatisticsServiceTest {
+
+    @InjectMocks
+    private StatisticsService statisticsService;
+
+    @Mock
+    private TimeBlockDailyRollupRepository rollupRepository;
+
+    private final Long userId = 1L;
+    private final LocalDate from = LocalDate.of(2025, 10, 1);
+    private final LocalDate to = LocalDate.of(2025, 10, 31);
+
+    @Nested
+    @DisplayName("기간 통계 조회")
+    class GetStatistics {
+        @Test
+        @DisplayName("성공 - 슬롯 수를 분으로 환산해 카테고리/활동별로 묶고 실제 시간이 긴 순서로 정렬")
+        void getStatistics_success() {
+            // given
+            given(rollupRepository.sumByUserIdAndDateBetween(userId, from, to)).willReturn(List.of(
+                    new RollupTotal(100L, "운동", "#111111", 10L, "달리기", TimeBlockType.PLAN, 4L),
+                    new RollupTotal(100L, "운동", "#111111", 10L, "달리기", TimeBlockType.ACTUAL, 2L),
+                    new RollupTotal(100L, "운동", "#111111", 11L, "수영", TimeBlockType.ACTUAL, 3L),
+                    new RollupTotal(200L, "공부", "#222222", 20L, "코딩", TimeBlockType.ACTUAL, 10L)
+            ));
+
+            // when
+            StatisticsResponse response = statisticsService.getStatistics(userId, from, to);
+
+            // then
+            assertThat(response.plannedMinutes()).isEqualTo(120);
+            assertThat(response.actualMinutes()).isEqualTo(450);
+            assertThat(response.categories()).extracting(CategoryStatisticsResponse::name).containsExactly("공부", "운동");
+            CategoryStatisticsResponse exercise = response.categories().get(1);
+            assertThat(exercise.plannedMinutes()).isEqualTo(120);
+            assertThat(exercise.actualMinutes()).isEqualTo(150);
+            assertThat(exercise.activities()).containsExactly(
+                    new ActivityStatisticsResponse(11L, "수영", 0, 90),
+                    new ActivityStatisticsResponse(10L, "달리기", 120, 60));
+        }
+
+        @Test
+        @DisplayName("실패 - 1년을 넘는 기간")
+        void getStatistics_fail_rangeTooLong() {
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> statisticsService.getStatistics(userId, from, from.plusDays(366)));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_STATISTICS_RANGE);
+            then(rollupRepository).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.lifelogix.timeline.statistics.domain;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * H2에는 집계 트리거가 없으므로 집계 행을 직접 넣고 합산 쿼리만 검증
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@DisplayName("TimeBlockDailyRollupRepository 테스트")
+class TimeBlockDailyRollupRepositoryTest {
+
+    @Autowired
+    private TimeBlockDailyRollupRepository rollupRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private User user;
+    private Category category;
+    private Activity running;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .nickname("tester")
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .build());
+        category = categoryRepository.save(new Category("운동", "#2ECC71", null, null));
+        running = activityRepository.save(new Activity("달리기", user, category));
+    }
+
+    @Test
+    @DisplayName("성공 - 기간 내 집계 행을 활동/타입별로 합산")
+    void sum_success() {
+        // given
+        insertRollup(date, TimeBlockType.PLAN, 4);
+        insertRollup(date.plusDays(1), TimeBlockType.PLAN, 2);
+        insertRollup(date.plusDays(1), TimeBlockType.ACTUAL, 3);
+        insertRollup(date.plusDays(7), TimeBlockType.PLAN, 10);
+
+        // when
+        List<RollupTotal> totals = rollupRepository.sumByUserIdAndDateBetween(user.getId(), date, date.plusDays(6));
+
+        // then
+        assertThat(totals)
+                .extracting(RollupTotal::categoryName, RollupTotal::activityName, RollupTotal::type, RollupTotal::slotCount)
+                .containsExactlyInAnyOrder(
+                        tuple("운동", "달리기", TimeBlockType.PLAN, 6L),
+                        tuple("운동", "달리기", TimeBlockType.ACTUAL, 3L));
+    }
+
+    private void insertRollup(LocalDate date, TimeBlockType type, int slotCount) {
+        jdbcTemplate.update(
+                "INSERT INTO time_block_daily_rollup (user_id, date, activity_id, type, category_id, slot_count) VALUES (?, ?, ?, ?, ?, ?)",
+                user.getId(), date, running.getId(), type.name(), category.getId(), slotCount);
+    }
+}
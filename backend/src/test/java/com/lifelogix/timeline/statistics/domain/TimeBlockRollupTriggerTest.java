@@ -0,0 +1,221 @@
+package com.lifelogix.timeline.statistics.domain;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.statistics.application.TimeBlockRollupBackfillJob;
+import com.lifelogix.timeline.statistics.application.TimeBlockRollupProperties;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * time_block 트리거가 쓰기 경로(JPA, upsert, 구간 채우기/삭제/이동, 복사)마다 집계 변경분을 반영하는지 PostgreSQL 컨테이너에서 검증
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜀
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("time_block 일간 집계 트리거 테스트 (PostgreSQL)")
+class TimeBlockRollupTriggerTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DataSource dataSource;
+
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private TransactionTemplate transactionTemplate;
+    private User user;
+    private Activity running;
+    private Activity reading;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            timeBlockRepository.deleteAllInBatch();
+            activityRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+
+            user = userRepository.save(User.builder()
+                    .email("rollup@example.com")
+                    .nickname("rollup")
+                    .providerType(ProviderType.LOCAL)
+                    .roleType(RoleType.USER)
+                    .build());
+            Category category = categoryRepository.save(new Category("운동", "#2ECC71", null, null));
+            running = activityRepository.save(new Activity("달리기", user, category));
+            reading = activityRepository.save(new Activity("독서", user, category));
+        });
+    }
+
+    @Test
+    @DisplayName("모든 쓰기 경로의 변경분이 집계에 반영되고, 슬롯이 없어진 집계 행은 삭제됨")
+    void trigger_appliesDeltas() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            timeBlockRepository.saveAll(List.of(
+                    new TimeBlock(date, LocalTime.of(7, 0), TimeBlockType.PLAN, running),
+                    new TimeBlock(date, LocalTime.of(7, 30), TimeBlockType.PLAN, running)));
+            timeBlockRepository.flush();
+            // 09:00 ~ 10:30 독서 4슬롯
+            timeBlockRepository.fillSlots(user.getId(), date, LocalTime.of(9, 0), 4, "PLAN", reading.getId());
+            // 07:30 슬롯을 독서로 변경
+            timeBlockRepository.upsertSlot(user.getId(), date, LocalTime.of(7, 30), "PLAN", reading.getId());
+            // 10:00 ~ 10:30 삭제
+            timeBlockRepository.deleteSlots(user.getId(), date, TimeBlockType.PLAN, LocalTime.of(10, 0), LocalTime.of(10, 30));
+            // 계획을 실제로 복사
+            timeBlockRepository.copySlots(user.getId(), date, date, "PLAN", 0, 1, 1, date, "ACTUAL");
+            // 실제 07:00 ~ 07:30 을 1시간 뒤로 이동
+            timeBlockRepository.shiftSlots(user.getId(), date, TimeBlockType.ACTUAL, LocalTime.of(7, 0), LocalTime.of(7, 30), 60);
+        });
+
+        // then: 계획 = 달리기 1, 독서 3 / 실제 = 달리기 1, 독서 3 (08:00 달리기, 08:30 독서, 09:00 독서, 09:30 독서)
+        assertThat(rollupRows())
+                .containsExactlyInAnyOrder(
+                        tuple(running.getId(), "PLAN", 1),
+                        tuple(reading.getId(), "PLAN", 3),
+                        tuple(running.getId(), "ACTUAL", 1),
+                        tuple(reading.getId(), "ACTUAL", 3));
+
+        // when: 달리기 계획/실제를 모두 삭제
+        transactionTemplate.executeWithoutResult(status -> {
+            timeBlockRepository.deleteSlots(user.getId(), date, TimeBlockType.PLAN, LocalTime.of(7, 0), LocalTime.of(7, 0));
+            timeBlockRepository.deleteSlots(user.getId(), date, TimeBlockType.ACTUAL, LocalTime.of(8, 0), LocalTime.of(8, 0));
+        });
+
+        // then
+        assertThat(rollupRows())
+                .containsExactlyInAnyOrder(
+                        tuple(reading.getId(), "PLAN", 3),
+                        tuple(reading.getId(), "ACTUAL", 3));
+    }
+
+    @Test
+    @DisplayName("백필은 트리거가 만든 집계와 같은 결과를 월 단위로 병렬 재계산")
+    void backfill_matchesTrigger() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> {
+            timeBlockRepository.fillSlots(user.getId(), date, LocalTime.of(9, 0), 4, "PLAN", reading.getId());
+            timeBlockRepository.fillSlots(user.getId(), date.plusMonths(2), LocalTime.of(9, 0), 2, "ACTUAL", running.getId());
+        });
+        List<Tuple> maintained = rollupRows();
+        jdbcTemplate.update("DELETE FROM time_block_daily_rollup");
+        TimeBlockRollupProperties properties = new TimeBlockRollupProperties();
+        properties.setBackfillParallelism(2);
+
+        // when
+        int rows = new TimeBlockRollupBackfillJob(jdbcTemplate, transactionManager, properties).backfill();
+
+        // then
+        assertThat(rows).isEqualTo(2);
+        assertThat(rollupRows()).containsExactlyInAnyOrderElementsOf(maintained);
+    }
+
+    @Test
+    @DisplayName("월 재계산은 같은 월의 진행 중인 쓰기가 커밋될 때까지 기다려 새 집계 키를 이중으로 더하지 않음")
+    void rebuildMonth_waitsForConcurrentWrite() throws Exception {
+        // given: 다른 연결에서 새 집계 키(달리기, PLAN)를 만드는 쓰기를 커밋하지 않은 채 유지
+        transactionTemplate.executeWithoutResult(status ->
+                timeBlockRepository.fillSlots(user.getId(), date, LocalTime.of(9, 0), 1, "PLAN", reading.getId()));
+        TimeBlockRollupBackfillJob job = new TimeBlockRollupBackfillJob(jdbcTemplate, transactionManager, new TimeBlockRollupProperties());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Connection writer = dataSource.getConnection()) {
+            writer.setAutoCommit(false);
+            try (PreparedStatement insert = writer.prepareStatement(
+                    "INSERT INTO time_block (id, user_id, activity_id, date, start_time, type) VALUES (nextval('time_block_seq'), ?, ?, ?, ?, 'PLAN')")) {
+                insert.setLong(1, user.getId());
+                insert.setLong(2, running.getId());
+                insert.setObject(3, date);
+                insert.setObject(4, LocalTime.of(7, 0));
+                insert.executeUpdate();
+            }
+
+            // when: 재계산이 파티션 잠금을 기다리는 동안 쓰기를 커밋
+            Future<Integer> rebuild = executor.submit(() -> job.rebuildMonth(date));
+            awaitLockWait();
+            assertThat(rebuild).isNotDone();
+            writer.commit();
+
+            // then
+            assertThat(rebuild.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(rollupRows())
+                .containsExactlyInAnyOrder(
+                        tuple(reading.getId(), "PLAN", 1),
+                        tuple(running.getId(), "PLAN", 1));
+    }
+
+    private void awaitLockWait() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_locks WHERE locktype = 'relation' AND NOT granted", Integer.class) == 0) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("재계산이 쓰기 중인 파티션의 잠금을 기다리지 않았습니다.");
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private List<Tuple> rollupRows() {
+        return jdbcTemplate.query(
+                "SELECT activity_id, type, slot_count FROM time_block_daily_rollup WHERE user_id = ?",
+                (rs, rowNum) -> tuple(rs.getLong("activity_id"), rs.getString("type"), rs.getInt("slot_count")),
+                user.getId());
+    }
+}
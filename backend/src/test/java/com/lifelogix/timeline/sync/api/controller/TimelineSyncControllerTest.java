@@ -0,0 +1,193 @@
+package com.lifelogix.timeline.sync.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lifelogix.config.TestSecurityConfig;
+import com.lifelogix.config.jwt.JwtProperties;
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.sync.api.dto.request.MergeTimeBlocksRequest;
+import com.lifelogix.timeline.sync.api.dto.request.SlotEditRequest;
+import com.lifelogix.timeline.sync.api.dto.response.ActivityChangeResponse;
+import com.lifelogix.timeline.sync.api.dto.response.MergedSlotResponse;
+import com.lifelogix.timeline.sync.api.dto.response.TimeBlockChangeResponse;
+import com.lifelogix.timeline.sync.api.dto.response.TimelineChangesResponse;
+import com.lifelogix.timeline.sync.application.TimelineDeltaService;
+import com.lifelogix.timeline.sync.application.TimelineMergeService;
+import com.lifelogix.timeline.sync.application.TimelineSyncService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+import static org.mockito.Mockito.mock;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TimelineSyncController.class)
+@Import({TestSecurityConfig.class, TimelineSyncControllerTest.TestConfig.class})
+@ActiveProfiles("local")
+@DisplayName("TimelineSyncController 통합 테스트")
+class TimelineSyncControllerTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public JwtProperties jwtProperties() {
+            JwtProperties mockProperties = mock(JwtProperties.class);
+            given(mockProperties.getSecret()).willReturn("bGlmZWxvZ2l4LWp3dC1zZWNyZXQta2V5LWZvci10ZXN0LWVudmlyb25tZW50Cg==");
+            return mockProperties;
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private TimelineSyncService timelineSyncService;
+
+    @MockBean
+    private TimelineDeltaService timelineDeltaService;
+
+    @MockBean
+    private TimelineMergeService timelineMergeService;
+
+    private final Long userId = 1L;
+
+    @Nested
+    @DisplayName("GET /api/v1/timeline/stream - 타임라인 변경 구독")
+    class StreamChanges {
+        @Test
+        @DisplayName("성공 - Last-Event-ID를 전달해 SSE 스트림 시작")
+        void stream_success() throws Exception {
+            // given
+            given(timelineSyncService.subscribe(userId, "1700000000000-0")).willReturn(new SseEmitter());
+
+            // when & then
+            mockMvc.perform(get("/api/v1/timeline/stream").header("Last-Event-ID", "1700000000000-0")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isOk())
+                    .andExpect(request().asyncStarted());
+            then(timelineSyncService).should().subscribe(userId, "1700000000000-0");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/timeline/changes - 증분 동기화")
+    class GetChanges {
+        @Test
+        @DisplayName("성공 - 200 OK와 since 이후의 변경 묶음 반환")
+        void getChanges_success() throws Exception {
+            // given
+            TimelineChangesResponse response = new TimelineChangesResponse(42L, false, List.of(),
+                    List.of(new ActivityChangeResponse(10L, "달리기", 100L, false)),
+                    List.of(new TimeBlockChangeResponse(LocalDate.of(2025, 10, 13), LocalTime.of(9, 0), TimeBlockType.PLAN, null, 3L, 77L)));
+            given(timelineDeltaService.getChanges(userId, 40L, 500)).willReturn(response);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/timeline/changes").param("since", "40")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.nextSeq").value(42))
+                    .andExpect(jsonPath("$.hasMore").value(false))
+                    .andExpect(jsonPath("$.activities[0].name").value("달리기"))
+                    .andExpect(jsonPath("$.timeBlocks[0].startTime").value("09:00:00"))
+                    .andExpect(jsonPath("$.timeBlocks[0].activityId").isEmpty())
+                    .andExpect(jsonPath("$.timeBlocks[0].version").value(3))
+                    .andExpect(jsonPath("$.timeBlocks[0].hlc").value(77));
+        }
+
+        @Test
+        @DisplayName("실패 - limit이 올바르지 않으면 400 Bad Request 반환")
+        void getChanges_fail_invalidLimit() throws Exception {
+            // given
+            given(timelineDeltaService.getChanges(userId, 0L, 5000))
+                    .willThrow(new BusinessException(ErrorCode.INVALID_SYNC_CURSOR));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/timeline/changes").param("limit", "5000")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString()))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/timeline/merge - 기기 간 슬롯 편집 병합")
+    class MergeTimeBlocks {
+        private final LocalDate date = LocalDate.of(2025, 10, 13);
+
+        @Test
+        @DisplayName("성공 - 200 OK와 병합된 슬롯 상태 반환")
+        void merge_success() throws Exception {
+            // given
+            MergeTimeBlocksRequest request = new MergeTimeBlocksRequest(List.of(
+                    new SlotEditRequest(date, LocalTime.of(9, 0), TimeBlockType.PLAN, 10L, 3L, 1L << 40)));
+            given(timelineMergeService.mergeTimeBlocks(eq(userId), any(MergeTimeBlocksRequest.class))).willReturn(List.of(
+                    new MergedSlotResponse(date, LocalTime.of(9, 0), TimeBlockType.PLAN, 11L, 5L, 1L << 41, false)));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/timeline/merge")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].activityId").value(11))
+                    .andExpect(jsonPath("$[0].version").value(5))
+                    .andExpect(jsonPath("$[0].accepted").value(false));
+        }
+
+        @Test
+        @DisplayName("실패 - 편집이 비어 있으면 400 Bad Request 반환")
+        void merge_fail_emptyEdits() throws Exception {
+            // when & then
+            mockMvc.perform(post("/api/v1/timeline/merge")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new MergeTimeBlocksRequest(List.of()))))
+                    .andExpect(status().isBadRequest());
+            then(timelineMergeService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 재시도 후에도 충돌하면 409 Conflict 반환")
+        void merge_fail_conflict() throws Exception {
+            // given
+            MergeTimeBlocksRequest request = new MergeTimeBlocksRequest(List.of(
+                    new SlotEditRequest(date, LocalTime.of(9, 0), TimeBlockType.PLAN, null, 3L, 1L << 40)));
+            given(timelineMergeService.mergeTimeBlocks(eq(userId), any(MergeTimeBlocksRequest.class)))
+                    .willThrow(new BusinessException(ErrorCode.CONCURRENT_MODIFICATION));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/timeline/merge")
+                            .with(SecurityMockMvcRequestPostProcessors.jwt().jwt(jwt -> jwt.subject(userId.toString())))
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isConflict());
+        }
+    }
+}
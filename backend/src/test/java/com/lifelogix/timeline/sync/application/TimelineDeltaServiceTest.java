@@ -0,0 +1,138 @@
+package com.lifelogix.timeline.sync.application;
+
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.sync.api.dto.response.ActivityChangeResponse;
+import com.lifelogix.timeline.sync.api.dto.response.CategoryChangeResponse;
+import com.lifelogix.timeline.sync.api.dto.response.TimeBlockChangeResponse;
+import com.lifelogix.timeline.sync.api.dto.response.TimelineChangesResponse;
+import com.lifelogix.timeline.sync.domain.ActivityChangeRepository;
+import com.lifelogix.timeline.sync.domain.ActivityChangeRow;
+import com.lifelogix.timeline.sync.domain.CategoryChangeRepository;
+import com.lifelogix.timeline.sync.domain.CategoryChangeRow;
+import com.lifelogix.timeline.sync.domain.TimeBlockChange;
+import com.lifelogix.timeline.sync.domain.TimeBlockChangeId;
+import com.lifelogix.timeline.sync.domain.TimeBlockChangeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimelineDeltaService 단위 테스트")
+class TimelineDeltaServiceTest {
+
+    @InjectMocks
+    private TimelineDeltaService timelineDeltaService;
+
+    @Mock
+    private TimeBlockChangeRepository timeBlockChangeRepository;
+    @Mock
+    private ActivityChangeRepository activityChangeRepository;
+    @Mock
+    private CategoryChangeRepository categoryChangeRepository;
+
+    private final Long userId = 1L;
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private static final long HLC = 1_760_000_000_000L << 16;
+
+    private TimeBlockChange slotChange(LocalTime startTime, Long activityId, long version, long seq) {
+        return new TimeBlockChange(new TimeBlockChangeId(userId, date, startTime, TimeBlockType.PLAN), activityId, version, HLC + version, seq);
+    }
+
+    @Nested
+    @DisplayName("변경 조회")
+    class GetChanges {
+        @Test
+        @DisplayName("성공 - 세 피드를 변경 번호 순으로 합쳐 since 이후 limit건까지만 반환")
+        void getChanges_success_truncatesAtLimit() {
+            // given: 피드마다 limit + 1(=4)건까지 조회됨
+            given(categoryChangeRepository.findChanges(eq(userId), eq(10L), any(Limit.class))).willReturn(List.of(
+                    new CategoryChangeRow(11L, 100L, false, "운동", "#2ECC71", 1L)));
+            given(activityChangeRepository.findChanges(eq(userId), eq(10L), any(Limit.class))).willReturn(List.of(
+                    new ActivityChangeRow(12L, 200L, false, "달리기", 100L),
+                    new ActivityChangeRow(16L, 201L, true, null, null)));
+            given(timeBlockChangeRepository.findByIdUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(eq(userId), eq(10L), any(Limit.class))).willReturn(List.of(
+                    slotChange(LocalTime.of(9, 0), 200L, 2L, 14L),
+                    slotChange(LocalTime.of(9, 30), null, 1L, 15L)));
+
+            // when
+            TimelineChangesResponse response = timelineDeltaService.getChanges(userId, 10L, 3);
+
+            // then: 11, 12, 14까지만 포함하고 나머지(15, 16)는 다음 묶음
+            assertThat(response.nextSeq()).isEqualTo(14L);
+            assertThat(response.hasMore()).isTrue();
+            assertThat(response.categories()).containsExactly(new CategoryChangeResponse(100L, "운동", "#2ECC71", 1L, false));
+            assertThat(response.activities()).containsExactly(new ActivityChangeResponse(200L, "달리기", 100L, false));
+            assertThat(response.timeBlocks()).containsExactly(new TimeBlockChangeResponse(date, LocalTime.of(9, 0), TimeBlockType.PLAN, 200L, 2L, HLC + 2));
+            then(timeBlockChangeRepository).should()
+                    .findByIdUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(eq(userId), eq(10L), argThat(limit -> limit.max() == 4));
+        }
+
+        @Test
+        @DisplayName("성공 - 남은 변경이 limit 이하이면 모두 반환하고 hasMore는 false")
+        void getChanges_success_lastBatch() {
+            // given
+            given(categoryChangeRepository.findChanges(eq(userId), eq(14L), any(Limit.class))).willReturn(List.of());
+            given(activityChangeRepository.findChanges(eq(userId), eq(14L), any(Limit.class))).willReturn(List.of(
+                    new ActivityChangeRow(16L, 201L, true, null, null)));
+            given(timeBlockChangeRepository.findByIdUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(eq(userId), eq(14L), any(Limit.class))).willReturn(List.of(
+                    slotChange(LocalTime.of(9, 30), null, 1L, 15L)));
+
+            // when
+            TimelineChangesResponse response = timelineDeltaService.getChanges(userId, 14L, 3);
+
+            // then
+            assertThat(response.nextSeq()).isEqualTo(16L);
+            assertThat(response.hasMore()).isFalse();
+            assertThat(response.activities()).containsExactly(new ActivityChangeResponse(201L, null, null, true));
+            // 삭제된 슬롯도 툼스톤의 버전/HLC를 함께 반환
+            assertThat(response.timeBlocks()).containsExactly(new TimeBlockChangeResponse(date, LocalTime.of(9, 30), TimeBlockType.PLAN, null, 1L, HLC + 1));
+        }
+
+        @Test
+        @DisplayName("성공 - 변경이 없으면 since를 그대로 nextSeq로 반환")
+        void getChanges_success_noChanges() {
+            // given
+            given(categoryChangeRepository.findChanges(eq(userId), eq(16L), any(Limit.class))).willReturn(List.of());
+            given(activityChangeRepository.findChanges(eq(userId), eq(16L), any(Limit.class))).willReturn(List.of());
+            given(timeBlockChangeRepository.findByIdUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(eq(userId), eq(16L), any(Limit.class))).willReturn(List.of());
+
+            // when
+            TimelineChangesResponse response = timelineDeltaService.getChanges(userId, 16L, 500);
+
+            // then
+            assertThat(response.nextSeq()).isEqualTo(16L);
+            assertThat(response.hasMore()).isFalse();
+            assertThat(response.timeBlocks()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("실패 - limit이 최대값을 넘으면 예외 발생")
+        void getChanges_fail_invalidLimit() {
+            // when
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> timelineDeltaService.getChanges(userId, 0L, 1_001));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_SYNC_CURSOR);
+            then(timeBlockChangeRepository).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.lifelogix.timeline.sync.application;
+
+import com.lifelogix.exception.BusinessException;
+import com.lifelogix.exception.ErrorCode;
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.core.application.SlotChange;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
+import com.lifelogix.timeline.core.domain.HybridTimestamp;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockSlotState;
+import com.lifelogix.timeline.core.domain.TimeBlockSlotWrite;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.sync.api.dto.request.MergeTimeBlocksRequest;
+import com.lifelogix.timeline.sync.api.dto.request.SlotEditRequest;
+import com.lifelogix.timeline.sync.api.dto.response.MergedSlotResponse;
+import com.lifelogix.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimelineMergeService 단위 테스트")
+class TimelineMergeServiceTest {
+
+    @InjectMocks
+    private TimelineMergeService timelineMergeService;
+
+    @Mock
+    private TimeBlockRepository timeBlockRepository;
+    @Mock
+    private ActivityRepository activityRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Long userId = 1L;
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private final LocalTime nine = LocalTime.of(9, 0);
+    private final long now = HybridTimestamp.now();
+    private Activity running;
+    private Activity reading;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().id(userId).email("test@example.com").nickname("tester").build();
+        Category category = new Category(100L, "운동", "#2ECC71", user, null);
+        running = new Activity(10L, "달리기", user, category);
+        reading = new Activity(11L, "독서", user, category);
+    }
+
+    private MergeTimeBlocksRequest request(SlotEditRequest... edits) {
+        return new MergeTimeBlocksRequest(List.of(edits));
+    }
+
+    private TimeBlockSlotState state(Long activityId, long version, long hlc) {
+        return new TimeBlockSlotState(date, nine, TimeBlockType.PLAN, activityId, version, hlc);
+    }
+
+    @Nested
+    @DisplayName("슬롯 병합")
+    class MergeTimeBlocks {
+        @Test
+        @DisplayName("성공 - 기기가 본 버전이 현재 버전과 같으면 기기 시계가 늦더라도 그대로 반영")
+        void merge_success_fastForward() {
+            // given: 현재 버전 3, 기기는 버전 3을 보고 더 이른 HLC로 편집
+            given(activityRepository.findAllWithCategoryByIdIn(any())).willReturn(List.of(running));
+            given(timeBlockRepository.findSlotStates(eq(userId), any())).willReturn(List.of(state(11L, 3, now)));
+            TimeBlockSlotWrite expected = new TimeBlockSlotWrite(date, nine, TimeBlockType.PLAN, 10L, 3L, 4, now + 1);
+            given(timeBlockRepository.mergeSlots(userId, List.of(expected))).willReturn(List.of(state(10L, 4, now + 1)));
+
+            // when
+            List<MergedSlotResponse> responses = timelineMergeService.mergeTimeBlocks(userId,
+                    request(new SlotEditRequest(date, nine, TimeBlockType.PLAN, 10L, 3L, now - 1_000)));
+
+            // then
+            assertThat(responses).containsExactly(new MergedSlotResponse(date, nine, TimeBlockType.PLAN, 10L, 4L, now + 1, true));
+            then(eventPublisher).should().publishEvent(
+                    TimelineChangedEvent.ofSlots(userId, List.of(new SlotChange(date, nine, TimeBlockType.PLAN, 10L))));
+        }
+
+        @Test
+        @DisplayName("성공 - 그 사이 다른 기기가 바꿨어도 HLC가 더 늦은 편집이 이김")
+        void merge_success_laterWriterWins() {
+            // given: 기기는 버전 2를 봤지만 현재 버전은 3
+            given(activityRepository.findAllWithCategoryByIdIn(any())).willReturn(List.of(running));
+            given(timeBlockRepository.findSlotStates(eq(userId), any())).willReturn(List.of(state(11L, 3, now - 10)));
+            TimeBlockSlotWrite expected = new TimeBlockSlotWrite(date, nine, TimeBlockType.PLAN, 10L, 3L, 4, now);
+            given(timeBlockRepository.mergeSlots(userId, List.of(expected))).willReturn(List.of(state(10L, 4, now)));
+
+            // when
+            List<MergedSlotResponse> responses = timelineMergeService.mergeTimeBlocks(userId,
+                    request(new SlotEditRequest(date, nine, TimeBlockType.PLAN, 10L, 2L, now)));
+
+            // then
+            assertThat(responses).extracting(MergedSlotResponse::activityId, MergedSlotResponse::accepted)
+                    .containsExactly(tuple(10L, true));
+        }
+
+        @Test
+        @DisplayName("성공 - 그 사이 더 늦게 기록된 값이 있으면 편집을 버리고 현재 상태를 반환")
+        void merge_success_earlierWriterLoses() {
+            // given
+            given(timeBlockRepository.findSlotStates(eq(userId), any())).willReturn(List.of(state(11L, 3, now)));
+
+            // when: 삭제 편집이지만 현재 값보다 이른 HLC
+            List<MergedSlotResponse> responses = timelineMergeService.mergeTimeBlocks(userId,
+                    request(new SlotEditRequest(date, nine, TimeBlockType.PLAN, null, 2L, now - 1)));
+
+            // then
+            assertThat(responses).containsExactly(new MergedSlotResponse(date, nine, TimeBlockType.PLAN, 11L, 3L, now, false));
+            then(timeBlockRepository).should().mergeSlots(userId, List.of());
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공 - 한 요청에 같은 슬롯의 편집이 여러 개면 HLC가 가장 늦은 편집만 반영")
+        void merge_success_foldsDuplicateEdits() {
+            // given: 빈 슬롯
+            given(activityRepository.findAllWithCategoryByIdIn(any())).willReturn(List.of(running, reading));
+            given(timeBlockRepository.findSlotStates(eq(userId), any())).willReturn(List.of());
+            TimeBlockSlotWrite expected = new TimeBlockSlotWrite(date, nine, TimeBlockType.PLAN, 11L, null, 0, now);
+            given(timeBlockRepository.mergeSlots(userId, List.of(expected))).willReturn(List.of(state(11L, 0, now)));
+
+            // when
+            List<MergedSlotResponse> responses = timelineMergeService.mergeTimeBlocks(userId, request(
+                    new SlotEditRequest(date, nine, TimeBlockType.PLAN, 11L, null, now),
+                    new SlotEditRequest(date, nine, TimeBlockType.PLAN, 10L, null, now - 5)));
+
+            // then
+            assertThat(responses).containsExactly(new MergedSlotResponse(date, nine, TimeBlockType.PLAN, 11L, 0L, now, true));
+        }
+
+        @Test
+        @DisplayName("성공 - 판정 후 슬롯이 바뀌어 쓰기가 반영되지 않으면 다시 읽어 재판정")
+        void merge_success_retriesAfterConcurrentChange() {
+            // given: 첫 판정 후 다른 요청이 버전 1로 바꾸고(HLC now - 1), 두 번째 판정에서 반영됨
+            given(activityRepository.findAllWithCategoryByIdIn(any())).willReturn(List.of(running));
+            given(timeBlockRepository.findSlotStates(eq(userId), any()))
+                    .willReturn(List.of(state(11L, 0, now - 10)))
+                    .willReturn(List.of(state(11L, 1, now - 1)));
+            given(timeBlockRepository.mergeSlots(eq(userId), anyList()))
+                    .willReturn(List.of())
+                    .willReturn(List.of(state(10L, 2, now)));
+
+            // when
+            List<MergedSlotResponse> responses = timelineMergeService.mergeTimeBlocks(userId,
+                    request(new SlotEditRequest(date, nine, TimeBlockType.PLAN, 10L, 5L, now)));
+
+            // then
+            assertThat(responses).containsExactly(new MergedSlotResponse(date, nine, TimeBlockType.PLAN, 10L, 2L, now, true));
+            then(timeBlockRepository).should().mergeSlots(userId, List.of(new TimeBlockSlotWrite(date, nine, TimeBlockType.PLAN, 10L, 1L, 2, now)));
+        }
+
+        @Test
+        @DisplayName("실패 - 재시도 횟수 안에 반영하지 못하면 CONCURRENT_MODIFICATION 예외 발생")
+        void merge_fail_keepsConflicting() {
+            // given
+            given(activityRepository.findAllWithCategoryByIdIn(any())).willReturn(List.of(running));
+            given(timeBlockRepository.findSlotStates(eq(userId), any())).willReturn(List.of(state(11L, 0, now - 10)));
+            given(timeBlockRepository.mergeSlots(eq(userId), anyList())).willReturn(List.of());
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class, () -> timelineMergeService.mergeTimeBlocks(userId,
+                    request(new SlotEditRequest(date, nine, TimeBlockType.PLAN, 10L, 0L, now))));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.CONCURRENT_MODIFICATION);
+            then(timeBlockRepository).should(times(TimelineMergeService.MAX_ATTEMPTS)).mergeSlots(eq(userId), anyList());
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 서버 시각보다 허용 범위 이상 앞선 HLC면 INVALID_MERGE_TIMESTAMP 예외 발생")
+        void merge_fail_timestampAhead() {
+            // given
+            long ahead = HybridTimestamp.of(System.currentTimeMillis() + TimelineMergeService.MAX_CLOCK_DRIFT.toMillis() + 60_000, 0);
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class, () -> timelineMergeService.mergeTimeBlocks(userId,
+                    request(new SlotEditRequest(date, nine, TimeBlockType.PLAN, 10L, null, ahead))));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_MERGE_TIMESTAMP);
+            then(timeBlockRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 사용자의 활동이면 PERMISSION_DENIED 예외 발생")
+        void merge_fail_permissionDenied() {
+            // given
+            User otherUser = User.builder().id(2L).email("other@test.com").nickname("other").build();
+            Activity otherActivity = new Activity(12L, "독서", otherUser, new Category(101L, "공부", "#000000", otherUser, null));
+            given(activityRepository.findAllWithCategoryByIdIn(any())).willReturn(List.of(otherActivity));
+
+            // when
+            BusinessException exception = assertThrows(BusinessException.class, () -> timelineMergeService.mergeTimeBlocks(userId,
+                    request(new SlotEditRequest(date, nine, TimeBlockType.PLAN, 12L, null, now))));
+
+            // then
+            assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PERMISSION_DENIED);
+            then(timeBlockRepository).shouldHaveNoInteractions();
+        }
+    }
+}
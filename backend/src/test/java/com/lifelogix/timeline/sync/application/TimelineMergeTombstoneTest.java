@@ -0,0 +1,137 @@
+package com.lifelogix.timeline.sync.application;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.domain.HybridTimestamp;
+import com.lifelogix.timeline.core.domain.TimeBlock;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockSlotState;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.sync.api.dto.request.MergeTimeBlocksRequest;
+import com.lifelogix.timeline.sync.api.dto.request.SlotEditRequest;
+import com.lifelogix.timeline.sync.api.dto.response.MergedSlotResponse;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 병합 외의 쓰기(구간 이동, 단일 삭제)가 남긴 버전/툼스톤을 병합이 올바르게 판정하는지 실제 PostgreSQL 컨테이너에서 검증
+ * 오프라인 편집은 쓰기보다 1분 앞선 HLC로 만들어, 버전이 같을 때만 그대로 반영되는지 확인
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜀
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@DisplayName("병합과 툼스톤 통합 테스트 (PostgreSQL)")
+class TimelineMergeTombstoneTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private final LocalDate monday = LocalDate.of(2025, 10, 13);
+    private final LocalTime nine = LocalTime.of(9, 0);
+    private final LocalTime nineThirty = LocalTime.of(9, 30);
+    private final long staleHlc = HybridTimestamp.of(System.currentTimeMillis() - 60_000, 0);
+    private TimelineMergeService timelineMergeService;
+    private User user;
+    private Activity running;
+    private Activity reading;
+    private Activity coding;
+
+    @BeforeEach
+    void setUp() {
+        timelineMergeService = new TimelineMergeService(timeBlockRepository, activityRepository, event -> {
+        });
+        user = userRepository.save(User.builder()
+                .email("merge-tombstone@example.com")
+                .nickname("tester")
+                .providerType(ProviderType.LOCAL)
+                .roleType(RoleType.USER)
+                .build());
+        Category category = categoryRepository.save(new Category("운동", "#2ECC71", null, null));
+        running = activityRepository.save(new Activity("달리기", user, category));
+        reading = activityRepository.save(new Activity("독서", user, category));
+        coding = activityRepository.save(new Activity("코딩", user, category));
+    }
+
+    private MergedSlotResponse merge(LocalTime startTime, Long activityId, Long baseVersion) {
+        return timelineMergeService.mergeTimeBlocks(user.getId(), new MergeTimeBlocksRequest(List.of(
+                new SlotEditRequest(monday, startTime, TimeBlockType.PLAN, activityId, baseVersion, staleHlc)))).get(0);
+    }
+
+    @Test
+    @DisplayName("구간 이동 후 - 이동 전 버전을 본 오래된 편집은 이동된 블록을 덮어쓰거나 원본 슬롯을 되살리지 못함")
+    void merge_afterShift_rejectsStaleEdits() {
+        // given: 9:00 달리기, 9:30 독서 (모두 버전 0)를 9:00 한 칸만 30분 뒤로 이동
+        timeBlockRepository.saveAllAndFlush(List.of(
+                new TimeBlock(monday, nine, TimeBlockType.PLAN, running),
+                new TimeBlock(monday, nineThirty, TimeBlockType.PLAN, reading)));
+        timeBlockRepository.shiftSlots(user.getId(), monday, TimeBlockType.PLAN, nine, nine, 30);
+
+        // when: 이동 전 상태(버전 0)를 본 기기의 오프라인 편집
+        MergedSlotResponse target = merge(nineThirty, coding.getId(), 0L);
+        MergedSlotResponse source = merge(nine, coding.getId(), 0L);
+
+        // then: 대상 슬롯은 대체된 블록의 툼스톤(1) 다음 버전, 원본 슬롯은 툼스톤(1)만 남음
+        assertThat(target.accepted()).isFalse();
+        assertThat(source.accepted()).isFalse();
+        assertThat(timeBlockRepository.findSlotStates(user.getId(), List.of(monday)))
+                .extracting(TimeBlockSlotState::startTime, TimeBlockSlotState::activityId, TimeBlockSlotState::version)
+                .containsExactlyInAnyOrder(
+                        tuple(nine, null, 1L),
+                        tuple(nineThirty, null, 1L),
+                        tuple(nineThirty, running.getId(), 2L));
+    }
+
+    @Test
+    @DisplayName("단일 삭제 후 - 삭제 전 버전을 본 오래된 편집은 슬롯을 되살리지 못하고, 다시 기록하면 툼스톤 다음 버전에서 시작")
+    void merge_afterDelete_rejectsStaleEdit() {
+        // given
+        TimeBlock timeBlock = timeBlockRepository.saveAndFlush(new TimeBlock(monday, nine, TimeBlockType.PLAN, running));
+        timeBlockRepository.deleteByIdAndUserIdAndDate(timeBlock.getId(), user.getId(), monday);
+
+        // when
+        MergedSlotResponse stale = merge(nine, reading.getId(), 0L);
+        timeBlockRepository.upsertSlot(user.getId(), monday, nine, TimeBlockType.PLAN.name(), coding.getId());
+
+        // then
+        assertThat(stale.accepted()).isFalse();
+        assertThat(stale.activityId()).isNull();
+        assertThat(timeBlockRepository.findSlotStates(user.getId(), List.of(monday)))
+                .filteredOn(state -> !state.deleted())
+                .extracting(TimeBlockSlotState::activityId, TimeBlockSlotState::version)
+                .containsExactly(tuple(coding.getId(), 2L));
+    }
+}
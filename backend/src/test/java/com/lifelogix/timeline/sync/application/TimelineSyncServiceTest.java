@@ -0,0 +1,226 @@
+package com.lifelogix.timeline.sync.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lifelogix.timeline.core.application.SlotChange;
+import com.lifelogix.timeline.core.application.TimelineChangedEvent;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimelineSyncService 단위 테스트")
+class TimelineSyncServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private TimelineSyncService timelineSyncService;
+
+    private final Long userId = 1L;
+    private final String streamKey = TimelineSyncService.STREAM_KEY_PREFIX + userId;
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        timelineSyncService = new TimelineSyncService(redisTemplate, listenerContainer, objectMapper, new TimelineSyncProperties());
+        lenient().when(redisTemplate.<Object, Object>opsForStream()).thenReturn(streamOperations);
+    }
+
+    /**
+     * 보낸 SSE 이벤트를 직렬화된 문자열로 기록하는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    }
+
+    private static MapRecord<String, Object, Object> record(String id, String data) {
+        Map<Object, Object> fields = Map.of("data", data);
+        return StreamRecords.newRecord().in("stream").withId(RecordId.of(id)).ofMap(fields);
+    }
+
+    private void receive(String message) {
+        timelineSyncService.onMessage(new DefaultMessage(TimelineSyncService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                message.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    @Nested
+    @DisplayName("변경 발행")
+    class Publish {
+        @Test
+        @DisplayName("성공 - 사용자 Stream에 기록한 뒤 레코드 ID와 함께 pub/sub으로 알림")
+        void publish_success() {
+            // given
+            given(streamOperations.add(any(MapRecord.class))).willReturn(RecordId.of("1700000000000-0"));
+            TimelineChangedEvent event = TimelineChangedEvent.ofSlots(userId,
+                    List.of(new SlotChange(date, LocalTime.of(9, 0), TimeBlockType.PLAN, 10L)));
+
+            // when
+            timelineSyncService.onTimelineChanged(event);
+
+            // then
+            then(streamOperations).should().trim(streamKey, 1_000L, true);
+            then(redisTemplate).should().convertAndSend(eq(TimelineSyncService.CHANNEL),
+                    argThat((String message) -> message.startsWith("1:1700000000000-0:{")
+                            && message.contains("\"startTime\":\"09:00:00\"")
+                            && message.contains("\"activityId\":10")));
+        }
+
+        @Test
+        @DisplayName("성공 - Redis 장애 시 이 인스턴스의 연결에만 ID 없이 전달")
+        void publish_redisDown_deliversLocally() {
+            // given
+            given(streamOperations.reverseRange(eq(streamKey), any(), any(Limit.class))).willReturn(List.of());
+            RecordingEmitter emitter = new RecordingEmitter();
+            timelineSyncService.register(userId, emitter, null);
+            given(streamOperations.add(any(MapRecord.class))).willThrow(new RedisConnectionFailureException("down"));
+
+            // when
+            timelineSyncService.onTimelineChanged(TimelineChangedEvent.of(userId, date));
+
+            // then
+            assertThat(emitter.events).hasSize(2);
+            assertThat(emitter.events.get(1)).startsWith("event:timeline\n").doesNotContain("id:");
+            then(redisTemplate).should(never()).convertAndSend(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("구독")
+    class Subscribe {
+        @Test
+        @DisplayName("성공 - 새 연결은 현재 마지막 ID로 ready를 받고, 이후 해당 사용자의 변경만 전달받음")
+        void subscribe_success() {
+            // given
+            given(streamOperations.reverseRange(eq(streamKey), any(), any(Limit.class))).willReturn(List.of(record("5-0", "{}")));
+            RecordingEmitter emitter = new RecordingEmitter();
+
+            // when
+            timelineSyncService.register(userId, emitter, null);
+            receive("1:6-0:{\"dates\":[\"2025-10-13\"],\"slots\":[]}");
+            receive("2:7-0:{\"dates\":[],\"slots\":[]}");
+
+            // then
+            assertThat(emitter.events).hasSize(2);
+            assertThat(emitter.events.get(0)).startsWith("event:ready\n").contains("id:5-0");
+            assertThat(emitter.events.get(1)).contains("\"2025-10-13\"").contains("id:6-0");
+        }
+
+        @Test
+        @DisplayName("성공 - Last-Event-ID 이후 이벤트를 Stream에서 이어서 보내고, 중복 수신은 건너뜀")
+        void subscribe_resume() {
+            // given
+            given(streamOperations.range(eq(streamKey), any(), any(Limit.class))).willReturn(List.of(record("3-0", "{}")));
+            given(streamOperations.range(eq(streamKey), any())).willReturn(List.of(record("6-0", "{\"n\":6}"), record("7-0", "{\"n\":7}")));
+            RecordingEmitter emitter = new RecordingEmitter();
+
+            // when
+            timelineSyncService.register(userId, emitter, "5-0");
+            receive("1:7-0:{\"n\":7}");
+            receive("1:8-0:{\"n\":8}");
+
+            // then
+            assertThat(emitter.events).hasSize(3);
+            assertThat(emitter.events.get(0)).contains("{\"n\":6}").contains("id:6-0");
+            assertThat(emitter.events.get(1)).contains("{\"n\":7}").contains("id:7-0");
+            assertThat(emitter.events.get(2)).contains("{\"n\":8}").contains("id:8-0");
+        }
+
+        @Test
+        @DisplayName("성공 - Stream 재전송 중 pub/sub으로 도착한 이벤트는 재전송이 끝난 뒤 순서대로 보내고, 이미 보낸 ID는 건너뜀")
+        void subscribe_resume_liveEventDuringCatchUp() throws InterruptedException {
+            // given: Stream을 읽는 도중 다른 스레드에서 7-0(재전송 대상과 중복), 8-0이 pub/sub으로 도착
+            Thread live = new Thread(() -> {
+                receive("1:7-0:{\"n\":7}");
+                receive("1:8-0:{\"n\":8}");
+            });
+            given(streamOperations.range(eq(streamKey), any(), any(Limit.class))).willReturn(List.of(record("3-0", "{}")));
+            given(streamOperations.range(eq(streamKey), any())).willAnswer(invocation -> {
+                live.start();
+                long deadline = System.currentTimeMillis() + 5_000;
+                while (live.getState() != Thread.State.BLOCKED && live.isAlive() && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(5);
+                }
+                return List.of(record("6-0", "{\"n\":6}"), record("7-0", "{\"n\":7}"));
+            });
+            RecordingEmitter emitter = new RecordingEmitter();
+
+            // when
+            timelineSyncService.register(userId, emitter, "5-0");
+            live.join(5_000);
+
+            // then
+            assertThat(emitter.events).hasSize(3);
+            assertThat(emitter.events.get(0)).contains("id:6-0");
+            assertThat(emitter.events.get(1)).contains("id:7-0");
+            assertThat(emitter.events.get(2)).contains("id:8-0");
+        }
+
+        @Test
+        @DisplayName("성공 - 놓친 이벤트가 Stream에서 잘려 나갔으면 reset을 보냄")
+        void subscribe_resume_trimmed() {
+            // given
+            given(streamOperations.range(eq(streamKey), any(), any(Limit.class))).willReturn(List.of(record("10-0", "{}")));
+            RecordingEmitter emitter = new RecordingEmitter();
+
+            // when
+            timelineSyncService.register(userId, emitter, "5-0");
+
+            // then
+            assertThat(emitter.events).hasSize(1);
+            assertThat(emitter.events.get(0)).startsWith("event:reset\n");
+        }
+    }
+
+    @Test
+    @DisplayName("Stream ID 비교 - 밀리초, 순번 순으로 비교")
+    void compareIds() {
+        assertThat(TimelineSyncService.compareIds("10-0", "9-5")).isPositive();
+        assertThat(TimelineSyncService.compareIds("10-1", "10-2")).isNegative();
+        assertThat(TimelineSyncService.compareIds("10-1", "10-1")).isZero();
+    }
+}
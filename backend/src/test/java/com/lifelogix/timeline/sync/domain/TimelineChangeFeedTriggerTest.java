@@ -0,0 +1,192 @@
+package com.lifelogix.timeline.sync.domain;
+
+import com.lifelogix.timeline.activity.domain.Activity;
+import com.lifelogix.timeline.activity.domain.ActivityRepository;
+import com.lifelogix.timeline.category.domain.Category;
+import com.lifelogix.timeline.category.domain.CategoryRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockRepository;
+import com.lifelogix.timeline.core.domain.TimeBlockType;
+import com.lifelogix.timeline.sync.api.dto.response.TimeBlockChangeResponse;
+import com.lifelogix.timeline.sync.api.dto.response.TimelineChangesResponse;
+import com.lifelogix.timeline.sync.application.TimelineDeltaService;
+import com.lifelogix.user.domain.ProviderType;
+import com.lifelogix.user.domain.RoleType;
+import com.lifelogix.user.domain.User;
+import com.lifelogix.user.domain.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * time_block/activity/category 트리거가 쓰기마다 사용자별 변경 번호를 발급하고 대상별 마지막 변경을 남기는지 PostgreSQL 컨테이너에서 검증
+ * Docker를 사용할 수 없는 환경에서는 자동으로 건너뜀
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("변경 피드 트리거 테스트 (PostgreSQL)")
+class TimelineChangeFeedTriggerTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private TimeBlockRepository timeBlockRepository;
+    @Autowired
+    private ActivityRepository activityRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TimeBlockChangeRepository timeBlockChangeRepository;
+    @Autowired
+    private ActivityChangeRepository activityChangeRepository;
+    @Autowired
+    private CategoryChangeRepository categoryChangeRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate date = LocalDate.of(2025, 10, 13);
+    private TransactionTemplate transactionTemplate;
+    private User user;
+    private Activity running;
+    private Activity reading;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            timeBlockRepository.deleteAllInBatch();
+            activityRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+
+            user = userRepository.save(User.builder()
+                    .email("delta@example.com")
+                    .nickname("delta")
+                    .providerType(ProviderType.LOCAL)
+                    .roleType(RoleType.USER)
+                    .build());
+            Category category = categoryRepository.save(new Category("운동", "#2ECC71", user, null));
+            running = activityRepository.save(new Activity("달리기", user, category));
+            reading = activityRepository.save(new Activity("독서", user, category));
+        });
+    }
+
+    @Test
+    @DisplayName("쓰기마다 증가하는 변경 번호가 발급되고, 삭제는 툼스톤으로 남음")
+    void trigger_recordsChanges() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            // 09:00 ~ 10:00 독서 3슬롯, 09:30 삭제, 10:00 슬롯을 1시간 뒤로 이동
+            timeBlockRepository.fillSlots(user.getId(), date, LocalTime.of(9, 0), 3, "PLAN", reading.getId());
+            timeBlockRepository.deleteSlots(user.getId(), date, TimeBlockType.PLAN, LocalTime.of(9, 30), LocalTime.of(9, 30));
+            timeBlockRepository.shiftSlots(user.getId(), date, TimeBlockType.PLAN, LocalTime.of(10, 0), LocalTime.of(10, 0), 60);
+        });
+        transactionTemplate.executeWithoutResult(status -> activityRepository.deleteById(running.getId()));
+
+        // then: 카테고리(1) → 활동(2, 3) → 슬롯 순으로 번호가 발급되고, 마지막 변경인 활동 삭제가 가장 큰 번호를 가짐
+        List<CategoryChangeRow> categories = categoryChangeRepository.findChanges(user.getId(), 0, Limit.unlimited());
+        List<ActivityChangeRow> activities = activityChangeRepository.findChanges(user.getId(), 0, Limit.unlimited());
+        List<TimeBlockChange> timeBlocks = timeBlockChangeRepository.findByIdUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(user.getId(), 0, Limit.unlimited());
+
+        assertThat(categories).extracting(CategoryChangeRow::changeSeq, CategoryChangeRow::name)
+                .containsExactly(tuple(1L, "운동"));
+        assertThat(activities).extracting(ActivityChangeRow::activityId, ActivityChangeRow::deleted, ActivityChangeRow::name)
+                .containsExactly(
+                        tuple(reading.getId(), false, "독서"),
+                        tuple(running.getId(), true, null));
+        assertThat(timeBlocks).extracting(change -> change.getId().getStartTime(), TimeBlockChange::getActivityId)
+                .containsExactly(
+                        tuple(LocalTime.of(9, 0), reading.getId()),
+                        tuple(LocalTime.of(9, 30), null),
+                        tuple(LocalTime.of(10, 0), null),
+                        tuple(LocalTime.of(11, 0), reading.getId()));
+        assertThat(timeBlocks.get(0).getChangeSeq()).isGreaterThan(3L);
+        assertThat(activities.get(1).changeSeq()).isGreaterThan(timeBlocks.get(3).getChangeSeq());
+    }
+
+    @Test
+    @DisplayName("슬롯 변경은 블록의 version/hlc를, 삭제된 슬롯은 툼스톤의 version/hlc를 함께 남김")
+    void trigger_recordsVersionAndHlc() {
+        // when: 09:00, 09:30 독서 → 09:00 달리기로 수정 → 09:30 삭제
+        transactionTemplate.executeWithoutResult(status ->
+                timeBlockRepository.fillSlots(user.getId(), date, LocalTime.of(9, 0), 2, "PLAN", reading.getId()));
+        transactionTemplate.executeWithoutResult(status ->
+                timeBlockRepository.fillSlots(user.getId(), date, LocalTime.of(9, 0), 1, "PLAN", running.getId()));
+        transactionTemplate.executeWithoutResult(status ->
+                timeBlockRepository.deleteSlots(user.getId(), date, TimeBlockType.PLAN, LocalTime.of(9, 30), LocalTime.of(9, 30)));
+
+        // then
+        List<TimeBlockChange> timeBlocks = timeBlockChangeRepository.findByIdUserIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(user.getId(), 0, Limit.unlimited());
+        Map<String, Object> block = jdbcTemplate.queryForMap(
+                "SELECT version, hlc FROM time_block WHERE user_id = ? AND date = ? AND start_time = '09:00' AND type = 'PLAN'", user.getId(), date);
+        Map<String, Object> tombstone = jdbcTemplate.queryForMap(
+                "SELECT version, hlc FROM time_block_tombstone WHERE user_id = ? AND date = ? AND start_time = '09:30' AND type = 'PLAN'", user.getId(), date);
+
+        assertThat(timeBlocks).extracting(change -> change.getId().getStartTime(), TimeBlockChange::getActivityId, TimeBlockChange::getVersion, TimeBlockChange::getHlc)
+                .containsExactly(
+                        tuple(LocalTime.of(9, 0), running.getId(), ((Number) block.get("version")).longValue(), ((Number) block.get("hlc")).longValue()),
+                        tuple(LocalTime.of(9, 30), null, ((Number) tombstone.get("version")).longValue(), ((Number) tombstone.get("hlc")).longValue()));
+        assertThat(timeBlocks.get(0).getVersion()).isEqualTo(1L);
+        assertThat(timeBlocks.get(1).getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("작은 묶음으로 이어 받아도 since=0으로 한 번에 받은 결과와 같음")
+    void changes_keysetPagination() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> {
+            timeBlockRepository.fillSlots(user.getId(), date, LocalTime.of(9, 0), 4, "PLAN", reading.getId());
+            timeBlockRepository.fillSlots(user.getId(), date, LocalTime.of(9, 0), 2, "ACTUAL", running.getId());
+        });
+        TimelineDeltaService deltaService = new TimelineDeltaService(timeBlockChangeRepository, activityChangeRepository, categoryChangeRepository);
+        TimelineChangesResponse all = deltaService.getChanges(user.getId(), 0, 1_000);
+
+        // when
+        List<TimeBlockChangeResponse> paged = new ArrayList<>();
+        long since = 0;
+        TimelineChangesResponse batch;
+        do {
+            batch = deltaService.getChanges(user.getId(), since, 2);
+            paged.addAll(batch.timeBlocks());
+            since = batch.nextSeq();
+        } while (batch.hasMore());
+
+        // then
+        assertThat(all.hasMore()).isFalse();
+        assertThat(all.categories()).hasSize(1);
+        assertThat(all.activities()).hasSize(2);
+        assertThat(paged).containsExactlyElementsOf(all.timeBlocks()).hasSize(6);
+        assertThat(since).isEqualTo(all.nextSeq());
+    }
+}